@@ -0,0 +1,98 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.ObservingContext;
+import com.molecode.astronomyutils.Precision;
+import com.molecode.astronomyutils.PrecessionNutation;
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// The vector module is added so that locateStarsVectorized runs the Vector API kernel instead of its scalar fallback.
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchLocatorBenchmark {
+
+	@Param({"1000", "100000", "1000000"})
+	private int catalogSize;
+
+	private final StarLocator starLocator = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42));
+
+	private final StarLocator j2000StarLocator = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42),
+			false, Precision.EXACT, new PrecessionNutation(Duration.ofMinutes(1)));
+
+	private final LocalDateTime localDateTime = LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10);
+
+	private ArrayStarCatalog starCatalog;
+	private EquatorialCoordinate[] starEqCoordinates;
+	private double[] altitudeValues;
+	private double[] azimuthValues;
+
+	@Setup
+	public void setUp() {
+		starCatalog = Catalogs.createRandomCatalog(catalogSize);
+		starEqCoordinates = Catalogs.toEqCoordinates(starCatalog);
+		altitudeValues = new double[catalogSize];
+		azimuthValues = new double[catalogSize];
+	}
+
+	@Benchmark
+	public void locateStarPerCall(Blackhole blackhole) {
+		for (EquatorialCoordinate starEqCoordinate : starEqCoordinates) {
+			HorizontalCoordinate horizontalCoordinate = starLocator.locateStar(localDateTime, starEqCoordinate);
+			blackhole.consume(horizontalCoordinate);
+		}
+	}
+
+	@Benchmark
+	public double[] locateStarsFromArrays() {
+		starLocator.locateStars(localDateTime, starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+
+	@Benchmark
+	public double[] locateJ2000StarsFromArrays() {
+		j2000StarLocator.locateStars(localDateTime, starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+
+	@Benchmark
+	public double[] locateStarsFromCatalog() {
+		ObservingContext observingContext = starLocator.createObservingContext(localDateTime);
+		observingContext.locateStars(starCatalog, altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+
+	@Benchmark
+	public double[] locateStarsVectorized() {
+		ObservingContext observingContext = starLocator.createObservingContext(localDateTime);
+		observingContext.locateStarsVectorized(starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+}
@@ -0,0 +1,117 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.catalog.StarCatalogConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Converts a generated CSV catalog, comparing the mapped in-place parsing of {@link StarCatalogConverter} with reading
+ * lines and parsing them through {@link String#split(String)} and {@link Double#parseDouble(String)}. One million rows
+ * make about 50 MB; multi-gigabyte inputs are run with e.g. {@code -p rows=50000000}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class CatalogIngestionBenchmark {
+
+	private static final Pattern SEXAGESIMAL_SEPARATORS = Pattern.compile("[^0-9.]+");
+
+	@Param({"1000000"})
+	private int rows;
+
+	@Param({"DECIMAL", "SEXAGESIMAL"})
+	private String notation;
+
+	private Path csvPath;
+	private Path catalogPath;
+
+	@Setup
+	public void setUp() throws IOException {
+		csvPath = Files.createTempFile("catalog-ingestion", ".csv");
+		catalogPath = Files.createTempFile("catalog-ingestion", ".cat");
+		Random random = new Random(42);
+		try (BufferedWriter writer = Files.newBufferedWriter(csvPath, StandardCharsets.UTF_8)) {
+			writer.write("id,ra,dec,magnitude\n");
+			for (int i = 0; i < rows; i++) {
+				double raDegreeValue = random.nextDouble() * 360;
+				double decDegreeValue = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+				writer.write(i + ",");
+				if (notation.equals("DECIMAL")) {
+					writer.write(raDegreeValue + "," + decDegreeValue);
+				} else {
+					writer.write(toSexagesimal(raDegreeValue / 15, "h", "m", "s") + ","
+							+ (decDegreeValue < 0 ? "-" : "+") + toSexagesimal(Math.abs(decDegreeValue), "°", "'", "\""));
+				}
+				writer.write("," + (float) (random.nextDouble() * 12 - 1.5) + "\n");
+			}
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(csvPath);
+		Files.deleteIfExists(catalogPath);
+	}
+
+	@Benchmark
+	public int convertCsv() throws IOException {
+		return StarCatalogConverter.convertCsv(csvPath, catalogPath);
+	}
+
+	@Benchmark
+	public double splitAndParseDouble() throws IOException {
+		double sum = 0;
+		try (BufferedReader reader = Files.newBufferedReader(csvPath, StandardCharsets.UTF_8)) {
+			reader.readLine();
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				String[] values = line.split(",", -1);
+				sum += Long.parseLong(values[0]) + parseAngle(values[1]) + parseAngle(values[2]) + Float.parseFloat(values[3]);
+			}
+		}
+		return sum;
+	}
+
+	private static double parseAngle(String value) {
+		if (value.indexOf('h') < 0 && value.indexOf('°') < 0) {
+			return Double.parseDouble(value);
+		}
+		boolean signed = value.charAt(0) == '-' || value.charAt(0) == '+';
+		String[] fields = SEXAGESIMAL_SEPARATORS.split(signed ? value.substring(1) : value);
+		double angle = Double.parseDouble(fields[0]) + Double.parseDouble(fields[1]) / 60 + Double.parseDouble(fields[2]) / 3600;
+		angle = value.indexOf('h') >= 0 ? angle * 15 : angle;
+		return value.charAt(0) == '-' ? -angle : angle;
+	}
+
+	private static String toSexagesimal(double value, String firstMark, String secondMark, String thirdMark) {
+		int first = (int) value;
+		int second = (int) ((value - first) * 60);
+		double third = Math.round(((value - first) * 60 - second) * 60 * 100) / 100.0;
+		if (third >= 60) {
+			third = 59.99;
+		}
+		return first + firstMark + second + secondMark + third + thirdMark;
+	}
+}
@@ -0,0 +1,39 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+
+import java.util.Random;
+
+final class Catalogs {
+
+	private Catalogs() {
+	}
+
+	static ArrayStarCatalog createRandomCatalog(int size) {
+		Random random = new Random(42);
+		double[] raDegreeValues = new double[size];
+		double[] decDegreeValues = new double[size];
+		for (int i = 0; i < size; i++) {
+			raDegreeValues[i] = random.nextDouble() * 360;
+			decDegreeValues[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+		return new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+	}
+
+	static EquatorialCoordinate[] toEqCoordinates(ArrayStarCatalog starCatalog) {
+		EquatorialCoordinate[] starEqCoordinates = new EquatorialCoordinate[starCatalog.size()];
+		for (int i = 0; i < starEqCoordinates.length; i++) {
+			double raHourValue = starCatalog.getRaDegreeValue(i) / 15;
+			int raHour = (int) raHourValue;
+			int raMinute = (int) ((raHourValue - raHour) * 60);
+			double raSecond = ((raHourValue - raHour) * 60 - raMinute) * 60;
+			double decDegreeValue = starCatalog.getDecDegreeValue(i);
+			int decDegree = (int) decDegreeValue;
+			int decMinute = (int) ((decDegreeValue - decDegree) * 60);
+			double decSecond = ((decDegreeValue - decDegree) * 60 - decMinute) * 60;
+			starEqCoordinates[i] = new EquatorialCoordinate(raHour, raMinute, raSecond, decDegree, decMinute, decSecond);
+		}
+		return starEqCoordinates;
+	}
+}
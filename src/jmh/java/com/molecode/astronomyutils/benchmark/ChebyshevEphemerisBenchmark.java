@@ -0,0 +1,69 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.ChebyshevEphemeris;
+import com.molecode.astronomyutils.EphemerisSeries;
+import com.molecode.astronomyutils.SunEphemeris;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates the position of the Sun at a batch of instants over a year, from the Chebyshev ephemeris compared with the
+ * series it was fitted to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChebyshevEphemerisBenchmark {
+
+	private static final int INSTANT_COUNT = 10_000;
+
+	private ChebyshevEphemeris ephemeris;
+	private double[] days;
+	private double[] raDegreeValues;
+	private double[] decDegreeValues;
+
+	@Setup
+	public void setUp() {
+		Instant start = Instant.parse("2021-01-01T00:00:00Z");
+		ephemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, start, 8, 46, 8);
+		double startDay = EphemerisSeries.toDaysSinceJ2000(start);
+		Random random = new Random(42);
+		days = new double[INSTANT_COUNT];
+		for (int i = 0; i < INSTANT_COUNT; i++) {
+			days[i] = startDay + random.nextDouble() * 365;
+		}
+		raDegreeValues = new double[INSTANT_COUNT];
+		decDegreeValues = new double[INSTANT_COUNT];
+	}
+
+	@Benchmark
+	public double[] interpolate() {
+		for (int i = 0; i < INSTANT_COUNT; i++) {
+			ephemeris.calculatePosition(days[i], raDegreeValues, decDegreeValues, i);
+		}
+		return raDegreeValues;
+	}
+
+	@Benchmark
+	public double[] evaluateSeries() {
+		for (int i = 0; i < INSTANT_COUNT; i++) {
+			SunEphemeris.calculatePosition(days[i], raDegreeValues, decDegreeValues, i);
+		}
+		return raDegreeValues;
+	}
+}
@@ -0,0 +1,94 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.coordinates.Angle;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.Angle.Descriptor.DEGREE_ANGLE;
+import static com.molecode.astronomyutils.coordinates.Angle.Descriptor.HOUR_ANGLE;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoordinatesBenchmark {
+
+	private double degreeValue = 44.376666666666665;
+
+	private final Angle angle = new Angle(DEGREE_ANGLE, 44.376666666666665);
+
+	private final EquatorialCoordinate equatorialCoordinate = new EquatorialCoordinate(5, 56, 19, 7, 24, 33);
+
+	private final GeographicCoordinate geographicCoordinate = new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42);
+
+	private final HorizontalCoordinate horizontalCoordinate = new HorizontalCoordinate(60.6725, 197.2627);
+
+	private final StringBuilder builder = new StringBuilder(128);
+
+	@Benchmark
+	public Angle createAngleWithValue() {
+		return new Angle(DEGREE_ANGLE, degreeValue);
+	}
+
+	@Benchmark
+	public Angle createAngleWithSubdivisions() {
+		return new Angle(HOUR_ANGLE, 2, 57, 30.4);
+	}
+
+	@Benchmark
+	public int readAngleSubdivisions() {
+		Angle angle = new Angle(DEGREE_ANGLE, degreeValue);
+		return angle.getDegree() + angle.getArcMinute() + angle.getHour() + angle.getMinute();
+	}
+
+	@Benchmark
+	public String formatAngle() {
+		return angle.toString();
+	}
+
+	@Benchmark
+	public String formatEquatorialCoordinate() {
+		return equatorialCoordinate.toString();
+	}
+
+	@Benchmark
+	public String formatGeographicCoordinate() {
+		return geographicCoordinate.toString();
+	}
+
+	@Benchmark
+	public String formatHorizontalCoordinate() {
+		return horizontalCoordinate.toString();
+	}
+
+	@Benchmark
+	public StringBuilder appendHorizontalCoordinate() {
+		builder.setLength(0);
+		return horizontalCoordinate.appendTo(builder);
+	}
+
+	@Benchmark
+	public String formatHorizontalCoordinateWithStringFormat() {
+		return String.format(
+				"HorizontalCoordinate{altitude: %dº%d'%.4f\"(%.4f), azimuth: %dº%d'%.4f\"(%.4f)}",
+				horizontalCoordinate.getAltDegree(), horizontalCoordinate.getAltMinute(), horizontalCoordinate.getAltSecond(), horizontalCoordinate.getAltDegreeValue(),
+				horizontalCoordinate.getAzDegree(), horizontalCoordinate.getAzMinute(), horizontalCoordinate.getAzSecond(), horizontalCoordinate.getAzDegreeValue()
+		);
+	}
+}
@@ -0,0 +1,81 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.MultiObserverLocator;
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.WEST;
+
+/**
+ * Measures how the multi-observer engine scales with the fork-join pool parallelism.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiObserverLocatorBenchmark {
+
+	@Param({"1", "2", "4", "8"})
+	private int parallelism;
+
+	@Param({"16"})
+	private int observerCount;
+
+	@Param({"100000"})
+	private int catalogSize;
+
+	private final Instant instant = Instant.parse("2021-01-15T13:30:10Z");
+
+	private ForkJoinPool forkJoinPool;
+	private MultiObserverLocator multiObserverLocator;
+	private ArrayStarCatalog starCatalog;
+	private double[] altitudeValues;
+	private double[] azimuthValues;
+
+	@Setup
+	public void setUp() {
+		List<GeographicCoordinate> observingLocations = new ArrayList<>();
+		for (int i = 0; i < observerCount; i++) {
+			observingLocations.add(new GeographicCoordinate(i % 2 == 0 ? NORTH : SOUTH, i * 5 % 90, i, 0, i % 3 == 0 ? EAST : WEST, i * 11 % 180, i, 0));
+		}
+		forkJoinPool = new ForkJoinPool(parallelism);
+		multiObserverLocator = new MultiObserverLocator(observingLocations, forkJoinPool);
+		starCatalog = Catalogs.createRandomCatalog(catalogSize);
+		altitudeValues = new double[observerCount * catalogSize];
+		azimuthValues = new double[observerCount * catalogSize];
+	}
+
+	@TearDown
+	public void tearDown() {
+		forkJoinPool.shutdown();
+	}
+
+	@Benchmark
+	public double[] locateStars() {
+		multiObserverLocator.locateStars(instant, starCatalog, altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+}
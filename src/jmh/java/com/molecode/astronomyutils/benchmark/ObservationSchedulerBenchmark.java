@@ -0,0 +1,94 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.AltitudeTable;
+import com.molecode.astronomyutils.ObservationSchedule;
+import com.molecode.astronomyutils.ObservationScheduler;
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+/**
+ * Schedules 1000 targets over a 12 hour night of 10 minute slots: tabulating their altitudes, compared with locating
+ * every target at every slot one by one, and searching the schedule over the table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObservationSchedulerBenchmark {
+
+	private static final int TARGET_COUNT = 1000;
+	private static final int SLOT_COUNT = 72;
+	private static final Duration SLOT_DURATION = Duration.ofMinutes(10);
+	private static final Instant START = Instant.parse("2021-01-15T08:00:00Z");
+
+	@Param({"1", "8", "32"})
+	private int beamWidth;
+
+	private StarLocator starLocator;
+	private ObservationScheduler observationScheduler;
+	private ArrayStarCatalog targets;
+	private EquatorialCoordinate[] targetEqCoordinates;
+	private AltitudeTable altitudeTable;
+	private int[] targetSlotCounts;
+	private double[] altitudeValues;
+
+	@Setup
+	public void setUp() {
+		starLocator = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42));
+		observationScheduler = new ObservationScheduler(starLocator);
+		targets = Catalogs.createRandomCatalog(TARGET_COUNT);
+		targetEqCoordinates = Catalogs.toEqCoordinates(targets);
+		altitudeTable = observationScheduler.calculateAltitudeTable(START, SLOT_DURATION, SLOT_COUNT, targets, 30);
+		Random random = new Random(42);
+		targetSlotCounts = new int[TARGET_COUNT];
+		for (int i = 0; i < TARGET_COUNT; i++) {
+			targetSlotCounts[i] = 1 + random.nextInt(6);
+		}
+		altitudeValues = new double[TARGET_COUNT * SLOT_COUNT];
+	}
+
+	@Benchmark
+	public AltitudeTable calculateAltitudeTable() {
+		return observationScheduler.calculateAltitudeTable(START, SLOT_DURATION, SLOT_COUNT, targets, 30);
+	}
+
+	@Benchmark
+	public double[] locateEveryTargetAtEverySlot() {
+		for (int s = 0; s < SLOT_COUNT; s++) {
+			Instant slotMiddle = START.plus(SLOT_DURATION.multipliedBy(s)).plus(SLOT_DURATION.dividedBy(2));
+			for (int t = 0; t < TARGET_COUNT; t++) {
+				altitudeValues[t * SLOT_COUNT + s] = starLocator.locateStar(slotMiddle, targetEqCoordinates[t]).getAltDegreeValue();
+			}
+		}
+		return altitudeValues;
+	}
+
+	@Benchmark
+	public ObservationSchedule schedule() {
+		return observationScheduler.schedule(altitudeTable, targetSlotCounts, beamWidth);
+	}
+}
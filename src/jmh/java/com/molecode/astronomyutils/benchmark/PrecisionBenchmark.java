@@ -0,0 +1,69 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.Precision;
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrecisionBenchmark {
+
+	private static final int CATALOG_SIZE = 100_000;
+
+	@Param({"EXACT", "ARCSECOND", "ARCMINUTE"})
+	private Precision precision;
+
+	private final LocalDateTime localDateTime = LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10);
+
+	private StarLocator starLocator;
+	private ArrayStarCatalog starCatalog;
+	private EquatorialCoordinate starEqCoordinate;
+	private double[] altitudeValues;
+	private double[] azimuthValues;
+
+	@Setup
+	public void setUp() {
+		starLocator = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42), true, precision);
+		starCatalog = Catalogs.createRandomCatalog(CATALOG_SIZE);
+		starEqCoordinate = Catalogs.toEqCoordinates(starCatalog)[0];
+		altitudeValues = new double[CATALOG_SIZE];
+		azimuthValues = new double[CATALOG_SIZE];
+	}
+
+	@Benchmark
+	public double[] locateStars() {
+		starLocator.locateStars(localDateTime, starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+
+	@Benchmark
+	public HorizontalCoordinate locateStar() {
+		return starLocator.locateStar(localDateTime, starEqCoordinate);
+	}
+}
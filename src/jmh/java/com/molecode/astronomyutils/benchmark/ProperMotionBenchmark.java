@@ -0,0 +1,65 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.catalog.ProperMotionCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProperMotionBenchmark {
+
+	private static final int CATALOG_SIZE = 1_000_000;
+
+	private ProperMotionCatalog starCatalog;
+	private double[] raProperMotions;
+	private double[] decProperMotions;
+	private double[] raDegreeValues;
+	private double[] decDegreeValues;
+	private double epoch = 2016;
+
+	@Setup
+	public void setUp() {
+		ArrayStarCatalog positions = Catalogs.createRandomCatalog(CATALOG_SIZE);
+		Random random = new Random(42);
+		raProperMotions = new double[CATALOG_SIZE];
+		decProperMotions = new double[CATALOG_SIZE];
+		for (int i = 0; i < CATALOG_SIZE; i++) {
+			raProperMotions[i] = random.nextGaussian() * 100;
+			decProperMotions[i] = random.nextGaussian() * 100;
+		}
+		starCatalog = new ProperMotionCatalog(2016, positions.getRaDegreeValues(), positions.getDecDegreeValues(), raProperMotions, decProperMotions);
+		raDegreeValues = new double[CATALOG_SIZE];
+		decDegreeValues = new double[CATALOG_SIZE];
+	}
+
+	@Benchmark
+	public ProperMotionCatalog setEpoch() {
+		// A new epoch every call, so that every call propagates the catalog.
+		epoch += 1e-6;
+		starCatalog.setEpoch(epoch);
+		return starCatalog;
+	}
+
+	@Benchmark
+	public double[] propagateSequentially() {
+		ProperMotionCatalog.propagate(10, starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), raProperMotions, decProperMotions,
+				null, null, 0, CATALOG_SIZE, raDegreeValues, decDegreeValues);
+		return raDegreeValues;
+	}
+}
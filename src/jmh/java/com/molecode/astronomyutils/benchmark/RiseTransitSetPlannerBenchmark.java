@@ -0,0 +1,85 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.RiseTransitSet;
+import com.molecode.astronomyutils.RiseTransitSetPlanner;
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.WEST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiseTransitSetPlannerBenchmark {
+
+	@Param({"50000"})
+	private int catalogSize;
+
+	@Param({"30"})
+	private int nightCount;
+
+	private final ZoneId zoneId = ZoneId.of("America/Santiago");
+
+	private final GeographicCoordinate observingLocation = new GeographicCoordinate(SOUTH, 24, 37, 38, WEST, 70, 24, 15);
+
+	private final LocalDate firstNightDate = LocalDate.of(2021, Month.JANUARY, 1);
+
+	private RiseTransitSetPlanner planner;
+	private StarLocator starLocator;
+	private ArrayStarCatalog starCatalog;
+	private EquatorialCoordinate[] starEqCoordinates;
+	private double[] riseEpochSeconds;
+	private double[] transitEpochSeconds;
+	private double[] setEpochSeconds;
+
+	@Setup
+	public void setUp() {
+		planner = new RiseTransitSetPlanner(zoneId, observingLocation, -0.5667);
+		starLocator = new StarLocator(zoneId, observingLocation);
+		starCatalog = Catalogs.createRandomCatalog(catalogSize);
+		starEqCoordinates = Catalogs.toEqCoordinates(starCatalog);
+		riseEpochSeconds = new double[catalogSize * nightCount];
+		transitEpochSeconds = new double[catalogSize * nightCount];
+		setEpochSeconds = new double[catalogSize * nightCount];
+	}
+
+	@Benchmark
+	public double[] plan() {
+		planner.plan(firstNightDate, nightCount, starCatalog, riseEpochSeconds, transitEpochSeconds, setEpochSeconds);
+		return transitEpochSeconds;
+	}
+
+	@Benchmark
+	public void calculateRiseTransitSetPerCall(Blackhole blackhole) {
+		for (int n = 0; n < nightCount; n++) {
+			LocalDate nightDate = firstNightDate.plusDays(n);
+			for (EquatorialCoordinate starEqCoordinate : starEqCoordinates) {
+				RiseTransitSet riseTransitSet = starLocator.calculateRiseTransitSet(nightDate, starEqCoordinate, -0.5667);
+				blackhole.consume(riseTransitSet);
+			}
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.ObservingContext;
+import com.molecode.astronomyutils.Precision;
+import com.molecode.astronomyutils.SkyRasterizer;
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+/**
+ * Rasterizes a 4K all-sky frame into equatorial coordinates, compared with converting the horizontal raster pixel by
+ * pixel through {@link ObservingContext#toEquatorial(double[], double[], double[], double[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SkyRasterizerBenchmark {
+
+	private static final int WIDTH = 3840;
+	private static final int HEIGHT = 2160;
+
+	@Param({"ZENITHAL_EQUIDISTANT", "STEREOGRAPHIC"})
+	private SkyRasterizer.Projection projection;
+
+	@Param({"EXACT", "ARCSECOND"})
+	private Precision precision;
+
+	private SkyRasterizer skyRasterizer;
+	private ObservingContext observingContext;
+	private double[] altitudeValues;
+	private double[] azimuthValues;
+	private float[] raFloatValues;
+	private float[] decFloatValues;
+	private double[] raDegreeValues;
+	private double[] decDegreeValues;
+
+	@Setup
+	public void setUp() {
+		skyRasterizer = new SkyRasterizer(WIDTH, HEIGHT, projection, 180, precision, ForkJoinPool.commonPool());
+		observingContext = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42))
+				.createObservingContext(LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10));
+		altitudeValues = new double[WIDTH * HEIGHT];
+		azimuthValues = new double[WIDTH * HEIGHT];
+		raFloatValues = new float[WIDTH * HEIGHT];
+		decFloatValues = new float[WIDTH * HEIGHT];
+		raDegreeValues = new double[WIDTH * HEIGHT];
+		decDegreeValues = new double[WIDTH * HEIGHT];
+		skyRasterizer.rasterizeHorizontal(altitudeValues, azimuthValues);
+	}
+
+	@Benchmark
+	public float[] rasterizeEquatorial() {
+		skyRasterizer.rasterizeEquatorial(observingContext, raFloatValues, decFloatValues);
+		return raFloatValues;
+	}
+
+	@Benchmark
+	public float[] rasterizeHorizontal() {
+		skyRasterizer.rasterizeHorizontal(raFloatValues, decFloatValues);
+		return raFloatValues;
+	}
+
+	@Benchmark
+	public double[] toEquatorialPerPixel() {
+		observingContext.toEquatorial(altitudeValues, azimuthValues, raDegreeValues, decDegreeValues);
+		return raDegreeValues;
+	}
+}
@@ -0,0 +1,68 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StarLocatorBenchmark {
+
+	private static final ZoneId TOKYO_ZONE_ID = ZoneId.of("Asia/Tokyo");
+
+	private final StarLocator starLocator = new StarLocator(TOKYO_ZONE_ID, new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42));
+
+	private final StarLocator cachingStarLocator = new StarLocator(TOKYO_ZONE_ID, new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42), true);
+
+	private final EquatorialCoordinate betelgeuse = new EquatorialCoordinate(5, 56, 19, 7, 24, 33);
+
+	private final LocalDateTime localDateTime = LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10);
+
+	private final Instant instant = localDateTime.atZone(TOKYO_ZONE_ID).toInstant();
+
+	private final LocalDate localDate = localDateTime.toLocalDate();
+
+	@Benchmark
+	public HorizontalCoordinate locateStar() {
+		return starLocator.locateStar(localDateTime, betelgeuse);
+	}
+
+	@Benchmark
+	public HorizontalCoordinate locateStarAtInstant() {
+		return starLocator.locateStar(instant, betelgeuse);
+	}
+
+	@Benchmark
+	public HorizontalCoordinate locateStarAtCachedInstant() {
+		return cachingStarLocator.locateStar(instant, betelgeuse);
+	}
+
+	@Benchmark
+	public LocalDateTime calculateMeridianTime() {
+		return starLocator.calculateMeridianTime(localDate, betelgeuse);
+	}
+}
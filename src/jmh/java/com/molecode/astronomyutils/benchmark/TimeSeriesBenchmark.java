@@ -0,0 +1,72 @@
+package com.molecode.astronomyutils.benchmark;
+
+import com.molecode.astronomyutils.StarLocator;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimeSeriesBenchmark {
+
+	@Param({"1000", "10000"})
+	private int count;
+
+	private final StarLocator starLocator = new StarLocator(ZoneId.of("Asia/Tokyo"), new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42));
+
+	private final EquatorialCoordinate capella = new EquatorialCoordinate(5, 18, 16, 46, 1, 23);
+
+	private final LocalDateTime startDateTime = LocalDateTime.of(2021, Month.JANUARY, 15, 18, 0, 0);
+
+	private final Duration step = Duration.ofSeconds(10);
+
+	private double[] altitudeValues;
+	private double[] azimuthValues;
+
+	@Setup
+	public void setUp() {
+		altitudeValues = new double[count];
+		azimuthValues = new double[count];
+	}
+
+	@Benchmark
+	public void locateStarPerCall(Blackhole blackhole) {
+		LocalDateTime localDateTime = startDateTime;
+		for (int i = 0; i < count; i++) {
+			HorizontalCoordinate horizontalCoordinate = starLocator.locateStar(localDateTime, capella);
+			blackhole.consume(horizontalCoordinate);
+			localDateTime = localDateTime.plus(step);
+		}
+	}
+
+	@Benchmark
+	public double[] locateStarOverTime() {
+		starLocator.locateStarOverTime(startDateTime, step, count, capella, altitudeValues, azimuthValues);
+		return altitudeValues;
+	}
+}
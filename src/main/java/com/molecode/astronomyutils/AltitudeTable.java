@@ -0,0 +1,83 @@
+package com.molecode.astronomyutils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Altitudes of a set of targets at the middle of consecutive time slots, computed by
+ * {@link ObservationScheduler#calculateAltitudeTable}. A slot is observable for a target when the target is at least at
+ * the minimum altitude of the table and above the horizon mask. Besides the altitudes, the table keeps what the
+ * schedule search needs to score any observation window in constant time: running sums of the altitudes and the
+ * number of consecutive observable slots from every slot.
+ */
+public class AltitudeTable {
+
+	private final Instant start;
+	private final Duration slotDuration;
+	private final int targetCount;
+	private final int slotCount;
+
+	// [target][slot] matrices, i.e. target t at slot s is at index t * slotCount + s.
+	private final double[] altitudeValues;
+	private final int[] observableRuns;
+
+	// [target][slot + 1] matrix of the altitudes summed over the slots before each slot.
+	private final double[] altitudeSums;
+
+	AltitudeTable(Instant start, Duration slotDuration, int targetCount, int slotCount,
+				  double[] altitudeValues, int[] observableRuns, double[] altitudeSums) {
+		this.start = start;
+		this.slotDuration = slotDuration;
+		this.targetCount = targetCount;
+		this.slotCount = slotCount;
+		this.altitudeValues = altitudeValues;
+		this.observableRuns = observableRuns;
+		this.altitudeSums = altitudeSums;
+	}
+
+	public Instant getStart() {
+		return start;
+	}
+
+	public Duration getSlotDuration() {
+		return slotDuration;
+	}
+
+	public Instant getSlotStart(int slot) {
+		return start.plus(slotDuration.multipliedBy(slot));
+	}
+
+	public int getTargetCount() {
+		return targetCount;
+	}
+
+	public int getSlotCount() {
+		return slotCount;
+	}
+
+	/**
+	 * Returns the altitude degree value of the target at the middle of the slot.
+	 */
+	public double getAltitude(int target, int slot) {
+		return altitudeValues[target * slotCount + slot];
+	}
+
+	public boolean isObservable(int target, int slot) {
+		return observableRuns[target * slotCount + slot] > 0;
+	}
+
+	/**
+	 * Whether the target is observable during every slot of [fromSlot, fromSlot + slots).
+	 */
+	boolean isObservable(int target, int fromSlot, int slots) {
+		return observableRuns[target * slotCount + fromSlot] >= slots;
+	}
+
+	/**
+	 * Returns the altitudes of the target summed over the slots of [fromSlot, toSlot).
+	 */
+	double sumAltitudes(int target, int fromSlot, int toSlot) {
+		int offset = target * (slotCount + 1);
+		return altitudeSums[offset + toSlot] - altitudeSums[offset + fromSlot];
+	}
+}
@@ -0,0 +1,139 @@
+package com.molecode.astronomyutils;
+
+/**
+ * Polynomial approximations of the trigonometric functions of the equatorial to horizontal transform, taking and
+ * returning degrees. Coefficients interpolate the functions at Chebyshev nodes, which is close to minimax: sine and
+ * cosine are fitted on [0, pi/4] after reducing the angle by quarter turns, arctangent on [0, 1] after folding the
+ * atan2 arguments into the first octant.
+ */
+abstract class ApproximateTrig {
+
+	private static final double RADIANS_PER_DEGREE = Math.PI / 180;
+	private static final double DEGREES_PER_RADIAN = 180 / Math.PI;
+
+	private static final ApproximateTrig ARCSECOND_TRIG = new ArcsecondTrig();
+	private static final ApproximateTrig ARCMINUTE_TRIG = new ArcminuteTrig();
+
+	static ApproximateTrig of(Precision precision) {
+		switch (precision) {
+			case ARCSECOND:
+				return ARCSECOND_TRIG;
+			case ARCMINUTE:
+				return ARCMINUTE_TRIG;
+			default:
+				throw new IllegalArgumentException("No approximation for precision " + precision);
+		}
+	}
+
+	double sin(double degrees) {
+		double quarterTurns = Math.rint(degrees * (1.0 / 90));
+		double radians = (degrees - quarterTurns * 90) * RADIANS_PER_DEGREE;
+		switch ((int) (long) quarterTurns & 3) {
+			case 0:
+				return sinRemainder(radians);
+			case 1:
+				return cosRemainder(radians);
+			case 2:
+				return -sinRemainder(radians);
+			default:
+				return -cosRemainder(radians);
+		}
+	}
+
+	double cos(double degrees) {
+		double quarterTurns = Math.rint(degrees * (1.0 / 90));
+		double radians = (degrees - quarterTurns * 90) * RADIANS_PER_DEGREE;
+		switch ((int) (long) quarterTurns & 3) {
+			case 0:
+				return cosRemainder(radians);
+			case 1:
+				return -sinRemainder(radians);
+			case 2:
+				return -cosRemainder(radians);
+			default:
+				return sinRemainder(radians);
+		}
+	}
+
+	/**
+	 * Angle of the point (x, y) in degrees, within [-180, 180].
+	 */
+	double atan2(double y, double x) {
+		double absY = Math.abs(y);
+		double absX = Math.abs(x);
+		double max = Math.max(absX, absY);
+		double angle = max == 0 ? 0 : atanUnit(Math.min(absX, absY) / max);
+		if (absY > absX) {
+			angle = Math.PI / 2 - angle;
+		}
+		if (x < 0) {
+			angle = Math.PI - angle;
+		}
+		return (y < 0 ? -angle : angle) * DEGREES_PER_RADIAN;
+	}
+
+	/**
+	 * Sine of an angle within [-pi/4, pi/4] radians.
+	 */
+	abstract double sinRemainder(double radians);
+
+	/**
+	 * Cosine of an angle within [-pi/4, pi/4] radians.
+	 */
+	abstract double cosRemainder(double radians);
+
+	/**
+	 * Arctangent in radians of a value within [0, 1].
+	 */
+	abstract double atanUnit(double value);
+
+	/**
+	 * Sine and cosine within 3e-8, arctangent within 4.2e-7 radians.
+	 */
+	private static final class ArcsecondTrig extends ApproximateTrig {
+
+		@Override
+		double sinRemainder(double radians) {
+			double z = radians * radians;
+			return radians * (0.9999999969177035 + z * (-0.16666650673996775 + z * (0.008332035785598761 + z * -1.950390425104971E-4)));
+		}
+
+		@Override
+		double cosRemainder(double radians) {
+			double z = radians * radians;
+			return 0.9999999723284945 + z * (-0.49999856419182404 + z * (0.041655014924892285 + z * -0.0013585779264929595));
+		}
+
+		@Override
+		double atanUnit(double value) {
+			double z = value * value;
+			return value * (0.9999992255890977 + z * (-0.33325678039723927 + z * (0.19872040268214683
+					+ z * (-0.13447864058090975 + z * (0.08312645300620516 + z * (-0.03636043085732529 + z * 0.0076483539267648976))))));
+		}
+	}
+
+	/**
+	 * Sine and cosine within 1.1e-5, arctangent within 2e-5 radians.
+	 */
+	private static final class ArcminuteTrig extends ApproximateTrig {
+
+		@Override
+		double sinRemainder(double radians) {
+			double z = radians * radians;
+			return radians * (0.9999985632639605 + z * (-0.16662472194586497 + z * 0.008151506332465756));
+		}
+
+		@Override
+		double cosRemainder(double radians) {
+			double z = radians * radians;
+			return 0.9999899797834089 + z * (-0.49970742500618004 + z * 0.040397376384047036);
+		}
+
+		@Override
+		double atanUnit(double value) {
+			double z = value * value;
+			return value * (0.9999647984014695 + z * (-0.331544619308725 + z * (0.18446355750908164
+					+ z * (-0.0907520179246916 + z * 0.023286007732994825))));
+		}
+	}
+}
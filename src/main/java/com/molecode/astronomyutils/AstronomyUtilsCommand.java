@@ -1,25 +1,108 @@
 package com.molecode.astronomyutils;
 
+import com.molecode.astronomyutils.catalog.MappedStarCatalog;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.SexagesimalParser;
 import picocli.CommandLine;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 @CommandLine.Command(
 		name = "hello",
-		description = "Says hello"
+		description = "Says hello",
+		subcommands = {LocateCommand.class, ServeCommand.class, ClientCommand.class}
 )
 public class AstronomyUtilsCommand implements Callable<Integer> {
+	@CommandLine.Spec
+	private CommandLine.Model.CommandSpec spec;
+
 	@CommandLine.Option(
 			names = {"-L", "--observing-location"},
 			arity = "2",
-			required = true
+			description = "Latitude and longitude in decimal or sexagesimal degrees, north and east being positive, e.g. 35.7025 139.745 or 35°42'9\"N 139°44'42\"E"
 	)
 	private String[] observingLocation;
 
+	private final InputStream in;
+	private final OutputStream out;
+	private final Map<Path, MappedStarCatalog> catalogs;
+	private final boolean openingCatalogs;
+
+	public AstronomyUtilsCommand() {
+		this(System.in, System.out, new HashMap<>(), true);
+	}
+
+	/**
+	 * Creates a command reading and writing the given streams instead of the standard ones, with catalogs looked up
+	 * in the given map so that they can be shared between commands. Catalogs missing from the map are opened into it
+	 * when {@code openingCatalogs} is set, and rejected otherwise.
+	 */
+	AstronomyUtilsCommand(InputStream in, OutputStream out, Map<Path, MappedStarCatalog> catalogs, boolean openingCatalogs) {
+		this.in = in;
+		this.out = out;
+		this.catalogs = catalogs;
+		this.openingCatalogs = openingCatalogs;
+	}
+
+	GeographicCoordinate getObservingLocation() {
+		if (observingLocation == null) {
+			throw new CommandLine.ParameterException(spec.commandLine(), "Missing required option: '--observing-location'");
+		}
+		try {
+			return new GeographicCoordinate(SexagesimalParser.parseDegrees(observingLocation[0]), SexagesimalParser.parseDegrees(observingLocation[1]));
+		} catch (IllegalArgumentException e) {
+			throw new CommandLine.ParameterException(spec.commandLine(), "Invalid '--observing-location': " + e.getMessage(), e);
+		}
+	}
+
+	InputStream getIn() {
+		return in;
+	}
+
+	OutputStream getOut() {
+		return out;
+	}
+
+	MappedStarCatalog openCatalog(Path path) {
+		if (openingCatalogs) {
+			return openCatalog(catalogs, path);
+		}
+		MappedStarCatalog catalog = catalogs.get(catalogKey(path));
+		if (catalog == null) {
+			throw new CommandLine.ParameterException(spec.commandLine(), "Catalog not loaded by the server: " + path);
+		}
+		return catalog;
+	}
+
+	/**
+	 * Returns the catalog mapped for the path, opening it into the map if it is not there yet.
+	 */
+	static MappedStarCatalog openCatalog(Map<Path, MappedStarCatalog> catalogs, Path path) {
+		return catalogs.computeIfAbsent(catalogKey(path), key -> {
+			try {
+				return MappedStarCatalog.open(key);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	static Path catalogKey(Path path) {
+		return path.toAbsolutePath().normalize();
+	}
+
 	@Override
 	public Integer call() {
-		System.out.println(Arrays.toString(observingLocation));
+		getObservingLocation();
+		spec.commandLine().getOut().println(Arrays.toString(observingLocation));
 		return 0;
 	}
 
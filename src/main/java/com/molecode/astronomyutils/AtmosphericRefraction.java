@@ -0,0 +1,129 @@
+package com.molecode.astronomyutils;
+
+/**
+ * Atmospheric refraction raising geometric altitudes to apparent ones, following Saemundsson's formula scaled by
+ * pressure and temperature. The refraction is tabulated per weather condition and linearly interpolated, the table
+ * being rebuilt only when the conditions change. Below the table range, where the formula no longer holds, the
+ * refraction of its lowest altitude tapers linearly to zero over {@value #TAPER_DEGREES} degrees, so that stars far
+ * below the horizon keep their geometric altitude.
+ * <p>
+ * Instances are thread safe: conditions can be updated while stars are located, each {@link ObservingContext} keeping
+ * the table current when it was created.
+ */
+public class AtmosphericRefraction {
+
+	public static final double STANDARD_PRESSURE = 1010;
+	public static final double STANDARD_TEMPERATURE = 10;
+
+	static final double MIN_ALTITUDE = -2;
+	static final int STEPS_PER_DEGREE = 20;
+	static final double TAPER_DEGREES = 3;
+
+	private static final int MAX_INVERSION_STEPS = 30;
+	private static final double INVERSION_TOLERANCE = 1e-9;
+
+	private volatile Table table;
+
+	/**
+	 * @param pressure    atmospheric pressure in hectopascals
+	 * @param temperature air temperature in degrees Celsius
+	 */
+	public AtmosphericRefraction(double pressure, double temperature) {
+		this.table = new Table(pressure, temperature);
+	}
+
+	public double getPressure() {
+		return table.pressure;
+	}
+
+	public double getTemperature() {
+		return table.temperature;
+	}
+
+	/**
+	 * Updates the weather conditions, rebuilding the table only if they differ from the current ones.
+	 */
+	public void setConditions(double pressure, double temperature) {
+		Table current = table;
+		if (current.pressure != pressure || current.temperature != temperature) {
+			table = new Table(pressure, temperature);
+		}
+	}
+
+	/**
+	 * Calculates the refraction in degrees of a star at the given geometric altitude, without the table.
+	 */
+	public double calculateRefraction(double altitude) {
+		double refraction = calculateRefraction(Math.max(MIN_ALTITUDE, altitude), table.pressure, table.temperature);
+		return altitude < MIN_ALTITUDE ? taper(altitude, refraction) : refraction;
+	}
+
+	Table getTable() {
+		return table;
+	}
+
+	private static double calculateRefraction(double altitude, double pressure, double temperature) {
+		// Saemundsson's formula in arcminutes, offset so that the refraction vanishes at the zenith.
+		double refraction = 1.02 / Math.tan(Math.toRadians(altitude + 10.3 / (altitude + 5.11))) + 0.0019279;
+		return refraction / 60 * (pressure / STANDARD_PRESSURE) * (283 / (273 + temperature));
+	}
+
+	/**
+	 * Scales the refraction at the lowest altitude down to zero, {@value #TAPER_DEGREES} degrees below it. The slope,
+	 * about a quarter in standard conditions, is gentle enough for the inversion to keep contracting.
+	 */
+	private static double taper(double altitude, double lowestRefraction) {
+		return lowestRefraction * Math.max(0, 1 - (MIN_ALTITUDE - altitude) / TAPER_DEGREES);
+	}
+
+	static final class Table {
+
+		private final double pressure;
+		private final double temperature;
+		private final double[] refractions;
+
+		private Table(double pressure, double temperature) {
+			if (!(pressure >= 0) || !(temperature > -273.15)) {
+				throw new IllegalArgumentException(String.format("Invalid weather conditions: pressure %s, temperature %s.", pressure, temperature));
+			}
+			this.pressure = pressure;
+			this.temperature = temperature;
+			this.refractions = new double[(int) ((90 - MIN_ALTITUDE) * STEPS_PER_DEGREE) + 1];
+			for (int i = 0; i < refractions.length; i++) {
+				refractions[i] = calculateRefraction(MIN_ALTITUDE + (double) i / STEPS_PER_DEGREE, pressure, temperature);
+			}
+		}
+
+		double getRefraction(double altitude) {
+			double position = (altitude - MIN_ALTITUDE) * STEPS_PER_DEGREE;
+			if (!(position > 0)) {
+				return taper(altitude, refractions[0]);
+			}
+			if (position >= refractions.length - 1) {
+				return refractions[refractions.length - 1];
+			}
+			int index = (int) position;
+			return refractions[index] + (refractions[index + 1] - refractions[index]) * (position - index);
+		}
+
+		double toApparentAltitude(double geometricAltitude) {
+			return geometricAltitude + getRefraction(geometricAltitude);
+		}
+
+		/**
+		 * Inverts the refraction by fixed point iteration. The refraction changes by less than a third of the altitude
+		 * change, even at the horizon, so each step shrinks the error at least threefold.
+		 */
+		double toGeometricAltitude(double apparentAltitude) {
+			double geometricAltitude = apparentAltitude - getRefraction(apparentAltitude);
+			for (int i = 0; i < MAX_INVERSION_STEPS; i++) {
+				double nextAltitude = apparentAltitude - getRefraction(geometricAltitude);
+				if (Math.abs(nextAltitude - geometricAltitude) < INVERSION_TOLERANCE) {
+					return nextAltitude;
+				}
+				geometricAltitude = nextAltitude;
+			}
+			return geometricAltitude;
+		}
+	}
+}
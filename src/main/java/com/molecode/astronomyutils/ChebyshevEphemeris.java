@@ -0,0 +1,231 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+
+/**
+ * Ephemeris of a moving body interpolated by Chebyshev polynomials over consecutive granules of fixed duration, the
+ * way JPL ephemerides are distributed. The coefficients are fitted once to a reference {@link EphemerisSeries}, after
+ * which a position costs a granule lookup, a Clenshaw recurrence of a few multiply-adds per coefficient and the
+ * conversion to right ascension and declination, about as much as reading a star from a catalog.
+ * <p>
+ * The unit direction of the body is interpolated rather than its angles, so right ascension wrapping around 360º and
+ * declinations close to the poles need no special care. Coefficients are held in a heap array or read zero-copy from
+ * a memory-mapped file with the following little-endian layout:
+ * <pre>
+ * magic "ASTROCHB" | int version | int degree | double startDay | double granuleDays | long granuleCount
+ * int flags | int reserved | double coefficients[granuleCount][3][degree + 1]
+ * </pre>
+ * Days are counted from 2000-01-01T12:00:00Z, and the coefficients of a granule are those of its x, y and z
+ * components in turn. Flag {@value #OF_DATE_FLAG} is set when the fitted series is {@link #isOfDate() of date}.
+ */
+public class ChebyshevEphemeris implements EphemerisSeries {
+
+	static final byte[] MAGIC = "ASTROCHB".getBytes(StandardCharsets.US_ASCII);
+	static final int VERSION = 2;
+	static final int HEADER_SIZE = 48;
+	static final int OF_DATE_FLAG = 1;
+
+	private static final int MAX_DEGREE = 32;
+
+	private final double startDay;
+	private final double granuleDays;
+	private final int granuleCount;
+	private final int coefficientCount;
+	private final DoubleBuffer coefficients;
+	private final boolean ofDate;
+
+	private ChebyshevEphemeris(double startDay, double granuleDays, int granuleCount, int degree, DoubleBuffer coefficients, boolean ofDate) {
+		this.startDay = startDay;
+		this.granuleDays = granuleDays;
+		this.granuleCount = granuleCount;
+		this.coefficientCount = degree + 1;
+		this.coefficients = coefficients;
+		this.ofDate = ofDate;
+	}
+
+	/**
+	 * Fits the reference series over {@code granuleCount} granules of {@code granuleDays} days from {@code start},
+	 * sampling it at the degree + 1 Chebyshev nodes of every granule. The ephemeris keeps the frame of the series.
+	 */
+	public static ChebyshevEphemeris fit(EphemerisSeries referenceSeries, Instant start, double granuleDays, int granuleCount, int degree) {
+		if (!(granuleDays > 0) || granuleCount <= 0 || degree < 0 || degree > MAX_DEGREE) {
+			throw new IllegalArgumentException(String.format(
+					"Invalid Chebyshev granules: %s days, %d granules, degree %d.", granuleDays, granuleCount, degree));
+		}
+		int coefficientCount = degree + 1;
+		if ((long) granuleCount * 3 * coefficientCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many Chebyshev coefficients: " + granuleCount + " granules.");
+		}
+		double startDay = EphemerisSeries.toDaysSinceJ2000(start);
+		double[] coefficients = new double[granuleCount * 3 * coefficientCount];
+
+		double[] nodes = new double[coefficientCount];
+		for (int k = 0; k < coefficientCount; k++) {
+			nodes[k] = Math.cos(Math.PI * (k + 0.5) / coefficientCount);
+		}
+		double[] raDegreeValues = new double[coefficientCount];
+		double[] decDegreeValues = new double[coefficientCount];
+		double[][] components = new double[3][coefficientCount];
+		for (int granule = 0; granule < granuleCount; granule++) {
+			double granuleStartDay = startDay + granule * granuleDays;
+			for (int k = 0; k < coefficientCount; k++) {
+				referenceSeries.calculatePosition(granuleStartDay + (nodes[k] + 1) / 2 * granuleDays, raDegreeValues, decDegreeValues, k);
+				double rightAscension = Math.toRadians(raDegreeValues[k]);
+				double declination = Math.toRadians(decDegreeValues[k]);
+				components[0][k] = Math.cos(declination) * Math.cos(rightAscension);
+				components[1][k] = Math.cos(declination) * Math.sin(rightAscension);
+				components[2][k] = Math.sin(declination);
+			}
+			for (int axis = 0; axis < 3; axis++) {
+				int offset = (granule * 3 + axis) * coefficientCount;
+				for (int j = 0; j < coefficientCount; j++) {
+					double sum = 0;
+					for (int k = 0; k < coefficientCount; k++) {
+						sum += components[axis][k] * Math.cos(Math.PI * j * (k + 0.5) / coefficientCount);
+					}
+					// The constant term is halved once here rather than at every evaluation.
+					coefficients[offset + j] = (j == 0 ? 1.0 : 2.0) / coefficientCount * sum;
+				}
+			}
+		}
+		return new ChebyshevEphemeris(startDay, granuleDays, granuleCount, degree, DoubleBuffer.wrap(coefficients), referenceSeries.isOfDate());
+	}
+
+	/**
+	 * Maps an ephemeris written by {@link #write(Path)}. The mapping outlives the file channel, which is closed.
+	 */
+	public static ChebyshevEphemeris open(Path path) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(HEADER_SIZE, fileChannel.size()))
+					.order(ByteOrder.LITTLE_ENDIAN);
+			if (header.remaining() < HEADER_SIZE) {
+				throw new IOException("Not a Chebyshev ephemeris file: " + path);
+			}
+			for (int i = 0; i < MAGIC.length; i++) {
+				if (header.get(i) != MAGIC[i]) {
+					throw new IOException("Not a Chebyshev ephemeris file: " + path);
+				}
+			}
+			int version = header.getInt(8);
+			if (version != VERSION) {
+				throw new IOException(String.format("Unsupported Chebyshev ephemeris version %d: %s", version, path));
+			}
+			int degree = header.getInt(12);
+			double startDay = header.getDouble(16);
+			double granuleDays = header.getDouble(24);
+			long granuleCount = header.getLong(32);
+			int flags = header.getInt(40);
+			if (degree < 0 || degree > MAX_DEGREE || !(granuleDays > 0) || granuleCount <= 0
+					|| granuleCount * 3 * (degree + 1) > Integer.MAX_VALUE / Double.BYTES) {
+				throw new IOException(String.format("Unsupported Chebyshev granules %d of degree %d: %s", granuleCount, degree, path));
+			}
+			long length = granuleCount * 3 * (degree + 1) * Double.BYTES;
+			if (HEADER_SIZE + length > fileChannel.size()) {
+				throw new IOException("Chebyshev ephemeris file is truncated.");
+			}
+			DoubleBuffer coefficients = fileChannel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, length)
+					.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+			return new ChebyshevEphemeris(startDay, granuleDays, (int) granuleCount, degree, coefficients, (flags & OF_DATE_FLAG) != 0);
+		}
+	}
+
+	public void write(Path path) throws IOException {
+		int valueCount = granuleCount * 3 * coefficientCount;
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + valueCount * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put(MAGIC).putInt(VERSION).putInt(coefficientCount - 1)
+				.putDouble(startDay).putDouble(granuleDays).putLong(granuleCount)
+				.putInt(ofDate ? OF_DATE_FLAG : 0).putInt(0);
+		for (int i = 0; i < valueCount; i++) {
+			buffer.putDouble(coefficients.get(i));
+		}
+		buffer.flip();
+		try (FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				fileChannel.write(buffer);
+			}
+		}
+	}
+
+	public Instant getStart() {
+		return toInstant(startDay);
+	}
+
+	public Instant getEnd() {
+		return toInstant(startDay + granuleCount * granuleDays);
+	}
+
+	public double getGranuleDays() {
+		return granuleDays;
+	}
+
+	public int getGranuleCount() {
+		return granuleCount;
+	}
+
+	public int getDegree() {
+		return coefficientCount - 1;
+	}
+
+	@Override
+	public boolean isOfDate() {
+		return ofDate;
+	}
+
+	public EquatorialCoordinate calculatePosition(Instant instant) {
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		calculatePosition(EphemerisSeries.toDaysSinceJ2000(instant), raDegreeValue, decDegreeValue, 0);
+		return new EquatorialCoordinate(raDegreeValue[0] / 15, decDegreeValue[0]);
+	}
+
+	/**
+	 * {@inheritDoc} The instant must be within the fitted range, its end belonging to the last granule.
+	 */
+	@Override
+	public void calculatePosition(double daysSinceJ2000, double[] raDegreeValues, double[] decDegreeValues, int index) {
+		double granulePosition = (daysSinceJ2000 - startDay) / granuleDays;
+		if (!(granulePosition >= 0 && granulePosition <= granuleCount)) {
+			throw new IllegalArgumentException(String.format(
+					"Instant is outside of the ephemeris range [%s, %s]: %s", getStart(), getEnd(), toInstant(daysSinceJ2000)));
+		}
+		int granule = Math.min((int) granulePosition, granuleCount - 1);
+		double t = 2 * (granulePosition - granule) - 1;
+		double twoT = 2 * t;
+
+		// Clenshaw recurrence of the three components together.
+		int offset = granule * 3 * coefficientCount;
+		double x1 = 0, x2 = 0, y1 = 0, y2 = 0, z1 = 0, z2 = 0;
+		for (int j = coefficientCount - 1; j >= 1; j--) {
+			double x = twoT * x1 - x2 + coefficients.get(offset + j);
+			double y = twoT * y1 - y2 + coefficients.get(offset + coefficientCount + j);
+			double z = twoT * z1 - z2 + coefficients.get(offset + 2 * coefficientCount + j);
+			x2 = x1;
+			x1 = x;
+			y2 = y1;
+			y1 = y;
+			z2 = z1;
+			z1 = z;
+		}
+		double x = t * x1 - x2 + coefficients.get(offset);
+		double y = t * y1 - y2 + coefficients.get(offset + coefficientCount);
+		double z = t * z1 - z2 + coefficients.get(offset + 2 * coefficientCount);
+
+		double raDegreeValue = Math.toDegrees(Math.atan2(y, x));
+		raDegreeValues[index] = raDegreeValue < 0 ? raDegreeValue + 360 : raDegreeValue;
+		decDegreeValues[index] = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+	}
+
+	private static Instant toInstant(double daysSinceJ2000) {
+		return Instant.ofEpochSecond(StarLocator.J2000_EPOCH_SECOND, Math.round(daysSinceJ2000 * 86_400e9));
+	}
+}
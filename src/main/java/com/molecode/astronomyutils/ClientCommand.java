@@ -0,0 +1,36 @@
+package com.molecode.astronomyutils;
+
+import picocli.CommandLine;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+		name = "client",
+		description = "Runs a command on a server started with 'serve', forwarding the standard input and output"
+)
+public class ClientCommand implements Callable<Integer> {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	@CommandLine.Option(
+			names = {"-s", "--socket"},
+			required = true,
+			description = "Path of the Unix domain socket the server listens on"
+	)
+	private Path socket;
+
+	@CommandLine.Parameters(
+			arity = "1..*",
+			description = "Arguments of the command run by the server, after '--'"
+	)
+	private List<String> arguments;
+
+	@Override
+	public Integer call() throws IOException {
+		return DaemonClient.forward(socket, arguments, System.in, new BufferedOutputStream(System.out, BUFFER_SIZE));
+	}
+}
@@ -0,0 +1,126 @@
+package com.molecode.astronomyutils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Forwards command arguments and standard input to a {@link DaemonServer} and copies its response back.
+ */
+public class DaemonClient {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private DaemonClient() {
+	}
+
+	/**
+	 * Runs a command on the server, returning its exit code. The input is sent from a daemon thread while the output
+	 * is read, so a command that never reads its input does not wait for it.
+	 */
+	public static int forward(Path socketPath, List<String> arguments, InputStream in, OutputStream out) throws IOException {
+		byte[] header = encodeArguments(arguments);
+		try (SocketChannel channel = SocketChannel.open(UnixDomainSocketAddress.of(socketPath))) {
+			writeFully(channel, ByteBuffer.wrap(header));
+			Thread inputThread = new Thread(() -> sendInput(channel, in), "daemon-client-input");
+			inputThread.setDaemon(true);
+			inputThread.start();
+			return receiveOutput(channel, out);
+		}
+	}
+
+	private static byte[] encodeArguments(List<String> arguments) {
+		StringBuilder header = new StringBuilder();
+		for (String argument : arguments) {
+			if (argument.indexOf(DaemonServer.ARGUMENT_SEPARATOR) >= 0 || argument.indexOf('\n') >= 0) {
+				throw new IllegalArgumentException("Arguments sent to the server cannot contain tabs or line breaks: " + argument);
+			}
+			if (header.length() > 0) {
+				header.append(DaemonServer.ARGUMENT_SEPARATOR);
+			}
+			header.append(argument);
+		}
+		return header.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private static void sendInput(SocketChannel channel, InputStream in) {
+		byte[] bytes = new byte[BUFFER_SIZE];
+		try {
+			for (int read = in.read(bytes); read >= 0; read = in.read(bytes)) {
+				writeFully(channel, ByteBuffer.wrap(bytes, 0, read));
+			}
+			channel.shutdownOutput();
+		} catch (IOException e) {
+			// The server has already answered and closed the connection.
+		}
+	}
+
+	private static void writeFully(SocketChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * Copies the response to the output, holding back its last line until it is known whether it is the exit code.
+	 */
+	private static int receiveOutput(SocketChannel channel, OutputStream out) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		byte[] held = new byte[BUFFER_SIZE];
+		int heldLength = 0;
+		IOException readFailure = null;
+		while (true) {
+			try {
+				if (channel.read(buffer) < 0) {
+					break;
+				}
+			} catch (IOException e) {
+				// A server closing without reading all the input resets the connection after its response.
+				readFailure = e;
+				break;
+			}
+			buffer.flip();
+			int read = buffer.remaining();
+			if (heldLength + read > held.length) {
+				held = Arrays.copyOf(held, Math.max(held.length * 2, heldLength + read));
+			}
+			buffer.get(held, heldLength, read);
+			buffer.clear();
+			heldLength += read;
+
+			int lastLineStart = findLastLineStart(held, heldLength);
+			out.write(held, 0, lastLineStart);
+			System.arraycopy(held, lastLineStart, held, 0, heldLength - lastLineStart);
+			heldLength -= lastLineStart;
+		}
+
+		String lastLine = new String(held, 0, heldLength, StandardCharsets.UTF_8);
+		if (lastLine.startsWith(DaemonServer.EXIT_CODE_PREFIX) && lastLine.endsWith("\n")) {
+			out.flush();
+			return Integer.parseInt(lastLine.substring(DaemonServer.EXIT_CODE_PREFIX.length(), lastLine.length() - 1));
+		}
+		out.write(held, 0, heldLength);
+		out.flush();
+		throw new IOException("Server closed the connection without sending an exit code.", readFailure);
+	}
+
+	/**
+	 * Finds where the last complete line starts, or the trailing incomplete line when there is one.
+	 */
+	private static int findLastLineStart(byte[] bytes, int length) {
+		int end = length > 0 && bytes[length - 1] == '\n' ? length - 1 : length;
+		for (int i = end - 1; i >= 0; i--) {
+			if (bytes[i] == '\n') {
+				return i + 1;
+			}
+		}
+		return 0;
+	}
+}
@@ -0,0 +1,202 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.MappedStarCatalog;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.SocketException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs commands sent by clients over a Unix domain socket, so that each invocation is served by an already started
+ * and warmed up JVM. Only the mapped catalogs loaded with {@link #loadCatalog} are served, shared by every request:
+ * clients cannot map further files into the server, nor be served a stale mapping of a file opened on their behalf.
+ * <p>
+ * A request starts with a line holding the command arguments separated by tabs, followed by the standard input of
+ * the command until the client shuts down its output. The response is the output of the command followed by a last
+ * line {@code #exit=<code>}. Paths in the arguments are resolved by the server. Only the subcommands in
+ * {@link #SERVED_COMMANDS} are run, so that clients cannot start other servers or clients from inside the daemon.
+ */
+public class DaemonServer implements Closeable {
+
+	static final String EXIT_CODE_PREFIX = "#exit=";
+	static final char ARGUMENT_SEPARATOR = '\t';
+
+	static final Set<String> SERVED_COMMANDS = Set.of("locate");
+
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+	// File type bits of a Unix mode, and the type of a socket.
+	private static final int FILE_TYPE_MASK = 0170000;
+	private static final int SOCKET_FILE_TYPE = 0140000;
+
+	private final Path socketPath;
+	private final ServerSocketChannel serverChannel;
+	private final ExecutorService executorService;
+	private final Map<Path, MappedStarCatalog> catalogs = new ConcurrentHashMap<>();
+
+	// Identifies the socket file bound by this server, so that only that file is removed on close.
+	private final Object socketFileKey;
+
+	/**
+	 * Binds the socket, replacing a socket file left behind by a server that did not shut down cleanly. Fails when
+	 * the path is not a socket, or when a server still answers on it.
+	 *
+	 * @param threadCount number of connections handled at the same time
+	 */
+	public DaemonServer(Path socketPath, int threadCount) throws IOException {
+		if (threadCount <= 0) {
+			throw new IllegalArgumentException("Thread count should be positive: " + threadCount);
+		}
+		this.socketPath = socketPath;
+		removeStaleSocket(socketPath);
+		this.serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+		try {
+			this.serverChannel.bind(UnixDomainSocketAddress.of(socketPath));
+			this.socketFileKey = readFileKey(socketPath);
+		} catch (IOException e) {
+			serverChannel.close();
+			throw e;
+		}
+		this.executorService = Executors.newFixedThreadPool(threadCount);
+	}
+
+	private static void removeStaleSocket(Path socketPath) throws IOException {
+		if (!Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS)) {
+			return;
+		}
+		if (!isSocket(socketPath)) {
+			throw new IOException("Not a socket, refusing to replace it: " + socketPath);
+		}
+		try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+			channel.connect(UnixDomainSocketAddress.of(socketPath));
+			throw new IOException("A server is already listening on " + socketPath);
+		} catch (SocketException e) {
+			// Nobody listens on the socket any more.
+		}
+		Files.delete(socketPath);
+	}
+
+	private static boolean isSocket(Path path) throws IOException {
+		int mode = (Integer) Files.getAttribute(path, "unix:mode", LinkOption.NOFOLLOW_LINKS);
+		return (mode & FILE_TYPE_MASK) == SOCKET_FILE_TYPE;
+	}
+
+	private static Object readFileKey(Path path) throws IOException {
+		return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).fileKey();
+	}
+
+	/**
+	 * Opens a mapped catalog up front, the only way for requests to locate it.
+	 */
+	public void loadCatalog(Path path) throws IOException {
+		try {
+			AstronomyUtilsCommand.openCatalog(catalogs, path);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Accepts connections until the server is closed.
+	 */
+	public void serve() throws IOException {
+		while (true) {
+			SocketChannel channel;
+			try {
+				channel = serverChannel.accept();
+			} catch (ClosedChannelException e) {
+				return;
+			}
+			executorService.execute(() -> handle(channel));
+		}
+	}
+
+	private void handle(SocketChannel channel) {
+		try (channel) {
+			InputStream in = new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE);
+			OutputStream out = Channels.newOutputStream(channel);
+			String[] arguments = readArguments(in);
+
+			PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), true);
+			CommandLine commandLine = new CommandLine(new AstronomyUtilsCommand(in, out, catalogs, false));
+			for (String subcommand : new ArrayList<>(commandLine.getSubcommands().keySet())) {
+				if (!SERVED_COMMANDS.contains(subcommand)) {
+					commandLine.getCommandSpec().removeSubcommand(subcommand);
+				}
+			}
+			int exitCode = commandLine
+					.setOut(writer)
+					.setErr(writer)
+					.execute(arguments);
+			writer.print(EXIT_CODE_PREFIX + exitCode + '\n');
+			writer.flush();
+		} catch (IOException e) {
+			// The client went away, there is nobody left to answer.
+		}
+	}
+
+	private static String[] readArguments(InputStream in) throws IOException {
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		for (int b = in.read(); b != '\n'; b = in.read()) {
+			if (b < 0) {
+				throw new EOFException("Connection closed before the arguments were sent.");
+			}
+			line.write(b);
+		}
+		return line.size() == 0
+				? new String[0]
+				: line.toString(StandardCharsets.UTF_8).split(String.valueOf(ARGUMENT_SEPARATOR), -1);
+	}
+
+	/**
+	 * Stops accepting connections, waits for the running requests and releases the catalogs and the socket file,
+	 * unless the file was replaced by something else in the meantime.
+	 */
+	@Override
+	public void close() throws IOException {
+		serverChannel.close();
+		executorService.shutdown();
+		try {
+			executorService.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		for (MappedStarCatalog catalog : catalogs.values()) {
+			catalog.close();
+		}
+		catalogs.clear();
+		if (Files.exists(socketPath, LinkOption.NOFOLLOW_LINKS) && isSocket(socketPath)
+				&& Objects.equals(socketFileKey, readFileKey(socketPath))) {
+			Files.delete(socketPath);
+		}
+	}
+}
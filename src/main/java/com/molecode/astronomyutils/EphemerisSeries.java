@@ -0,0 +1,50 @@
+package com.molecode.astronomyutils;
+
+import java.time.Instant;
+
+/**
+ * Position of a moving body as a function of time, such as {@link SunEphemeris} or a {@link ChebyshevEphemeris}
+ * fitted to a more expensive series.
+ */
+@FunctionalInterface
+public interface EphemerisSeries {
+
+	/**
+	 * Writes the right ascension and declination degree values of the body at the given number of days since
+	 * 2000-01-01T12:00:00Z at {@code index}.
+	 */
+	void calculatePosition(double daysSinceJ2000, double[] raDegreeValues, double[] decDegreeValues, int index);
+
+	/**
+	 * Whether the positions are referred to the mean equinox of date rather than to J2000, which tells
+	 * {@link StarLocator} not to rotate them from J2000 again.
+	 */
+	default boolean isOfDate() {
+		return false;
+	}
+
+	/**
+	 * Marks a series giving positions referred to the mean equinox of date.
+	 */
+	static EphemerisSeries ofDate(EphemerisSeries series) {
+		return new EphemerisSeries() {
+			@Override
+			public void calculatePosition(double daysSinceJ2000, double[] raDegreeValues, double[] decDegreeValues, int index) {
+				series.calculatePosition(daysSinceJ2000, raDegreeValues, decDegreeValues, index);
+			}
+
+			@Override
+			public boolean isOfDate() {
+				return true;
+			}
+		};
+	}
+
+	static double toDaysSinceJ2000(Instant instant) {
+		return toDaysSinceJ2000(instant.getEpochSecond(), instant.getNano());
+	}
+
+	static double toDaysSinceJ2000(long epochSecond, int nanoOfSecond) {
+		return ((epochSecond - StarLocator.J2000_EPOCH_SECOND) + nanoOfSecond / 1e9) / 86_400;
+	}
+}
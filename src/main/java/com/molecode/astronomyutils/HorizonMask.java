@@ -0,0 +1,164 @@
+package com.molecode.astronomyutils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Altitude of the local horizon, hills and buildings included, as a function of azimuth. The az/alt profile is
+ * linearly interpolated between its points, wrapping around north, and sampled into a fixed resolution table so that
+ * looking up an azimuth is a single array access.
+ * <p>
+ * Each table bin holds the highest profile altitude over its azimuth range, so a star is never reported visible
+ * behind an obstruction, at the price of up to one bin width of extra obstruction next to steep edges.
+ */
+public class HorizonMask {
+
+	public static final int DEFAULT_BINS_PER_DEGREE = 10;
+
+	private final int binsPerDegree;
+	private final double[] altitudes;
+	private final double minAltitude;
+
+	/**
+	 * @param azimuthValues  profile azimuths in degrees, in any order; repeating an azimuth makes a vertical edge
+	 * @param altitudeValues profile altitudes in degrees
+	 */
+	public HorizonMask(double[] azimuthValues, double[] altitudeValues) {
+		this(azimuthValues, altitudeValues, DEFAULT_BINS_PER_DEGREE);
+	}
+
+	public HorizonMask(double[] azimuthValues, double[] altitudeValues, int binsPerDegree) {
+		if (azimuthValues.length != altitudeValues.length || azimuthValues.length == 0) {
+			throw new IllegalArgumentException(String.format(
+					"Horizon profile should have as many azimuths as altitudes, at least one: %d, %d.", azimuthValues.length, altitudeValues.length));
+		}
+		if (binsPerDegree <= 0) {
+			throw new IllegalArgumentException("Bins per degree should be positive: " + binsPerDegree);
+		}
+		this.binsPerDegree = binsPerDegree;
+		this.altitudes = new double[360 * binsPerDegree];
+
+		Integer[] order = new Integer[azimuthValues.length];
+		for (int i = 0; i < order.length; i++) {
+			if (!(Math.abs(altitudeValues[i]) <= 90) || Double.isNaN(azimuthValues[i]) || Double.isInfinite(azimuthValues[i])) {
+				throw new IllegalArgumentException(String.format("Invalid horizon point: azimuth %s, altitude %s.", azimuthValues[i], altitudeValues[i]));
+			}
+			order[i] = i;
+		}
+		double[] sortedAzimuths = new double[order.length];
+		double[] sortedAltitudes = new double[order.length];
+		Arrays.sort(order, (left, right) -> Double.compare(StarLocator.reduceAngle(azimuthValues[left]), StarLocator.reduceAngle(azimuthValues[right])));
+		for (int i = 0; i < order.length; i++) {
+			sortedAzimuths[i] = StarLocator.reduceAngle(azimuthValues[order[i]]);
+			sortedAltitudes[i] = altitudeValues[order[i]];
+		}
+
+		for (int bin = 0; bin < altitudes.length; bin++) {
+			altitudes[bin] = Math.max(
+					interpolate(sortedAzimuths, sortedAltitudes, (double) bin / binsPerDegree),
+					interpolate(sortedAzimuths, sortedAltitudes, (double) (bin + 1) / binsPerDegree));
+		}
+		for (int i = 0; i < sortedAzimuths.length; i++) {
+			int bin = Math.min((int) (sortedAzimuths[i] * binsPerDegree), altitudes.length - 1);
+			altitudes[bin] = Math.max(altitudes[bin], sortedAltitudes[i]);
+		}
+		this.minAltitude = Arrays.stream(altitudes).min().orElseThrow();
+	}
+
+	public static HorizonMask flat(double altitude) {
+		return new HorizonMask(new double[]{0}, new double[]{altitude}, 1);
+	}
+
+	/**
+	 * Loads a horizon profile with one azimuth and altitude in degrees per line, separated by whitespace, a comma or
+	 * a semicolon. Blank lines and lines starting with {@code #} are ignored.
+	 */
+	public static HorizonMask load(Path path) throws IOException {
+		List<double[]> points = new ArrayList<>();
+		try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+			int lineNumber = 0;
+			for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+				lineNumber++;
+				String trimmedLine = line.trim();
+				if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+					continue;
+				}
+				String[] values = trimmedLine.split("[\\s,;]+");
+				try {
+					if (values.length != 2) {
+						throw new IllegalArgumentException("Expected azimuth and altitude");
+					}
+					points.add(new double[]{Double.parseDouble(values[0]), Double.parseDouble(values[1])});
+				} catch (IllegalArgumentException e) {
+					throw new IllegalArgumentException(String.format("Malformed horizon profile line %d: %s", lineNumber, line), e);
+				}
+			}
+		}
+		double[] azimuthValues = new double[points.size()];
+		double[] altitudeValues = new double[points.size()];
+		for (int i = 0; i < azimuthValues.length; i++) {
+			azimuthValues[i] = points.get(i)[0];
+			altitudeValues[i] = points.get(i)[1];
+		}
+		return new HorizonMask(azimuthValues, altitudeValues);
+	}
+
+	/**
+	 * Returns the horizon altitude at the given azimuth.
+	 */
+	public double getAltitude(double azimuthValue) {
+		return altitudes[Math.floorMod((int) Math.floor(azimuthValue * binsPerDegree), altitudes.length)];
+	}
+
+	/**
+	 * Returns the lowest horizon altitude, below which no star is visible in any direction.
+	 */
+	public double getMinAltitude() {
+		return minAltitude;
+	}
+
+	public boolean isVisible(double altitudeValue, double azimuthValue) {
+		return altitudeValue > getAltitude(azimuthValue);
+	}
+
+	/**
+	 * Writes the indices in [fromIndex, toIndex) of the stars above the horizon to {@code visibleIndices}, in
+	 * increasing order, and returns their number. Azimuths must be within [0, 360], as located ones are; the loop has
+	 * no data dependent branch.
+	 */
+	public int filterVisible(double[] altitudeValues, double[] azimuthValues, int fromIndex, int toIndex, int[] visibleIndices) {
+		int count = 0;
+		for (int i = fromIndex; i < toIndex; i++) {
+			int bin = (int) (azimuthValues[i] * binsPerDegree) % altitudes.length;
+			visibleIndices[count] = i;
+			count += altitudeValues[i] > altitudes[bin] ? 1 : 0;
+		}
+		return count;
+	}
+
+	/**
+	 * Interpolates the sorted profile at the given azimuth within [0, 360], wrapping around north.
+	 */
+	private static double interpolate(double[] sortedAzimuths, double[] sortedAltitudes, double azimuthValue) {
+		int count = sortedAzimuths.length;
+		// Last point at or before the azimuth, or the last point of the profile seen from before the first one.
+		int before = count - 1;
+		for (int i = 0; i < count && sortedAzimuths[i] <= azimuthValue; i++) {
+			before = i;
+		}
+		int after = (before + 1) % count;
+		double fromAzimuth = sortedAzimuths[before] <= azimuthValue ? sortedAzimuths[before] : sortedAzimuths[before] - 360;
+		double toAzimuth = after > before ? sortedAzimuths[after] : sortedAzimuths[after] + 360;
+		double span = toAzimuth - fromAzimuth;
+		if (span <= 0) {
+			return Math.max(sortedAltitudes[before], sortedAltitudes[after]);
+		}
+		return sortedAltitudes[before] + (sortedAltitudes[after] - sortedAltitudes[before]) * (azimuthValue - fromAzimuth) / span;
+	}
+}
@@ -0,0 +1,99 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.CoordinateFormatter;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+		name = "locate",
+		description = "Locates stars read from CSV or NDJSON rows and writes their altitude and azimuth"
+)
+public class LocateCommand implements Callable<Integer> {
+
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	@CommandLine.Spec
+	private CommandLine.Model.CommandSpec spec;
+
+	@CommandLine.ParentCommand
+	private AstronomyUtilsCommand parent;
+
+	@CommandLine.Option(
+			names = {"-i", "--input"},
+			description = "Input file, standard input when omitted"
+	)
+	private Path input;
+
+	@CommandLine.Option(
+			names = {"-f", "--format"},
+			defaultValue = "CSV",
+			description = "Input and output format: ${COMPLETION-CANDIDATES}"
+	)
+	private StreamingLocator.Format format;
+
+	@CommandLine.Option(
+			names = {"-t", "--time"},
+			description = "ISO-8601 instant used for every row, read from the time column of each row when omitted"
+	)
+	private Instant time;
+
+	@CommandLine.Option(
+			names = {"-c", "--catalog"},
+			description = "Mapped star catalog located as a whole at the --time instant, instead of reading input rows"
+	)
+	private Path catalog;
+
+	@CommandLine.Option(
+			names = {"-d", "--decimals"},
+			defaultValue = "-1",
+			description = "Fraction digits of the written angles, all the digits needed to read them back when omitted"
+	)
+	private int decimals;
+
+	@CommandLine.Option(
+			names = {"--chunk-size"},
+			defaultValue = "4096",
+			description = "Number of rows located together, bounding the memory used whatever the input size"
+	)
+	private int chunkSize;
+
+	@Override
+	public Integer call() throws IOException {
+		if (decimals < -1 || decimals > CoordinateFormatter.MAX_FRACTION_DIGITS) {
+			throw new CommandLine.ParameterException(spec.commandLine(),
+					"Option '--decimals' should be between 0 and " + CoordinateFormatter.MAX_FRACTION_DIGITS + ": " + decimals);
+		}
+		if (chunkSize <= 0) {
+			throw new CommandLine.ParameterException(spec.commandLine(), "Option '--chunk-size' should be positive: " + chunkSize);
+		}
+		StarLocator starLocator = new StarLocator(ZoneOffset.UTC, parent.getObservingLocation(), true);
+		StreamingLocator streamingLocator = new StreamingLocator(starLocator, format, time, chunkSize, decimals);
+		Writer writer = new BufferedWriter(new OutputStreamWriter(parent.getOut(), StandardCharsets.UTF_8), BUFFER_SIZE);
+		if (catalog != null) {
+			if (time == null) {
+				throw new CommandLine.ParameterException(spec.commandLine(), "Locating a catalog requires option '--time'");
+			}
+			streamingLocator.locate(parent.openCatalog(catalog), writer);
+		} else if (input != null) {
+			try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+				streamingLocator.locate(reader, writer);
+			}
+		} else {
+			// Not closed here: in daemon mode the parent's input is the client connection, which outlives the command.
+			streamingLocator.locate(new BufferedReader(new InputStreamReader(parent.getIn(), StandardCharsets.UTF_8), BUFFER_SIZE), writer);
+		}
+		return 0;
+	}
+}
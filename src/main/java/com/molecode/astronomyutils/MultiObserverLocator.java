@@ -0,0 +1,150 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.StarCatalog;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Locates every star of a catalog for a whole network of observers at one or more instants, in parallel on a
+ * fork-join pool. Results are written into flat primitive matrices laid out as
+ * {@code [instant][observer][star]}, i.e. the result of star s seen by observer o at instant t is at index
+ * {@code (t * observerCount + o) * starCount + s}.
+ */
+public class MultiObserverLocator {
+
+	private static final int STAR_BLOCK_SIZE = 2048;
+	private static final int OBSERVER_BLOCK_SIZE = 8;
+
+	private final double[] longitudeValues;
+	private final double[] sinLatitudes;
+	private final double[] cosLatitudes;
+
+	private final ForkJoinPool forkJoinPool;
+
+	private final TimeScales timeScales;
+
+	public MultiObserverLocator(List<GeographicCoordinate> observingLocations) {
+		this(observingLocations, ForkJoinPool.commonPool());
+	}
+
+	public MultiObserverLocator(List<GeographicCoordinate> observingLocations, ForkJoinPool forkJoinPool) {
+		this(observingLocations, forkJoinPool, TimeScales.getDefault());
+	}
+
+	/**
+	 * @param timeScales UT1 - UTC applied to the sidereal time
+	 */
+	public MultiObserverLocator(List<GeographicCoordinate> observingLocations, ForkJoinPool forkJoinPool, TimeScales timeScales) {
+		int observerCount = observingLocations.size();
+		this.longitudeValues = new double[observerCount];
+		this.sinLatitudes = new double[observerCount];
+		this.cosLatitudes = new double[observerCount];
+		for (int i = 0; i < observerCount; i++) {
+			GeographicCoordinate observingLocation = observingLocations.get(i);
+			double latitudeRadians = Math.toRadians(observingLocation.getLatDegreeValue());
+			longitudeValues[i] = observingLocation.getLongDegreeValue();
+			sinLatitudes[i] = Math.sin(latitudeRadians);
+			cosLatitudes[i] = Math.cos(latitudeRadians);
+		}
+		this.forkJoinPool = forkJoinPool;
+		this.timeScales = timeScales;
+	}
+
+	public int getObserverCount() {
+		return longitudeValues.length;
+	}
+
+	public void locateStars(Instant instant, StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues) {
+		locateStars(new Instant[]{instant}, starCatalog, altitudeValues, azimuthValues);
+	}
+
+	public void locateStars(Instant[] instants, StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues) {
+		int observerCount = getObserverCount();
+		int starCount = starCatalog.size();
+		long resultSize = (long) instants.length * observerCount * starCount;
+		if (resultSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many results for one matrix: " + resultSize);
+		}
+		if (altitudeValues.length < resultSize || azimuthValues.length < resultSize) {
+			throw new IllegalArgumentException(String.format(
+					"Length of result matrices are not consistent: expected %d, altitude %d, azimuth %d.",
+					resultSize, altitudeValues.length, azimuthValues.length));
+		}
+
+		// Greenwich sidereal time is shared by all observers, each of them only shifts it by its longitude.
+		ObservingContext[] observingContexts = new ObservingContext[instants.length * observerCount];
+		for (int t = 0; t < instants.length; t++) {
+			double greenwichSiderealTime = StarLocator.calculateLocalSiderealTime(instants[t].getEpochSecond(), instants[t].getNano(), 0, timeScales);
+			for (int o = 0; o < observerCount; o++) {
+				observingContexts[t * observerCount + o] = new ObservingContext(
+						StarLocator.reduceAngle(greenwichSiderealTime + longitudeValues[o]), sinLatitudes[o], cosLatitudes[o]);
+			}
+		}
+
+		int observerBlockCount = (observerCount + OBSERVER_BLOCK_SIZE - 1) / OBSERVER_BLOCK_SIZE;
+		int starBlockCount = (starCount + STAR_BLOCK_SIZE - 1) / STAR_BLOCK_SIZE;
+		int blockCount = instants.length * observerBlockCount * starBlockCount;
+		forkJoinPool.invoke(new LocateBlocksAction(
+				observingContexts, observerCount, observerBlockCount, starBlockCount, starCatalog, altitudeValues, azimuthValues, 0, blockCount));
+	}
+
+	private static class LocateBlocksAction extends RecursiveAction {
+
+		private final ObservingContext[] observingContexts;
+		private final int observerCount;
+		private final int observerBlockCount;
+		private final int starBlockCount;
+		private final StarCatalog starCatalog;
+		private final double[] altitudeValues;
+		private final double[] azimuthValues;
+		private final int fromBlock;
+		private final int toBlock;
+
+		private LocateBlocksAction(ObservingContext[] observingContexts, int observerCount, int observerBlockCount, int starBlockCount,
+				StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues, int fromBlock, int toBlock) {
+			this.observingContexts = observingContexts;
+			this.observerCount = observerCount;
+			this.observerBlockCount = observerBlockCount;
+			this.starBlockCount = starBlockCount;
+			this.starCatalog = starCatalog;
+			this.altitudeValues = altitudeValues;
+			this.azimuthValues = azimuthValues;
+			this.fromBlock = fromBlock;
+			this.toBlock = toBlock;
+		}
+
+		@Override
+		protected void compute() {
+			if (toBlock - fromBlock > 1) {
+				int middleBlock = (fromBlock + toBlock) >>> 1;
+				invokeAll(
+						new LocateBlocksAction(observingContexts, observerCount, observerBlockCount, starBlockCount, starCatalog, altitudeValues, azimuthValues, fromBlock, middleBlock),
+						new LocateBlocksAction(observingContexts, observerCount, observerBlockCount, starBlockCount, starCatalog, altitudeValues, azimuthValues, middleBlock, toBlock)
+				);
+				return;
+			}
+			if (toBlock == fromBlock) {
+				return;
+			}
+			// Blocks are ordered by instant, then star block, then observer block, so that neighbouring blocks read
+			// the same stars while they are still in cache.
+			int starBlock = fromBlock / observerBlockCount % starBlockCount;
+			int observerBlock = fromBlock % observerBlockCount;
+			int instant = fromBlock / (observerBlockCount * starBlockCount);
+
+			int starCount = starCatalog.size();
+			int fromStar = starBlock * STAR_BLOCK_SIZE;
+			int toStar = Math.min(fromStar + STAR_BLOCK_SIZE, starCount);
+			int fromObserver = observerBlock * OBSERVER_BLOCK_SIZE;
+			int toObserver = Math.min(fromObserver + OBSERVER_BLOCK_SIZE, observerCount);
+			for (int o = fromObserver; o < toObserver; o++) {
+				int context = instant * observerCount + o;
+				observingContexts[context].locateStars(starCatalog, fromStar, toStar, altitudeValues, azimuthValues, context * starCount);
+			}
+		}
+	}
+}
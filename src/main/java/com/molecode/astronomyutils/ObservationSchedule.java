@@ -0,0 +1,75 @@
+package com.molecode.astronomyutils;
+
+import java.time.Instant;
+
+/**
+ * Observations chosen by {@link ObservationScheduler}, in chronological order. Observation i is of the target at index
+ * {@link #getTargetIndex(int)} of the scheduled catalog, from the start of slot {@link #getStartSlot(int)} for the
+ * duration of that target.
+ */
+public class ObservationSchedule {
+
+	private final AltitudeTable altitudeTable;
+
+	private final int[] targetIndices;
+	private final int[] startSlots;
+	private final int[] slotCounts;
+
+	private final double score;
+
+	ObservationSchedule(AltitudeTable altitudeTable, int[] targetIndices, int[] startSlots, int[] slotCounts, double score) {
+		this.altitudeTable = altitudeTable;
+		this.targetIndices = targetIndices;
+		this.startSlots = startSlots;
+		this.slotCounts = slotCounts;
+		this.score = score;
+	}
+
+	public int size() {
+		return targetIndices.length;
+	}
+
+	public int getTargetIndex(int observation) {
+		return targetIndices[observation];
+	}
+
+	public int getStartSlot(int observation) {
+		return startSlots[observation];
+	}
+
+	public int getSlotCount(int observation) {
+		return slotCounts[observation];
+	}
+
+	public Instant getStartTime(int observation) {
+		return altitudeTable.getSlotStart(startSlots[observation]);
+	}
+
+	public Instant getEndTime(int observation) {
+		return altitudeTable.getSlotStart(startSlots[observation] + slotCounts[observation]);
+	}
+
+	/**
+	 * Returns the mean altitude degree value of the target over the slots of the observation.
+	 */
+	public double getMeanAltitude(int observation) {
+		int startSlot = startSlots[observation];
+		return altitudeTable.sumAltitudes(targetIndices[observation], startSlot, startSlot + slotCounts[observation]) / slotCounts[observation];
+	}
+
+	/**
+	 * Returns the altitude degree values summed over every observed slot, which the scheduler maximizes.
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("ObservationSchedule{score: ").append(score);
+		for (int i = 0; i < targetIndices.length; i++) {
+			builder.append(", ").append(targetIndices[i]).append(": ").append(getStartTime(i)).append(" - ").append(getEndTime(i));
+		}
+		return builder.append('}').toString();
+	}
+}
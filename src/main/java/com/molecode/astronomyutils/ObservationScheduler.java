@@ -0,0 +1,291 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.StarCatalog;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Orders the observations of a night so that targets are observed as high as possible. The altitudes of all targets are
+ * first tabulated on a grid of time slots, in parallel, by {@link #calculateAltitudeTable}; the schedule is then
+ * searched over that table only, every candidate observation being scored by a difference of running sums.
+ * <p>
+ * The search is a beam search over time: the partial schedules ending at each slot are ranked by the altitudes summed
+ * over their observed slots, and only the best {@code beamWidth} of them are extended, either by one of the best
+ * {@code beamWidth} targets still to observe that are observable during their whole duration from that slot, or by
+ * leaving the slot idle. A beam width of 1 is a greedy search.
+ */
+public class ObservationScheduler {
+
+	public static final int DEFAULT_BEAM_WIDTH = 8;
+
+	private static final int TARGET_BLOCK_SIZE = 64;
+
+	private final StarLocator starLocator;
+
+	private final ForkJoinPool forkJoinPool;
+
+	public ObservationScheduler(StarLocator starLocator) {
+		this(starLocator, ForkJoinPool.commonPool());
+	}
+
+	public ObservationScheduler(StarLocator starLocator, ForkJoinPool forkJoinPool) {
+		this.starLocator = starLocator;
+		this.forkJoinPool = forkJoinPool;
+	}
+
+	/**
+	 * Tabulates the altitude of every target at the middle of {@code slotCount} slots of {@code slotDuration} from
+	 * {@code start}, with the precision, refraction and horizon mask of the star locator.
+	 *
+	 * @param minAltitude altitude in degrees below which a target is not observed
+	 */
+	public AltitudeTable calculateAltitudeTable(Instant start, Duration slotDuration, int slotCount, StarCatalog targets, double minAltitude) {
+		if (slotDuration.isNegative() || slotDuration.isZero()) {
+			throw new IllegalArgumentException("Slot duration should be positive: " + slotDuration);
+		}
+		int targetCount = targets.size();
+		long tableSize = (long) targetCount * (slotCount + 1);
+		if (slotCount <= 0 || tableSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException(String.format("Unsupported altitude table: %d targets, %d slots.", targetCount, slotCount));
+		}
+		double[] altitudeValues = new double[targetCount * slotCount];
+		int[] observableRuns = new int[targetCount * slotCount];
+		double[] altitudeSums = new double[(int) tableSize];
+
+		// The sidereal time of every slot is that of the first one of its run advanced by a constant step.
+		ObservingSeries observingSeries = starLocator.createObservingSeries(start.plus(slotDuration.dividedBy(2)), slotDuration, slotCount);
+		int targetBlockCount = (targetCount + TARGET_BLOCK_SIZE - 1) / TARGET_BLOCK_SIZE;
+		forkJoinPool.invoke(new TabulateBlocksAction(
+				new TabulationData(observingSeries, slotCount, minAltitude, targets, altitudeValues, observableRuns, altitudeSums),
+				0, targetBlockCount));
+		return new AltitudeTable(start, slotDuration, targetCount, slotCount, altitudeValues, observableRuns, altitudeSums);
+	}
+
+	public ObservationSchedule schedule(AltitudeTable altitudeTable, int[] targetSlotCounts) {
+		return schedule(altitudeTable, targetSlotCounts, DEFAULT_BEAM_WIDTH);
+	}
+
+	/**
+	 * Chooses the observations maximizing the altitudes summed over every observed slot, each target being observed
+	 * at most once.
+	 *
+	 * @param targetSlotCounts number of consecutive slots each target is observed for, indexed as the table targets
+	 * @param beamWidth        number of partial schedules kept per slot, and of targets tried from each of them
+	 */
+	public ObservationSchedule schedule(AltitudeTable altitudeTable, int[] targetSlotCounts, int beamWidth) {
+		int targetCount = altitudeTable.getTargetCount();
+		int slotCount = altitudeTable.getSlotCount();
+		if (targetSlotCounts.length != targetCount) {
+			throw new IllegalArgumentException(String.format(
+					"Length of target slot counts is not consistent: targets %d, slot counts %d.", targetCount, targetSlotCounts.length));
+		}
+		for (int t = 0; t < targetCount; t++) {
+			if (targetSlotCounts[t] <= 0) {
+				throw new IllegalArgumentException(String.format("Slot count of target %d should be positive: %d", t, targetSlotCounts[t]));
+			}
+		}
+		if (beamWidth <= 0) {
+			throw new IllegalArgumentException("Beam width should be positive: " + beamWidth);
+		}
+
+		Beam[] beams = new Beam[slotCount + 1];
+		for (int slot = 0; slot <= slotCount; slot++) {
+			beams[slot] = new Beam(beamWidth);
+		}
+		beams[0].offer(new PartialSchedule(0, new long[(targetCount + 63) >>> 6], -1, 0, null));
+
+		int[] candidateTargets = new int[beamWidth];
+		double[] candidateScores = new double[beamWidth];
+		for (int slot = 0; slot < slotCount; slot++) {
+			Beam beam = beams[slot];
+			for (int i = 0; i < beam.size; i++) {
+				PartialSchedule partialSchedule = beam.partialSchedules[i];
+				int candidateCount = 0;
+				for (int t = 0; t < targetCount; t++) {
+					int endSlot = slot + targetSlotCounts[t];
+					if ((partialSchedule.observedTargets[t >>> 6] & 1L << t) != 0
+							|| endSlot > slotCount || !altitudeTable.isObservable(t, slot, targetSlotCounts[t])) {
+						continue;
+					}
+					double score = altitudeTable.sumAltitudes(t, slot, endSlot);
+					// Keeps the best candidates sorted by decreasing score.
+					if (candidateCount < beamWidth) {
+						candidateCount++;
+					} else if (score <= candidateScores[beamWidth - 1]) {
+						continue;
+					}
+					int c = candidateCount - 1;
+					for (; c > 0 && candidateScores[c - 1] < score; c--) {
+						candidateTargets[c] = candidateTargets[c - 1];
+						candidateScores[c] = candidateScores[c - 1];
+					}
+					candidateTargets[c] = t;
+					candidateScores[c] = score;
+				}
+				for (int c = 0; c < candidateCount; c++) {
+					int t = candidateTargets[c];
+					long[] observedTargets = partialSchedule.observedTargets.clone();
+					observedTargets[t >>> 6] |= 1L << t;
+					beams[slot + targetSlotCounts[t]].offer(
+							new PartialSchedule(partialSchedule.score + candidateScores[c], observedTargets, t, slot, partialSchedule));
+				}
+				beams[slot + 1].offer(new PartialSchedule(partialSchedule.score, partialSchedule.observedTargets, -1, slot, partialSchedule));
+			}
+		}
+		return toObservationSchedule(altitudeTable, targetSlotCounts, beams[slotCount].getBest());
+	}
+
+	private static ObservationSchedule toObservationSchedule(AltitudeTable altitudeTable, int[] targetSlotCounts, PartialSchedule last) {
+		int size = 0;
+		for (PartialSchedule partialSchedule = last; partialSchedule != null; partialSchedule = partialSchedule.previous) {
+			if (partialSchedule.target >= 0) {
+				size++;
+			}
+		}
+		int[] targetIndices = new int[size];
+		int[] startSlots = new int[size];
+		int[] slotCounts = new int[size];
+		for (PartialSchedule partialSchedule = last; partialSchedule != null; partialSchedule = partialSchedule.previous) {
+			if (partialSchedule.target >= 0) {
+				size--;
+				targetIndices[size] = partialSchedule.target;
+				startSlots[size] = partialSchedule.startSlot;
+				slotCounts[size] = targetSlotCounts[partialSchedule.target];
+			}
+		}
+		return new ObservationSchedule(altitudeTable, targetIndices, startSlots, slotCounts, last.score);
+	}
+
+	/**
+	 * Schedule up to some slot, linked to the one it extends. Idle slots are links without a target.
+	 */
+	private static class PartialSchedule {
+
+		private final double score;
+		private final long[] observedTargets;
+		private final int target;
+		private final int startSlot;
+		private final PartialSchedule previous;
+
+		private PartialSchedule(double score, long[] observedTargets, int target, int startSlot, PartialSchedule previous) {
+			this.score = score;
+			this.observedTargets = observedTargets;
+			this.target = target;
+			this.startSlot = startSlot;
+			this.previous = previous;
+		}
+	}
+
+	/**
+	 * Best partial schedules ending at one slot, replacing the worst one when full.
+	 */
+	private static class Beam {
+
+		private final PartialSchedule[] partialSchedules;
+		private int size;
+
+		private Beam(int width) {
+			this.partialSchedules = new PartialSchedule[width];
+		}
+
+		private void offer(PartialSchedule partialSchedule) {
+			if (size < partialSchedules.length) {
+				partialSchedules[size++] = partialSchedule;
+				return;
+			}
+			int worst = 0;
+			for (int i = 1; i < size; i++) {
+				if (partialSchedules[i].score < partialSchedules[worst].score) {
+					worst = i;
+				}
+			}
+			if (partialSchedule.score > partialSchedules[worst].score) {
+				partialSchedules[worst] = partialSchedule;
+			}
+		}
+
+		private PartialSchedule getBest() {
+			PartialSchedule best = partialSchedules[0];
+			for (int i = 1; i < size; i++) {
+				if (partialSchedules[i].score > best.score) {
+					best = partialSchedules[i];
+				}
+			}
+			return best;
+		}
+	}
+
+	private static class TabulationData {
+
+		private final ObservingSeries observingSeries;
+		private final int slotCount;
+		private final double minAltitude;
+		private final StarCatalog targets;
+		private final double[] altitudeValues;
+		private final int[] observableRuns;
+		private final double[] altitudeSums;
+
+		private TabulationData(ObservingSeries observingSeries, int slotCount, double minAltitude, StarCatalog targets,
+				double[] altitudeValues, int[] observableRuns, double[] altitudeSums) {
+			this.observingSeries = observingSeries;
+			this.slotCount = slotCount;
+			this.minAltitude = minAltitude;
+			this.targets = targets;
+			this.altitudeValues = altitudeValues;
+			this.observableRuns = observableRuns;
+			this.altitudeSums = altitudeSums;
+		}
+	}
+
+	private static class TabulateBlocksAction extends RecursiveAction {
+
+		private final TabulationData tabulationData;
+		private final int fromBlock;
+		private final int toBlock;
+
+		private TabulateBlocksAction(TabulationData tabulationData, int fromBlock, int toBlock) {
+			this.tabulationData = tabulationData;
+			this.fromBlock = fromBlock;
+			this.toBlock = toBlock;
+		}
+
+		@Override
+		protected void compute() {
+			if (toBlock - fromBlock > 1) {
+				int middleBlock = (fromBlock + toBlock) >>> 1;
+				invokeAll(new TabulateBlocksAction(tabulationData, fromBlock, middleBlock), new TabulateBlocksAction(tabulationData, middleBlock, toBlock));
+				return;
+			}
+			if (toBlock == fromBlock) {
+				return;
+			}
+			StarCatalog targets = tabulationData.targets;
+			int slotCount = tabulationData.slotCount;
+			HorizonMask horizonMask = tabulationData.observingSeries.getHorizonMask();
+			double[] altitudeValues = new double[slotCount];
+			double[] azimuthValues = new double[slotCount];
+			int fromTarget = fromBlock * TARGET_BLOCK_SIZE;
+			int toTarget = Math.min(fromTarget + TARGET_BLOCK_SIZE, targets.size());
+			for (int t = fromTarget; t < toTarget; t++) {
+				tabulationData.observingSeries.locateStar(targets.getRaDegreeValue(t), targets.getDecDegreeValue(t), altitudeValues, azimuthValues);
+				System.arraycopy(altitudeValues, 0, tabulationData.altitudeValues, t * slotCount, slotCount);
+
+				int sumOffset = t * (slotCount + 1);
+				double altitudeSum = 0;
+				for (int s = 0; s < slotCount; s++) {
+					altitudeSum += altitudeValues[s];
+					tabulationData.altitudeSums[sumOffset + s + 1] = altitudeSum;
+				}
+				int observableRun = 0;
+				for (int s = slotCount - 1; s >= 0; s--) {
+					boolean observable = altitudeValues[s] >= tabulationData.minAltitude && horizonMask.isVisible(altitudeValues[s], azimuthValues[s]);
+					observableRun = observable ? observableRun + 1 : 0;
+					tabulationData.observableRuns[t * slotCount + s] = observableRun;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,489 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.SkyIndex;
+import com.molecode.astronomyutils.catalog.StarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+
+import java.util.function.IntConsumer;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+/**
+ * Observer and instant dependent terms of the equatorial to horizontal transform, computed once and shared by every
+ * star located through this context.
+ */
+public class ObservingContext {
+
+	static final int REANCHOR_INTERVAL = 128;
+
+	private static final boolean VECTOR_KERNEL_AVAILABLE = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+	private static final HorizonMask FLAT_HORIZON = HorizonMask.flat(0);
+
+	private final double localSiderealTime;
+
+	private final double sinLatitude;
+	private final double cosLatitude;
+
+	// Null for Precision.EXACT, which uses the Math functions.
+	private final ApproximateTrig approximateTrig;
+
+	// Both null when stars are given as coordinates of date. Otherwise the J2000 to true of date rotation, and the
+	// same followed by the rotation to the hour angle frame, mapping a J2000 direction to
+	// (cos(dec) cos(H), cos(dec) sin(H), sin(dec)) of date.
+	private final double[] equinoxMatrix;
+	private final double[] hourAngleMatrix;
+
+	// Null when altitudes are geometric.
+	private final AtmosphericRefraction.Table refractionTable;
+
+	private final HorizonMask horizonMask;
+
+	ObservingContext(double localSiderealTime, double sinLatitude, double cosLatitude) {
+		this(localSiderealTime, sinLatitude, cosLatitude, Precision.EXACT, null, null);
+	}
+
+	ObservingContext(double localSiderealTime, double sinLatitude, double cosLatitude, Precision precision, double[] equinoxMatrix,
+					 AtmosphericRefraction.Table refractionTable) {
+		this(localSiderealTime, sinLatitude, cosLatitude, precision, equinoxMatrix, refractionTable, null);
+	}
+
+	/**
+	 * @param localSiderealTime local sidereal time in degrees, apparent when {@code equinoxMatrix} is given
+	 * @param equinoxMatrix     J2000 to true of date rotation applied to every located star, or {@code null} when
+	 *                          stars are given as coordinates of date
+	 * @param refractionTable   refraction turning geometric altitudes into apparent ones, or {@code null} to keep them
+	 *                          geometric
+	 * @param horizonMask       local horizon hiding the stars below it from the visibility queries, or {@code null} for
+	 *                          a flat horizon at altitude 0
+	 */
+	ObservingContext(double localSiderealTime, double sinLatitude, double cosLatitude, Precision precision, double[] equinoxMatrix,
+					 AtmosphericRefraction.Table refractionTable, HorizonMask horizonMask) {
+		this.localSiderealTime = localSiderealTime;
+		this.sinLatitude = sinLatitude;
+		this.cosLatitude = cosLatitude;
+		this.approximateTrig = precision == Precision.EXACT ? null : ApproximateTrig.of(precision);
+		this.equinoxMatrix = equinoxMatrix;
+		this.refractionTable = refractionTable;
+		this.horizonMask = horizonMask == null ? FLAT_HORIZON : horizonMask;
+		if (equinoxMatrix == null) {
+			this.hourAngleMatrix = null;
+		} else {
+			double localSiderealTimeRadians = toRadians(localSiderealTime);
+			double sinLocalSiderealTime = sin(localSiderealTimeRadians);
+			double cosLocalSiderealTime = cos(localSiderealTimeRadians);
+			this.hourAngleMatrix = PrecessionNutation.multiply(new double[]{
+					cosLocalSiderealTime, sinLocalSiderealTime, 0,
+					sinLocalSiderealTime, -cosLocalSiderealTime, 0,
+					0, 0, 1
+			}, equinoxMatrix);
+		}
+	}
+
+	public double getLocalSiderealTime() {
+		return localSiderealTime;
+	}
+
+	AtmosphericRefraction.Table getRefractionTable() {
+		return refractionTable;
+	}
+
+	public HorizonMask getHorizonMask() {
+		return horizonMask;
+	}
+
+	public HorizontalCoordinate locateStar(EquatorialCoordinate starEqCoordinate) {
+		return locateStar(starEqCoordinate.getRaDegreeValue(), starEqCoordinate.getDecDegreeValue());
+	}
+
+	/**
+	 * Locates a single star given by its right ascension and declination degree values.
+	 */
+	HorizontalCoordinate locateStar(double raDegreeValue, double decDegreeValue) {
+		double sinDeclination = sinDegrees(decDegreeValue);
+		double cosDeclination = cosDegrees(decDegreeValue);
+		double x;
+		double y;
+		double z;
+		if (hourAngleMatrix == null) {
+			double localHourAngle = localSiderealTime - raDegreeValue;
+			x = cosDeclination * cosDegrees(localHourAngle);
+			y = cosDeclination * sinDegrees(localHourAngle);
+			z = sinDeclination;
+		} else {
+			double equatorialX = cosDeclination * cosDegrees(raDegreeValue);
+			double equatorialY = cosDeclination * sinDegrees(raDegreeValue);
+			x = hourAngleMatrix[0] * equatorialX + hourAngleMatrix[1] * equatorialY + hourAngleMatrix[2] * sinDeclination;
+			y = hourAngleMatrix[3] * equatorialX + hourAngleMatrix[4] * equatorialY + hourAngleMatrix[5] * sinDeclination;
+			z = hourAngleMatrix[6] * equatorialX + hourAngleMatrix[7] * equatorialY + hourAngleMatrix[8] * sinDeclination;
+		}
+		return new HorizontalCoordinate(locateAltitude(x, y, z), locateAzimuth(x, y, z));
+	}
+
+	/**
+	 * Locates every star given by the parallel right ascension and declination arrays (in degrees), writing altitude
+	 * and azimuth degree values into the caller supplied arrays at the same index.
+	 */
+	public void locateStars(double[] raDegreeValues, double[] decDegreeValues, double[] altitudeValues, double[] azimuthValues) {
+		validateBatchLength(raDegreeValues.length, decDegreeValues.length, altitudeValues, azimuthValues);
+		for (int i = 0; i < raDegreeValues.length; i++) {
+			locateStar(raDegreeValues[i], decDegreeValues[i], altitudeValues, azimuthValues, i);
+		}
+	}
+
+	/**
+	 * Same as {@link #locateStars(double[], double[], double[], double[])}, computed several stars at a time by the
+	 * Vector API when the {@code jdk.incubator.vector} module is resolved (e.g. with
+	 * {@code --add-modules jdk.incubator.vector}), and by the scalar loop otherwise. The vector kernel uses polynomial
+	 * trigonometry and agrees with the scalar path to within 1e-9 degrees, whatever the precision of this context.
+	 * Stars given as J2000 coordinates always take the scalar loop.
+	 */
+	public void locateStarsVectorized(double[] raDegreeValues, double[] decDegreeValues, double[] altitudeValues, double[] azimuthValues) {
+		validateBatchLength(raDegreeValues.length, decDegreeValues.length, altitudeValues, azimuthValues);
+		if (VECTOR_KERNEL_AVAILABLE && equinoxMatrix == null) {
+			VectorLocatorKernel.locateStars(localSiderealTime, sinLatitude, cosLatitude,
+					raDegreeValues, decDegreeValues, 0, raDegreeValues.length, altitudeValues, azimuthValues);
+			if (refractionTable != null) {
+				for (int i = 0; i < raDegreeValues.length; i++) {
+					altitudeValues[i] = refractionTable.toApparentAltitude(altitudeValues[i]);
+				}
+			}
+		} else {
+			locateStars(raDegreeValues, decDegreeValues, 0, raDegreeValues.length, altitudeValues, azimuthValues);
+		}
+	}
+
+	public static boolean isVectorKernelAvailable() {
+		return VECTOR_KERNEL_AVAILABLE;
+	}
+
+	public void locateStars(StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues) {
+		int size = starCatalog.size();
+		validateBatchLength(size, size, altitudeValues, azimuthValues);
+		for (int i = 0; i < size; i++) {
+			locateStar(starCatalog.getRaDegreeValue(i), starCatalog.getDecDegreeValue(i), altitudeValues, azimuthValues, i);
+		}
+	}
+
+	/**
+	 * Locates the stars in [fromIndex, toIndex) of the parallel right ascension and declination arrays.
+	 */
+	void locateStars(double[] raDegreeValues, double[] decDegreeValues, int fromIndex, int toIndex, double[] altitudeValues, double[] azimuthValues) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			locateStar(raDegreeValues[i], decDegreeValues[i], altitudeValues, azimuthValues, i);
+		}
+	}
+
+	/**
+	 * Locates the catalog stars in [fromIndex, toIndex), writing the result of star i at {@code outputOffset + i}.
+	 */
+	void locateStars(StarCatalog starCatalog, int fromIndex, int toIndex, double[] altitudeValues, double[] azimuthValues, int outputOffset) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			locateStar(starCatalog.getRaDegreeValue(i), starCatalog.getDecDegreeValue(i), altitudeValues, azimuthValues, outputOffset + i);
+		}
+	}
+
+	/**
+	 * Passes the catalog index of every indexed star whose altitude is at least {@code minAltitude} degrees to the
+	 * consumer. The query is answered as a cone around the zenith, so only stars near the visible sky are visited.
+	 */
+	public void findStarsAbove(SkyIndex skyIndex, double minAltitude, IntConsumer catalogIndexConsumer) {
+		double[] zenithRaDegreeValue = new double[1];
+		double[] zenithDecDegreeValue = new double[1];
+		toStarFrame(localSiderealTime, toDegrees(atan2(sinLatitude, cosLatitude)), zenithRaDegreeValue, zenithDecDegreeValue, 0);
+		double geometricMinAltitude = refractionTable == null ? minAltitude : refractionTable.toGeometricAltitude(minAltitude);
+		skyIndex.queryCone(zenithRaDegreeValue[0], zenithDecDegreeValue[0], 90 - geometricMinAltitude, catalogIndexConsumer);
+	}
+
+	/**
+	 * Locates every catalog star as {@link #locateStars(StarCatalog, double[], double[])} does, then writes the
+	 * indices of those above the horizon mask to {@code visibleIndices}, in increasing order, and returns their number.
+	 */
+	public int locateVisibleStars(StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues, int[] visibleIndices) {
+		int size = starCatalog.size();
+		if (visibleIndices.length < size) {
+			throw new IllegalArgumentException(String.format(
+					"Length of visible index array is not consistent: catalog %d, indices %d.", size, visibleIndices.length));
+		}
+		locateStars(starCatalog, altitudeValues, azimuthValues);
+		return horizonMask.filterVisible(altitudeValues, azimuthValues, 0, size, visibleIndices);
+	}
+
+	/**
+	 * Passes the catalog index of every indexed star above the horizon mask to the consumer. The index is queried for
+	 * the cone above the lowest point of the mask, and only the stars found there are located and checked against it.
+	 */
+	public void findVisibleStars(SkyIndex skyIndex, StarCatalog starCatalog, IntConsumer catalogIndexConsumer) {
+		double[] altitudeValue = new double[1];
+		double[] azimuthValue = new double[1];
+		findStarsAbove(skyIndex, horizonMask.getMinAltitude(), catalogIndex -> {
+			locateStar(starCatalog.getRaDegreeValue(catalogIndex), starCatalog.getDecDegreeValue(catalogIndex), altitudeValue, azimuthValue, 0);
+			if (horizonMask.isVisible(altitudeValue[0], azimuthValue[0])) {
+				catalogIndexConsumer.accept(catalogIndex);
+			}
+		});
+	}
+
+	/**
+	 * Passes the catalog index of every indexed star within {@code radius} degrees of the given altitude/azimuth
+	 * pointing to the consumer.
+	 */
+	public void findStarsNear(SkyIndex skyIndex, double altitudeValue, double azimuthValue, double radius, IntConsumer catalogIndexConsumer) {
+		double altitudeRadians = toRadians(toGeometricAltitude(altitudeValue));
+		double azimuthRadians = toRadians(azimuthValue);
+		double sinAltitude = sin(altitudeRadians);
+		double cosAltitude = cos(altitudeRadians);
+		double sinAzimuth = sin(azimuthRadians);
+		double cosAzimuth = cos(azimuthRadians);
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		toStarFrame(calculateRightAscension(sinAltitude, cosAltitude, sinAzimuth, cosAzimuth),
+				calculateDeclination(sinAltitude, cosAltitude, cosAzimuth), raDegreeValue, decDegreeValue, 0);
+		skyIndex.queryCone(raDegreeValue[0], decDegreeValue[0], radius, catalogIndexConsumer);
+	}
+
+	/**
+	 * Inverse of {@link #locateStar(EquatorialCoordinate)}, converting a horizontal position seen at this context back
+	 * to right ascension and declination, in the same frame as the located stars.
+	 */
+	public EquatorialCoordinate toEquatorial(HorizontalCoordinate horizontalCoordinate) {
+		double altitudeRadians = toRadians(toGeometricAltitude(horizontalCoordinate.getAltDegreeValue()));
+		double azimuthRadians = toRadians(horizontalCoordinate.getAzDegreeValue());
+		double sinAltitude = sin(altitudeRadians);
+		double cosAltitude = cos(altitudeRadians);
+		double sinAzimuth = sin(azimuthRadians);
+		double cosAzimuth = cos(azimuthRadians);
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		toStarFrame(calculateRightAscension(sinAltitude, cosAltitude, sinAzimuth, cosAzimuth),
+				calculateDeclination(sinAltitude, cosAltitude, cosAzimuth), raDegreeValue, decDegreeValue, 0);
+		return new EquatorialCoordinate(raDegreeValue[0] / 15, decDegreeValue[0]);
+	}
+
+	/**
+	 * Converts every horizontal position given by the parallel altitude and azimuth arrays (in degrees) back to right
+	 * ascension and declination degree values, written into the caller supplied arrays at the same index.
+	 */
+	public void toEquatorial(double[] altitudeValues, double[] azimuthValues, double[] raDegreeValues, double[] decDegreeValues) {
+		validateBatchLength(altitudeValues.length, azimuthValues.length, raDegreeValues, decDegreeValues);
+		for (int i = 0; i < altitudeValues.length; i++) {
+			double altitudeRadians = toRadians(toGeometricAltitude(altitudeValues[i]));
+			double azimuthRadians = toRadians(azimuthValues[i]);
+			double sinAltitude = sin(altitudeRadians);
+			double cosAltitude = cos(altitudeRadians);
+			double sinAzimuth = sin(azimuthRadians);
+			double cosAzimuth = cos(azimuthRadians);
+			toStarFrame(calculateRightAscension(sinAltitude, cosAltitude, sinAzimuth, cosAzimuth),
+					calculateDeclination(sinAltitude, cosAltitude, cosAzimuth), raDegreeValues, decDegreeValues, i);
+		}
+	}
+
+	/**
+	 * Converts a horizontal unit direction, given by its north, east and up components, to right ascension and
+	 * declination degree values in the frame of the located stars, written at {@code index}. The direction is an
+	 * apparent one when this context has refraction. Angles are computed by {@code approximateTrig}, or by the
+	 * {@link Math} functions when it is {@code null}.
+	 */
+	void toEquatorial(double north, double east, double up, ApproximateTrig approximateTrig,
+					  double[] raDegreeValues, double[] decDegreeValues, int index) {
+		if (refractionTable != null) {
+			double horizontal = Math.sqrt(north * north + east * east);
+			double altitudeValue = toDegrees(atan2(up, horizontal));
+			double geometricAltitudeRadians = toRadians(refractionTable.toGeometricAltitude(altitudeValue));
+			double scale = horizontal == 0 ? 0 : cos(geometricAltitudeRadians) / horizontal;
+			north *= scale;
+			east *= scale;
+			up = sin(geometricAltitudeRadians);
+		}
+		// Hour angle frame: (cos(dec) cos(H), cos(dec) sin(H), sin(dec)), the hour angle growing westwards.
+		double x = cosLatitude * up - sinLatitude * north;
+		double y = -east;
+		double z = sinLatitude * up + cosLatitude * north;
+		if (hourAngleMatrix != null) {
+			// The matrix is a rotation, its transpose maps the hour angle frame back to J2000.
+			double rotatedX = hourAngleMatrix[0] * x + hourAngleMatrix[3] * y + hourAngleMatrix[6] * z;
+			double rotatedY = hourAngleMatrix[1] * x + hourAngleMatrix[4] * y + hourAngleMatrix[7] * z;
+			double rotatedZ = hourAngleMatrix[2] * x + hourAngleMatrix[5] * y + hourAngleMatrix[8] * z;
+			double raDegreeValue = angle(rotatedY, rotatedX, approximateTrig);
+			raDegreeValues[index] = raDegreeValue < 0 ? raDegreeValue + 360 : raDegreeValue;
+			decDegreeValues[index] = angle(rotatedZ, Math.sqrt(rotatedX * rotatedX + rotatedY * rotatedY), approximateTrig);
+		} else {
+			double raDegreeValue = localSiderealTime - angle(y, x, approximateTrig);
+			raDegreeValues[index] = raDegreeValue < 0 ? raDegreeValue + 360 : raDegreeValue >= 360 ? raDegreeValue - 360 : raDegreeValue;
+			decDegreeValues[index] = angle(z, Math.sqrt(x * x + y * y), approximateTrig);
+		}
+	}
+
+	private static double angle(double y, double x, ApproximateTrig approximateTrig) {
+		return approximateTrig == null ? toDegrees(atan2(y, x)) : approximateTrig.atan2(y, x);
+	}
+
+	/**
+	 * Locates one star at {@code count} instants, the first one being the instant of this context and each following
+	 * one advancing the local sidereal time by {@code siderealStep} degrees, writing instant i at
+	 * {@code outputOffset + i}. The hour angle sin/cos are advanced by rotation and re-anchored every
+	 * {@value #REANCHOR_INTERVAL} steps to keep the accumulated error negligible.
+	 */
+	void locateStarOverTime(double raDegreeValue, double decDegreeValue, double siderealStep, int outputOffset, int count,
+							double[] altitudeValues, double[] azimuthValues) {
+		if (equinoxMatrix != null) {
+			// The rotation hardly changes over a run of an ObservingSeries, the star is moved to its place of date once.
+			double[] raOfDate = new double[1];
+			double[] decOfDate = new double[1];
+			PrecessionNutation.rotate(equinoxMatrix, false, raDegreeValue, decDegreeValue, raOfDate, decOfDate, 0);
+			raDegreeValue = raOfDate[0];
+			decDegreeValue = decOfDate[0];
+		}
+		double sinDeclination = sinDegrees(decDegreeValue);
+		double cosDeclination = cosDegrees(decDegreeValue);
+		double stepRadians = toRadians(siderealStep);
+		double sinStep = sin(stepRadians);
+		double cosStep = cos(stepRadians);
+		double initialLocalHourAngle = localSiderealTime - raDegreeValue;
+
+		double sinLocalHourAngle = 0;
+		double cosLocalHourAngle = 0;
+		for (int i = 0; i < count; i++) {
+			if (i % REANCHOR_INTERVAL == 0) {
+				double localHourAngleRadians = toRadians(initialLocalHourAngle + i * siderealStep);
+				sinLocalHourAngle = sin(localHourAngleRadians);
+				cosLocalHourAngle = cos(localHourAngleRadians);
+			} else {
+				double rotatedSin = sinLocalHourAngle * cosStep + cosLocalHourAngle * sinStep;
+				cosLocalHourAngle = cosLocalHourAngle * cosStep - sinLocalHourAngle * sinStep;
+				sinLocalHourAngle = rotatedSin;
+			}
+			locateDirection(cosDeclination * cosLocalHourAngle, cosDeclination * sinLocalHourAngle, sinDeclination,
+					altitudeValues, azimuthValues, outputOffset + i);
+		}
+	}
+
+	private void locateStar(double raDegreeValue, double decDegreeValue, double[] altitudeValues, double[] azimuthValues, int index) {
+		double sinDeclination = sinDegrees(decDegreeValue);
+		double cosDeclination = cosDegrees(decDegreeValue);
+		if (hourAngleMatrix == null) {
+			double localHourAngle = localSiderealTime - raDegreeValue;
+			locateDirection(cosDeclination * cosDegrees(localHourAngle), cosDeclination * sinDegrees(localHourAngle), sinDeclination,
+					altitudeValues, azimuthValues, index);
+		} else {
+			double x = cosDeclination * cosDegrees(raDegreeValue);
+			double y = cosDeclination * sinDegrees(raDegreeValue);
+			locateDirection(
+					hourAngleMatrix[0] * x + hourAngleMatrix[1] * y + hourAngleMatrix[2] * sinDeclination,
+					hourAngleMatrix[3] * x + hourAngleMatrix[4] * y + hourAngleMatrix[5] * sinDeclination,
+					hourAngleMatrix[6] * x + hourAngleMatrix[7] * y + hourAngleMatrix[8] * sinDeclination,
+					altitudeValues, azimuthValues, index);
+		}
+	}
+
+	/**
+	 * Locates the direction given in the hour angle frame of date, as (cos(dec) cos(H), cos(dec) sin(H), sin(dec)).
+	 */
+	private void locateDirection(double cosDeclinationCosLocalHourAngle, double cosDeclinationSinLocalHourAngle, double sinDeclination,
+								 double[] altitudeValues, double[] azimuthValues, int index) {
+		altitudeValues[index] = locateAltitude(cosDeclinationCosLocalHourAngle, cosDeclinationSinLocalHourAngle, sinDeclination);
+		azimuthValues[index] = locateAzimuth(cosDeclinationCosLocalHourAngle, cosDeclinationSinLocalHourAngle, sinDeclination);
+	}
+
+	private double locateAltitude(double cosDeclinationCosLocalHourAngle, double cosDeclinationSinLocalHourAngle, double sinDeclination) {
+		double altitudeValue = approximateTrig == null
+				? calculateAltitude(sinDeclination, cosDeclinationCosLocalHourAngle)
+				: approximateAltitude(sinDeclination, cosDeclinationSinLocalHourAngle, cosDeclinationCosLocalHourAngle);
+		return refractionTable == null ? altitudeValue : refractionTable.toApparentAltitude(altitudeValue);
+	}
+
+	private double locateAzimuth(double cosDeclinationCosLocalHourAngle, double cosDeclinationSinLocalHourAngle, double sinDeclination) {
+		return approximateTrig == null
+				? calculateAzimuth(sinDeclination, cosDeclinationSinLocalHourAngle, cosDeclinationCosLocalHourAngle)
+				: approximateAzimuth(sinDeclination, cosDeclinationSinLocalHourAngle, cosDeclinationCosLocalHourAngle);
+	}
+
+	private double toGeometricAltitude(double altitudeValue) {
+		return refractionTable == null ? altitudeValue : refractionTable.toGeometricAltitude(altitudeValue);
+	}
+
+	private double sinDegrees(double degrees) {
+		return approximateTrig == null ? sin(toRadians(degrees)) : approximateTrig.sin(degrees);
+	}
+
+	private double cosDegrees(double degrees) {
+		return approximateTrig == null ? cos(toRadians(degrees)) : approximateTrig.cos(degrees);
+	}
+
+	private double calculateAltitude(double sinDeclination, double cosDeclinationCosLocalHourAngle) {
+		// Clamped as a rotated direction may fall a rounding error outside the unit sphere.
+		return toDegrees(asin(Math.min(1, Math.max(-1, sinDeclination * sinLatitude + cosDeclinationCosLocalHourAngle * cosLatitude))));
+	}
+
+	private double calculateAzimuth(double sinDeclination, double cosDeclinationSinLocalHourAngle, double cosDeclinationCosLocalHourAngle) {
+		double azimuthValue = toDegrees(
+				- atan2(
+						cosDeclinationSinLocalHourAngle,
+						- sinLatitude * cosDeclinationCosLocalHourAngle + cosLatitude * sinDeclination
+				)
+		);
+		if (azimuthValue < 0) {
+			azimuthValue += 360;
+		}
+		return azimuthValue;
+	}
+
+	/**
+	 * Altitude taken by atan2 from its sine and cosine, as an approximated asin would lose all precision close to the
+	 * zenith.
+	 */
+	private double approximateAltitude(double sinDeclination, double cosDeclinationSinLocalHourAngle, double cosDeclinationCosLocalHourAngle) {
+		double north = cosLatitude * sinDeclination - sinLatitude * cosDeclinationCosLocalHourAngle;
+		return approximateTrig.atan2(
+				sinDeclination * sinLatitude + cosDeclinationCosLocalHourAngle * cosLatitude,
+				Math.sqrt(cosDeclinationSinLocalHourAngle * cosDeclinationSinLocalHourAngle + north * north)
+		);
+	}
+
+	private double approximateAzimuth(double sinDeclination, double cosDeclinationSinLocalHourAngle, double cosDeclinationCosLocalHourAngle) {
+		double azimuthValue = -approximateTrig.atan2(
+				cosDeclinationSinLocalHourAngle,
+				cosLatitude * sinDeclination - sinLatitude * cosDeclinationCosLocalHourAngle
+		);
+		if (azimuthValue < 0) {
+			azimuthValue += 360;
+		}
+		return azimuthValue;
+	}
+
+	/**
+	 * Writes right ascension and declination of date in the frame of the located stars, rotating them back to J2000
+	 * when stars are given as J2000 coordinates.
+	 */
+	private void toStarFrame(double raDegreeValue, double decDegreeValue, double[] raDegreeValues, double[] decDegreeValues, int index) {
+		if (equinoxMatrix == null) {
+			raDegreeValues[index] = raDegreeValue;
+			decDegreeValues[index] = decDegreeValue;
+		} else {
+			PrecessionNutation.rotate(equinoxMatrix, true, raDegreeValue, decDegreeValue, raDegreeValues, decDegreeValues, index);
+		}
+	}
+
+	private double calculateRightAscension(double sinAltitude, double cosAltitude, double sinAzimuth, double cosAzimuth) {
+		double localHourAngle = toDegrees(atan2(-sinAzimuth * cosAltitude, cosLatitude * sinAltitude - sinLatitude * cosAltitude * cosAzimuth));
+		return StarLocator.reduceAngle(localSiderealTime - localHourAngle);
+	}
+
+	private double calculateDeclination(double sinAltitude, double cosAltitude, double cosAzimuth) {
+		return toDegrees(asin(sinAltitude * sinLatitude + cosAltitude * cosLatitude * cosAzimuth));
+	}
+
+	private static void validateBatchLength(int inputLength, int otherInputLength, double[] outputValues, double[] otherOutputValues) {
+		if (inputLength != otherInputLength || outputValues.length < inputLength || otherOutputValues.length < inputLength) {
+			throw new IllegalArgumentException(String.format(
+					"Length of batch arrays are not consistent: inputs %d, %d, outputs %d, %d.",
+					inputLength, otherInputLength, outputValues.length, otherOutputValues.length));
+		}
+	}
+}
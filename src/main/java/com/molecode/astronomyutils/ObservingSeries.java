@@ -0,0 +1,44 @@
+package com.molecode.astronomyutils;
+
+/**
+ * Observing contexts of {@code count} evenly spaced instants. Each context locates a run of consecutive instants by
+ * advancing its sidereal time, the runs being kept within an hour when J2000 stars are rotated to their place of date,
+ * so that the rotation and the equation of the equinoxes are taken again at the start of every run.
+ */
+final class ObservingSeries {
+
+	private final ObservingContext[] observingContexts;
+
+	private final int runLength;
+
+	private final int count;
+
+	private final double siderealStep;
+
+	ObservingSeries(ObservingContext[] observingContexts, int runLength, int count, double siderealStep) {
+		this.observingContexts = observingContexts;
+		this.runLength = runLength;
+		this.count = count;
+		this.siderealStep = siderealStep;
+	}
+
+	HorizonMask getHorizonMask() {
+		return observingContexts[0].getHorizonMask();
+	}
+
+	/**
+	 * Locates the star at every instant of the series, writing the i-th one into index i of the caller supplied
+	 * arrays.
+	 */
+	void locateStar(double raDegreeValue, double decDegreeValue, double[] altitudeValues, double[] azimuthValues) {
+		if (count < 0 || altitudeValues.length < count || azimuthValues.length < count) {
+			throw new IllegalArgumentException(String.format(
+					"Length of series arrays are not consistent: count %d, altitude %d, azimuth %d.",
+					count, altitudeValues.length, azimuthValues.length));
+		}
+		for (int r = 0, fromIndex = 0; fromIndex < count; r++, fromIndex += runLength) {
+			observingContexts[r].locateStarOverTime(raDegreeValue, decDegreeValue, siderealStep, fromIndex, Math.min(runLength, count - fromIndex),
+					altitudeValues, azimuthValues);
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+/**
+ * Rotation from J2000 mean equatorial coordinates to true coordinates of date, combining IAU 1976 precession with
+ * the four largest terms of the IAU 1980 nutation series (about 0.5 arcsecond accuracy), together with the equation
+ * of the equinoxes that turns mean sidereal time into the apparent sidereal time of the true equinox. All three are
+ * evaluated in TT, the UTC instants being converted by the given {@link TimeScales}.
+ * <p>
+ * The rotation changes by a fraction of a milliarcsecond per minute, so it is computed once per time bucket, at the
+ * middle of the bucket, and the last one is kept for the following lookups. Instances are thread safe and can be
+ * shared by several {@link StarLocator}s.
+ */
+public class PrecessionNutation {
+
+	private static final double JULIAN_CENTURY_SECONDS = 36525.0 * 86_400;
+
+	private static final double RADIANS_PER_ARCSECOND = Math.PI / (180 * 3600);
+
+	private final long bucketSeconds;
+
+	private final TimeScales timeScales;
+
+	private volatile CachedMatrix lastMatrix;
+
+	/**
+	 * @param bucketDuration length of the time buckets sharing one rotation, at least one second
+	 */
+	public PrecessionNutation(Duration bucketDuration) {
+		this(bucketDuration, TimeScales.getDefault());
+	}
+
+	/**
+	 * @param bucketDuration length of the time buckets sharing one rotation, at least one second
+	 * @param timeScales     TT - UTC applied to the instants
+	 */
+	public PrecessionNutation(Duration bucketDuration, TimeScales timeScales) {
+		if (bucketDuration.getSeconds() <= 0) {
+			throw new IllegalArgumentException("Bucket duration should be at least one second: " + bucketDuration);
+		}
+		this.bucketSeconds = bucketDuration.getSeconds();
+		this.timeScales = timeScales;
+	}
+
+	/**
+	 * Converts J2000 coordinates to true coordinates of date.
+	 */
+	public EquatorialCoordinate toCoordinateOfDate(Instant instant, EquatorialCoordinate j2000EqCoordinate) {
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		rotate(getMatrix(instant.getEpochSecond()), false,
+				j2000EqCoordinate.getRaDegreeValue(), j2000EqCoordinate.getDecDegreeValue(), raDegreeValue, decDegreeValue, 0);
+		return new EquatorialCoordinate(raDegreeValue[0] / 15, decDegreeValue[0]);
+	}
+
+	/**
+	 * Returns the row major rotation matrix of the bucket containing the given instant. The array is shared and must
+	 * not be modified.
+	 */
+	double[] getMatrix(long epochSecond) {
+		return getCachedMatrix(epochSecond).matrix;
+	}
+
+	/**
+	 * Returns the equation of the equinoxes of the bucket containing the given instant, in degrees. Added to the mean
+	 * sidereal time, it gives the apparent sidereal time that goes with the true coordinates of date.
+	 */
+	double getEquationOfEquinoxes(long epochSecond) {
+		return getCachedMatrix(epochSecond).equationOfEquinoxes;
+	}
+
+	private CachedMatrix getCachedMatrix(long epochSecond) {
+		long bucket = Math.floorDiv(epochSecond, bucketSeconds);
+		CachedMatrix cached = lastMatrix;
+		if (cached != null && cached.bucket == bucket) {
+			return cached;
+		}
+		long middleEpochSecond = bucket * bucketSeconds + bucketSeconds / 2;
+		// Precession and nutation are functions of TT.
+		double ttMinusUtc = timeScales.getOffset(TimeScales.Scale.TT, middleEpochSecond, 0);
+		double julianCenturies = (middleEpochSecond - StarLocator.J2000_EPOCH_SECOND + ttMinusUtc) / JULIAN_CENTURY_SECONDS;
+		cached = new CachedMatrix(bucket, calculateMatrix(julianCenturies), calculateEquationOfEquinoxes(julianCenturies));
+		lastMatrix = cached;
+		return cached;
+	}
+
+	/**
+	 * Rotates right ascension and declination degree values by the matrix, or by its inverse when {@code transpose}
+	 * is set, writing the result at the given index.
+	 */
+	static void rotate(double[] matrix, boolean transpose, double raDegreeValue, double decDegreeValue,
+					   double[] raDegreeValues, double[] decDegreeValues, int index) {
+		double declinationRadians = toRadians(decDegreeValue);
+		double rightAscensionRadians = toRadians(raDegreeValue);
+		double x = cos(declinationRadians) * cos(rightAscensionRadians);
+		double y = cos(declinationRadians) * sin(rightAscensionRadians);
+		double z = sin(declinationRadians);
+		double[] m = transpose ? transpose(matrix) : matrix;
+		double rotatedX = m[0] * x + m[1] * y + m[2] * z;
+		double rotatedY = m[3] * x + m[4] * y + m[5] * z;
+		double rotatedZ = m[6] * x + m[7] * y + m[8] * z;
+		raDegreeValues[index] = StarLocator.reduceAngle(toDegrees(atan2(rotatedY, rotatedX)));
+		decDegreeValues[index] = toDegrees(asin(Math.max(-1, Math.min(1, rotatedZ))));
+	}
+
+	static double[] calculateMatrix(double julianCenturies) {
+		return multiply(calculateNutationMatrix(julianCenturies), calculatePrecessionMatrix(julianCenturies));
+	}
+
+	/**
+	 * IAU 1976 precession, P = R3(-z) R2(theta) R3(-zeta).
+	 */
+	static double[] calculatePrecessionMatrix(double t) {
+		double zeta = (2306.2181 * t + 0.30188 * t * t + 0.017998 * t * t * t) * RADIANS_PER_ARCSECOND;
+		double z = (2306.2181 * t + 1.09468 * t * t + 0.018203 * t * t * t) * RADIANS_PER_ARCSECOND;
+		double theta = (2004.3109 * t - 0.42665 * t * t - 0.041833 * t * t * t) * RADIANS_PER_ARCSECOND;
+		return multiply(rotateZ(-z), multiply(rotateY(theta), rotateZ(-zeta)));
+	}
+
+	/**
+	 * Nutation in longitude and obliquity, N = R1(-epsilon) R3(-deltaPsi) R1(epsilon0).
+	 */
+	static double[] calculateNutationMatrix(double t) {
+		double nutationInLongitude = calculateNutationInLongitude(t);
+		double meanObliquity = calculateMeanObliquity(t);
+		return multiply(rotateX(-(meanObliquity + calculateNutationInObliquity(t))), multiply(rotateZ(-nutationInLongitude), rotateX(meanObliquity)));
+	}
+
+	/**
+	 * Equation of the equinoxes in degrees, deltaPsi cos(epsilon).
+	 */
+	static double calculateEquationOfEquinoxes(double t) {
+		return toDegrees(calculateNutationInLongitude(t) * cos(calculateMeanObliquity(t) + calculateNutationInObliquity(t)));
+	}
+
+	private static double calculateNutationInLongitude(double t) {
+		double ascendingNode = toRadians(125.04452 - 1934.136261 * t);
+		double sunLongitude = toRadians(280.4665 + 36000.7698 * t);
+		double moonLongitude = toRadians(218.3165 + 481267.8813 * t);
+		return (-17.20 * sin(ascendingNode) - 1.32 * sin(2 * sunLongitude)
+				- 0.23 * sin(2 * moonLongitude) + 0.21 * sin(2 * ascendingNode)) * RADIANS_PER_ARCSECOND;
+	}
+
+	private static double calculateNutationInObliquity(double t) {
+		double ascendingNode = toRadians(125.04452 - 1934.136261 * t);
+		double sunLongitude = toRadians(280.4665 + 36000.7698 * t);
+		double moonLongitude = toRadians(218.3165 + 481267.8813 * t);
+		return (9.20 * cos(ascendingNode) + 0.57 * cos(2 * sunLongitude)
+				+ 0.10 * cos(2 * moonLongitude) - 0.09 * cos(2 * ascendingNode)) * RADIANS_PER_ARCSECOND;
+	}
+
+	private static double calculateMeanObliquity(double t) {
+		return (84381.448 - 46.8150 * t - 0.00059 * t * t + 0.001813 * t * t * t) * RADIANS_PER_ARCSECOND;
+	}
+
+	static double[] multiply(double[] left, double[] right) {
+		double[] product = new double[9];
+		for (int row = 0; row < 3; row++) {
+			for (int column = 0; column < 3; column++) {
+				product[row * 3 + column] = left[row * 3] * right[column]
+						+ left[row * 3 + 1] * right[3 + column]
+						+ left[row * 3 + 2] * right[6 + column];
+			}
+		}
+		return product;
+	}
+
+	private static double[] transpose(double[] matrix) {
+		return new double[]{
+				matrix[0], matrix[3], matrix[6],
+				matrix[1], matrix[4], matrix[7],
+				matrix[2], matrix[5], matrix[8]
+		};
+	}
+
+	private static double[] rotateX(double angle) {
+		double sin = sin(angle);
+		double cos = cos(angle);
+		return new double[]{1, 0, 0, 0, cos, sin, 0, -sin, cos};
+	}
+
+	private static double[] rotateY(double angle) {
+		double sin = sin(angle);
+		double cos = cos(angle);
+		return new double[]{cos, 0, -sin, 0, 1, 0, sin, 0, cos};
+	}
+
+	private static double[] rotateZ(double angle) {
+		double sin = sin(angle);
+		double cos = cos(angle);
+		return new double[]{cos, sin, 0, -sin, cos, 0, 0, 0, 1};
+	}
+
+	private static final class CachedMatrix {
+
+		private final long bucket;
+		private final double[] matrix;
+		private final double equationOfEquinoxes;
+
+		private CachedMatrix(long bucket, double[] matrix, double equationOfEquinoxes) {
+			this.bucket = bucket;
+			this.matrix = matrix;
+			this.equationOfEquinoxes = equationOfEquinoxes;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.molecode.astronomyutils;
+
+/**
+ * Accuracy required from the altitude and azimuth computed by a {@link StarLocator}. Coarser precisions replace the
+ * {@link Math} trigonometric functions by polynomial approximations, trading accuracy for throughput.
+ * <p>
+ * The maximum error is measured against {@link #EXACT}. For the azimuth it bounds the displacement on the sky, i.e.
+ * the azimuth error times cos(altitude), since the azimuth itself becomes ill defined close to the zenith.
+ */
+public enum Precision {
+
+	/**
+	 * Uses the {@link Math} functions.
+	 */
+	EXACT(0),
+	/**
+	 * Degree 3 sine and cosine, degree 6 arctangent polynomials; the measured error is about 0.1 arcsecond.
+	 */
+	ARCSECOND(1.0 / 3600),
+	/**
+	 * Degree 2 sine and cosine, degree 4 arctangent polynomials; the measured error is about 6 arcseconds.
+	 */
+	ARCMINUTE(1.0 / 60);
+
+	private final double maxError;
+
+	Precision(double maxError) {
+		this.maxError = maxError;
+	}
+
+	/**
+	 * Maximum error of altitude and azimuth in degrees.
+	 */
+	public double getMaxError() {
+		return maxError;
+	}
+}
@@ -0,0 +1,52 @@
+package com.molecode.astronomyutils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public class RiseTransitSet {
+
+	public enum Visibility {
+		RISES_AND_SETS,
+		CIRCUMPOLAR,
+		NEVER_RISES
+	}
+
+	private final Visibility visibility;
+
+	private final LocalDateTime riseTime;
+
+	private final LocalDateTime transitTime;
+
+	private final LocalDateTime setTime;
+
+	RiseTransitSet(Visibility visibility, LocalDateTime riseTime, LocalDateTime transitTime, LocalDateTime setTime) {
+		this.visibility = visibility;
+		this.riseTime = riseTime;
+		this.transitTime = transitTime;
+		this.setTime = setTime;
+	}
+
+	public Visibility getVisibility() {
+		return visibility;
+	}
+
+	public Optional<LocalDateTime> getRiseTime() {
+		return Optional.ofNullable(riseTime);
+	}
+
+	public LocalDateTime getTransitTime() {
+		return transitTime;
+	}
+
+	public Optional<LocalDateTime> getSetTime() {
+		return Optional.ofNullable(setTime);
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"RiseTransitSet{visibility: %s, rise: %s, transit: %s, set: %s}",
+				visibility, getRiseTime().map(LocalDateTime::toString).orElse("-"), transitTime, getSetTime().map(LocalDateTime::toString).orElse("-")
+		);
+	}
+}
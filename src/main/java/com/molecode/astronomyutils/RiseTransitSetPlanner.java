@@ -0,0 +1,167 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.StarCatalog;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk counterpart of {@link StarLocator#calculateRiseTransitSet}, computing rise, transit and set of every catalog
+ * star for every night of a date range in parallel. Times are written as epoch seconds into flat
+ * {@code [night][star]} matrices, i.e. star s of night n is at index {@code n * starCount + s}. Circumpolar stars rise
+ * at negative infinity and set at positive infinity, and stars that never rise the other way round, so that a star
+ * is up at time t exactly when {@code rise <= t <= set}.
+ */
+public class RiseTransitSetPlanner {
+
+	private static final int STAR_BLOCK_SIZE = 4096;
+
+	private static final double SECONDS_PER_SIDEREAL_DEGREE = 86_400 / StarLocator.SIDEREAL_DEGREES_PER_DAY;
+
+	private final ZoneId zoneId;
+
+	private final double longitudeValue;
+	private final double sinLatitude;
+	private final double cosLatitude;
+
+	private final double horizonAltitude;
+
+	private final ForkJoinPool forkJoinPool;
+
+	private final TimeScales timeScales;
+
+	public RiseTransitSetPlanner(ZoneId zoneId, GeographicCoordinate observingLocation, double horizonAltitude) {
+		this(zoneId, observingLocation, horizonAltitude, ForkJoinPool.commonPool());
+	}
+
+	public RiseTransitSetPlanner(ZoneId zoneId, GeographicCoordinate observingLocation, double horizonAltitude, ForkJoinPool forkJoinPool) {
+		this(zoneId, observingLocation, horizonAltitude, forkJoinPool, TimeScales.getDefault());
+	}
+
+	/**
+	 * @param timeScales UT1 - UTC applied to the sidereal time
+	 */
+	public RiseTransitSetPlanner(ZoneId zoneId, GeographicCoordinate observingLocation, double horizonAltitude, ForkJoinPool forkJoinPool,
+								 TimeScales timeScales) {
+		this.zoneId = zoneId;
+		double latitudeRadians = Math.toRadians(observingLocation.getLatDegreeValue());
+		this.longitudeValue = observingLocation.getLongDegreeValue();
+		this.sinLatitude = Math.sin(latitudeRadians);
+		this.cosLatitude = Math.cos(latitudeRadians);
+		this.horizonAltitude = horizonAltitude;
+		this.forkJoinPool = forkJoinPool;
+		this.timeScales = timeScales;
+	}
+
+	public void plan(LocalDate firstNightDate, int nightCount, StarCatalog starCatalog,
+			double[] riseEpochSeconds, double[] transitEpochSeconds, double[] setEpochSeconds) {
+		int starCount = starCatalog.size();
+		long resultSize = (long) nightCount * starCount;
+		if (nightCount < 0 || resultSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Unsupported number of results: " + resultSize);
+		}
+		if (riseEpochSeconds.length < resultSize || transitEpochSeconds.length < resultSize || setEpochSeconds.length < resultSize) {
+			throw new IllegalArgumentException(String.format(
+					"Length of result matrices are not consistent: expected %d, rise %d, transit %d, set %d.",
+					resultSize, riseEpochSeconds.length, transitEpochSeconds.length, setEpochSeconds.length));
+		}
+
+		// Midnight and its local sidereal time are shared by all stars of a night.
+		long[] referenceEpochSeconds = new long[nightCount];
+		double[] referenceSiderealTimes = new double[nightCount];
+		for (int n = 0; n < nightCount; n++) {
+			referenceEpochSeconds[n] = ZonedDateTime.of(firstNightDate.plusDays(n + 1), LocalTime.MIDNIGHT, zoneId).toEpochSecond();
+			referenceSiderealTimes[n] = StarLocator.reduceAngle(StarLocator.calculateLocalSiderealTime(referenceEpochSeconds[n], 0, longitudeValue, timeScales));
+		}
+
+		// The semi-diurnal arc only depends on the declination, so it is shared by all nights of a star. It is infinite
+		// for circumpolar stars and negative infinite for stars that never rise, giving the encoding of rise and set.
+		double[] semiDiurnalArcSeconds = new double[starCount];
+		for (int s = 0; s < starCount; s++) {
+			double cosSemiDiurnalArc = StarLocator.calculateCosSemiDiurnalArc(starCatalog.getDecDegreeValue(s), sinLatitude, cosLatitude, horizonAltitude);
+			if (cosSemiDiurnalArc < -1) {
+				semiDiurnalArcSeconds[s] = Double.POSITIVE_INFINITY;
+			} else if (cosSemiDiurnalArc > 1) {
+				semiDiurnalArcSeconds[s] = Double.NEGATIVE_INFINITY;
+			} else {
+				semiDiurnalArcSeconds[s] = Math.toDegrees(Math.acos(cosSemiDiurnalArc)) * SECONDS_PER_SIDEREAL_DEGREE;
+			}
+		}
+
+		int starBlockCount = (starCount + STAR_BLOCK_SIZE - 1) / STAR_BLOCK_SIZE;
+		forkJoinPool.invoke(new PlanBlocksAction(
+				new PlanningData(referenceEpochSeconds, referenceSiderealTimes, semiDiurnalArcSeconds, starCatalog, starBlockCount,
+						riseEpochSeconds, transitEpochSeconds, setEpochSeconds),
+				0, nightCount * starBlockCount));
+	}
+
+	private static class PlanningData {
+
+		private final long[] referenceEpochSeconds;
+		private final double[] referenceSiderealTimes;
+		private final double[] semiDiurnalArcSeconds;
+		private final StarCatalog starCatalog;
+		private final int starBlockCount;
+		private final double[] riseEpochSeconds;
+		private final double[] transitEpochSeconds;
+		private final double[] setEpochSeconds;
+
+		private PlanningData(long[] referenceEpochSeconds, double[] referenceSiderealTimes, double[] semiDiurnalArcSeconds,
+				StarCatalog starCatalog, int starBlockCount, double[] riseEpochSeconds, double[] transitEpochSeconds, double[] setEpochSeconds) {
+			this.referenceEpochSeconds = referenceEpochSeconds;
+			this.referenceSiderealTimes = referenceSiderealTimes;
+			this.semiDiurnalArcSeconds = semiDiurnalArcSeconds;
+			this.starCatalog = starCatalog;
+			this.starBlockCount = starBlockCount;
+			this.riseEpochSeconds = riseEpochSeconds;
+			this.transitEpochSeconds = transitEpochSeconds;
+			this.setEpochSeconds = setEpochSeconds;
+		}
+	}
+
+	private static class PlanBlocksAction extends RecursiveAction {
+
+		private final PlanningData planningData;
+		private final int fromBlock;
+		private final int toBlock;
+
+		private PlanBlocksAction(PlanningData planningData, int fromBlock, int toBlock) {
+			this.planningData = planningData;
+			this.fromBlock = fromBlock;
+			this.toBlock = toBlock;
+		}
+
+		@Override
+		protected void compute() {
+			if (toBlock - fromBlock > 1) {
+				int middleBlock = (fromBlock + toBlock) >>> 1;
+				invokeAll(new PlanBlocksAction(planningData, fromBlock, middleBlock), new PlanBlocksAction(planningData, middleBlock, toBlock));
+				return;
+			}
+			if (toBlock == fromBlock) {
+				return;
+			}
+			int night = fromBlock / planningData.starBlockCount;
+			int starCount = planningData.starCatalog.size();
+			int fromStar = fromBlock % planningData.starBlockCount * STAR_BLOCK_SIZE;
+			int toStar = Math.min(fromStar + STAR_BLOCK_SIZE, starCount);
+
+			double referenceEpochSecond = planningData.referenceEpochSeconds[night];
+			double referenceSiderealTime = planningData.referenceSiderealTimes[night];
+			for (int s = fromStar; s < toStar; s++) {
+				int index = night * starCount + s;
+				double transitEpochSecond = referenceEpochSecond
+						+ StarLocator.calculateTransitOffset(planningData.starCatalog.getRaDegreeValue(s), referenceSiderealTime) * 86_400;
+				double semiDiurnalArcSecond = planningData.semiDiurnalArcSeconds[s];
+				planningData.transitEpochSeconds[index] = transitEpochSecond;
+				planningData.riseEpochSeconds[index] = transitEpochSecond - semiDiurnalArcSecond;
+				planningData.setEpochSeconds[index] = transitEpochSecond + semiDiurnalArcSecond;
+			}
+		}
+	}
+}
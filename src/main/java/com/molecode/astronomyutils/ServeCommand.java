@@ -0,0 +1,56 @@
+package com.molecode.astronomyutils;
+
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@CommandLine.Command(
+		name = "serve",
+		description = "Stays resident and runs the commands sent by clients over a Unix domain socket"
+)
+public class ServeCommand implements Callable<Integer> {
+
+	@CommandLine.Spec
+	private CommandLine.Model.CommandSpec spec;
+
+	@CommandLine.Option(
+			names = {"-s", "--socket"},
+			required = true,
+			description = "Path of the Unix domain socket to listen on"
+	)
+	private Path socket;
+
+	@CommandLine.Option(
+			names = {"-c", "--catalog"},
+			description = "Mapped star catalogs opened up front and shared by every request, the only ones requests can locate"
+	)
+	private List<Path> catalogs = List.of();
+
+	@CommandLine.Option(
+			names = {"--threads"},
+			description = "Number of requests handled at the same time, the number of processors when omitted"
+	)
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	@Override
+	public Integer call() throws IOException {
+		DaemonServer server = new DaemonServer(socket, threads);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				server.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}));
+		for (Path catalog : catalogs) {
+			server.loadCatalog(catalog);
+		}
+		spec.commandLine().getErr().println("Listening on " + socket);
+		server.serve();
+		return 0;
+	}
+}
@@ -0,0 +1,236 @@
+package com.molecode.astronomyutils;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills rasters with the sky coordinates seen through every pixel of an all-sky map centred on the zenith, with north
+ * at the top and east on the left, as seen looking up. Rasters are primitive arrays laid out row by row, the pixel at
+ * column c of row r being at index {@code r * width + c}; pixels outside the field of view are set to NaN.
+ * <p>
+ * The projection plane offsets of the pixel centres and their squares are computed once per column and once per row,
+ * so each pixel only combines them. The stereographic direction is a rational function of those offsets and needs no
+ * trigonometry; the zenithal equidistant one takes a sine and a cosine. Rows are split across a fork-join pool.
+ */
+public class SkyRasterizer {
+
+	public enum Projection {
+		/**
+		 * Distance from the centre proportional to the zenith distance, as a fisheye lens.
+		 */
+		ZENITHAL_EQUIDISTANT,
+		/**
+		 * Distance from the centre proportional to tan(zenith distance / 2), preserving shapes.
+		 */
+		STEREOGRAPHIC
+	}
+
+	private static final int ROW_BLOCK_SIZE = 8;
+
+	private final int width;
+	private final int height;
+	private final Projection projection;
+
+	// Null for Precision.EXACT, which uses the Math functions.
+	private final ApproximateTrig approximateTrig;
+
+	private final ForkJoinPool forkJoinPool;
+
+	// Projection plane offsets of the pixel centres, in radians of zenith distance for the equidistant projection and
+	// in units of tan(zenith distance / 2) for the stereographic one, x growing westwards and y northwards.
+	private final double[] columnOffsets;
+	private final double[] columnOffsetSquares;
+	private final double[] rowOffsets;
+	private final double[] rowOffsetSquares;
+	private final double maxRadiusSquare;
+
+	/**
+	 * @param fieldOfView diameter in degrees of the field of view, within (0, 360), spanning the smaller of the
+	 *                    width and the height; 180 shows the sky down to the horizon
+	 */
+	public SkyRasterizer(int width, int height, Projection projection, double fieldOfView) {
+		this(width, height, projection, fieldOfView, Precision.EXACT, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param precision accuracy of the rasterized coordinates, coarser ones being computed faster
+	 */
+	public SkyRasterizer(int width, int height, Projection projection, double fieldOfView, Precision precision, ForkJoinPool forkJoinPool) {
+		if (width <= 0 || height <= 0) {
+			throw new IllegalArgumentException(String.format("Raster size should be positive: %d x %d.", width, height));
+		}
+		if (!(fieldOfView > 0 && fieldOfView < 360)) {
+			throw new IllegalArgumentException("Field of view should be within (0, 360) degrees: " + fieldOfView);
+		}
+		this.width = width;
+		this.height = height;
+		this.projection = projection;
+		this.approximateTrig = precision == Precision.EXACT ? null : ApproximateTrig.of(precision);
+		this.forkJoinPool = forkJoinPool;
+
+		double maxRadius = projection == Projection.STEREOGRAPHIC
+				? Math.tan(Math.toRadians(fieldOfView / 4))
+				: Math.toRadians(fieldOfView / 2);
+		double scale = maxRadius / (Math.min(width, height) / 2.0);
+		this.maxRadiusSquare = maxRadius * maxRadius;
+		this.columnOffsets = new double[width];
+		this.columnOffsetSquares = new double[width];
+		for (int column = 0; column < width; column++) {
+			columnOffsets[column] = (column + 0.5 - width / 2.0) * scale;
+			columnOffsetSquares[column] = columnOffsets[column] * columnOffsets[column];
+		}
+		this.rowOffsets = new double[height];
+		this.rowOffsetSquares = new double[height];
+		for (int row = 0; row < height; row++) {
+			rowOffsets[row] = (height / 2.0 - row - 0.5) * scale;
+			rowOffsetSquares[row] = rowOffsets[row] * rowOffsets[row];
+		}
+	}
+
+	public int getWidth() {
+		return width;
+	}
+
+	public int getHeight() {
+		return height;
+	}
+
+	public Projection getProjection() {
+		return projection;
+	}
+
+	/**
+	 * Writes the altitude and azimuth degree values of every pixel. Altitudes are apparent ones, as the map shows
+	 * the sky.
+	 */
+	public void rasterizeHorizontal(double[] altitudeValues, double[] azimuthValues) {
+		validateRasterLength(altitudeValues.length, azimuthValues.length);
+		forkJoinPool.invoke(new RasterizeAction(null, altitudeValues, azimuthValues, null, null, 0, height));
+	}
+
+	public void rasterizeHorizontal(float[] altitudeValues, float[] azimuthValues) {
+		validateRasterLength(altitudeValues.length, azimuthValues.length);
+		forkJoinPool.invoke(new RasterizeAction(null, null, null, altitudeValues, azimuthValues, 0, height));
+	}
+
+	/**
+	 * Writes the right ascension and declination degree values of every pixel seen at the given context, in the same
+	 * frame as the stars it locates and accounting for its refraction.
+	 */
+	public void rasterizeEquatorial(ObservingContext observingContext, double[] raDegreeValues, double[] decDegreeValues) {
+		validateRasterLength(raDegreeValues.length, decDegreeValues.length);
+		forkJoinPool.invoke(new RasterizeAction(observingContext, raDegreeValues, decDegreeValues, null, null, 0, height));
+	}
+
+	public void rasterizeEquatorial(ObservingContext observingContext, float[] raDegreeValues, float[] decDegreeValues) {
+		validateRasterLength(raDegreeValues.length, decDegreeValues.length);
+		forkJoinPool.invoke(new RasterizeAction(observingContext, null, null, raDegreeValues, decDegreeValues, 0, height));
+	}
+
+	/**
+	 * Rasterizes one row into the first and second values at {@code offset}, horizontal coordinates when the context
+	 * is {@code null}, equatorial ones otherwise.
+	 */
+	private void rasterizeRow(int row, ObservingContext observingContext, double[] firstValues, double[] secondValues, int offset) {
+		double rowOffset = rowOffsets[row];
+		double rowOffsetSquare = rowOffsetSquares[row];
+		boolean stereographic = projection == Projection.STEREOGRAPHIC;
+		for (int column = 0; column < width; column++) {
+			int index = offset + column;
+			double radiusSquare = columnOffsetSquares[column] + rowOffsetSquare;
+			if (radiusSquare > maxRadiusSquare) {
+				firstValues[index] = Double.NaN;
+				secondValues[index] = Double.NaN;
+				continue;
+			}
+			double columnOffset = columnOffsets[column];
+			if (observingContext == null) {
+				double zenithDistance = stereographic
+						? 2 * angle(Math.sqrt(radiusSquare), 1)
+						: Math.toDegrees(Math.sqrt(radiusSquare));
+				firstValues[index] = 90 - zenithDistance;
+				double azimuthValue = angle(-columnOffset, rowOffset);
+				secondValues[index] = azimuthValue < 0 ? azimuthValue + 360 : azimuthValue;
+				continue;
+			}
+			// Up component and sin(zenith distance) / radius, which scales the offsets to the north and east components.
+			double up;
+			double horizontalScale;
+			if (stereographic) {
+				double inverse = 1 / (1 + radiusSquare);
+				up = (1 - radiusSquare) * inverse;
+				horizontalScale = 2 * inverse;
+			} else {
+				double radius = Math.sqrt(radiusSquare);
+				double radiusDegrees = Math.toDegrees(radius);
+				up = approximateTrig == null ? Math.cos(radius) : approximateTrig.cos(radiusDegrees);
+				horizontalScale = radius == 0 ? 1 : (approximateTrig == null ? Math.sin(radius) : approximateTrig.sin(radiusDegrees)) / radius;
+			}
+			observingContext.toEquatorial(horizontalScale * rowOffset, -horizontalScale * columnOffset, up, approximateTrig,
+					firstValues, secondValues, index);
+		}
+	}
+
+	private double angle(double y, double x) {
+		return approximateTrig == null ? Math.toDegrees(Math.atan2(y, x)) : approximateTrig.atan2(y, x);
+	}
+
+	private void validateRasterLength(int firstLength, int secondLength) {
+		long size = (long) width * height;
+		if (firstLength < size || secondLength < size) {
+			throw new IllegalArgumentException(String.format(
+					"Length of rasters are not consistent: expected %d, got %d, %d.", size, firstLength, secondLength));
+		}
+	}
+
+	private class RasterizeAction extends RecursiveAction {
+
+		private final ObservingContext observingContext;
+		// Either the double or the float rasters are set.
+		private final double[] firstValues;
+		private final double[] secondValues;
+		private final float[] firstFloatValues;
+		private final float[] secondFloatValues;
+		private final int fromRow;
+		private final int toRow;
+
+		private RasterizeAction(ObservingContext observingContext, double[] firstValues, double[] secondValues,
+				float[] firstFloatValues, float[] secondFloatValues, int fromRow, int toRow) {
+			this.observingContext = observingContext;
+			this.firstValues = firstValues;
+			this.secondValues = secondValues;
+			this.firstFloatValues = firstFloatValues;
+			this.secondFloatValues = secondFloatValues;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+		}
+
+		@Override
+		protected void compute() {
+			if (toRow - fromRow > ROW_BLOCK_SIZE) {
+				int middleRow = (fromRow + toRow) >>> 1;
+				invokeAll(
+						new RasterizeAction(observingContext, firstValues, secondValues, firstFloatValues, secondFloatValues, fromRow, middleRow),
+						new RasterizeAction(observingContext, firstValues, secondValues, firstFloatValues, secondFloatValues, middleRow, toRow)
+				);
+				return;
+			}
+			if (firstValues != null) {
+				for (int row = fromRow; row < toRow; row++) {
+					rasterizeRow(row, observingContext, firstValues, secondValues, row * width);
+				}
+				return;
+			}
+			double[] firstRowValues = new double[width];
+			double[] secondRowValues = new double[width];
+			for (int row = fromRow; row < toRow; row++) {
+				rasterizeRow(row, observingContext, firstRowValues, secondRowValues, 0);
+				int offset = row * width;
+				for (int column = 0; column < width; column++) {
+					firstFloatValues[offset + column] = (float) firstRowValues[column];
+					secondFloatValues[offset + column] = (float) secondRowValues[column];
+				}
+			}
+		}
+	}
+}
@@ -1,9 +1,12 @@
 package com.molecode.astronomyutils;
 
+import com.molecode.astronomyutils.catalog.StarCatalog;
 import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
 import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
 import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -11,92 +14,392 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
-import static java.lang.Math.asin;
-import static java.lang.Math.atan2;
-import static java.lang.Math.cos;
-import static java.lang.Math.sin;
-import static java.lang.Math.toDegrees;
-import static java.lang.Math.toRadians;
-
 public class StarLocator {
 
+	static final double SIDEREAL_DEGREES_PER_DAY = 360.98564736629;
+
+	private static final long SECONDS_PER_DAY = 86_400;
+
+	private static final double NANOS_PER_DAY = 86_400_000_000_000.0;
+
+	private static final long NANOS_PER_SECOND = 1_000_000_000;
+
+	// Longest span of a series located from one J2000 rotation, over which the rotation moves by a few milliarcseconds.
+	private static final long SERIES_RUN_NANOS = 3_600 * NANOS_PER_SECOND;
+
+	// 2000-01-01T12:00:00Z, i.e. Julian date 2451545.0
+	static final long J2000_EPOCH_SECOND = 946_728_000;
+
 	private final ZoneId zoneId;
 
 	private final GeographicCoordinate observingLocation;
 
+	private final double sinLatitude;
+	private final double cosLatitude;
+
+	private final boolean cachingObservingContext;
+
+	private final Precision precision;
+
+	private final PrecessionNutation precessionNutation;
+
+	private final AtmosphericRefraction atmosphericRefraction;
+
+	private final HorizonMask horizonMask;
+
+	private final TimeScales timeScales;
+
+	private volatile CachedObservingContext lastObservingContext;
+
 	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation) {
+		this(zoneId, observingLocation, false);
+	}
+
+	/**
+	 * @param cachingObservingContext whether to keep the last computed local sidereal time, so that consecutive lookups
+	 *                                at the same instant reuse it instead of recomputing it
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext) {
+		this(zoneId, observingLocation, cachingObservingContext, Precision.EXACT);
+	}
+
+	/**
+	 * @param precision accuracy of the located altitudes and azimuths, coarser ones being computed faster
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext, Precision precision) {
+		this(zoneId, observingLocation, cachingObservingContext, precision, null);
+	}
+
+	/**
+	 * @param precessionNutation rotation applied to every located star, which are then given as J2000 coordinates, or
+	 *                           {@code null} when they are given as coordinates of date
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext, Precision precision,
+					   PrecessionNutation precessionNutation) {
+		this(zoneId, observingLocation, cachingObservingContext, precision, precessionNutation, null);
+	}
+
+	/**
+	 * @param atmosphericRefraction refraction added to every located altitude, which are then apparent altitudes, or
+	 *                              {@code null} to keep them geometric
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext, Precision precision,
+					   PrecessionNutation precessionNutation, AtmosphericRefraction atmosphericRefraction) {
+		this(zoneId, observingLocation, cachingObservingContext, precision, precessionNutation, atmosphericRefraction, null);
+	}
+
+	/**
+	 * @param horizonMask local horizon of the observing location, hiding the stars below it from the visibility
+	 *                    queries, or {@code null} for a flat horizon at altitude 0
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext, Precision precision,
+					   PrecessionNutation precessionNutation, AtmosphericRefraction atmosphericRefraction, HorizonMask horizonMask) {
+		this(zoneId, observingLocation, cachingObservingContext, precision, precessionNutation, atmosphericRefraction, horizonMask, null);
+	}
+
+	/**
+	 * @param timeScales UT1 - UTC applied to the sidereal time, such as {@link TimeScales#load(java.nio.file.Path, java.nio.file.Path)
+	 *                   loaded} from recent IERS data, or {@code null} for {@link TimeScales#getDefault()}
+	 */
+	public StarLocator(ZoneId zoneId, GeographicCoordinate observingLocation, boolean cachingObservingContext, Precision precision,
+					   PrecessionNutation precessionNutation, AtmosphericRefraction atmosphericRefraction, HorizonMask horizonMask,
+					   TimeScales timeScales) {
 		this.zoneId = zoneId;
 		this.observingLocation = observingLocation;
+		double latitudeRadians = Math.toRadians(observingLocation.getLatDegreeValue());
+		this.sinLatitude = Math.sin(latitudeRadians);
+		this.cosLatitude = Math.cos(latitudeRadians);
+		this.cachingObservingContext = cachingObservingContext;
+		this.precision = precision;
+		this.precessionNutation = precessionNutation;
+		this.atmosphericRefraction = atmosphericRefraction;
+		this.horizonMask = horizonMask;
+		this.timeScales = timeScales == null ? TimeScales.getDefault() : timeScales;
 	}
 
 	public HorizontalCoordinate locateStar(LocalDateTime localDateTime, EquatorialCoordinate starEqCoordinate) {
-		double localSiderealTime = calculateLocalSiderealTime(ZonedDateTime.of(localDateTime, zoneId), observingLocation.getLongDegreeValue());
-		double localHourAngle = localSiderealTime - starEqCoordinate.getRaDegreeValue();
+		return createObservingContext(localDateTime).locateStar(starEqCoordinate);
+	}
 
-		double observingLatitudeValue = observingLocation.getLatDegreeValue();
-		double declinationRadians = starEqCoordinate.getDeclination().toRadians();
+	public HorizontalCoordinate locateStar(Instant instant, EquatorialCoordinate starEqCoordinate) {
+		return createObservingContext(instant).locateStar(starEqCoordinate);
+	}
 
-		double altitudeValue = toDegrees(
-				asin(
-						sin(declinationRadians) * sin(toRadians(observingLatitudeValue)) + cos(declinationRadians) * cos(toRadians(observingLatitudeValue)) * cos(toRadians(localHourAngle))
-				)
-		);
-		double azimuthValue = toDegrees(
-				- atan2(
-						cos(declinationRadians) * sin(toRadians(localHourAngle)),
-						- sin(toRadians(observingLatitudeValue)) * cos(declinationRadians) * cos(toRadians(localHourAngle)) + cos(toRadians(observingLatitudeValue)) * sin(declinationRadians)
-				)
-		);
-		if (azimuthValue < 0) {
-			azimuthValue += 360;
+	public HorizontalCoordinate locateStar(long epochNanos, EquatorialCoordinate starEqCoordinate) {
+		return createObservingContext(epochNanos).locateStar(starEqCoordinate);
+	}
+
+	public HorizontalCoordinate locateSun(LocalDateTime localDateTime) {
+		return locateSun(ZonedDateTime.of(localDateTime, zoneId).toInstant());
+	}
+
+	/**
+	 * Locates the Sun from {@link SunEphemeris}, with the precision and refraction of this locator.
+	 */
+	public HorizontalCoordinate locateSun(Instant instant) {
+		EquatorialCoordinate sunEqCoordinate = SunEphemeris.calculatePosition(instant, timeScales);
+		return createObservingContext(instant, SunEphemeris.SERIES).locateStar(sunEqCoordinate);
+	}
+
+	/**
+	 * Locates a moving body, such as one interpolated by a {@link ChebyshevEphemeris}. Positions of a series
+	 * {@link EphemerisSeries#isOfDate() of date} are used as they are, the others are taken in the same frame as the
+	 * stars given to this locator, i.e. J2000 when it applies precession and nutation.
+	 */
+	public HorizontalCoordinate locateBody(Instant instant, EphemerisSeries ephemerisSeries) {
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		ephemerisSeries.calculatePosition(EphemerisSeries.toDaysSinceJ2000(instant), raDegreeValue, decDegreeValue, 0);
+		return createObservingContext(instant, ephemerisSeries).locateStar(raDegreeValue[0], decDegreeValue[0]);
+	}
+
+	public void locateStars(LocalDateTime localDateTime, double[] raDegreeValues, double[] decDegreeValues, double[] altitudeValues, double[] azimuthValues) {
+		createObservingContext(localDateTime).locateStars(raDegreeValues, decDegreeValues, altitudeValues, azimuthValues);
+	}
+
+	public void locateStars(LocalDateTime localDateTime, StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues) {
+		createObservingContext(localDateTime).locateStars(starCatalog, altitudeValues, azimuthValues);
+	}
+
+	/**
+	 * Locates every catalog star and writes the indices of those above the horizon mask to {@code visibleIndices},
+	 * returning their number.
+	 */
+	public int locateVisibleStars(LocalDateTime localDateTime, StarCatalog starCatalog, double[] altitudeValues, double[] azimuthValues,
+								  int[] visibleIndices) {
+		return createObservingContext(localDateTime).locateVisibleStars(starCatalog, altitudeValues, azimuthValues, visibleIndices);
+	}
+
+	/**
+	 * Locates the star at {@code count} evenly spaced instants starting from {@code startDateTime}, writing altitude
+	 * and azimuth degree values of the i-th instant into index i of the caller supplied arrays.
+	 */
+	public void locateStarOverTime(LocalDateTime startDateTime, Duration step, int count, EquatorialCoordinate starEqCoordinate,
+			double[] altitudeValues, double[] azimuthValues) {
+		createObservingSeries(ZonedDateTime.of(startDateTime, zoneId).toInstant(), step, count)
+				.locateStar(starEqCoordinate.getRaDegreeValue(), starEqCoordinate.getDecDegreeValue(), altitudeValues, azimuthValues);
+	}
+
+	/**
+	 * Creates the observing contexts of {@code count} instants evenly spaced by {@code step} from {@code start}. Without
+	 * precession and nutation, a single context advanced by the sidereal step covers the whole series.
+	 */
+	ObservingSeries createObservingSeries(Instant start, Duration step, int count) {
+		int runLength = Math.max(count, 1);
+		if (precessionNutation != null) {
+			long stepNanos = Math.abs(step.toNanos());
+			long stepsPerRun = stepNanos == 0 ? Long.MAX_VALUE : SERIES_RUN_NANOS / stepNanos;
+			runLength = (int) Math.max(1, Math.min(Math.min(runLength, ObservingContext.REANCHOR_INTERVAL), stepsPerRun));
+		}
+		ObservingContext[] observingContexts = new ObservingContext[Math.max(1, (count + runLength - 1) / runLength)];
+		for (int r = 0; r < observingContexts.length; r++) {
+			observingContexts[r] = createObservingContext(start.plus(step.multipliedBy((long) r * runLength)));
+		}
+		return new ObservingSeries(observingContexts, runLength, count, calculateSiderealStep(start, step, count, timeScales));
+	}
+
+	private ObservingContext createObservingContext(Instant instant, EphemerisSeries ephemerisSeries) {
+		if (precessionNutation == null || !ephemerisSeries.isOfDate()) {
+			return createObservingContext(instant);
 		}
+		// Coordinates of the mean equinox of date must not be rotated from J2000 again.
+		double localSiderealTime = reduceAngle(calculateLocalSiderealTime(instant.getEpochSecond(), instant.getNano(), observingLocation.getLongDegreeValue(), timeScales));
+		return new ObservingContext(localSiderealTime, sinLatitude, cosLatitude, precision, null,
+				atmosphericRefraction == null ? null : atmosphericRefraction.getTable(), horizonMask);
+	}
+
+	public ObservingContext createObservingContext(LocalDateTime localDateTime) {
+		return createObservingContext(ZonedDateTime.of(localDateTime, zoneId).toInstant());
+	}
 
-		return new HorizontalCoordinate(altitudeValue, azimuthValue);
+	public ObservingContext createObservingContext(Instant instant) {
+		return createObservingContext(instant.getEpochSecond(), instant.getNano());
+	}
+
+	public ObservingContext createObservingContext(long epochNanos) {
+		return createObservingContext(Math.floorDiv(epochNanos, NANOS_PER_SECOND), (int) Math.floorMod(epochNanos, NANOS_PER_SECOND));
+	}
+
+	ObservingContext createObservingContext(long epochSecond, int nanoOfSecond) {
+		if (!cachingObservingContext) {
+			return newObservingContext(epochSecond, nanoOfSecond);
+		}
+		CachedObservingContext cached = lastObservingContext;
+		if (cached != null && cached.epochSecond == epochSecond && cached.nanoOfSecond == nanoOfSecond
+				&& (atmosphericRefraction == null || cached.observingContext.getRefractionTable() == atmosphericRefraction.getTable())) {
+			return cached.observingContext;
+		}
+		ObservingContext observingContext = newObservingContext(epochSecond, nanoOfSecond);
+		lastObservingContext = new CachedObservingContext(epochSecond, nanoOfSecond, observingContext);
+		return observingContext;
+	}
+
+	private ObservingContext newObservingContext(long epochSecond, int nanoOfSecond) {
+		double localSiderealTime = calculateLocalSiderealTime(epochSecond, nanoOfSecond, observingLocation.getLongDegreeValue(), timeScales);
+		if (precessionNutation != null) {
+			// True coordinates of date are measured from the true equinox, i.e. against apparent sidereal time.
+			localSiderealTime += precessionNutation.getEquationOfEquinoxes(epochSecond);
+		}
+		localSiderealTime = reduceAngle(localSiderealTime);
+		return new ObservingContext(localSiderealTime, sinLatitude, cosLatitude, precision,
+				precessionNutation == null ? null : precessionNutation.getMatrix(epochSecond),
+				atmosphericRefraction == null ? null : atmosphericRefraction.getTable(), horizonMask);
 	}
 
 	public LocalDateTime calculateMeridianTime(LocalDate localDate, EquatorialCoordinate starEqCoordinate) {
 		LocalDateTime localDateTime = LocalDateTime.of(localDate, LocalTime.of(23, 0, 0));
-		double julianDate = calculateJulianDate(ZonedDateTime.of(localDateTime, zoneId));
+		double julianDate = calculateJulianDate(ZonedDateTime.of(localDateTime, zoneId), timeScales);
 		double t = calculateT(julianDate);
-		double referenceLocalSiderealTime = reduceAngle(calculateLocalSiderealTime(julianDate, t, observingLocation.getLongDegreeValue()));
+		double referenceLocalSiderealTime = calculateLocalSiderealTime(julianDate, t, observingLocation.getLongDegreeValue());
+		Instant instant = ZonedDateTime.of(localDateTime, zoneId).toInstant();
+		if (precessionNutation != null) {
+			referenceLocalSiderealTime += precessionNutation.getEquationOfEquinoxes(instant.getEpochSecond());
+		}
+		referenceLocalSiderealTime = reduceAngle(referenceLocalSiderealTime);
+		starEqCoordinate = toCoordinateOfDate(instant, starEqCoordinate);
 
 		double intervalInSiderealTime = (starEqCoordinate.getRaDegreeValue() - referenceLocalSiderealTime) / 15 * 3600 * 1000_000_000;
 		double intervalInSolarTime = intervalInSiderealTime / (1.002_737_909_350_795 + 5.900_6 * Math.pow(10, -11) * t - 5.9 * Math.pow(10, -15) * t * t);
 		return localDateTime.plusNanos((long) intervalInSolarTime);
 	}
 
-	private static double calculateLocalSiderealTime(ZonedDateTime zonedLocalTime, double longitude) {
-		double julianDate = calculateJulianDate(zonedLocalTime);
-		return calculateLocalSiderealTime(julianDate, calculateT(julianDate), longitude);
+	/**
+	 * Calculates the meridian transit of the star closest to {@code referenceDateTime}.
+	 */
+	public LocalDateTime calculateMeridianTime(LocalDateTime referenceDateTime, EquatorialCoordinate starEqCoordinate) {
+		Instant referenceInstant = ZonedDateTime.of(referenceDateTime, zoneId).toInstant();
+		starEqCoordinate = toCoordinateOfDate(referenceInstant, starEqCoordinate);
+		double localSiderealTime = createObservingContext(referenceInstant).getLocalSiderealTime();
+		double transitOffset = calculateTransitOffset(starEqCoordinate.getRaDegreeValue(), localSiderealTime);
+		return LocalDateTime.ofInstant(plusDays(referenceInstant, transitOffset), zoneId);
+	}
+
+	/**
+	 * Calculates when the star crosses {@code horizonAltitude} degrees and the meridian during the night starting on
+	 * {@code nightDate}, i.e. around the transit closest to the following midnight. Rise and set are empty for
+	 * circumpolar stars and for stars that never rise above the given altitude.
+	 */
+	public RiseTransitSet calculateRiseTransitSet(LocalDate nightDate, EquatorialCoordinate starEqCoordinate, double horizonAltitude) {
+		Instant referenceInstant = ZonedDateTime.of(nightDate.plusDays(1), LocalTime.MIDNIGHT, zoneId).toInstant();
+		starEqCoordinate = toCoordinateOfDate(referenceInstant, starEqCoordinate);
+		double localSiderealTime = createObservingContext(referenceInstant).getLocalSiderealTime();
+		double transitOffset = calculateTransitOffset(starEqCoordinate.getRaDegreeValue(), localSiderealTime);
+		LocalDateTime transitTime = LocalDateTime.ofInstant(plusDays(referenceInstant, transitOffset), zoneId);
+
+		double cosSemiDiurnalArc = calculateCosSemiDiurnalArc(starEqCoordinate.getDecDegreeValue(), sinLatitude, cosLatitude, horizonAltitude);
+		if (cosSemiDiurnalArc < -1) {
+			return new RiseTransitSet(RiseTransitSet.Visibility.CIRCUMPOLAR, null, transitTime, null);
+		}
+		if (cosSemiDiurnalArc > 1) {
+			return new RiseTransitSet(RiseTransitSet.Visibility.NEVER_RISES, null, transitTime, null);
+		}
+		double semiDiurnalArc = Math.toDegrees(Math.acos(cosSemiDiurnalArc)) / SIDEREAL_DEGREES_PER_DAY;
+		return new RiseTransitSet(
+				RiseTransitSet.Visibility.RISES_AND_SETS,
+				LocalDateTime.ofInstant(plusDays(referenceInstant, transitOffset - semiDiurnalArc), zoneId),
+				transitTime,
+				LocalDateTime.ofInstant(plusDays(referenceInstant, transitOffset + semiDiurnalArc), zoneId)
+		);
+	}
+
+	private EquatorialCoordinate toCoordinateOfDate(Instant instant, EquatorialCoordinate starEqCoordinate) {
+		return precessionNutation == null ? starEqCoordinate : precessionNutation.toCoordinateOfDate(instant, starEqCoordinate);
+	}
+
+	/**
+	 * Days from an instant of the given local sidereal time to the closest transit of the given right ascension.
+	 */
+	static double calculateTransitOffset(double raDegreeValue, double localSiderealTime) {
+		double hourAngle = reduceAngle(raDegreeValue - localSiderealTime);
+		if (hourAngle > 180) {
+			hourAngle -= 360;
+		}
+		return hourAngle / SIDEREAL_DEGREES_PER_DAY;
+	}
+
+	/**
+	 * Cosine of the hour angle at which a star of the given declination crosses {@code horizonAltitude}, less than -1
+	 * when it stays above it and greater than 1 when it stays below it.
+	 */
+	static double calculateCosSemiDiurnalArc(double decDegreeValue, double sinLatitude, double cosLatitude, double horizonAltitude) {
+		double declinationRadians = Math.toRadians(decDegreeValue);
+		return (Math.sin(Math.toRadians(horizonAltitude)) - sinLatitude * Math.sin(declinationRadians)) / (cosLatitude * Math.cos(declinationRadians));
+	}
+
+	/**
+	 * Sidereal degrees elapsed per step of a series of {@code count} UTC instants, including the drift of UT1 - UTC
+	 * over the series.
+	 */
+	static double calculateSiderealStep(Instant start, Duration step, int count, TimeScales timeScales) {
+		double stepNanos = step.toNanos();
+		if (count > 1) {
+			Instant end = start.plus(step.multipliedBy(count - 1));
+			stepNanos += (timeScales.getOffset(TimeScales.Scale.UT1, end) - timeScales.getOffset(TimeScales.Scale.UT1, start)) / (count - 1) * NANOS_PER_SECOND;
+		}
+		return SIDEREAL_DEGREES_PER_DAY * stepNanos / NANOS_PER_DAY;
+	}
+
+	private static Instant plusDays(Instant instant, double days) {
+		return instant.plusNanos(Math.round(days * NANOS_PER_DAY));
+	}
+
+	/**
+	 * Same series as {@link #calculateLocalSiderealTime(double, double, double)}, evaluated directly from the epoch
+	 * offset. Whole days are split off first, as they only contribute the slow 0.9856º/day drift, which keeps
+	 * sub-second precision that a single Julian date double would lose. The UTC instant is moved to UT1 first.
+	 */
+	static double calculateLocalSiderealTime(long epochSecond, int nanoOfSecond, double longitude, TimeScales timeScales) {
+		long secondsSinceJ2000 = epochSecond - J2000_EPOCH_SECOND;
+		long wholeDays = Math.floorDiv(secondsSinceJ2000, SECONDS_PER_DAY);
+		double ut1MinusUtc = timeScales.getOffset(TimeScales.Scale.UT1, epochSecond, nanoOfSecond);
+		double dayFraction = (Math.floorMod(secondsSinceJ2000, SECONDS_PER_DAY) + nanoOfSecond / (double) NANOS_PER_SECOND + ut1MinusUtc) / SECONDS_PER_DAY;
+		double days = wholeDays + dayFraction;
+		double t = days / 36525;
+		double theta0 = 280.46061837 + 360 * dayFraction + (SIDEREAL_DEGREES_PER_DAY - 360) * days + 0.000387933 * t * t - t * t * t / 38710000.0;
+		return theta0 + longitude;
 	}
 
 	private static double calculateLocalSiderealTime(double julianDate, double t, double longitude) {
-		double theta0 = 280.46061837 + 360.98564736629 * (julianDate - 2451545.0) + 0.000387933 * t * t - t * t * t / 38710000.0;
+		double theta0 = 280.46061837 + SIDEREAL_DEGREES_PER_DAY * (julianDate - 2451545.0) + 0.000387933 * t * t - t * t * t / 38710000.0;
 		return theta0 + longitude;
 	}
 
-	private static double calculateJulianDate(ZonedDateTime zonedDateTime) {
+	private static double calculateJulianDate(ZonedDateTime zonedDateTime, TimeScales timeScales) {
 		ZonedDateTime utc = zonedDateTime.withZoneSameInstant(ZoneOffset.UTC);
 		int year = utc.getYear();
 		int month = utc.getMonth().getValue();
 		int day = utc.getDayOfMonth();
 		double hour = utc.getHour();
 		double minute = utc.getMinute();
-		double second = utc.getSecond();
+		double second = utc.getSecond() + utc.getNano() / (double) NANOS_PER_SECOND;
 
 		double julianDayNumber = 1461 * (year + 4800 + (month - 14)/12)/4 +
 				367 * (month - 2 - 12 * ((month - 14)/12))/12 -
 				3 * ((year + 4900 + (month - 14)/12)/100)/4 +
 				day - 32075;
 
-		return julianDayNumber + (hour - 12) / 24 + minute / 1440 + second / 86400;
+		double ut1MinusUtc = timeScales.getOffset(TimeScales.Scale.UT1, zonedDateTime.toInstant());
+		return julianDayNumber + (hour - 12) / 24 + minute / 1440 + (second + ut1MinusUtc) / 86400;
 	}
 
 	private static double calculateT(double julianDate) {
 		return (julianDate - 2451545.0) / 36525;
 	}
 
-	private static double reduceAngle(double originalValue) {
+	private static class CachedObservingContext {
+
+		private final long epochSecond;
+		private final int nanoOfSecond;
+		private final ObservingContext observingContext;
+
+		private CachedObservingContext(long epochSecond, int nanoOfSecond, ObservingContext observingContext) {
+			this.epochSecond = epochSecond;
+			this.nanoOfSecond = nanoOfSecond;
+			this.observingContext = observingContext;
+		}
+	}
+
+	static double reduceAngle(double originalValue) {
 		double reducedValue = originalValue % 360;
 		if (reducedValue < 0) {
 			reducedValue += 360;
@@ -0,0 +1,584 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.CsvLayout;
+import com.molecode.astronomyutils.catalog.MappedStarCatalog;
+import com.molecode.astronomyutils.catalog.StarCatalog;
+import com.molecode.astronomyutils.coordinates.CoordinateFormatter;
+import com.molecode.astronomyutils.coordinates.SexagesimalParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Locates stars read row by row from CSV or NDJSON input and writes their altitude and azimuth to the output. Rows are
+ * located in fixed size chunks through the batch path, so memory use does not depend on the input size.
+ * <p>
+ * Each row carries {@code ra} and {@code dec} as degree values or sexagesimal angles, an optional {@code id} copied
+ * to the output and, unless a fixed instant is given, a {@code time} as an ISO-8601 instant. CSV input starts with a
+ * header row naming its columns; NDJSON input has one flat JSON object per line.
+ * <p>
+ * Lines are read into a reused buffer and their fields parsed in place, so that locating a row allocates nothing
+ * beyond the output.
+ */
+public class StreamingLocator {
+
+	public enum Format {
+		CSV,
+		NDJSON
+	}
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private final StarLocator starLocator;
+	private final Format format;
+	private final Instant fixedInstant;
+	private final int fractionDigits;
+
+	private final double[] raDegreeValues;
+	private final double[] decDegreeValues;
+	private final double[] altitudeValues;
+	private final double[] azimuthValues;
+	private final long[] epochSeconds;
+	private final int[] nanoOfSeconds;
+
+	// Ids and times of the chunk rows are copied into texts, bounds of -1 marking a missing value.
+	private final StringBuilder texts;
+	private final int[] idStarts;
+	private final int[] idEnds;
+	private final int[] timeStarts;
+	private final int[] timeEnds;
+
+	private final char[] readBuffer = new char[READ_BUFFER_SIZE];
+	private int readPosition;
+	private int readLimit;
+	private final StringBuilder line = new StringBuilder(256);
+	private final StringBuilder jsonKey = new StringBuilder(16);
+	private final StringBuilder jsonValue = new StringBuilder(32);
+
+	private final StringBuilder rowBuilder = new StringBuilder(128);
+
+	/**
+	 * @param fixedInstant instant at which every row is located, or {@code null} to read it from each row
+	 */
+	public StreamingLocator(StarLocator starLocator, Format format, Instant fixedInstant, int chunkSize) {
+		this(starLocator, format, fixedInstant, chunkSize, -1);
+	}
+
+	/**
+	 * @param fractionDigits number of fraction digits of the written angles, or -1 to write them in full as
+	 *                       {@link Double#toString(double)} does
+	 */
+	public StreamingLocator(StarLocator starLocator, Format format, Instant fixedInstant, int chunkSize, int fractionDigits) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("Chunk size should be positive: " + chunkSize);
+		}
+		this.starLocator = starLocator;
+		this.format = format;
+		if (fractionDigits < -1 || fractionDigits > CoordinateFormatter.MAX_FRACTION_DIGITS) {
+			throw new IllegalArgumentException("Fraction digits should be between -1 and " + CoordinateFormatter.MAX_FRACTION_DIGITS + ": " + fractionDigits);
+		}
+		this.fixedInstant = fixedInstant;
+		this.fractionDigits = fractionDigits;
+		this.raDegreeValues = new double[chunkSize];
+		this.decDegreeValues = new double[chunkSize];
+		this.altitudeValues = new double[chunkSize];
+		this.azimuthValues = new double[chunkSize];
+		this.epochSeconds = new long[chunkSize];
+		this.nanoOfSeconds = new int[chunkSize];
+		this.texts = new StringBuilder(Math.min(chunkSize, 1 << 16) * 32);
+		this.idStarts = new int[chunkSize];
+		this.idEnds = new int[chunkSize];
+		this.timeStarts = new int[chunkSize];
+		this.timeEnds = new int[chunkSize];
+	}
+
+	/**
+	 * Locates every row of the input, returning the number of rows written.
+	 */
+	public long locate(BufferedReader reader, Writer writer) throws IOException {
+		readPosition = 0;
+		readLimit = 0;
+		texts.setLength(0);
+		CsvLayout csvLayout = null;
+		int[] columnBounds = null;
+		int lineNumber = 0;
+		if (format == Format.CSV) {
+			csvLayout = CsvLayout.of(readLine(reader) ? line.toString() : null, "time");
+			columnBounds = csvLayout.createColumnBounds();
+			lineNumber++;
+			writeHeader(writer, csvLayout.getIdColumn() >= 0, fixedInstant == null && csvLayout.getExtraColumn() >= 0);
+		}
+
+		long rowCount = 0;
+		int chunkLength = 0;
+		while (readLine(reader)) {
+			lineNumber++;
+			if (isBlank(line, 0, line.length())) {
+				continue;
+			}
+			try {
+				if (format == Format.CSV) {
+					readCsvRow(csvLayout, columnBounds, chunkLength);
+				} else {
+					readJsonRow(chunkLength);
+				}
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException(String.format("Malformed row at line %d: %s", lineNumber, line), e);
+			}
+			if (++chunkLength == raDegreeValues.length) {
+				writeChunk(writer, chunkLength);
+				rowCount += chunkLength;
+				chunkLength = 0;
+			}
+		}
+		if (chunkLength > 0) {
+			writeChunk(writer, chunkLength);
+			rowCount += chunkLength;
+		}
+		writer.flush();
+		return rowCount;
+	}
+
+	/**
+	 * Locates every star of the catalog at the fixed instant, returning the number of rows written. Rows carry the
+	 * catalog ids when it has them.
+	 */
+	public long locate(StarCatalog starCatalog, Writer writer) throws IOException {
+		if (fixedInstant == null) {
+			throw new IllegalStateException("Locating a catalog requires a fixed instant.");
+		}
+		MappedStarCatalog idCatalog = starCatalog instanceof MappedStarCatalog && ((MappedStarCatalog) starCatalog).hasIds()
+				? (MappedStarCatalog) starCatalog
+				: null;
+		writeHeader(writer, idCatalog != null, false);
+
+		ObservingContext observingContext = starLocator.createObservingContext(fixedInstant);
+		int size = starCatalog.size();
+		for (int from = 0; from < size; from += raDegreeValues.length) {
+			int chunkLength = Math.min(raDegreeValues.length, size - from);
+			texts.setLength(0);
+			for (int i = 0; i < chunkLength; i++) {
+				raDegreeValues[i] = starCatalog.getRaDegreeValue(from + i);
+				decDegreeValues[i] = starCatalog.getDecDegreeValue(from + i);
+				if (idCatalog == null) {
+					idStarts[i] = -1;
+				} else {
+					idStarts[i] = texts.length();
+					idEnds[i] = texts.append(idCatalog.getId(from + i)).length();
+				}
+				timeStarts[i] = -1;
+			}
+			observingContext.locateStars(raDegreeValues, decDegreeValues, 0, chunkLength, altitudeValues, azimuthValues);
+			writeRows(writer, chunkLength);
+		}
+		writer.flush();
+		return size;
+	}
+
+	/**
+	 * Reads the next line into {@link #line}, without its line break, returning false at the end of the input.
+	 */
+	private boolean readLine(Reader reader) throws IOException {
+		line.setLength(0);
+		while (true) {
+			if (readPosition == readLimit) {
+				readLimit = Math.max(reader.read(readBuffer, 0, readBuffer.length), 0);
+				readPosition = 0;
+				if (readLimit == 0) {
+					return line.length() > 0;
+				}
+			}
+			int lineStart = readPosition;
+			while (readPosition < readLimit && readBuffer[readPosition] != '\n') {
+				readPosition++;
+			}
+			line.append(readBuffer, lineStart, readPosition - lineStart);
+			if (readPosition < readLimit) {
+				readPosition++;
+				if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+					line.setLength(line.length() - 1);
+				}
+				return true;
+			}
+		}
+	}
+
+	private void readCsvRow(CsvLayout csvLayout, int[] columnBounds, int index) {
+		csvLayout.findColumns(line, 0, line.length(), columnBounds);
+		int raColumn = csvLayout.getRaColumn();
+		int decColumn = csvLayout.getDecColumn();
+		raDegreeValues[index] = SexagesimalParser.parseRightAscension(line, columnBounds[2 * raColumn], columnBounds[2 * raColumn + 1]);
+		decDegreeValues[index] = SexagesimalParser.parseDegrees(line, columnBounds[2 * decColumn], columnBounds[2 * decColumn + 1]);
+		int idColumn = csvLayout.getIdColumn();
+		if (idColumn >= 0) {
+			idStarts[index] = texts.length();
+			appendTrimmed(line, columnBounds[2 * idColumn], columnBounds[2 * idColumn + 1]);
+			idEnds[index] = texts.length();
+		} else {
+			idStarts[index] = -1;
+		}
+		timeStarts[index] = -1;
+		int timeColumn = csvLayout.getExtraColumn();
+		if (fixedInstant == null && timeColumn >= 0) {
+			timeStarts[index] = texts.length();
+			appendTrimmed(line, columnBounds[2 * timeColumn], columnBounds[2 * timeColumn + 1]);
+			timeEnds[index] = texts.length();
+		}
+		readTime(index);
+	}
+
+	/**
+	 * Reads the fields of a flat JSON object, decoding the escapes of its strings.
+	 */
+	private void readJsonRow(int index) {
+		boolean hasRa = false;
+		boolean hasDec = false;
+		idStarts[index] = -1;
+		timeStarts[index] = -1;
+		int i = skipWhitespace(line, 0);
+		expect(line, i++, '{');
+		i = skipWhitespace(line, i);
+		if (i < line.length() && line.charAt(i) == '}') {
+			i++;
+		} else {
+			while (true) {
+				expect(line, i, '"');
+				jsonKey.setLength(0);
+				i = skipWhitespace(line, readJsonString(line, i + 1, jsonKey));
+				expect(line, i, ':');
+				i = skipWhitespace(line, i + 1);
+				if (i < line.length() && (line.charAt(i) == '{' || line.charAt(i) == '[')) {
+					throw new IllegalArgumentException("Nested JSON values are not supported");
+				}
+				boolean string = i < line.length() && line.charAt(i) == '"';
+				int valueEnd = string ? -1 : findJsonScalarEnd(line, i);
+				boolean ra = "ra".contentEquals(jsonKey);
+				boolean id = "id".contentEquals(jsonKey);
+				if (ra || "dec".contentEquals(jsonKey)) {
+					CharSequence text = line;
+					int valueStart = i;
+					if (string) {
+						jsonValue.setLength(0);
+						i = readJsonString(line, i + 1, jsonValue);
+						text = jsonValue;
+						valueStart = 0;
+						valueEnd = jsonValue.length();
+					} else {
+						i = valueEnd;
+					}
+					if (ra) {
+						raDegreeValues[index] = SexagesimalParser.parseRightAscension(text, valueStart, valueEnd);
+						hasRa = true;
+					} else {
+						decDegreeValues[index] = SexagesimalParser.parseDegrees(text, valueStart, valueEnd);
+						hasDec = true;
+					}
+				} else if (id || "time".contentEquals(jsonKey)) {
+					int textStart = texts.length();
+					if (string) {
+						i = readJsonString(line, i + 1, texts);
+					} else {
+						appendTrimmed(line, i, valueEnd);
+						i = valueEnd;
+					}
+					if (id) {
+						idStarts[index] = textStart;
+						idEnds[index] = texts.length();
+					} else if (fixedInstant == null) {
+						timeStarts[index] = textStart;
+						timeEnds[index] = texts.length();
+					} else {
+						texts.setLength(textStart);
+					}
+				} else {
+					i = string ? readJsonString(line, i + 1, null) : valueEnd;
+				}
+				i = skipWhitespace(line, i);
+				if (i < line.length() && line.charAt(i) == ',') {
+					i = skipWhitespace(line, i + 1);
+					continue;
+				}
+				expect(line, i++, '}');
+				break;
+			}
+		}
+		if (!isBlank(line, i, line.length())) {
+			throw new IllegalArgumentException("Unexpected characters after the JSON object");
+		}
+		if (!hasRa || !hasDec) {
+			throw new IllegalArgumentException("Row should contain ra and dec fields");
+		}
+		readTime(index);
+	}
+
+	/**
+	 * Decodes the JSON string starting after its opening quote at {@code start} into the target, if any, returning
+	 * the index after the closing quote.
+	 */
+	private static int readJsonString(CharSequence text, int start, StringBuilder target) {
+		int i = start;
+		while (i < text.length()) {
+			char c = text.charAt(i++);
+			if (c == '"') {
+				return i;
+			}
+			if (c == '\\') {
+				if (i == text.length()) {
+					break;
+				}
+				c = text.charAt(i++);
+				switch (c) {
+					case '"':
+					case '\\':
+					case '/':
+						break;
+					case 'b':
+						c = '\b';
+						break;
+					case 'f':
+						c = '\f';
+						break;
+					case 'n':
+						c = '\n';
+						break;
+					case 'r':
+						c = '\r';
+						break;
+					case 't':
+						c = '\t';
+						break;
+					case 'u':
+						if (i + 4 > text.length()) {
+							throw new IllegalArgumentException("Invalid JSON escape");
+						}
+						int codeUnit = 0;
+						for (int end = i + 4; i < end; i++) {
+							int digit = Character.digit(text.charAt(i), 16);
+							if (digit < 0) {
+								throw new IllegalArgumentException("Invalid JSON escape");
+							}
+							codeUnit = codeUnit << 4 | digit;
+						}
+						c = (char) codeUnit;
+						break;
+					default:
+						throw new IllegalArgumentException("Invalid JSON escape");
+				}
+			}
+			if (target != null) {
+				target.append(c);
+			}
+		}
+		throw new IllegalArgumentException("Unterminated JSON string");
+	}
+
+	private static int findJsonScalarEnd(CharSequence text, int start) {
+		int end = start;
+		while (end < text.length() && text.charAt(end) != ',' && text.charAt(end) != '}') {
+			end++;
+		}
+		return end;
+	}
+
+	private static void expect(CharSequence text, int index, char expected) {
+		if (index >= text.length() || text.charAt(index) != expected) {
+			throw new IllegalArgumentException("Expected '" + expected + "' at column " + (index + 1));
+		}
+	}
+
+	private void readTime(int index) {
+		if (fixedInstant != null) {
+			epochSeconds[index] = fixedInstant.getEpochSecond();
+			nanoOfSeconds[index] = fixedInstant.getNano();
+			return;
+		}
+		if (timeStarts[index] < 0) {
+			throw new IllegalArgumentException("Row has no time and no fixed instant is given.");
+		}
+		if (!parseUtcInstant(texts, timeStarts[index], timeEnds[index], index)) {
+			CharSequence time = texts.subSequence(timeStarts[index], timeEnds[index]);
+			try {
+				Instant instant = Instant.parse(time);
+				epochSeconds[index] = instant.getEpochSecond();
+				nanoOfSeconds[index] = instant.getNano();
+			} catch (DateTimeParseException e) {
+				throw new IllegalArgumentException("Invalid time: " + time, e);
+			}
+		}
+	}
+
+	/**
+	 * Parses the common {@code yyyy-MM-ddTHH:mm:ss[.fraction]Z} form of an instant in place, returning false for any
+	 * other text, which is left to {@link Instant#parse(CharSequence)}.
+	 */
+	private boolean parseUtcInstant(CharSequence text, int start, int end, int index) {
+		if (end - start < 20 || text.charAt(end - 1) != 'Z' || text.charAt(start + 4) != '-' || text.charAt(start + 7) != '-'
+				|| text.charAt(start + 10) != 'T' || text.charAt(start + 13) != ':' || text.charAt(start + 16) != ':') {
+			return false;
+		}
+		int year = parseDigits(text, start, 4);
+		int month = parseDigits(text, start + 5, 2);
+		int day = parseDigits(text, start + 8, 2);
+		int hour = parseDigits(text, start + 11, 2);
+		int minute = parseDigits(text, start + 14, 2);
+		int second = parseDigits(text, start + 17, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))
+				|| hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return false;
+		}
+		int nanoOfSecond = 0;
+		int fractionStart = start + 19;
+		if (fractionStart < end - 1) {
+			int fractionDigits = end - 1 - fractionStart - 1;
+			if (text.charAt(fractionStart) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+				return false;
+			}
+			nanoOfSecond = parseDigits(text, fractionStart + 1, fractionDigits);
+			if (nanoOfSecond < 0) {
+				return false;
+			}
+			for (int i = fractionDigits; i < 9; i++) {
+				nanoOfSecond *= 10;
+			}
+		}
+		epochSeconds[index] = toEpochDay(year, month, day) * 86_400 + hour * 3600 + minute * 60 + second;
+		nanoOfSeconds[index] = nanoOfSecond;
+		return true;
+	}
+
+	private static int parseDigits(CharSequence text, int start, int count) {
+		int value = 0;
+		for (int i = start; i < start + count; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Days from 1970-01-01 to the given proleptic Gregorian date, counting years from March so that leap days come last.
+	 */
+	private static long toEpochDay(int year, int month, int day) {
+		long marchYear = month <= 2 ? year - 1 : year;
+		long era = Math.floorDiv(marchYear, 400);
+		long yearOfEra = marchYear - era * 400;
+		long dayOfYear = (153 * ((month + 9) % 12) + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146_097 + dayOfEra - 719_468;
+	}
+
+	private void appendTrimmed(CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		texts.append(text, start, end);
+	}
+
+	private static int skipWhitespace(CharSequence text, int start) {
+		while (start < text.length() && text.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+
+	private static boolean isBlank(CharSequence text, int start, int end) {
+		return skipWhitespace(text, start) >= end;
+	}
+
+	private void writeChunk(Writer writer, int chunkLength) throws IOException {
+		// Consecutive rows at the same instant share one observing context.
+		int runStart = 0;
+		while (runStart < chunkLength) {
+			int runEnd = runStart + 1;
+			while (runEnd < chunkLength && epochSeconds[runEnd] == epochSeconds[runStart] && nanoOfSeconds[runEnd] == nanoOfSeconds[runStart]) {
+				runEnd++;
+			}
+			starLocator.createObservingContext(epochSeconds[runStart], nanoOfSeconds[runStart])
+					.locateStars(raDegreeValues, decDegreeValues, runStart, runEnd, altitudeValues, azimuthValues);
+			runStart = runEnd;
+		}
+		writeRows(writer, chunkLength);
+		texts.setLength(0);
+	}
+
+	private void writeRows(Writer writer, int chunkLength) throws IOException {
+		for (int i = 0; i < chunkLength; i++) {
+			rowBuilder.setLength(0);
+			if (format == Format.CSV) {
+				appendCsvRow(i);
+			} else {
+				appendJsonRow(i);
+			}
+			writer.append(rowBuilder);
+		}
+	}
+
+	private void writeHeader(Writer writer, boolean hasId, boolean hasTime) throws IOException {
+		if (format != Format.CSV) {
+			return;
+		}
+		writer.write((hasId ? "id," : "") + (hasTime ? "time," : "") + "ra,dec,altitude,azimuth\n");
+	}
+
+	private void appendCsvRow(int index) {
+		if (idStarts[index] >= 0) {
+			rowBuilder.append(texts, idStarts[index], idEnds[index]).append(',');
+		}
+		if (timeStarts[index] >= 0) {
+			rowBuilder.append(texts, timeStarts[index], timeEnds[index]).append(',');
+		}
+		appendAngle(raDegreeValues[index]).append(',');
+		appendAngle(decDegreeValues[index]).append(',');
+		appendAngle(altitudeValues[index]).append(',');
+		appendAngle(azimuthValues[index]).append('\n');
+	}
+
+	private void appendJsonRow(int index) {
+		rowBuilder.append('{');
+		if (idStarts[index] >= 0) {
+			appendJsonString(rowBuilder.append("\"id\":"), texts, idStarts[index], idEnds[index]).append(',');
+		}
+		if (timeStarts[index] >= 0) {
+			appendJsonString(rowBuilder.append("\"time\":"), texts, timeStarts[index], timeEnds[index]).append(',');
+		}
+		appendAngle(rowBuilder.append("\"ra\":"), raDegreeValues[index]);
+		appendAngle(rowBuilder.append(",\"dec\":"), decDegreeValues[index]);
+		appendAngle(rowBuilder.append(",\"altitude\":"), altitudeValues[index]);
+		appendAngle(rowBuilder.append(",\"azimuth\":"), azimuthValues[index]).append("}\n");
+	}
+
+	private static StringBuilder appendJsonString(StringBuilder builder, CharSequence text, int start, int end) {
+		builder.append('"');
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == '"' || c == '\\') {
+				builder.append('\\').append(c);
+			} else if (c < ' ') {
+				builder.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+			} else {
+				builder.append(c);
+			}
+		}
+		return builder.append('"');
+	}
+
+	private StringBuilder appendAngle(double degreeValue) {
+		return appendAngle(rowBuilder, degreeValue);
+	}
+
+	private StringBuilder appendAngle(StringBuilder builder, double degreeValue) {
+		return fractionDigits < 0 ? builder.append(degreeValue) : CoordinateFormatter.appendFixed(builder, degreeValue, fractionDigits);
+	}
+}
@@ -0,0 +1,78 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+
+import java.time.Instant;
+
+/**
+ * Low precision position of the Sun from the series of the Astronomical Almanac, within 0.01º from 1950 to 2050.
+ * Right ascension and declination are of date, referred to the mean equinox. Like {@link PrecessionNutation}, the
+ * series is evaluated in TT, the UTC days it is given being converted by {@link TimeScales#getDefault()} unless other
+ * time scales are given.
+ */
+public final class SunEphemeris {
+
+	/**
+	 * {@link #calculatePosition(double, double[], double[], int)} as a series of date.
+	 */
+	public static final EphemerisSeries SERIES = EphemerisSeries.ofDate(SunEphemeris::calculatePosition);
+
+	private SunEphemeris() {
+	}
+
+	public static EquatorialCoordinate calculatePosition(Instant instant) {
+		return calculatePosition(instant, TimeScales.getDefault());
+	}
+
+	public static EquatorialCoordinate calculatePosition(Instant instant, TimeScales timeScales) {
+		double ttDays = toTtDays(EphemerisSeries.toDaysSinceJ2000(instant), timeScales);
+		double eclipticLongitude = calculateEclipticLongitude(ttDays);
+		double obliquity = calculateObliquity(ttDays);
+		return new EquatorialCoordinate(toRightAscension(eclipticLongitude, obliquity) / 15, toDeclination(eclipticLongitude, obliquity));
+	}
+
+	/**
+	 * Writes the right ascension and declination degree values of the Sun at the given number of days since
+	 * 2000-01-01T12:00:00Z at {@code index}, as an {@link EphemerisSeries}.
+	 */
+	public static void calculatePosition(double daysSinceJ2000, double[] raDegreeValues, double[] decDegreeValues, int index) {
+		double ttDays = toTtDays(daysSinceJ2000, TimeScales.getDefault());
+		double eclipticLongitude = calculateEclipticLongitude(ttDays);
+		double obliquity = calculateObliquity(ttDays);
+		raDegreeValues[index] = toRightAscension(eclipticLongitude, obliquity);
+		decDegreeValues[index] = toDeclination(eclipticLongitude, obliquity);
+	}
+
+	/**
+	 * Days since 2000-01-01T12:00:00 TT of the given number of UTC days since 2000-01-01T12:00:00Z.
+	 */
+	static double toTtDays(double daysSinceJ2000, TimeScales timeScales) {
+		long epochSecond = StarLocator.J2000_EPOCH_SECOND + (long) Math.floor(daysSinceJ2000 * 86_400);
+		return daysSinceJ2000 + timeScales.getOffset(TimeScales.Scale.TT, epochSecond, 0) / 86_400;
+	}
+
+	/**
+	 * Apparent ecliptic longitude of the Sun in radians.
+	 */
+	static double calculateEclipticLongitude(double ttDays) {
+		double meanLongitude = 280.460 + 0.9856474 * ttDays;
+		double meanAnomaly = Math.toRadians(357.528 + 0.9856003 * ttDays);
+		return Math.toRadians(meanLongitude + 1.915 * Math.sin(meanAnomaly) + 0.020 * Math.sin(2 * meanAnomaly));
+	}
+
+	/**
+	 * Mean obliquity of the ecliptic in radians.
+	 */
+	static double calculateObliquity(double ttDays) {
+		return Math.toRadians(23.439 - 0.0000004 * ttDays);
+	}
+
+	static double toRightAscension(double eclipticLongitude, double obliquity) {
+		return StarLocator.reduceAngle(Math.toDegrees(
+				Math.atan2(Math.cos(obliquity) * Math.sin(eclipticLongitude), Math.cos(eclipticLongitude))));
+	}
+
+	static double toDeclination(double eclipticLongitude, double obliquity) {
+		return Math.toDegrees(Math.asin(Math.sin(obliquity) * Math.sin(eclipticLongitude)));
+	}
+}
@@ -0,0 +1,295 @@
+package com.molecode.astronomyutils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Offsets of the TAI, TT and UT1 time scales from UTC, from a table of leap seconds and a table of Delta T = TT - UT1.
+ * UT1 - UTC is derived as TAI - UTC + 32.184 s - Delta T; it is interpolated between the Delta T dates and held after
+ * the last one. Before the first leap second, UTC is taken as UT1 and TT - UTC is Delta T.
+ * <p>
+ * Both offsets are precomputed as piecewise linear functions of the UTC epoch second. A lookup is a binary search over
+ * the segment starts, skipped when the instant falls in the segment of the previous lookup, which is always the case
+ * for consecutive instants of a time series.
+ */
+public class TimeScales {
+
+	public enum Scale {
+		UTC,
+		/**
+		 * International atomic time.
+		 */
+		TAI,
+		/**
+		 * Terrestrial time, the argument of ephemerides and precession.
+		 */
+		TT,
+		/**
+		 * Universal time following the rotation of the Earth, the argument of sidereal time.
+		 */
+		UT1
+	}
+
+	private static final double TT_MINUS_TAI = 32.184;
+
+	private final PiecewiseLinear ttMinusUtc;
+	private final PiecewiseLinear ut1MinusUtc;
+
+	/**
+	 * @param leapSecondEpochSeconds UTC epoch seconds from which each TAI - UTC value applies, in increasing order
+	 * @param deltaTEpochSeconds     UTC epoch seconds of the Delta T values, in increasing order
+	 */
+	public TimeScales(long[] leapSecondEpochSeconds, double[] taiMinusUtcValues, long[] deltaTEpochSeconds, double[] deltaTValues) {
+		validateTable("leap second", leapSecondEpochSeconds, taiMinusUtcValues);
+		validateTable("Delta T", deltaTEpochSeconds, deltaTValues);
+		long firstLeapSecond = leapSecondEpochSeconds[0];
+		long lastDeltaT = deltaTEpochSeconds[deltaTEpochSeconds.length - 1];
+
+		// TT - UTC follows Delta T until the first leap second, then TAI - UTC.
+		TreeSet<Long> ttStarts = new TreeSet<>();
+		for (long epochSecond : deltaTEpochSeconds) {
+			if (epochSecond < firstLeapSecond) {
+				ttStarts.add(epochSecond);
+			}
+		}
+		for (long epochSecond : leapSecondEpochSeconds) {
+			ttStarts.add(epochSecond);
+		}
+		this.ttMinusUtc = newPiecewiseLinear(ttStarts, deltaTValues[0], epochSecond -> epochSecond < firstLeapSecond
+				? interpolate(deltaTEpochSeconds, deltaTValues, epochSecond)
+				: step(leapSecondEpochSeconds, taiMinusUtcValues, epochSecond) + TT_MINUS_TAI);
+
+		// UT1 - UTC is zero until the first leap second, and constant after the last Delta T.
+		TreeSet<Long> ut1Starts = new TreeSet<>();
+		for (long epochSecond : leapSecondEpochSeconds) {
+			if (epochSecond <= lastDeltaT) {
+				ut1Starts.add(epochSecond);
+			}
+		}
+		for (long epochSecond : deltaTEpochSeconds) {
+			if (epochSecond >= firstLeapSecond) {
+				ut1Starts.add(epochSecond);
+			}
+		}
+		this.ut1MinusUtc = newPiecewiseLinear(ut1Starts, 0, epochSecond -> epochSecond < firstLeapSecond
+				? 0
+				: step(leapSecondEpochSeconds, taiMinusUtcValues, epochSecond) + TT_MINUS_TAI
+						- interpolate(deltaTEpochSeconds, deltaTValues, Math.min(epochSecond, lastDeltaT)));
+	}
+
+	/**
+	 * Returns the time scales of the tables bundled with the library.
+	 */
+	public static TimeScales getDefault() {
+		return DefaultHolder.DEFAULT;
+	}
+
+	/**
+	 * Loads time scales from a leap second and a Delta T file, with one date in ISO format and one value in seconds
+	 * per line, separated by whitespace. Dates are at 00:00 UTC. Blank lines and lines starting with {@code #} are
+	 * ignored.
+	 */
+	public static TimeScales load(Path leapSecondPath, Path deltaTPath) throws IOException {
+		try (BufferedReader leapSecondReader = Files.newBufferedReader(leapSecondPath, StandardCharsets.UTF_8);
+			 BufferedReader deltaTReader = Files.newBufferedReader(deltaTPath, StandardCharsets.UTF_8)) {
+			return load(leapSecondReader, deltaTReader);
+		}
+	}
+
+	private static TimeScales load(BufferedReader leapSecondReader, BufferedReader deltaTReader) throws IOException {
+		List<String[]> leapSeconds = readTable(leapSecondReader);
+		List<String[]> deltaTs = readTable(deltaTReader);
+		long[] leapSecondEpochSeconds = new long[leapSeconds.size()];
+		double[] taiMinusUtcValues = new double[leapSeconds.size()];
+		for (int i = 0; i < leapSecondEpochSeconds.length; i++) {
+			leapSecondEpochSeconds[i] = LocalDate.parse(leapSeconds.get(i)[0]).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+			taiMinusUtcValues[i] = Double.parseDouble(leapSeconds.get(i)[1]);
+		}
+		long[] deltaTEpochSeconds = new long[deltaTs.size()];
+		double[] deltaTValues = new double[deltaTs.size()];
+		for (int i = 0; i < deltaTEpochSeconds.length; i++) {
+			deltaTEpochSeconds[i] = LocalDate.parse(deltaTs.get(i)[0]).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+			deltaTValues[i] = Double.parseDouble(deltaTs.get(i)[1]);
+		}
+		return new TimeScales(leapSecondEpochSeconds, taiMinusUtcValues, deltaTEpochSeconds, deltaTValues);
+	}
+
+	private static List<String[]> readTable(BufferedReader reader) throws IOException {
+		List<String[]> rows = new ArrayList<>();
+		int lineNumber = 0;
+		for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+			lineNumber++;
+			String trimmedLine = line.trim();
+			if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+				continue;
+			}
+			String[] values = trimmedLine.split("\\s+");
+			try {
+				if (values.length != 2) {
+					throw new IllegalArgumentException("Expected date and value");
+				}
+				LocalDate.parse(values[0]);
+				Double.parseDouble(values[1]);
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException(String.format("Malformed time scale line %d: %s", lineNumber, line), e);
+			}
+			rows.add(values);
+		}
+		return rows;
+	}
+
+	/**
+	 * Returns the seconds to add to a UTC instant to read the given time scale.
+	 */
+	public double getOffset(Scale scale, long epochSecond, int nanoOfSecond) {
+		switch (scale) {
+			case TAI:
+				return ttMinusUtc.valueAt(epochSecond, nanoOfSecond) - TT_MINUS_TAI;
+			case TT:
+				return ttMinusUtc.valueAt(epochSecond, nanoOfSecond);
+			case UT1:
+				return ut1MinusUtc.valueAt(epochSecond, nanoOfSecond);
+			default:
+				return 0;
+		}
+	}
+
+	public double getOffset(Scale scale, Instant instant) {
+		return getOffset(scale, instant.getEpochSecond(), instant.getNano());
+	}
+
+	/**
+	 * Returns Delta T = TT - UT1 in seconds at the given UTC instant.
+	 */
+	public double getDeltaT(Instant instant) {
+		return getOffset(Scale.TT, instant) - getOffset(Scale.UT1, instant);
+	}
+
+	/**
+	 * Returns the Julian date of the UTC instant read in the given time scale.
+	 */
+	public double toJulianDate(Instant instant, Scale scale) {
+		double secondsSinceJ2000 = (instant.getEpochSecond() - StarLocator.J2000_EPOCH_SECOND) + instant.getNano() / 1e9;
+		return 2451545.0 + (secondsSinceJ2000 + getOffset(scale, instant)) / 86_400;
+	}
+
+	private static void validateTable(String name, long[] epochSeconds, double[] values) {
+		if (epochSeconds.length == 0 || epochSeconds.length != values.length) {
+			throw new IllegalArgumentException(String.format(
+					"Length of %s table is not consistent: dates %d, values %d.", name, epochSeconds.length, values.length));
+		}
+		for (int i = 1; i < epochSeconds.length; i++) {
+			if (epochSeconds[i] <= epochSeconds[i - 1]) {
+				throw new IllegalArgumentException(String.format("Dates of %s table are not increasing at %d.", name, i));
+			}
+		}
+	}
+
+	private static PiecewiseLinear newPiecewiseLinear(TreeSet<Long> starts, double initialValue, EpochSecondFunction function) {
+		long[] segmentStarts = new long[starts.size() + 1];
+		double[] values = new double[segmentStarts.length];
+		double[] slopes = new double[segmentStarts.length];
+		// The first segment extends the first value to the past.
+		segmentStarts[0] = Long.MIN_VALUE;
+		values[0] = initialValue;
+		int i = 1;
+		for (long start : starts) {
+			segmentStarts[i++] = start;
+		}
+		for (i = 1; i < segmentStarts.length; i++) {
+			values[i] = function.valueAt(segmentStarts[i]);
+			if (i + 1 < segmentStarts.length) {
+				// Value at the end of the segment, before any step at the start of the next one.
+				double endValue = function.valueAt(segmentStarts[i + 1] - 1);
+				slopes[i] = (endValue - values[i]) / (segmentStarts[i + 1] - 1 - segmentStarts[i]);
+			}
+		}
+		return new PiecewiseLinear(segmentStarts, values, slopes);
+	}
+
+	private static double step(long[] epochSeconds, double[] values, long epochSecond) {
+		int index = Arrays.binarySearch(epochSeconds, epochSecond);
+		return values[Math.max(index >= 0 ? index : -index - 2, 0)];
+	}
+
+	private static double interpolate(long[] epochSeconds, double[] values, long epochSecond) {
+		int index = Arrays.binarySearch(epochSeconds, epochSecond);
+		if (index >= 0) {
+			return values[index];
+		}
+		int next = -index - 1;
+		if (next == 0) {
+			return values[0];
+		}
+		if (next == epochSeconds.length) {
+			return values[next - 1];
+		}
+		double fraction = (double) (epochSecond - epochSeconds[next - 1]) / (epochSeconds[next] - epochSeconds[next - 1]);
+		return values[next - 1] + fraction * (values[next] - values[next - 1]);
+	}
+
+	@FunctionalInterface
+	private interface EpochSecondFunction {
+		double valueAt(long epochSecond);
+	}
+
+	private static class PiecewiseLinear {
+
+		private final long[] segmentStarts;
+		private final double[] values;
+		private final double[] slopes;
+
+		// Segment of the last lookup; any index is valid, so racing updates are harmless.
+		private volatile int lastSegment;
+
+		private PiecewiseLinear(long[] segmentStarts, double[] values, double[] slopes) {
+			this.segmentStarts = segmentStarts;
+			this.values = values;
+			this.slopes = slopes;
+		}
+
+		private double valueAt(long epochSecond, int nanoOfSecond) {
+			int segment = lastSegment;
+			if (epochSecond < segmentStarts[segment] || segment + 1 < segmentStarts.length && epochSecond >= segmentStarts[segment + 1]) {
+				int index = Arrays.binarySearch(segmentStarts, epochSecond);
+				segment = index >= 0 ? index : -index - 2;
+				lastSegment = segment;
+			}
+			if (slopes[segment] == 0) {
+				return values[segment];
+			}
+			return values[segment] + slopes[segment] * ((epochSecond - segmentStarts[segment]) + nanoOfSecond / 1e9);
+		}
+	}
+
+	private static class DefaultHolder {
+
+		private static final TimeScales DEFAULT = loadDefault();
+
+		private static TimeScales loadDefault() {
+			try (InputStream leapSecondStream = TimeScales.class.getResourceAsStream("leap-seconds.txt");
+				 InputStream deltaTStream = TimeScales.class.getResourceAsStream("delta-t.txt")) {
+				if (leapSecondStream == null || deltaTStream == null) {
+					throw new IllegalStateException("Time scale tables are missing from the class path.");
+				}
+				return load(new BufferedReader(new InputStreamReader(leapSecondStream, StandardCharsets.UTF_8)),
+						new BufferedReader(new InputStreamReader(deltaTStream, StandardCharsets.UTF_8)));
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
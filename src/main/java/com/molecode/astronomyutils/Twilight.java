@@ -0,0 +1,123 @@
+package com.molecode.astronomyutils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+/**
+ * Sunset, dusks, dawns and sunrise of the night starting on a given date. Each is empty when the Sun does not cross
+ * the corresponding altitude that night, i.e. stays above it or below it.
+ */
+public class Twilight {
+
+	public enum Type {
+		/**
+		 * Upper limb of the Sun on the horizon, 0.8333º below it once refraction and semi-diameter are accounted for.
+		 */
+		SUNRISE_SUNSET(-0.8333),
+		CIVIL(-6),
+		NAUTICAL(-12),
+		ASTRONOMICAL(-18);
+
+		private final double sunAltitude;
+
+		Type(double sunAltitude) {
+			this.sunAltitude = sunAltitude;
+		}
+
+		/**
+		 * Geometric altitude of the centre of the Sun in degrees.
+		 */
+		public double getSunAltitude() {
+			return sunAltitude;
+		}
+	}
+
+	private final LocalDate nightDate;
+
+	private final ZoneId zoneId;
+
+	// Local noons starting and ending the night, in epoch seconds.
+	private final long startEpochSecond;
+	private final long endEpochSecond;
+
+	// Epoch seconds indexed by type ordinal, NaN when there is no such event.
+	private final double[] eveningEpochSeconds;
+	private final double[] morningEpochSeconds;
+
+	Twilight(LocalDate nightDate, ZoneId zoneId, long startEpochSecond, long endEpochSecond,
+			 double[] eveningEpochSeconds, double[] morningEpochSeconds) {
+		this.nightDate = nightDate;
+		this.zoneId = zoneId;
+		this.startEpochSecond = startEpochSecond;
+		this.endEpochSecond = endEpochSecond;
+		this.eveningEpochSeconds = eveningEpochSeconds;
+		this.morningEpochSeconds = morningEpochSeconds;
+	}
+
+	public LocalDate getNightDate() {
+		return nightDate;
+	}
+
+	public Optional<LocalDateTime> getSunset() {
+		return getDusk(Type.SUNRISE_SUNSET);
+	}
+
+	public Optional<LocalDateTime> getSunrise() {
+		return getDawn(Type.SUNRISE_SUNSET);
+	}
+
+	/**
+	 * Returns when the Sun goes down past the altitude of the given type in the evening.
+	 */
+	public Optional<LocalDateTime> getDusk(Type type) {
+		return toLocalDateTime(getDuskEpochSecond(type));
+	}
+
+	/**
+	 * Returns when the Sun comes up past the altitude of the given type in the morning.
+	 */
+	public Optional<LocalDateTime> getDawn(Type type) {
+		return toLocalDateTime(getDawnEpochSecond(type));
+	}
+
+	/**
+	 * Same as {@link #getDusk(Type)}, in epoch seconds, or NaN.
+	 */
+	public double getDuskEpochSecond(Type type) {
+		return eveningEpochSeconds[type.ordinal()];
+	}
+
+	public double getDawnEpochSecond(Type type) {
+		return morningEpochSeconds[type.ordinal()];
+	}
+
+	/**
+	 * Whether the instant lies between the local noons starting and ending the night.
+	 */
+	boolean contains(double epochSecond) {
+		return epochSecond >= startEpochSecond && epochSecond < endEpochSecond;
+	}
+
+	private Optional<LocalDateTime> toLocalDateTime(double epochSecond) {
+		if (Double.isNaN(epochSecond)) {
+			return Optional.empty();
+		}
+		long wholeSeconds = (long) Math.floor(epochSecond);
+		Instant instant = Instant.ofEpochSecond(wholeSeconds, Math.round((epochSecond - wholeSeconds) * 1e9));
+		return Optional.of(LocalDateTime.ofInstant(instant, zoneId));
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("Twilight{night: ").append(nightDate);
+		for (Type type : Type.values()) {
+			builder.append(", ").append(type).append(": ")
+					.append(getDusk(type).map(LocalDateTime::toString).orElse("-")).append(" - ")
+					.append(getDawn(type).map(LocalDateTime::toString).orElse("-"));
+		}
+		return builder.append('}').toString();
+	}
+}
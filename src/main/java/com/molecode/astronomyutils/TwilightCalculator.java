@@ -0,0 +1,160 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Calculates sunrise, sunset and twilight times of an observing location from {@link SunEphemeris}. Each night is
+ * computed once and kept in a least recently used cache of bounded size, so that repeated questions about the same
+ * nights, such as whether it is dark at many instants, are answered by a lookup and two comparisons.
+ */
+public class TwilightCalculator {
+
+	public static final int DEFAULT_CACHE_SIZE = 64;
+
+	private static final int MAX_ITERATIONS = 8;
+
+	private static final double SECONDS_PER_DAY = 86_400;
+
+	private final ZoneId zoneId;
+
+	private final double longitudeValue;
+	private final double sinLatitude;
+	private final double cosLatitude;
+
+	private final TimeScales timeScales;
+
+	private final Map<LocalDate, Twilight> twilights;
+
+	// Night of the last darkness check, consecutive instants usually falling in the same night.
+	private volatile Twilight lastTwilight;
+
+	public TwilightCalculator(ZoneId zoneId, GeographicCoordinate observingLocation) {
+		this(zoneId, observingLocation, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * @param cacheSize number of nights kept, the least recently used one being evicted first
+	 */
+	public TwilightCalculator(ZoneId zoneId, GeographicCoordinate observingLocation, int cacheSize) {
+		this(zoneId, observingLocation, cacheSize, TimeScales.getDefault());
+	}
+
+	/**
+	 * @param cacheSize  number of nights kept, the least recently used one being evicted first
+	 * @param timeScales TT - UTC and UT1 - UTC applied to the Sun position and the sidereal time
+	 */
+	public TwilightCalculator(ZoneId zoneId, GeographicCoordinate observingLocation, int cacheSize, TimeScales timeScales) {
+		if (cacheSize <= 0) {
+			throw new IllegalArgumentException("Cache size should be positive: " + cacheSize);
+		}
+		this.zoneId = zoneId;
+		double latitudeRadians = Math.toRadians(observingLocation.getLatDegreeValue());
+		this.longitudeValue = observingLocation.getLongDegreeValue();
+		this.sinLatitude = Math.sin(latitudeRadians);
+		this.cosLatitude = Math.cos(latitudeRadians);
+		this.timeScales = timeScales;
+		this.twilights = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<LocalDate, Twilight> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Returns the twilight of the night starting on {@code nightDate}, i.e. the evening events of that date and the
+	 * morning events of the following one.
+	 */
+	public Twilight calculateTwilight(LocalDate nightDate) {
+		synchronized (twilights) {
+			Twilight twilight = twilights.get(nightDate);
+			if (twilight != null) {
+				return twilight;
+			}
+		}
+		Twilight twilight = newTwilight(nightDate);
+		synchronized (twilights) {
+			twilights.put(nightDate, twilight);
+		}
+		return twilight;
+	}
+
+	/**
+	 * Whether the Sun is below the altitude of the given type at the instant.
+	 */
+	public boolean isDark(Instant instant, Twilight.Type type) {
+		double epochSecond = instant.getEpochSecond() + instant.getNano() / 1e9;
+		Twilight twilight = lastTwilight;
+		if (twilight == null || !twilight.contains(epochSecond)) {
+			// Nights start at local noon.
+			twilight = calculateTwilight(ZonedDateTime.ofInstant(instant, zoneId).minusHours(12).toLocalDate());
+			lastTwilight = twilight;
+		}
+		double duskEpochSecond = twilight.getDuskEpochSecond(type);
+		double dawnEpochSecond = twilight.getDawnEpochSecond(type);
+		if (!Double.isNaN(duskEpochSecond) && !Double.isNaN(dawnEpochSecond)) {
+			return epochSecond >= duskEpochSecond && epochSecond < dawnEpochSecond;
+		}
+		// Polar day or night, the Sun does not cross the altitude on one side of the night at least.
+		return calculateSunAltitude(epochSecond) < type.getSunAltitude();
+	}
+
+	private Twilight newTwilight(LocalDate nightDate) {
+		long eveningNoon = ZonedDateTime.of(nightDate, LocalTime.NOON, zoneId).toEpochSecond();
+		long morningNoon = ZonedDateTime.of(nightDate.plusDays(1), LocalTime.NOON, zoneId).toEpochSecond();
+		Twilight.Type[] types = Twilight.Type.values();
+		double[] eveningEpochSeconds = new double[types.length];
+		double[] morningEpochSeconds = new double[types.length];
+		for (Twilight.Type type : types) {
+			eveningEpochSeconds[type.ordinal()] = calculateCrossing(eveningNoon, type.getSunAltitude(), true);
+			morningEpochSeconds[type.ordinal()] = calculateCrossing(morningNoon, type.getSunAltitude(), false);
+		}
+		return new Twilight(nightDate, zoneId, eveningNoon, morningNoon, eveningEpochSeconds, morningEpochSeconds);
+	}
+
+	/**
+	 * Returns when the Sun crosses the given altitude after, when setting, or before the transit closest to the
+	 * reference instant, in epoch seconds, or NaN when it does not. The Sun is moved to the crossing found by the
+	 * previous iteration until it moves by less than a second.
+	 */
+	private double calculateCrossing(long referenceEpochSecond, double sunAltitude, boolean setting) {
+		double referenceSiderealTime = StarLocator.reduceAngle(StarLocator.calculateLocalSiderealTime(referenceEpochSecond, 0, longitudeValue, timeScales));
+		double epochSecond = referenceEpochSecond;
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double ttDays = SunEphemeris.toTtDays(EphemerisSeries.toDaysSinceJ2000((long) Math.floor(epochSecond), 0), timeScales);
+			double eclipticLongitude = SunEphemeris.calculateEclipticLongitude(ttDays);
+			double obliquity = SunEphemeris.calculateObliquity(ttDays);
+			double cosSemiDiurnalArc = StarLocator.calculateCosSemiDiurnalArc(SunEphemeris.toDeclination(eclipticLongitude, obliquity), sinLatitude, cosLatitude, sunAltitude);
+			if (cosSemiDiurnalArc < -1 || cosSemiDiurnalArc > 1) {
+				return Double.NaN;
+			}
+			double semiDiurnalArc = Math.toDegrees(Math.acos(cosSemiDiurnalArc)) / StarLocator.SIDEREAL_DEGREES_PER_DAY;
+			double transitOffset = StarLocator.calculateTransitOffset(SunEphemeris.toRightAscension(eclipticLongitude, obliquity), referenceSiderealTime);
+			double crossingEpochSecond = referenceEpochSecond + (setting ? transitOffset + semiDiurnalArc : transitOffset - semiDiurnalArc) * SECONDS_PER_DAY;
+			if (Math.abs(crossingEpochSecond - epochSecond) < 1) {
+				return crossingEpochSecond;
+			}
+			epochSecond = crossingEpochSecond;
+		}
+		return epochSecond;
+	}
+
+	private double calculateSunAltitude(double epochSecond) {
+		long wholeSeconds = (long) Math.floor(epochSecond);
+		double ttDays = SunEphemeris.toTtDays(EphemerisSeries.toDaysSinceJ2000(wholeSeconds, 0), timeScales);
+		double eclipticLongitude = SunEphemeris.calculateEclipticLongitude(ttDays);
+		double obliquity = SunEphemeris.calculateObliquity(ttDays);
+		double localSiderealTime = StarLocator.calculateLocalSiderealTime(wholeSeconds, 0, longitudeValue, timeScales);
+		double hourAngleRadians = Math.toRadians(localSiderealTime - SunEphemeris.toRightAscension(eclipticLongitude, obliquity));
+		double declinationRadians = Math.toRadians(SunEphemeris.toDeclination(eclipticLongitude, obliquity));
+		return Math.toDegrees(Math.asin(sinLatitude * Math.sin(declinationRadians) + cosLatitude * Math.cos(declinationRadians) * Math.cos(hourAngleRadians)));
+	}
+}
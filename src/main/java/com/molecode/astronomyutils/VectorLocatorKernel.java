@@ -0,0 +1,178 @@
+package com.molecode.astronomyutils;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Equatorial to horizontal transform computed {@link #SPECIES} lanes at a time. Sine and cosine are evaluated by the
+ * fdlibm kernel polynomials after reducing the degree angles by quadrant, and altitude and azimuth are both taken
+ * from a polynomial atan2, which stays accurate near the zenith where asin loses precision.
+ * <p>
+ * Only loaded when the {@code jdk.incubator.vector} module is present, see {@link ObservingContext}.
+ */
+final class VectorLocatorKernel {
+
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	private static final double RADIANS_PER_DEGREE = Math.PI / 180;
+	private static final double DEGREES_PER_RADIAN = 180 / Math.PI;
+	// Adding and subtracting 1.5 * 2^52 rounds a double of magnitude below 2^51 to the nearest integer.
+	private static final double ROUNDING_SHIFT = 0x1.8p52;
+	private static final double TAN_PI_OVER_8 = 0.41421356237309503;
+
+	private static final double S1 = -1.66666666666666324348e-01;
+	private static final double S2 = 8.33333333332248946124e-03;
+	private static final double S3 = -1.98412698298579493134e-04;
+	private static final double S4 = 2.75573137070700676789e-06;
+	private static final double S5 = -2.50507602534068634195e-08;
+	private static final double S6 = 1.58969099521155010221e-10;
+
+	private static final double C1 = 4.16666666666666019037e-02;
+	private static final double C2 = -1.38888888888741095749e-03;
+	private static final double C3 = 2.48015872894767294178e-05;
+	private static final double C4 = -2.75573143513906633035e-07;
+	private static final double C5 = 2.08757232129817482790e-09;
+	private static final double C6 = -1.13596475577881948265e-11;
+
+	private static final double[] ATAN_COEFFICIENTS = {
+			3.33333333333329318027e-01,
+			-1.99999999998764832476e-01,
+			1.42857142725034663711e-01,
+			-1.11111104054623557880e-01,
+			9.09088713343650656196e-02,
+			-7.69187620504482999495e-02,
+			6.66107313738753120669e-02,
+			-5.83357013379057348645e-02,
+			4.97687799461593236017e-02,
+			-3.65315727442169155270e-02,
+			1.62858201153657823623e-02
+	};
+
+	private VectorLocatorKernel() {
+	}
+
+	/**
+	 * Locates the stars in [fromIndex, toIndex), with the same layout as the scalar batch of {@link ObservingContext}.
+	 */
+	static void locateStars(double localSiderealTime, double sinLatitude, double cosLatitude,
+							double[] raDegreeValues, double[] decDegreeValues, int fromIndex, int toIndex,
+							double[] altitudeValues, double[] azimuthValues) {
+		for (int i = fromIndex; i < toIndex; i += SPECIES.length()) {
+			VectorMask<Double> inRange = SPECIES.indexInRange(i, toIndex);
+			DoubleVector localHourAngle = DoubleVector.broadcast(SPECIES, localSiderealTime)
+					.sub(DoubleVector.fromArray(SPECIES, raDegreeValues, i, inRange));
+			DoubleVector declination = DoubleVector.fromArray(SPECIES, decDegreeValues, i, inRange);
+
+			DoubleVector hourAngleQuadrant = roundToQuadrant(localHourAngle);
+			DoubleVector hourAngleRadians = reduceToRadians(localHourAngle, hourAngleQuadrant);
+			DoubleVector hourAngleSinRemainder = sinPolynomial(hourAngleRadians);
+			DoubleVector hourAngleCosRemainder = cosPolynomial(hourAngleRadians);
+			DoubleVector hourAngleQuarterTurns = quarterTurnsModuloFour(hourAngleQuadrant);
+			DoubleVector sinLocalHourAngle = sin(hourAngleSinRemainder, hourAngleCosRemainder, hourAngleQuarterTurns);
+			DoubleVector cosLocalHourAngle = cos(hourAngleSinRemainder, hourAngleCosRemainder, hourAngleQuarterTurns);
+
+			DoubleVector declinationQuadrant = roundToQuadrant(declination);
+			DoubleVector declinationRadians = reduceToRadians(declination, declinationQuadrant);
+			DoubleVector declinationSinRemainder = sinPolynomial(declinationRadians);
+			DoubleVector declinationCosRemainder = cosPolynomial(declinationRadians);
+			DoubleVector declinationQuarterTurns = quarterTurnsModuloFour(declinationQuadrant);
+			DoubleVector sinDeclination = sin(declinationSinRemainder, declinationCosRemainder, declinationQuarterTurns);
+			DoubleVector cosDeclination = cos(declinationSinRemainder, declinationCosRemainder, declinationQuarterTurns);
+
+			DoubleVector cosDeclinationCosHourAngle = cosDeclination.mul(cosLocalHourAngle);
+			DoubleVector sinAltitude = sinDeclination.mul(sinLatitude).add(cosDeclinationCosHourAngle.mul(cosLatitude));
+			DoubleVector west = cosDeclination.mul(sinLocalHourAngle);
+			DoubleVector north = sinDeclination.mul(cosLatitude).sub(cosDeclinationCosHourAngle.mul(sinLatitude));
+			DoubleVector cosAltitude = west.mul(west).add(north.mul(north)).sqrt();
+
+			atan2(sinAltitude, cosAltitude).mul(DEGREES_PER_RADIAN)
+					.intoArray(altitudeValues, i, inRange);
+			DoubleVector azimuth = atan2(west, north).mul(-DEGREES_PER_RADIAN);
+			azimuth.add(360, azimuth.compare(VectorOperators.LT, 0.0))
+					.intoArray(azimuthValues, i, inRange);
+		}
+	}
+
+	/**
+	 * Rounds a degree angle to the nearest multiple of 90 degrees, returned as the number of quarter turns.
+	 */
+	private static DoubleVector roundToQuadrant(DoubleVector degrees) {
+		return degrees.mul(1.0 / 90).add(ROUNDING_SHIFT).sub(ROUNDING_SHIFT);
+	}
+
+	/**
+	 * Returns the remainder of a degree angle after removing whole quarter turns, in radians within [-pi/4, pi/4].
+	 */
+	private static DoubleVector reduceToRadians(DoubleVector degrees, DoubleVector quadrant) {
+		return degrees.sub(quadrant.mul(90)).mul(RADIANS_PER_DEGREE);
+	}
+
+	/**
+	 * Sine of an angle from the sine and cosine of its remainder and its number of quarter turns modulo four.
+	 */
+	private static DoubleVector sin(DoubleVector sinRemainder, DoubleVector cosRemainder, DoubleVector quarterTurns) {
+		return sinRemainder
+				.blend(cosRemainder, quarterTurns.compare(VectorOperators.EQ, 1.0))
+				.blend(sinRemainder.neg(), quarterTurns.compare(VectorOperators.EQ, 2.0))
+				.blend(cosRemainder.neg(), quarterTurns.compare(VectorOperators.EQ, 3.0));
+	}
+
+	private static DoubleVector cos(DoubleVector sinRemainder, DoubleVector cosRemainder, DoubleVector quarterTurns) {
+		return cosRemainder
+				.blend(sinRemainder.neg(), quarterTurns.compare(VectorOperators.EQ, 1.0))
+				.blend(cosRemainder.neg(), quarterTurns.compare(VectorOperators.EQ, 2.0))
+				.blend(sinRemainder, quarterTurns.compare(VectorOperators.EQ, 3.0));
+	}
+
+	private static DoubleVector quarterTurnsModuloFour(DoubleVector quadrant) {
+		DoubleVector quarter = quadrant.mul(0.25);
+		DoubleVector rounded = quarter.add(ROUNDING_SHIFT).sub(ROUNDING_SHIFT);
+		DoubleVector floor = rounded.sub(1.0, rounded.compare(VectorOperators.GT, quarter));
+		return quadrant.sub(floor.mul(4));
+	}
+
+	private static DoubleVector sinPolynomial(DoubleVector x) {
+		DoubleVector z = x.mul(x);
+		DoubleVector polynomial = fma(fma(fma(fma(z.fma(S6, S5), z, S4), z, S3), z, S2), z, S1);
+		return z.mul(x).fma(polynomial, x);
+	}
+
+	private static DoubleVector cosPolynomial(DoubleVector x) {
+		DoubleVector z = x.mul(x);
+		DoubleVector polynomial = fma(fma(fma(fma(z.fma(C6, C5), z, C4), z, C3), z, C2), z, C1);
+		return z.mul(z).fma(polynomial, z.fma(-0.5, 1));
+	}
+
+	private static DoubleVector atan2(DoubleVector y, DoubleVector x) {
+		DoubleVector absY = y.abs();
+		DoubleVector absX = x.abs();
+		DoubleVector max = absY.max(absX);
+		DoubleVector ratio = absY.min(absX).div(max)
+				.blend(0.0, max.compare(VectorOperators.EQ, 0.0));
+
+		// atan(t) = pi/4 + atan((t - 1) / (t + 1)) brings the polynomial argument within tan(pi/8).
+		VectorMask<Double> aboveEighthTurn = ratio.compare(VectorOperators.GT, TAN_PI_OVER_8);
+		DoubleVector argument = ratio.blend(ratio.sub(1).div(ratio.add(1)), aboveEighthTurn);
+		DoubleVector angle = atanPolynomial(argument)
+				.add(Math.PI / 4, aboveEighthTurn);
+
+		angle = angle.blend(angle.neg().add(Math.PI / 2), absY.compare(VectorOperators.GT, absX));
+		angle = angle.blend(angle.neg().add(Math.PI), x.compare(VectorOperators.LT, 0.0));
+		return angle.blend(angle.neg(), y.compare(VectorOperators.LT, 0.0));
+	}
+
+	private static DoubleVector atanPolynomial(DoubleVector x) {
+		DoubleVector z = x.mul(x);
+		DoubleVector polynomial = DoubleVector.broadcast(SPECIES, ATAN_COEFFICIENTS[ATAN_COEFFICIENTS.length - 1]);
+		for (int i = ATAN_COEFFICIENTS.length - 2; i >= 0; i--) {
+			polynomial = fma(polynomial, z, ATAN_COEFFICIENTS[i]);
+		}
+		return x.sub(x.mul(z).mul(polynomial));
+	}
+
+	private static DoubleVector fma(DoubleVector a, DoubleVector b, double c) {
+		return a.fma(b, DoubleVector.broadcast(SPECIES, c));
+	}
+}
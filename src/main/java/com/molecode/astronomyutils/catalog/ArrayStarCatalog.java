@@ -0,0 +1,56 @@
+package com.molecode.astronomyutils.catalog;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+
+import java.util.List;
+
+/**
+ * Structure-of-arrays catalog keeping right ascension and declination in two parallel {@code double[]} columns.
+ */
+public class ArrayStarCatalog implements StarCatalog {
+
+	private final double[] raDegreeValues;
+	private final double[] decDegreeValues;
+
+	public ArrayStarCatalog(double[] raDegreeValues, double[] decDegreeValues) {
+		if (raDegreeValues.length != decDegreeValues.length) {
+			throw new IllegalArgumentException(String.format("Length of right ascensions and declinations are not consistent: %d, %d.", raDegreeValues.length, decDegreeValues.length));
+		}
+		this.raDegreeValues = raDegreeValues;
+		this.decDegreeValues = decDegreeValues;
+	}
+
+	public static ArrayStarCatalog of(List<EquatorialCoordinate> starEqCoordinates) {
+		double[] raDegreeValues = new double[starEqCoordinates.size()];
+		double[] decDegreeValues = new double[starEqCoordinates.size()];
+		for (int i = 0; i < raDegreeValues.length; i++) {
+			EquatorialCoordinate starEqCoordinate = starEqCoordinates.get(i);
+			raDegreeValues[i] = starEqCoordinate.getRaDegreeValue();
+			decDegreeValues[i] = starEqCoordinate.getDecDegreeValue();
+		}
+		return new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+	}
+
+	@Override
+	public int size() {
+		return raDegreeValues.length;
+	}
+
+	@Override
+	public double getRaDegreeValue(int index) {
+		return raDegreeValues[index];
+	}
+
+	@Override
+	public double getDecDegreeValue(int index) {
+		return decDegreeValues[index];
+	}
+
+	public double[] getRaDegreeValues() {
+		return raDegreeValues;
+	}
+
+	public double[] getDecDegreeValues() {
+		return decDegreeValues;
+	}
+}
@@ -0,0 +1,108 @@
+package com.molecode.astronomyutils.catalog;
+
+import java.util.Locale;
+
+/**
+ * Columns of a CSV star list, found by name in its header row: {@code ra} and {@code dec} are required, {@code id}
+ * and one extra column named by the reader are optional and any other column is ignored. Rows are split in place,
+ * so that each column is parsed from the row without creating a string.
+ */
+public final class CsvLayout {
+
+	private final int raColumn;
+	private final int decColumn;
+	private final int idColumn;
+	private final int extraColumn;
+	private final int columnCount;
+
+	private CsvLayout(int raColumn, int decColumn, int idColumn, int extraColumn) {
+		this.raColumn = raColumn;
+		this.decColumn = decColumn;
+		this.idColumn = idColumn;
+		this.extraColumn = extraColumn;
+		this.columnCount = Math.max(Math.max(raColumn, decColumn), Math.max(idColumn, extraColumn)) + 1;
+	}
+
+	public int getRaColumn() {
+		return raColumn;
+	}
+
+	public int getDecColumn() {
+		return decColumn;
+	}
+
+	/**
+	 * Returns the index of the {@code id} column, or -1 when there is none.
+	 */
+	public int getIdColumn() {
+		return idColumn;
+	}
+
+	/**
+	 * Returns the index of the extra column given to {@link #of(String, String)}, or -1 when there is none.
+	 */
+	public int getExtraColumn() {
+		return extraColumn;
+	}
+
+	/**
+	 * Returns an array large enough for the bounds filled by {@link #findColumns}.
+	 */
+	public int[] createColumnBounds() {
+		return new int[2 * columnCount];
+	}
+
+	/**
+	 * Fills the start and end of the used columns of the row between {@code start} and {@code end} into
+	 * {@code columnBounds}, at {@code 2 * column} and {@code 2 * column + 1}, ignoring the columns after them.
+	 */
+	public void findColumns(CharSequence row, int start, int end, int[] columnBounds) {
+		int columnStart = start;
+		for (int column = 0; column < columnCount; column++) {
+			if (columnStart > end) {
+				throw new IllegalArgumentException("Missing columns");
+			}
+			int columnEnd = columnStart;
+			while (columnEnd < end && row.charAt(columnEnd) != ',') {
+				columnEnd++;
+			}
+			columnBounds[2 * column] = columnStart;
+			columnBounds[2 * column + 1] = columnEnd;
+			columnStart = columnEnd + 1;
+		}
+	}
+
+	public static CsvLayout of(String headerLine, String extraColumnName) {
+		if (headerLine == null) {
+			throw new IllegalArgumentException("CSV input has no header row.");
+		}
+		int raColumn = -1;
+		int decColumn = -1;
+		int idColumn = -1;
+		int extraColumn = -1;
+		String[] columns = headerLine.split(",", -1);
+		for (int i = 0; i < columns.length; i++) {
+			String column = columns[i].trim().toLowerCase(Locale.ROOT);
+			switch (column) {
+				case "ra":
+					raColumn = i;
+					break;
+				case "dec":
+					decColumn = i;
+					break;
+				case "id":
+					idColumn = i;
+					break;
+				default:
+					if (column.equals(extraColumnName)) {
+						extraColumn = i;
+					}
+					break;
+			}
+		}
+		if (raColumn < 0 || decColumn < 0) {
+			throw new IllegalArgumentException("CSV header should contain ra and dec columns: " + headerLine);
+		}
+		return new CsvLayout(raColumn, decColumn, idColumn, extraColumn);
+	}
+}
@@ -0,0 +1,148 @@
+package com.molecode.astronomyutils.catalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Star catalog read zero-copy from a memory-mapped binary file. The file starts with a fixed size header followed by
+ * one little-endian column per field, each column holding the values of all stars:
+ * <pre>
+ * magic "ASTROCAT" | int version | int flags | long count
+ * double ra[count] | double dec[count] | long id[count] (optional) | float magnitude[count] (optional)
+ * </pre>
+ * Right ascension and declination are stored as degree values.
+ */
+public class MappedStarCatalog implements StarCatalog, Closeable {
+
+	static final byte[] MAGIC = "ASTROCAT".getBytes(StandardCharsets.US_ASCII);
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 24;
+
+	static final int FLAG_IDS = 1;
+	static final int FLAG_MAGNITUDES = 1 << 1;
+
+	private final FileChannel fileChannel;
+	private final int size;
+	private final DoubleBuffer raDegreeValues;
+	private final DoubleBuffer decDegreeValues;
+	private final LongBuffer ids;
+	private final FloatBuffer magnitudes;
+
+	private MappedStarCatalog(FileChannel fileChannel, int size, DoubleBuffer raDegreeValues, DoubleBuffer decDegreeValues,
+			LongBuffer ids, FloatBuffer magnitudes) {
+		this.fileChannel = fileChannel;
+		this.size = size;
+		this.raDegreeValues = raDegreeValues;
+		this.decDegreeValues = decDegreeValues;
+		this.ids = ids;
+		this.magnitudes = magnitudes;
+	}
+
+	public static MappedStarCatalog open(Path path) throws IOException {
+		FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			ByteBuffer header = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(HEADER_SIZE, fileChannel.size()))
+					.order(ByteOrder.LITTLE_ENDIAN);
+			int flags = readHeader(header, path);
+			int size = (int) header.getLong(16);
+
+			long offset = HEADER_SIZE;
+			DoubleBuffer raDegreeValues = map(fileChannel, offset, size, Double.BYTES).asDoubleBuffer();
+			offset += (long) size * Double.BYTES;
+			DoubleBuffer decDegreeValues = map(fileChannel, offset, size, Double.BYTES).asDoubleBuffer();
+			offset += (long) size * Double.BYTES;
+			LongBuffer ids = null;
+			if ((flags & FLAG_IDS) != 0) {
+				ids = map(fileChannel, offset, size, Long.BYTES).asLongBuffer();
+				offset += (long) size * Long.BYTES;
+			}
+			FloatBuffer magnitudes = null;
+			if ((flags & FLAG_MAGNITUDES) != 0) {
+				magnitudes = map(fileChannel, offset, size, Float.BYTES).asFloatBuffer();
+			}
+			return new MappedStarCatalog(fileChannel, size, raDegreeValues, decDegreeValues, ids, magnitudes);
+		} catch (IOException | RuntimeException e) {
+			fileChannel.close();
+			throw e;
+		}
+	}
+
+	private static int readHeader(ByteBuffer header, Path path) throws IOException {
+		if (header.remaining() < HEADER_SIZE) {
+			throw new IOException("Not a star catalog file: " + path);
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (header.get(i) != MAGIC[i]) {
+				throw new IOException("Not a star catalog file: " + path);
+			}
+		}
+		int version = header.getInt(8);
+		if (version != VERSION) {
+			throw new IOException(String.format("Unsupported star catalog version %d: %s", version, path));
+		}
+		long count = header.getLong(16);
+		if (count < 0 || count > Integer.MAX_VALUE / Double.BYTES) {
+			throw new IOException(String.format("Unsupported star count %d: %s", count, path));
+		}
+		return header.getInt(12);
+	}
+
+	private static ByteBuffer map(FileChannel fileChannel, long offset, int size, int valueBytes) throws IOException {
+		long length = (long) size * valueBytes;
+		if (offset + length > fileChannel.size()) {
+			throw new IOException("Star catalog file is truncated.");
+		}
+		return fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public double getRaDegreeValue(int index) {
+		return raDegreeValues.get(index);
+	}
+
+	@Override
+	public double getDecDegreeValue(int index) {
+		return decDegreeValues.get(index);
+	}
+
+	public boolean hasIds() {
+		return ids != null;
+	}
+
+	public long getId(int index) {
+		if (ids == null) {
+			throw new IllegalStateException("Star catalog has no ids.");
+		}
+		return ids.get(index);
+	}
+
+	public boolean hasMagnitudes() {
+		return magnitudes != null;
+	}
+
+	public float getMagnitude(int index) {
+		if (magnitudes == null) {
+			throw new IllegalStateException("Star catalog has no magnitudes.");
+		}
+		return magnitudes.get(index);
+	}
+
+	@Override
+	public void close() throws IOException {
+		fileChannel.close();
+	}
+}
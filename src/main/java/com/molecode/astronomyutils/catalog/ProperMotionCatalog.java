@@ -0,0 +1,197 @@
+package com.molecode.astronomyutils.catalog;
+
+import java.time.Instant;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Catalog of stars with proper motion, exposing their positions propagated to a chosen epoch. Changing the epoch
+ * propagates every star from the catalog epoch in one parallel pass over the primitive columns, after which the
+ * catalog is read by the batch locating paths like any other {@link StarCatalog}.
+ * <p>
+ * Proper motion in right ascension is {@code µα* = µα cos δ}, as in Hipparcos and Gaia, and both components are in
+ * milliarcseconds per Julian year. With parallaxes and radial velocities the propagation follows the rigorous
+ * space motion of the Hipparcos catalogue (vol. 1, section 1.5.5), which accounts for perspective acceleration;
+ * without them the stars move along great circles at a constant rate.
+ * <p>
+ * Setting the epoch is not thread safe, it must not overlap with reads of the catalog.
+ */
+public class ProperMotionCatalog implements StarCatalog {
+
+	public static final double J2000_EPOCH = 2000.0;
+
+	private static final int BLOCK_SIZE = 8192;
+
+	private static final long J2000_EPOCH_SECOND = Instant.parse("2000-01-01T12:00:00Z").getEpochSecond();
+	private static final double JULIAN_YEAR_SECONDS = 365.25 * 86_400;
+	private static final double RADIANS_PER_MILLIARCSECOND = Math.PI / (180 * 3600 * 1000);
+	// Astronomical unit in km yr/s, converting a radial velocity times a parallax into a proper motion.
+	private static final double ASTRONOMICAL_UNIT_KM_YEAR_PER_SECOND = 4.740470446;
+
+	private final double catalogEpoch;
+	private final double[] catalogRaDegreeValues;
+	private final double[] catalogDecDegreeValues;
+	private final double[] raProperMotions;
+	private final double[] decProperMotions;
+	private final double[] parallaxes;
+	private final double[] radialVelocities;
+	private final ForkJoinPool forkJoinPool;
+
+	private final double[] raDegreeValues;
+	private final double[] decDegreeValues;
+	private double epoch;
+
+	public ProperMotionCatalog(double catalogEpoch, double[] raDegreeValues, double[] decDegreeValues,
+							   double[] raProperMotions, double[] decProperMotions) {
+		this(catalogEpoch, raDegreeValues, decDegreeValues, raProperMotions, decProperMotions, null, null, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * @param catalogEpoch     Julian epoch of the catalog positions, e.g. 2016.0 for Gaia DR3
+	 * @param parallaxes       parallaxes in milliarcseconds, or {@code null}
+	 * @param radialVelocities radial velocities in km/s, or {@code null}; only used with parallaxes
+	 */
+	public ProperMotionCatalog(double catalogEpoch, double[] raDegreeValues, double[] decDegreeValues,
+							   double[] raProperMotions, double[] decProperMotions, double[] parallaxes, double[] radialVelocities,
+							   ForkJoinPool forkJoinPool) {
+		int size = raDegreeValues.length;
+		if (decDegreeValues.length != size || raProperMotions.length != size || decProperMotions.length != size
+				|| (parallaxes != null && parallaxes.length != size) || (radialVelocities != null && radialVelocities.length != size)) {
+			throw new IllegalArgumentException(String.format(
+					"Length of catalog columns are not consistent: ra %d, dec %d, pmra %d, pmdec %d, parallax %d, radial velocity %d.",
+					size, decDegreeValues.length, raProperMotions.length, decProperMotions.length,
+					parallaxes == null ? size : parallaxes.length, radialVelocities == null ? size : radialVelocities.length));
+		}
+		this.catalogEpoch = catalogEpoch;
+		this.catalogRaDegreeValues = raDegreeValues;
+		this.catalogDecDegreeValues = decDegreeValues;
+		this.raProperMotions = raProperMotions;
+		this.decProperMotions = decProperMotions;
+		this.parallaxes = parallaxes;
+		this.radialVelocities = parallaxes == null ? null : radialVelocities;
+		this.forkJoinPool = forkJoinPool;
+		this.raDegreeValues = raDegreeValues.clone();
+		this.decDegreeValues = decDegreeValues.clone();
+		this.epoch = catalogEpoch;
+	}
+
+	/**
+	 * Returns the Julian epoch of an instant, neglecting the difference between UTC and dynamical time.
+	 */
+	public static double toJulianEpoch(Instant instant) {
+		return J2000_EPOCH + ((instant.getEpochSecond() - J2000_EPOCH_SECOND) + instant.getNano() / 1e9) / JULIAN_YEAR_SECONDS;
+	}
+
+	public double getCatalogEpoch() {
+		return catalogEpoch;
+	}
+
+	public double getEpoch() {
+		return epoch;
+	}
+
+	public void setEpoch(Instant instant) {
+		setEpoch(toJulianEpoch(instant));
+	}
+
+	/**
+	 * Propagates every star to the given Julian epoch, unless the catalog is already at that epoch.
+	 */
+	public void setEpoch(double epoch) {
+		if (epoch == this.epoch) {
+			return;
+		}
+		forkJoinPool.invoke(new PropagateAction(epoch - catalogEpoch, 0, size()));
+		this.epoch = epoch;
+	}
+
+	/**
+	 * Propagates the stars in [fromIndex, toIndex) by the given number of Julian years, writing their positions at the
+	 * same indices of the output arrays, which may be the input ones.
+	 *
+	 * @param parallaxes       parallaxes in milliarcseconds, or {@code null}
+	 * @param radialVelocities radial velocities in km/s, or {@code null}
+	 */
+	public static void propagate(double years, double[] raDegreeValues, double[] decDegreeValues,
+								 double[] raProperMotions, double[] decProperMotions, double[] parallaxes, double[] radialVelocities,
+								 int fromIndex, int toIndex, double[] raDegreeValuesOut, double[] decDegreeValuesOut) {
+		for (int i = fromIndex; i < toIndex; i++) {
+			double rightAscension = Math.toRadians(raDegreeValues[i]);
+			double declination = Math.toRadians(decDegreeValues[i]);
+			double sinRightAscension = Math.sin(rightAscension);
+			double cosRightAscension = Math.cos(rightAscension);
+			double sinDeclination = Math.sin(declination);
+			double cosDeclination = Math.cos(declination);
+			double raProperMotion = raProperMotions[i] * RADIANS_PER_MILLIARCSECOND;
+			double decProperMotion = decProperMotions[i] * RADIANS_PER_MILLIARCSECOND;
+			// Radial proper motion in radians per year, the relative change of the distance.
+			double radialProperMotion = parallaxes == null || radialVelocities == null
+					? 0
+					: radialVelocities[i] * parallaxes[i] * RADIANS_PER_MILLIARCSECOND / ASTRONOMICAL_UNIT_KM_YEAR_PER_SECOND;
+
+			// Tangential motion along the east (p) and north (q) unit vectors at the star.
+			double motionX = -sinRightAscension * raProperMotion - sinDeclination * cosRightAscension * decProperMotion;
+			double motionY = cosRightAscension * raProperMotion - sinDeclination * sinRightAscension * decProperMotion;
+			double motionZ = cosDeclination * decProperMotion;
+
+			double distanceFactor = 1 + radialProperMotion * years;
+			double x = cosDeclination * cosRightAscension * distanceFactor + motionX * years;
+			double y = cosDeclination * sinRightAscension * distanceFactor + motionY * years;
+			double z = sinDeclination * distanceFactor + motionZ * years;
+
+			double raDegreeValue = Math.toDegrees(Math.atan2(y, x));
+			raDegreeValuesOut[i] = raDegreeValue < 0 ? raDegreeValue + 360 : raDegreeValue;
+			decDegreeValuesOut[i] = Math.toDegrees(Math.atan2(z, Math.sqrt(x * x + y * y)));
+		}
+	}
+
+	@Override
+	public int size() {
+		return raDegreeValues.length;
+	}
+
+	@Override
+	public double getRaDegreeValue(int index) {
+		return raDegreeValues[index];
+	}
+
+	@Override
+	public double getDecDegreeValue(int index) {
+		return decDegreeValues[index];
+	}
+
+	/**
+	 * Returns the right ascensions at the current epoch. The array is shared and must not be modified.
+	 */
+	public double[] getRaDegreeValues() {
+		return raDegreeValues;
+	}
+
+	public double[] getDecDegreeValues() {
+		return decDegreeValues;
+	}
+
+	private class PropagateAction extends RecursiveAction {
+
+		private final double years;
+		private final int fromIndex;
+		private final int toIndex;
+
+		private PropagateAction(double years, int fromIndex, int toIndex) {
+			this.years = years;
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+		}
+
+		@Override
+		protected void compute() {
+			if (toIndex - fromIndex > BLOCK_SIZE) {
+				int middleIndex = (fromIndex + toIndex) >>> 1;
+				invokeAll(new PropagateAction(years, fromIndex, middleIndex), new PropagateAction(years, middleIndex, toIndex));
+				return;
+			}
+			propagate(years, catalogRaDegreeValues, catalogDecDegreeValues, raProperMotions, decProperMotions, parallaxes, radialVelocities,
+					fromIndex, toIndex, raDegreeValues, decDegreeValues);
+		}
+	}
+}
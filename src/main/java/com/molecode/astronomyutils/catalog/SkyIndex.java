@@ -0,0 +1,218 @@
+package com.molecode.astronomyutils.catalog;
+
+import java.util.function.IntConsumer;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+/**
+ * Spatial index over a star catalog, splitting the sky into declination bands whose stars are sorted by right
+ * ascension. A cone query only visits the bands overlapping the cone and, within each band, the right ascension range
+ * covering it, so its cost grows with the number of nearby stars rather than with the catalog size.
+ */
+public class SkyIndex {
+
+	private static final double DEFAULT_BAND_HEIGHT = 1.0;
+
+	// Widens the candidate ranges so that round-off never drops a star lying right on the cone boundary.
+	private static final double MARGIN = 1e-9;
+
+	private final double bandHeight;
+	private final int bandCount;
+
+	// Start of each band in the sorted arrays, bandStarts[bandCount] being the total size.
+	private final int[] bandStarts;
+
+	private final int[] catalogIndices;
+	private final double[] raDegreeValues;
+	private final double[] xs;
+	private final double[] ys;
+	private final double[] zs;
+
+	public SkyIndex(StarCatalog starCatalog) {
+		this(starCatalog, DEFAULT_BAND_HEIGHT);
+	}
+
+	public SkyIndex(StarCatalog starCatalog, double bandHeight) {
+		if (!(bandHeight > 0 && bandHeight <= 180)) {
+			throw new IllegalArgumentException("Band height should be between 0 and 180 degree: " + bandHeight);
+		}
+		this.bandHeight = bandHeight;
+		this.bandCount = (int) Math.ceil(180 / bandHeight);
+
+		int size = starCatalog.size();
+		int[] bands = new int[size];
+		bandStarts = new int[bandCount + 1];
+		for (int i = 0; i < size; i++) {
+			bands[i] = bandOf(starCatalog.getDecDegreeValue(i));
+			bandStarts[bands[i] + 1]++;
+		}
+		for (int band = 0; band < bandCount; band++) {
+			bandStarts[band + 1] += bandStarts[band];
+		}
+
+		catalogIndices = new int[size];
+		raDegreeValues = new double[size];
+		int[] nextPositions = bandStarts.clone();
+		for (int i = 0; i < size; i++) {
+			int position = nextPositions[bands[i]]++;
+			catalogIndices[position] = i;
+			raDegreeValues[position] = normalizeRa(starCatalog.getRaDegreeValue(i));
+		}
+		for (int band = 0; band < bandCount; band++) {
+			sortByRa(bandStarts[band], bandStarts[band + 1] - 1);
+		}
+
+		xs = new double[size];
+		ys = new double[size];
+		zs = new double[size];
+		for (int position = 0; position < size; position++) {
+			double ra = toRadians(raDegreeValues[position]);
+			double dec = toRadians(starCatalog.getDecDegreeValue(catalogIndices[position]));
+			xs[position] = cos(dec) * cos(ra);
+			ys[position] = cos(dec) * sin(ra);
+			zs[position] = sin(dec);
+		}
+	}
+
+	public int size() {
+		return catalogIndices.length;
+	}
+
+	/**
+	 * Passes the catalog index of every star within {@code radius} degrees of the given equatorial position to the
+	 * consumer, in no particular order.
+	 */
+	public void queryCone(double raDegreeValue, double decDegreeValue, double radius, IntConsumer catalogIndexConsumer) {
+		if (radius < 0) {
+			return;
+		}
+		double centerRa = toRadians(raDegreeValue);
+		double centerDec = toRadians(decDegreeValue);
+		double centerX = cos(centerDec) * cos(centerRa);
+		double centerY = cos(centerDec) * sin(centerRa);
+		double centerZ = sin(centerDec);
+		double minDotProduct = cos(toRadians(Math.min(radius, 180)));
+
+		double minDec = decDegreeValue - radius - MARGIN;
+		double maxDec = decDegreeValue + radius + MARGIN;
+		int firstBand = bandOf(Math.max(minDec, -90));
+		int lastBand = bandOf(Math.min(maxDec, 90));
+
+		double raHalfWidth = 180;
+		if (minDec > -90 && maxDec < 90) {
+			double sinRatio = sin(toRadians(radius)) / cos(centerDec);
+			if (sinRatio < 1) {
+				raHalfWidth = toDegrees(asin(sinRatio)) + MARGIN;
+			}
+		}
+
+		for (int band = firstBand; band <= lastBand; band++) {
+			if (raHalfWidth >= 180) {
+				visit(bandStarts[band], bandStarts[band + 1], centerX, centerY, centerZ, minDotProduct, catalogIndexConsumer);
+				continue;
+			}
+			double fromRa = normalizeRa(raDegreeValue - raHalfWidth);
+			double toRa = normalizeRa(raDegreeValue + raHalfWidth);
+			if (fromRa <= toRa) {
+				visit(lowerBound(band, fromRa), upperBound(band, toRa), centerX, centerY, centerZ, minDotProduct, catalogIndexConsumer);
+			} else {
+				visit(bandStarts[band], upperBound(band, toRa), centerX, centerY, centerZ, minDotProduct, catalogIndexConsumer);
+				visit(lowerBound(band, fromRa), bandStarts[band + 1], centerX, centerY, centerZ, minDotProduct, catalogIndexConsumer);
+			}
+		}
+	}
+
+	private void visit(int fromPosition, int toPosition, double centerX, double centerY, double centerZ, double minDotProduct,
+			IntConsumer catalogIndexConsumer) {
+		for (int position = fromPosition; position < toPosition; position++) {
+			if (xs[position] * centerX + ys[position] * centerY + zs[position] * centerZ >= minDotProduct) {
+				catalogIndexConsumer.accept(catalogIndices[position]);
+			}
+		}
+	}
+
+	private int lowerBound(int band, double raDegreeValue) {
+		int low = bandStarts[band];
+		int high = bandStarts[band + 1];
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (raDegreeValues[middle] < raDegreeValue) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private int upperBound(int band, double raDegreeValue) {
+		int low = bandStarts[band];
+		int high = bandStarts[band + 1];
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (raDegreeValues[middle] <= raDegreeValue) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private int bandOf(double decDegreeValue) {
+		int band = (int) ((decDegreeValue + 90) / bandHeight);
+		return Math.max(0, Math.min(band, bandCount - 1));
+	}
+
+	private static double normalizeRa(double raDegreeValue) {
+		double normalizedValue = raDegreeValue % 360;
+		if (normalizedValue < 0) {
+			normalizedValue += 360;
+		}
+		return normalizedValue;
+	}
+
+	private void sortByRa(int low, int high) {
+		while (high - low > 16) {
+			double pivot = raDegreeValues[(low + high) >>> 1];
+			int left = low;
+			int right = high;
+			while (left <= right) {
+				while (raDegreeValues[left] < pivot) {
+					left++;
+				}
+				while (raDegreeValues[right] > pivot) {
+					right--;
+				}
+				if (left <= right) {
+					swap(left++, right--);
+				}
+			}
+			if (right - low < high - left) {
+				sortByRa(low, right);
+				low = left;
+			} else {
+				sortByRa(left, high);
+				high = right;
+			}
+		}
+		for (int i = low + 1; i <= high; i++) {
+			for (int j = i; j > low && raDegreeValues[j - 1] > raDegreeValues[j]; j--) {
+				swap(j - 1, j);
+			}
+		}
+	}
+
+	private void swap(int first, int second) {
+		double raDegreeValue = raDegreeValues[first];
+		raDegreeValues[first] = raDegreeValues[second];
+		raDegreeValues[second] = raDegreeValue;
+		int catalogIndex = catalogIndices[first];
+		catalogIndices[first] = catalogIndices[second];
+		catalogIndices[second] = catalogIndex;
+	}
+}
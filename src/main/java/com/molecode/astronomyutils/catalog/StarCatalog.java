@@ -0,0 +1,14 @@
+package com.molecode.astronomyutils.catalog;
+
+/**
+ * Read-only, index based view of a star catalog. Coordinates are exposed as primitive degree values so that batch
+ * computations can walk the catalog without materializing {@code EquatorialCoordinate} objects.
+ */
+public interface StarCatalog {
+
+	int size();
+
+	double getRaDegreeValue(int index);
+
+	double getDecDegreeValue(int index);
+}
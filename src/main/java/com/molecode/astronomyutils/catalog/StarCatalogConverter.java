@@ -0,0 +1,254 @@
+package com.molecode.astronomyutils.catalog;
+
+import com.molecode.astronomyutils.coordinates.SexagesimalParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static com.molecode.astronomyutils.catalog.MappedStarCatalog.FLAG_IDS;
+import static com.molecode.astronomyutils.catalog.MappedStarCatalog.FLAG_MAGNITUDES;
+import static com.molecode.astronomyutils.catalog.MappedStarCatalog.HEADER_SIZE;
+import static com.molecode.astronomyutils.catalog.MappedStarCatalog.MAGIC;
+import static com.molecode.astronomyutils.catalog.MappedStarCatalog.VERSION;
+
+/**
+ * Converts a CSV star catalog into the binary format read by {@link MappedStarCatalog}. The CSV must start with a
+ * header row naming its columns: {@code ra} and {@code dec} are required, {@code id} and {@code magnitude} are
+ * optional and any other column is ignored. Angles are degree values or sexagesimal, as read by
+ * {@link SexagesimalParser#parseRightAscension(ByteBuffer, int, int)} and
+ * {@link SexagesimalParser#parseDegrees(ByteBuffer, int, int)}.
+ * <p>
+ * The CSV is memory mapped and parsed in place, without creating a string per row. It is read twice, once to count
+ * the stars and once to write them, so memory use does not depend on the catalog size.
+ */
+public class StarCatalogConverter {
+
+	// Windows of the CSV mapped at once, each one holding whole lines.
+	private static final long WINDOW_SIZE = 1L << 30;
+	private static final long MAX_LINE_LENGTH = 1 << 16;
+
+	private StarCatalogConverter() {
+	}
+
+	public static int convertCsv(Path csvPath, Path catalogPath) throws IOException {
+		try (FileChannel csvChannel = FileChannel.open(csvPath, StandardOpenOption.READ)) {
+			String headerLine = readHeaderLine(csvChannel);
+			CsvLayout csvLayout = CsvLayout.of(headerLine, "magnitude");
+			// The header is decoded as ISO-8859-1, one character per byte, so the rows start right after it.
+			long rowsPosition = Math.min(csvChannel.size(), headerLine.length() + 1L);
+			long count = forEachRow(csvChannel, rowsPosition, null);
+			if (count > Integer.MAX_VALUE / Double.BYTES) {
+				throw new IllegalArgumentException("Too many stars in catalog: " + count);
+			}
+			writeCatalog(csvChannel, rowsPosition, csvLayout, (int) count, catalogPath);
+			return (int) count;
+		}
+	}
+
+	private static void writeCatalog(FileChannel csvChannel, long rowsPosition, CsvLayout csvLayout, int count, Path catalogPath) throws IOException {
+		try (FileChannel fileChannel = FileChannel.open(catalogPath,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			int idColumn = csvLayout.getIdColumn();
+			int magnitudeColumn = csvLayout.getExtraColumn();
+			int flags = (idColumn >= 0 ? FLAG_IDS : 0) | (magnitudeColumn >= 0 ? FLAG_MAGNITUDES : 0);
+			writeHeader(fileChannel, flags, count);
+
+			long offset = HEADER_SIZE;
+			MappedByteBuffer raDegreeValues = map(fileChannel, offset, count, Double.BYTES);
+			offset += (long) count * Double.BYTES;
+			MappedByteBuffer decDegreeValues = map(fileChannel, offset, count, Double.BYTES);
+			offset += (long) count * Double.BYTES;
+			MappedByteBuffer ids = null;
+			if (idColumn >= 0) {
+				ids = map(fileChannel, offset, count, Long.BYTES);
+				offset += (long) count * Long.BYTES;
+			}
+			MappedByteBuffer magnitudes = magnitudeColumn >= 0 ? map(fileChannel, offset, count, Float.BYTES) : null;
+
+			MappedByteBuffer catalogIds = ids;
+			int raColumn = csvLayout.getRaColumn();
+			int decColumn = csvLayout.getDecColumn();
+			int[] columnBounds = csvLayout.createColumnBounds();
+			forEachRow(csvChannel, rowsPosition, (bytes, chars, start, end, lineNumber) -> {
+				try {
+					csvLayout.findColumns(chars, start, end, columnBounds);
+					raDegreeValues.putDouble(SexagesimalParser.parseRightAscension(bytes,
+							columnBounds[2 * raColumn], columnBounds[2 * raColumn + 1]));
+					decDegreeValues.putDouble(SexagesimalParser.parseDegrees(bytes,
+							columnBounds[2 * decColumn], columnBounds[2 * decColumn + 1]));
+					if (catalogIds != null) {
+						catalogIds.putLong(parseLong(bytes, columnBounds[2 * idColumn], columnBounds[2 * idColumn + 1]));
+					}
+					if (magnitudes != null) {
+						magnitudes.putFloat((float) SexagesimalParser.parseDecimal(bytes,
+								columnBounds[2 * magnitudeColumn], columnBounds[2 * magnitudeColumn + 1]));
+					}
+				} catch (IllegalArgumentException e) {
+					byte[] line = new byte[end - start];
+					bytes.get(start, line);
+					throw new IllegalArgumentException(String.format("Malformed catalog row at line %d: %s",
+							lineNumber, new String(line, StandardCharsets.UTF_8)), e);
+				}
+			});
+			raDegreeValues.force();
+			decDegreeValues.force();
+			if (ids != null) {
+				ids.force();
+			}
+			if (magnitudes != null) {
+				magnitudes.force();
+			}
+		}
+	}
+
+	private static String readHeaderLine(FileChannel csvChannel) throws IOException {
+		ByteBuffer window = csvChannel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(csvChannel.size(), MAX_LINE_LENGTH));
+		int end = 0;
+		while (end < window.limit() && window.get(end) != '\n') {
+			end++;
+		}
+		if (window.limit() == 0) {
+			throw new IllegalArgumentException("Catalog CSV has no header row.");
+		}
+		if (end == MAX_LINE_LENGTH) {
+			throw new IllegalArgumentException("Catalog CSV header row is too long.");
+		}
+		byte[] header = new byte[end];
+		window.get(0, header);
+		return new String(header, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Maps the CSV from the given position, window by window, each window ending at a line break, and passes every
+	 * non-blank line without its line break to the consumer, if any, along with a view of the window as characters
+	 * for {@link CsvLayout#findColumns}. Returns the number of non-blank lines.
+	 */
+	private static long forEachRow(FileChannel csvChannel, long position, RowConsumer consumer) throws IOException {
+		long size = csvChannel.size();
+		long count = 0;
+		int lineNumber = 2;
+		while (position < size) {
+			long windowSize = Math.min(WINDOW_SIZE, size - position);
+			ByteBuffer window = csvChannel.map(FileChannel.MapMode.READ_ONLY, position, windowSize);
+			CharSequence chars = new ByteChars(window);
+			int windowEnd = (int) windowSize;
+			if (position + windowSize < size) {
+				while (windowEnd > 0 && window.get(windowEnd - 1) != '\n') {
+					windowEnd--;
+				}
+				if (windowEnd == 0) {
+					throw new IllegalArgumentException("Catalog CSV line too long at line " + lineNumber);
+				}
+			}
+			int lineStart = 0;
+			while (lineStart < windowEnd) {
+				int lineEnd = lineStart;
+				while (lineEnd < windowEnd && window.get(lineEnd) != '\n') {
+					lineEnd++;
+				}
+				if (!isBlank(window, lineStart, lineEnd)) {
+					count++;
+					if (consumer != null) {
+						consumer.accept(window, chars, lineStart, lineEnd, lineNumber);
+					}
+				}
+				lineNumber++;
+				lineStart = lineEnd + 1;
+			}
+			position += windowEnd;
+		}
+		return count;
+	}
+
+	private static boolean isBlank(ByteBuffer bytes, int start, int end) {
+		for (int i = start; i < end; i++) {
+			if (bytes.get(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long parseLong(ByteBuffer bytes, int start, int end) {
+		while (start < end && bytes.get(start) <= ' ') {
+			start++;
+		}
+		while (end > start && bytes.get(end - 1) <= ' ') {
+			end--;
+		}
+		boolean negative = start < end && bytes.get(start) == '-';
+		int i = negative || (start < end && bytes.get(start) == '+') ? start + 1 : start;
+		if (i == end || end - i > 18) {
+			throw new IllegalArgumentException("Invalid id");
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			int digit = bytes.get(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new IllegalArgumentException("Invalid id");
+			}
+			value = value * 10 + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private static void writeHeader(FileChannel fileChannel, int flags, int count) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		header.put(MAGIC).putInt(VERSION).putInt(flags).putLong(count).flip();
+		while (header.hasRemaining()) {
+			fileChannel.write(header, header.position());
+		}
+	}
+
+	private static MappedByteBuffer map(FileChannel fileChannel, long offset, int count, int valueBytes) throws IOException {
+		MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, offset, (long) count * valueBytes);
+		buffer.order(ByteOrder.LITTLE_ENDIAN);
+		return buffer;
+	}
+
+	private interface RowConsumer {
+
+		void accept(ByteBuffer bytes, CharSequence chars, int start, int end, int lineNumber);
+	}
+
+	/**
+	 * Bytes of a window read as ISO-8859-1 characters, enough to find the column separators of its rows.
+	 */
+	private static final class ByteChars implements CharSequence {
+
+		private final ByteBuffer bytes;
+
+		private ByteChars(ByteBuffer bytes) {
+			this.bytes = bytes;
+		}
+
+		@Override
+		public int length() {
+			return bytes.limit();
+		}
+
+		@Override
+		public char charAt(int index) {
+			return (char) (bytes.get(index) & 0xFF);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			byte[] chars = new byte[end - start];
+			bytes.get(start, chars);
+			return new String(chars, StandardCharsets.ISO_8859_1);
+		}
+
+		@Override
+		public String toString() {
+			return subSequence(0, length()).toString();
+		}
+	}
+}
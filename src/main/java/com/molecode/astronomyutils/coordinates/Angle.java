@@ -1,7 +1,5 @@
 package com.molecode.astronomyutils.coordinates;
 
-import org.apache.commons.lang3.tuple.Triple;
-
 public class Angle {
 
 	public enum Descriptor {
@@ -10,14 +8,13 @@ public class Angle {
 	}
 
 	private final double degreeValue;
-	private final int degree;
-	private final int arcMinute;
-	private final double arcSecond;
-
 	private final double hourValue;
-	private final int hour;
-	private final int minute;
-	private final double second;
+
+	// Subdivisions given to the constructor are kept as is, all the others are derived from the value on demand.
+	private final Descriptor subdivisionDescriptor;
+	private final int firstSubdivision;
+	private final int secondSubdivision;
+	private final double thirdSubdivision;
 
 	public Angle(Descriptor descriptor, double value) {
 		switch (descriptor) {
@@ -32,15 +29,10 @@ public class Angle {
 			default:
 				throw new IllegalArgumentException("Unsupported descriptor: " + descriptor);
 		}
-		Triple<Integer, Integer, Double> degreeSubdivisions = valueToSubdivisions(degreeValue);
-		degree = degreeSubdivisions.getLeft();
-		arcMinute = degreeSubdivisions.getMiddle();
-		arcSecond = degreeSubdivisions.getRight();
-
-		Triple<Integer, Integer, Double> hourSubdivisions = valueToSubdivisions(hourValue);
-		hour = hourSubdivisions.getLeft();
-		minute = hourSubdivisions.getMiddle();
-		second = hourSubdivisions.getRight();
+		subdivisionDescriptor = null;
+		firstSubdivision = 0;
+		secondSubdivision = 0;
+		thirdSubdivision = 0;
 	}
 
 	public Angle(Descriptor descriptor, int firstSubdivision, int secondSubdivision, double thirdSubdivision) {
@@ -49,37 +41,22 @@ public class Angle {
 		switch (descriptor) {
 			case DEGREE_ANGLE:
 				degreeValue = value;
-
-				degree = firstSubdivision;
-				arcMinute = secondSubdivision;
-				arcSecond = thirdSubdivision;
-
 				hourValue = degreeValue / 15;
-
-				Triple<Integer, Integer, Double> hourSubdivisions = valueToSubdivisions(hourValue);
-				hour = hourSubdivisions.getLeft();
-				minute = hourSubdivisions.getMiddle();
-				second = hourSubdivisions.getRight();
 				break;
 
 			case HOUR_ANGLE:
 				hourValue = value;
-				hour = firstSubdivision;
-				minute = secondSubdivision;
-				second = thirdSubdivision;
-
 				degreeValue = hourValue * 15;
-
-				Triple<Integer, Integer, Double> degreeSubdivisions = valueToSubdivisions(degreeValue);
-				degree = degreeSubdivisions.getLeft();
-				arcMinute = degreeSubdivisions.getMiddle();
-				arcSecond = degreeSubdivisions.getRight();
 				break;
 
 			default:
 				throw new IllegalArgumentException("Unsupported descriptor: " + descriptor);
 
 		}
+		this.subdivisionDescriptor = descriptor;
+		this.firstSubdivision = firstSubdivision;
+		this.secondSubdivision = secondSubdivision;
+		this.thirdSubdivision = thirdSubdivision;
 	}
 
 	private static void validateSubdivisions(int firstSubdivision, int secondSubdivision, double thirdSubdivision) {
@@ -89,11 +66,16 @@ public class Angle {
 		}
 	}
 
-	private static Triple<Integer, Integer, Double> valueToSubdivisions(double value) {
-		int firstSubdivision = (int) value;
-		int secondSubdivision = (int) ((value - firstSubdivision) * 60);
-		double thirdSubdivision = ((value - firstSubdivision) * 60 - secondSubdivision) * 60;
-		return Triple.of(firstSubdivision, secondSubdivision, thirdSubdivision);
+	private static int valueToFirstSubdivision(double value) {
+		return (int) value;
+	}
+
+	private static int valueToSecondSubdivision(double value) {
+		return (int) ((value - valueToFirstSubdivision(value)) * 60);
+	}
+
+	private static double valueToThirdSubdivision(double value) {
+		return ((value - valueToFirstSubdivision(value)) * 60 - valueToSecondSubdivision(value)) * 60;
 	}
 
 	private static double subdivisionsToValue(int firstSubdivision, int secondSubdivision, double thirdSubdivision) {
@@ -105,15 +87,15 @@ public class Angle {
 	}
 
 	public int getDegree() {
-		return degree;
+		return subdivisionDescriptor == Descriptor.DEGREE_ANGLE ? firstSubdivision : valueToFirstSubdivision(degreeValue);
 	}
 
 	public int getArcMinute() {
-		return arcMinute;
+		return subdivisionDescriptor == Descriptor.DEGREE_ANGLE ? secondSubdivision : valueToSecondSubdivision(degreeValue);
 	}
 
 	public double getArcSecond() {
-		return arcSecond;
+		return subdivisionDescriptor == Descriptor.DEGREE_ANGLE ? thirdSubdivision : valueToThirdSubdivision(degreeValue);
 	}
 
 	public double getHourValue() {
@@ -121,27 +103,32 @@ public class Angle {
 	}
 
 	public int getHour() {
-		return hour;
+		return subdivisionDescriptor == Descriptor.HOUR_ANGLE ? firstSubdivision : valueToFirstSubdivision(hourValue);
 	}
 
 	public int getMinute() {
-		return minute;
+		return subdivisionDescriptor == Descriptor.HOUR_ANGLE ? secondSubdivision : valueToSecondSubdivision(hourValue);
 	}
 
 	public double getSecond() {
-		return second;
+		return subdivisionDescriptor == Descriptor.HOUR_ANGLE ? thirdSubdivision : valueToThirdSubdivision(hourValue);
 	}
 
 	public double toRadians() {
 		return Math.toRadians(degreeValue);
 	}
 
+	/**
+	 * Appends the same text as {@link #toString()}.
+	 */
+	public StringBuilder appendTo(StringBuilder builder) {
+		builder.append("Angle{degree: ");
+		CoordinateFormatter.appendDegrees(builder, getDegree(), getArcMinute(), getArcSecond(), degreeValue).append(", hour: ");
+		return CoordinateFormatter.appendHours(builder, getHour(), getMinute(), getSecond(), hourValue).append('}');
+	}
+
 	@Override
 	public String toString() {
-		return String.format(
-				"Angle{degree: %dº%d'%.4f\"(%.4f), hour: %dh%dm%.4f(%.4f)}",
-				degree, arcMinute, arcSecond, degreeValue,
-				hour, minute, second, hourValue
-		);
+		return appendTo(new StringBuilder(96)).toString();
 	}
 }
@@ -0,0 +1,164 @@
+package com.molecode.astronomyutils.coordinates;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Appends angles and decimal values to a {@link StringBuilder} or any {@link Appendable} without going through
+ * {@link String#format(String, Object...)}, producing the same text as the {@code %d} and {@code %.Nf} conversions.
+ * Decimal values are written with a dot, as in {@link Locale#ROOT}, for machine readable output; the degree and hour
+ * angles of the coordinate {@code toString} methods follow the default format locale, as {@code String.format} does.
+ * <p>
+ * Fixed precision digits are generated from the value scaled by a power of ten, its rounding error being recovered
+ * with an fma. {@link java.util.Formatter} rounds the shortest decimal representation half up, which can differ from
+ * rounding the binary value only when it lies within a few units in the last place of a tie; those rare values, and
+ * the ones too large for a long, are formatted by {@link String#format(Locale, String, Object...)}.
+ */
+public final class CoordinateFormatter {
+
+	public static final int MAX_FRACTION_DIGITS = 15;
+
+	private static final long[] LONG_POWERS_OF_TEN = {
+			1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+			10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+			1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+	};
+
+	// Scaled values below 2^52 have a unit in the last place of at most one half, so their integer part is exact.
+	private static final double MAX_SCALED_VALUE = 0x1p52;
+
+	private static volatile LocaleSymbols lastSymbols = new LocaleSymbols(Locale.ROOT);
+
+	private CoordinateFormatter() {
+	}
+
+	/**
+	 * Appends a value with the given number of fraction digits, as {@code %.Nf} does.
+	 */
+	public static StringBuilder appendFixed(StringBuilder builder, double value, int fractionDigits) {
+		try {
+			appendFixed((Appendable) builder, value, fractionDigits);
+		} catch (IOException e) {
+			// StringBuilder does not throw.
+			throw new UncheckedIOException(e);
+		}
+		return builder;
+	}
+
+	public static void appendFixed(Appendable out, double value, int fractionDigits) throws IOException {
+		appendFixed(out, value, fractionDigits, Locale.ROOT, '.');
+	}
+
+	private static void appendFixed(Appendable out, double value, int fractionDigits, Locale locale, char decimalSeparator) throws IOException {
+		if (fractionDigits < 0 || fractionDigits > MAX_FRACTION_DIGITS) {
+			throw new IllegalArgumentException("Fraction digits should be between 0 and " + MAX_FRACTION_DIGITS + ": " + fractionDigits);
+		}
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			out.append(Double.toString(value));
+			return;
+		}
+		double magnitude = Math.abs(value);
+		double power = LONG_POWERS_OF_TEN[fractionDigits];
+		double scaled = magnitude * power;
+		if (scaled < MAX_SCALED_VALUE) {
+			long integer = (long) scaled;
+			double fraction = (scaled - integer) + Math.fma(magnitude, power, -scaled);
+			if (Math.abs(fraction - 0.5) > 2 * Math.ulp(scaled)) {
+				if (Double.compare(value, 0.0) < 0) {
+					out.append('-');
+				}
+				appendScaled(out, fraction > 0.5 ? integer + 1 : integer, fractionDigits, decimalSeparator);
+				return;
+			}
+		}
+		out.append(String.format(locale, "%." + fractionDigits + "f", value));
+	}
+
+	/**
+	 * Appends a degree angle as {@code %dº%d'%.4f"(%.4f)} does in the default format locale.
+	 */
+	public static StringBuilder appendDegrees(StringBuilder builder, int degree, int arcMinute, double arcSecond, double degreeValue) {
+		LocaleSymbols symbols = getDefaultSymbols();
+		if (!symbols.asciiDigits) {
+			return builder.append(String.format(symbols.locale, "%dº%d'%.4f\"(%.4f)", degree, arcMinute, arcSecond, degreeValue));
+		}
+		builder.append(degree).append('º').append(arcMinute).append('\'');
+		appendLocalized(builder, arcSecond, symbols).append("\"(");
+		return appendLocalized(builder, degreeValue, symbols).append(')');
+	}
+
+	/**
+	 * Appends an hour angle as {@code %dh%dm%.4f(%.4f)} does in the default format locale.
+	 */
+	public static StringBuilder appendHours(StringBuilder builder, int hour, int minute, double second, double hourValue) {
+		LocaleSymbols symbols = getDefaultSymbols();
+		if (!symbols.asciiDigits) {
+			return builder.append(String.format(symbols.locale, "%dh%dm%.4f(%.4f)", hour, minute, second, hourValue));
+		}
+		builder.append(hour).append('h').append(minute).append('m');
+		appendLocalized(builder, second, symbols).append('(');
+		return appendLocalized(builder, hourValue, symbols).append(')');
+	}
+
+	private static StringBuilder appendLocalized(StringBuilder builder, double value, LocaleSymbols symbols) {
+		try {
+			appendFixed(builder, value, 4, symbols.locale, symbols.decimalSeparator);
+		} catch (IOException e) {
+			// StringBuilder does not throw.
+			throw new UncheckedIOException(e);
+		}
+		return builder;
+	}
+
+	private static LocaleSymbols getDefaultSymbols() {
+		Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+		LocaleSymbols symbols = lastSymbols;
+		if (!symbols.locale.equals(locale)) {
+			symbols = new LocaleSymbols(locale);
+			lastSymbols = symbols;
+		}
+		return symbols;
+	}
+
+	private static void appendScaled(Appendable out, long scaled, int fractionDigits, char decimalSeparator) throws IOException {
+		long divisor = LONG_POWERS_OF_TEN[fractionDigits];
+		appendDigits(out, scaled / divisor, 1);
+		if (fractionDigits > 0) {
+			out.append(decimalSeparator);
+			appendDigits(out, scaled % divisor, fractionDigits);
+		}
+	}
+
+	/**
+	 * Appends a non-negative value padded with zeros to the given number of digits.
+	 */
+	private static void appendDigits(Appendable out, long value, int minDigits) throws IOException {
+		int digits = 1;
+		while (digits < LONG_POWERS_OF_TEN.length && LONG_POWERS_OF_TEN[digits] <= value) {
+			digits++;
+		}
+		for (int i = Math.max(digits, minDigits) - 1; i >= 0; i--) {
+			out.append((char) ('0' + value / LONG_POWERS_OF_TEN[i] % 10));
+		}
+	}
+
+	/**
+	 * Decimal separator of a locale, and whether it writes ASCII digits, in which case the text of {@code %d} and
+	 * {@code %.Nf} can be produced here.
+	 */
+	private static final class LocaleSymbols {
+
+		private final Locale locale;
+		private final char decimalSeparator;
+		private final boolean asciiDigits;
+
+		private LocaleSymbols(Locale locale) {
+			DecimalFormatSymbols decimalFormatSymbols = DecimalFormatSymbols.getInstance(locale);
+			this.locale = locale;
+			this.decimalSeparator = decimalFormatSymbols.getDecimalSeparator();
+			this.asciiDigits = decimalFormatSymbols.getZeroDigit() == '0';
+		}
+	}
+}
@@ -10,14 +10,28 @@ public class EquatorialCoordinate {
 
     public EquatorialCoordinate(int raHour, int raMinute, double raSecond, int decDegree, int decMinute, double decSecond) {
         this.rightAscension = new Angle(HOUR_ANGLE, raHour, raMinute, raSecond);
-        if (rightAscension.getHourValue() < 0 || rightAscension.getHourValue() > 24) {
+        validateRightAscension(rightAscension.getHourValue());
+        this.declination = new Angle(DEGREE_ANGLE, decDegree, decMinute, decSecond);
+        validateDeclination(declination.getDegreeValue());
+    }
+
+    public EquatorialCoordinate(double raHourValue, double decDegreeValue) {
+        validateRightAscension(raHourValue);
+        validateDeclination(decDegreeValue);
+        this.rightAscension = new Angle(HOUR_ANGLE, raHourValue);
+        this.declination = new Angle(DEGREE_ANGLE, decDegreeValue);
+    }
+
+    private static void validateRightAscension(double raHourValue) {
+        if (raHourValue < 0 || raHourValue > 24) {
             throw new IllegalArgumentException("Value of right ascension should be between 0 and 24 hour.");
         }
-        this.declination = new Angle(DEGREE_ANGLE, decDegree, decMinute, decSecond);
-        if (declination.getDegreeValue() < -90 || declination.getDegreeValue() > 90) {
+    }
+
+    private static void validateDeclination(double decDegreeValue) {
+        if (decDegreeValue < -90 || decDegreeValue > 90) {
             throw new IllegalArgumentException("Value of declination should be between -90 and 90 degree.");
         }
-
     }
 
     public double getRaDegreeValue() {
@@ -60,13 +74,17 @@ public class EquatorialCoordinate {
         return declination.getDegreeValue();
     }
 
+    /**
+     * Appends the same text as {@link #toString()}.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append("EquatorialCoordinate{ra: ");
+        CoordinateFormatter.appendHours(builder, getRaHour(), getRaMinute(), getRaSecond(), getRaHourValue()).append(", dec: ");
+        return CoordinateFormatter.appendDegrees(builder, getDecDegree(), getDecMinute(), getDecSecond(), getDecDegreeValue()).append('}');
+    }
+
     @Override
     public String toString() {
-        return String.format(
-                "EquatorialCoordinate{ra: %dh%dm%.4f(%.4f), dec: %dº%d'%.4f\"(%.4f)}",
-                getRaHour(), getRaMinute(), getRaSecond(), getRaHourValue(),
-                getDecDegree(), getDecMinute(), getDecSecond(), getDecDegreeValue()
-
-        );
+        return appendTo(new StringBuilder(96)).toString();
     }
 }
@@ -64,6 +64,17 @@ public class GeographicCoordinate {
         }
     }
 
+    public GeographicCoordinate(double latDegreeValue, double longDegreeValue) {
+        if (abs(latDegreeValue) > 90) {
+            throw new IllegalArgumentException("Latitude should be between 0º to 90º.");
+        }
+        if (abs(longDegreeValue) > 180) {
+            throw new IllegalArgumentException("Value of longitude should be between 0º to 180º.");
+        }
+        this.latitude = new Angle(DEGREE_ANGLE, latDegreeValue);
+        this.longitude = new Angle(DEGREE_ANGLE, longDegreeValue);
+    }
+
     public Optional<LatitudeDirection> getLatDirection() {
         if (latitude.getDegreeValue() > 0) {
             return Optional.of(NORTH);
@@ -116,12 +127,21 @@ public class GeographicCoordinate {
         return longitude.getDegreeValue();
     }
 
+    /**
+     * Appends the same text as {@link #toString()}.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append("GeographicCoordinate{lat: ");
+        CoordinateFormatter.appendDegrees(builder, getLatDegree(), getLatMinute(), getLatSecond(), getLatDegreeValue())
+                .append(' ').append(latitude.getDegreeValue() > 0 ? NORTH.getSymbol() : latitude.getDegreeValue() < 0 ? SOUTH.getSymbol() : "-")
+                .append(", long: ");
+        return CoordinateFormatter.appendDegrees(builder, getLongDegree(), getLongMinute(), getLongSecond(), getLongDegreeValue())
+                .append(' ').append(longitude.getDegreeValue() > 0 ? EAST.getSymbol() : longitude.getDegreeValue() < 0 ? WEST.getSymbol() : "-")
+                .append('}');
+    }
+
     @Override
     public String toString() {
-        return String.format(
-                "GeographicCoordinate{lat: %dº%d'%.4f\"(%.4f) %s, long: %dº%d'%.4f\"(%.4f) %s}",
-                getLatDegree(), getLatMinute(), getLatSecond(), getLatDegreeValue(), getLatDirection().map(LatitudeDirection::getSymbol).orElse("-"),
-                getLongDegree(), getLongMinute(), getLongSecond(), getLongDegreeValue(), getLongDirection().map(LongitudeDirection::getSymbol).orElse("-")
-        );
+        return appendTo(new StringBuilder(128)).toString();
     }
 }
@@ -66,12 +66,17 @@ public class HorizontalCoordinate {
         return azimuth.getDegreeValue();
     }
 
+    /**
+     * Appends the same text as {@link #toString()}.
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        builder.append("HorizontalCoordinate{altitude: ");
+        CoordinateFormatter.appendDegrees(builder, getAltDegree(), getAltMinute(), getAltSecond(), getAltDegreeValue()).append(", azimuth: ");
+        return CoordinateFormatter.appendDegrees(builder, getAzDegree(), getAzMinute(), getAzSecond(), getAzDegreeValue()).append('}');
+    }
+
     @Override
     public String toString() {
-        return String.format(
-                "HorizontalCoordinate{altitude: %dº%d'%.4f\"(%.4f), azimuth: %dº%d'%.4f\"(%.4f)}",
-                getAltDegree(), getAltMinute(), getAltSecond(), getAltDegreeValue(),
-                getAzDegree(), getAzMinute(), getAzSecond(), getAzDegreeValue()
-        );
+        return appendTo(new StringBuilder(96)).toString();
     }
 }
@@ -0,0 +1,285 @@
+package com.molecode.astronomyutils.coordinates;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses angles written as decimal values or as up to three sexagesimal fields, such as {@code 05h56m19.3s},
+ * {@code +07°24'33"}, {@code -33:51:42}, {@code 139 44 42 E} or {@code 7.4092}, straight from a {@link CharSequence}
+ * or a {@link ByteBuffer} range without creating any object.
+ * <p>
+ * Fields are separated by any run of whitespace, colons and unit marks ({@code h d m s ° º ' " ′ ″}); only the last
+ * field may have a fraction and the others must be below 60. A leading sign or a trailing or leading hemisphere letter
+ * ({@code N E} positive, {@code S W} negative) applies to the whole angle. Byte ranges are read as ASCII, the lead
+ * bytes of UTF-8 encoded marks being skipped like the marks themselves.
+ * <p>
+ * Numbers may have an exponent, as written by {@link Double#toString(double)}. Those with up to 15 significant digits
+ * and a decimal exponent within 22 are correctly rounded, as {@link Double#parseDouble(String)} does; up to 18 digits
+ * they are computed in double-double precision, so only values a hair away from halfway between two doubles can be
+ * one unit in the last place off, and further digits are dropped. Exponents beyond 22 fall back to
+ * {@link Double#parseDouble(String)}.
+ */
+public final class SexagesimalParser {
+
+	private static final int DEGREES = 0;
+	private static final int HOURS = 1;
+	private static final int RIGHT_ASCENSION = 2;
+	private static final int DECIMAL = 3;
+
+	private static final int MAX_DIGITS = 18;
+	private static final long EXACT_MANTISSA_LIMIT = 1L << 53;
+	private static final int MAX_EXPONENT = 1000;
+
+	private static final double[] POWERS_OF_TEN = {
+			1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+			1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+			1e20, 1e21, 1e22
+	};
+
+	private SexagesimalParser() {
+	}
+
+	public static double parseDegrees(CharSequence text) {
+		return parseDegrees(text, 0, text.length());
+	}
+
+	/**
+	 * Parses a degree angle from the characters in [start, end).
+	 */
+	public static double parseDegrees(CharSequence text, int start, int end) {
+		return parse(text, null, start, end, DEGREES);
+	}
+
+	/**
+	 * Parses a degree angle from the bytes in [start, end), ignoring the buffer position and limit.
+	 */
+	public static double parseDegrees(ByteBuffer bytes, int start, int end) {
+		return parse(null, bytes, start, end, DEGREES);
+	}
+
+	public static double parseHours(CharSequence text) {
+		return parseHours(text, 0, text.length());
+	}
+
+	public static double parseHours(CharSequence text, int start, int end) {
+		return parse(text, null, start, end, HOURS);
+	}
+
+	public static double parseHours(ByteBuffer bytes, int start, int end) {
+		return parse(null, bytes, start, end, HOURS);
+	}
+
+	/**
+	 * Parses a right ascension into degrees: a single field without hour mark is taken as degrees, as in star
+	 * catalogs, and anything else as hours, minutes and seconds.
+	 */
+	public static double parseRightAscension(CharSequence text) {
+		return parseRightAscension(text, 0, text.length());
+	}
+
+	public static double parseRightAscension(CharSequence text, int start, int end) {
+		return parse(text, null, start, end, RIGHT_ASCENSION);
+	}
+
+	public static double parseRightAscension(ByteBuffer bytes, int start, int end) {
+		return parse(null, bytes, start, end, RIGHT_ASCENSION);
+	}
+
+	/**
+	 * Parses a plain signed decimal value, without sexagesimal fields or hemisphere.
+	 */
+	public static double parseDecimal(CharSequence text, int start, int end) {
+		return parse(text, null, start, end, DECIMAL);
+	}
+
+	public static double parseDecimal(ByteBuffer bytes, int start, int end) {
+		return parse(null, bytes, start, end, DECIMAL);
+	}
+
+	private static double parse(CharSequence text, ByteBuffer bytes, int start, int end, int mode) {
+		int sign = 0;
+		int hemisphereSign = 0;
+		boolean hourMark = false;
+		int fieldCount = 0;
+		boolean fractionalField = false;
+		double firstField = 0;
+		double secondField = 0;
+		double thirdField = 0;
+
+		int i = start;
+		while (i < end) {
+			int c = charAt(text, bytes, i);
+			if (isDigit(c) || c == '.') {
+				if (fieldCount == (mode == DECIMAL ? 1 : 3) || fractionalField) {
+					throw invalidAngle(text, bytes, start, end);
+				}
+				long mantissa = 0;
+				int digits = 0;
+				int scale = 0;
+				boolean point = false;
+				boolean anyDigit = false;
+				for (; i < end; i++) {
+					c = charAt(text, bytes, i);
+					if (isDigit(c)) {
+						anyDigit = true;
+						if (point) {
+							// Fraction digits past the precision of a double are dropped.
+							if (digits < MAX_DIGITS && scale < MAX_EXPONENT) {
+								mantissa = mantissa * 10 + (c - '0');
+								digits += mantissa > 0 ? 1 : 0;
+								scale++;
+							}
+						} else if (digits < MAX_DIGITS) {
+							mantissa = mantissa * 10 + (c - '0');
+							digits += mantissa > 0 ? 1 : 0;
+						} else {
+							throw invalidAngle(text, bytes, start, end);
+						}
+					} else if (c == '.' && !point) {
+						point = true;
+					} else {
+						break;
+					}
+				}
+				if (!anyDigit) {
+					throw invalidAngle(text, bytes, start, end);
+				}
+				int exponent = 0;
+				if (i < end && (charAt(text, bytes, i) == 'e' || charAt(text, bytes, i) == 'E') && isExponent(text, bytes, i + 1, end)) {
+					i++;
+					boolean negativeExponent = charAt(text, bytes, i) == '-';
+					if (charAt(text, bytes, i) == '+' || negativeExponent) {
+						i++;
+					}
+					for (; i < end && isDigit(charAt(text, bytes, i)); i++) {
+						exponent = Math.min(exponent * 10 + charAt(text, bytes, i) - '0', MAX_EXPONENT);
+					}
+					exponent = negativeExponent ? -exponent : exponent;
+				}
+				double value = scaleByPowerOfTen(mantissa, exponent - scale);
+				if (fieldCount > 0 && value >= 60) {
+					throw invalidAngle(text, bytes, start, end);
+				}
+				if (fieldCount == 0) {
+					firstField = value;
+				} else if (fieldCount == 1) {
+					secondField = value;
+				} else {
+					thirdField = value;
+				}
+				fieldCount++;
+				fractionalField = point;
+				continue;
+			}
+
+			if ((c == '+' || c == '-' || c == '\u2212') && sign == 0 && fieldCount == 0 && hemisphereSign == 0) {
+				sign = c == '+' ? 1 : -1;
+			} else if (mode == DECIMAL) {
+				if (!isWhitespace(c)) {
+					throw invalidAngle(text, bytes, start, end);
+				}
+			} else if ((c == 'N' || c == 'E' || c == 'S' || c == 'W') && mode == DEGREES && hemisphereSign == 0) {
+				hemisphereSign = c == 'N' || c == 'E' ? 1 : -1;
+			} else if (c == 'h' && mode != DEGREES) {
+				hourMark = true;
+			} else if (!isSeparator(c, bytes != null)) {
+				throw invalidAngle(text, bytes, start, end);
+			}
+			i++;
+		}
+		if (fieldCount == 0 || (sign != 0 && hemisphereSign != 0)) {
+			throw invalidAngle(text, bytes, start, end);
+		}
+
+		double value = firstField + secondField / 60.0 + thirdField / 3600.0;
+		if (mode == RIGHT_ASCENSION && (fieldCount > 1 || hourMark)) {
+			value *= 15;
+		}
+		return sign < 0 || hemisphereSign < 0 ? -value : value;
+	}
+
+	/**
+	 * Returns mantissa * 10^exponent. Powers of ten up to 10^22 are exact doubles, so with a mantissa below 2^53 a
+	 * single operation is correctly rounded; larger mantissas are split into the sum of two doubles and the rounding
+	 * error of the operation is recovered with an fma.
+	 */
+	private static double scaleByPowerOfTen(long mantissa, int exponent) {
+		if (Math.abs(exponent) >= POWERS_OF_TEN.length) {
+			return Double.parseDouble(mantissa + "E" + exponent);
+		}
+		double power = POWERS_OF_TEN[Math.abs(exponent)];
+		if (mantissa < EXACT_MANTISSA_LIMIT) {
+			return exponent < 0 ? mantissa / power : mantissa * power;
+		}
+		double high = (double) mantissa;
+		double low = (double) (mantissa - (long) high);
+		if (exponent < 0) {
+			double quotient = high / power;
+			double remainder = Math.fma(-quotient, power, high);
+			return quotient + (remainder + low) / power;
+		}
+		double product = high * power;
+		double error = Math.fma(high, power, -product);
+		return product + (error + low * power);
+	}
+
+	private static boolean isExponent(CharSequence text, ByteBuffer bytes, int index, int end) {
+		if (index < end && (charAt(text, bytes, index) == '+' || charAt(text, bytes, index) == '-')) {
+			index++;
+		}
+		return index < end && isDigit(charAt(text, bytes, index));
+	}
+
+	private static int charAt(CharSequence text, ByteBuffer bytes, int index) {
+		return text != null ? text.charAt(index) : bytes.get(index) & 0xFF;
+	}
+
+	private static boolean isDigit(int c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWhitespace(int c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	/**
+	 * Whether the character is a field separator, {@code utf8Bytes} accepting the bytes of the UTF-8 encoded marks
+	 * too, which must not pass as characters of their own in a {@link CharSequence}.
+	 */
+	private static boolean isSeparator(int c, boolean utf8Bytes) {
+		switch (c) {
+			case ':':
+			case 'd':
+			case 'm':
+			case 's':
+			case '\'':
+			case '"':
+			case '\u00B0': // °
+			case '\u00BA': // º
+			case '\u2032': // ′
+			case '\u2033': // ″
+				return true;
+			// Lead and continuation bytes of the UTF-8 encoded ° º ′ ″ read as ASCII.
+			case 0xC2:
+			case 0xE2:
+			case 0x80:
+			case 0xB2:
+			case 0xB3:
+				return utf8Bytes;
+			default:
+				return isWhitespace(c);
+		}
+	}
+
+	private static IllegalArgumentException invalidAngle(CharSequence text, ByteBuffer bytes, int start, int end) {
+		String value;
+		if (text != null) {
+			value = text.subSequence(start, end).toString();
+		} else {
+			byte[] array = new byte[end - start];
+			bytes.get(start, array);
+			value = new String(array, StandardCharsets.UTF_8);
+		}
+		return new IllegalArgumentException("Invalid angle: " + value);
+	}
+}
@@ -1,4 +1,6 @@
 module com.molecode.astronomyutils {
-	requires org.apache.commons.lang3;
 	requires info.picocli;
+	requires static jdk.incubator.vector;
+
+	opens com.molecode.astronomyutils to info.picocli;
 }
\ No newline at end of file
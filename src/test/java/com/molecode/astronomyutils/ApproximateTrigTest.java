@@ -0,0 +1,41 @@
+package com.molecode.astronomyutils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ApproximateTrigTest {
+
+    @Test
+    void testArcsecondErrorBounds() {
+        verifyErrorBounds(ApproximateTrig.of(Precision.ARCSECOND), 3e-8, 4.2e-7);
+    }
+
+    @Test
+    void testArcminuteErrorBounds() {
+        verifyErrorBounds(ApproximateTrig.of(Precision.ARCMINUTE), 1.1e-5, 2e-5);
+    }
+
+    @Test
+    void testNoApproximationForExact() {
+        assertThrows(IllegalArgumentException.class, () -> ApproximateTrig.of(Precision.EXACT));
+    }
+
+    private void verifyErrorBounds(ApproximateTrig approximateTrig, double maxSinCosError, double maxAtanRadianError) {
+        for (double degrees = -720; degrees <= 720; degrees += 0.0037) {
+            assertEquals(Math.sin(Math.toRadians(degrees)), approximateTrig.sin(degrees), maxSinCosError, "sin " + degrees);
+            assertEquals(Math.cos(Math.toRadians(degrees)), approximateTrig.cos(degrees), maxSinCosError, "cos " + degrees);
+        }
+        for (double angle = -Math.PI; angle <= Math.PI; angle += 0.000_13) {
+            for (double radius : new double[]{1e-3, 1, 250}) {
+                double y = radius * Math.sin(angle);
+                double x = radius * Math.cos(angle);
+                assertEquals(Math.toDegrees(Math.atan2(y, x)), approximateTrig.atan2(y, x), Math.toDegrees(maxAtanRadianError), "atan2 " + angle);
+            }
+        }
+        assertEquals(0, approximateTrig.atan2(0, 0));
+        assertEquals(90, approximateTrig.atan2(2, 0), 1e-9);
+        assertEquals(180, approximateTrig.atan2(0, -2), 1e-9);
+    }
+}
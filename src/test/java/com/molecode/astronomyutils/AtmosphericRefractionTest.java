@@ -0,0 +1,91 @@
+package com.molecode.astronomyutils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AtmosphericRefractionTest {
+
+    private static final double ARCSECOND = 1.0 / 3600;
+
+    @Test
+    void testStandardRefraction() {
+        AtmosphericRefraction refraction = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+
+        // About 29 arcminutes at the horizon, 1 arcminute at 45 degrees and none at the zenith.
+        assertEquals(28.98 / 60, refraction.calculateRefraction(0), 0.05 / 60);
+        assertEquals(1.0 / 60, refraction.calculateRefraction(45), 0.02 / 60);
+        assertEquals(0, refraction.calculateRefraction(90), 0.01 * ARCSECOND);
+    }
+
+    @Test
+    void testConditionsScaleRefraction() {
+        AtmosphericRefraction standard = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        AtmosphericRefraction thin = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE / 2, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        AtmosphericRefraction cold = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, -20);
+
+        assertEquals(standard.calculateRefraction(10) / 2, thin.calculateRefraction(10), 1e-12);
+        assertEquals(standard.calculateRefraction(10) * 283 / 253, cold.calculateRefraction(10), 1e-12);
+    }
+
+    @Test
+    void testTableInterpolation() {
+        AtmosphericRefraction refraction = new AtmosphericRefraction(1030, -5);
+        AtmosphericRefraction.Table table = refraction.getTable();
+        for (double altitude = AtmosphericRefraction.MIN_ALTITUDE; altitude <= 90; altitude += 0.0137) {
+            assertEquals(refraction.calculateRefraction(altitude), table.getRefraction(altitude), ARCSECOND, "altitude " + altitude);
+        }
+        assertEquals(table.getRefraction(90), table.getRefraction(95));
+    }
+
+    @Test
+    void testApparentToGeometricRoundTrip() {
+        AtmosphericRefraction.Table table = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE).getTable();
+        for (double geometricAltitude = -8; geometricAltitude <= 90; geometricAltitude += 0.25) {
+            double apparentAltitude = table.toApparentAltitude(geometricAltitude);
+            assertEquals(geometricAltitude, table.toGeometricAltitude(apparentAltitude), 1e-8, "altitude " + geometricAltitude);
+        }
+    }
+
+    @Test
+    void testNoRefractionFarBelowHorizon() {
+        AtmosphericRefraction refraction = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        AtmosphericRefraction.Table table = refraction.getTable();
+
+        assertEquals(0, refraction.calculateRefraction(-30));
+        assertEquals(0, table.getRefraction(-30));
+        assertEquals(-30, table.toApparentAltitude(-30));
+        assertEquals(-30, table.toGeometricAltitude(-30));
+        assertEquals(-89.5, table.toGeometricAltitude(-89.5));
+
+        // The refraction below the table tapers continuously to zero.
+        double lowestRefraction = refraction.calculateRefraction(AtmosphericRefraction.MIN_ALTITUDE);
+        assertEquals(lowestRefraction / 2, refraction.calculateRefraction(AtmosphericRefraction.MIN_ALTITUDE - AtmosphericRefraction.TAPER_DEGREES / 2), 1e-12);
+        assertEquals(lowestRefraction / 2, table.getRefraction(AtmosphericRefraction.MIN_ALTITUDE - AtmosphericRefraction.TAPER_DEGREES / 2), 1e-12);
+        assertEquals(0, table.getRefraction(AtmosphericRefraction.MIN_ALTITUDE - AtmosphericRefraction.TAPER_DEGREES));
+    }
+
+    @Test
+    void testSetConditionsRebuildsTableOnlyOnChange() {
+        AtmosphericRefraction refraction = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        AtmosphericRefraction.Table table = refraction.getTable();
+
+        refraction.setConditions(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        assertSame(table, refraction.getTable());
+
+        refraction.setConditions(990, 25);
+        assertNotSame(table, refraction.getTable());
+        assertEquals(990, refraction.getPressure());
+        assertEquals(25, refraction.getTemperature());
+    }
+
+    @Test
+    void testInvalidConditions() {
+        assertThrows(IllegalArgumentException.class, () -> new AtmosphericRefraction(-1, AtmosphericRefraction.STANDARD_TEMPERATURE));
+        assertThrows(IllegalArgumentException.class, () -> new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, -300));
+        assertThrows(IllegalArgumentException.class, () -> new AtmosphericRefraction(Double.NaN, AtmosphericRefraction.STANDARD_TEMPERATURE));
+    }
+}
@@ -0,0 +1,143 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChebyshevEphemerisTest {
+
+    private static final Instant START = Instant.parse("2021-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testInterpolateSun() {
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 8, 46, 8);
+
+        assertEquals(START, ephemeris.getStart());
+        assertEquals(Instant.parse("2022-01-04T00:00:00Z"), ephemeris.getEnd());
+        verifyInterpolation(ephemeris, SunEphemeris.SERIES, 1e-9);
+    }
+
+    @Test
+    void testInterpolateAcrossPoleAndZeroRightAscension() {
+        // A body on a fast great circle through both poles, crossing right ascension 0 and 180 every 3 days.
+        EphemerisSeries polarSeries = (daysSinceJ2000, raDegreeValues, decDegreeValues, index) -> {
+            double angle = Math.toRadians(120 * daysSinceJ2000 + 30);
+            double x = Math.cos(angle) * 0.6;
+            double y = Math.cos(angle) * 0.8;
+            double z = Math.sin(angle);
+            raDegreeValues[index] = StarLocator.reduceAngle(Math.toDegrees(Math.atan2(y, x)));
+            decDegreeValues[index] = Math.toDegrees(Math.asin(z));
+        };
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(polarSeries, START, 0.5, 20, 14);
+
+        verifyInterpolation(ephemeris, polarSeries, 1e-8);
+    }
+
+    @Test
+    void testWriteAndOpen() throws IOException {
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 4, 10, 6);
+        Path path = tempDir.resolve("sun.chb");
+        ephemeris.write(path);
+        assertEquals(ChebyshevEphemeris.HEADER_SIZE + 10 * 3 * 7 * Double.BYTES, Files.size(path));
+
+        ChebyshevEphemeris mappedEphemeris = ChebyshevEphemeris.open(path);
+        assertEquals(6, mappedEphemeris.getDegree());
+        assertTrue(mappedEphemeris.isOfDate());
+        assertEquals(10, mappedEphemeris.getGranuleCount());
+        assertEquals(ephemeris.getEnd(), mappedEphemeris.getEnd());
+        for (Instant instant = START; instant.isBefore(ephemeris.getEnd()); instant = instant.plusSeconds(40_000)) {
+            EquatorialCoordinate expected = ephemeris.calculatePosition(instant);
+            EquatorialCoordinate actual = mappedEphemeris.calculatePosition(instant);
+            assertEquals(expected.getRaDegreeValue(), actual.getRaDegreeValue(), 0);
+            assertEquals(expected.getDecDegreeValue(), actual.getDecDegreeValue(), 0);
+        }
+
+        Path otherPath = tempDir.resolve("other.chb");
+        Files.write(otherPath, new byte[ChebyshevEphemeris.HEADER_SIZE]);
+        assertThrows(IOException.class, () -> ChebyshevEphemeris.open(otherPath));
+    }
+
+    @Test
+    void testLocateBody() {
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 8, 4, 8);
+        StarLocator starLocator = new StarLocator(ZoneOffset.UTC, new GeographicCoordinate(35.7025, 139.745));
+        Instant instant = Instant.parse("2021-01-15T02:50:00Z");
+
+        HorizontalCoordinate bodyLocation = starLocator.locateBody(instant, ephemeris);
+        HorizontalCoordinate sunLocation = starLocator.locateSun(instant);
+        assertEquals(sunLocation.getAltDegreeValue(), bodyLocation.getAltDegreeValue(), 1e-8);
+        assertEquals(sunLocation.getAzDegreeValue(), bodyLocation.getAzDegreeValue(), 1e-8);
+    }
+
+    @Test
+    void testLocateBodyWithPrecession() {
+        StarLocator starLocator = new StarLocator(ZoneOffset.UTC, new GeographicCoordinate(35.7025, 139.745), false, Precision.EXACT,
+                new PrecessionNutation(Duration.ofMinutes(1)));
+        Instant instant = Instant.parse("2021-01-15T02:50:00Z");
+
+        // The Sun ephemeris is of date and must not be rotated from J2000 again.
+        ChebyshevEphemeris sunEphemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 8, 4, 8);
+        assertTrue(sunEphemeris.isOfDate());
+        HorizontalCoordinate sunLocation = starLocator.locateSun(instant);
+        HorizontalCoordinate bodyLocation = starLocator.locateBody(instant, sunEphemeris);
+        assertEquals(sunLocation.getAltDegreeValue(), bodyLocation.getAltDegreeValue(), 1e-8);
+        assertEquals(sunLocation.getAzDegreeValue(), bodyLocation.getAzDegreeValue(), 1e-8);
+
+        // A J2000 series is rotated like the stars.
+        EquatorialCoordinate j2000EqCoordinate = new EquatorialCoordinate(5.919529, 7.407064);
+        ChebyshevEphemeris j2000Ephemeris = ChebyshevEphemeris.fit((daysSinceJ2000, raDegreeValues, decDegreeValues, index) -> {
+            raDegreeValues[index] = j2000EqCoordinate.getRaDegreeValue();
+            decDegreeValues[index] = j2000EqCoordinate.getDecDegreeValue();
+        }, START, 8, 4, 2);
+        assertFalse(j2000Ephemeris.isOfDate());
+        HorizontalCoordinate starLocation = starLocator.locateStar(instant, j2000EqCoordinate);
+        bodyLocation = starLocator.locateBody(instant, j2000Ephemeris);
+        assertEquals(starLocation.getAltDegreeValue(), bodyLocation.getAltDegreeValue(), 1e-8);
+        assertEquals(starLocation.getAzDegreeValue(), bodyLocation.getAzDegreeValue(), 1e-8);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        ChebyshevEphemeris ephemeris = ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 8, 4, 8);
+
+        assertThrows(IllegalArgumentException.class, () -> ephemeris.calculatePosition(START.minusSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> ephemeris.calculatePosition(ephemeris.getEnd().plusSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 0, 4, 8));
+        assertThrows(IllegalArgumentException.class, () -> ChebyshevEphemeris.fit(SunEphemeris.SERIES, START, 8, 4, -1));
+    }
+
+    private static void verifyInterpolation(ChebyshevEphemeris ephemeris, EphemerisSeries referenceSeries, double tolerance) {
+        double startDay = EphemerisSeries.toDaysSinceJ2000(ephemeris.getStart());
+        double days = ephemeris.getGranuleCount() * ephemeris.getGranuleDays();
+        double[] raDegreeValues = new double[2];
+        double[] decDegreeValues = new double[2];
+        Random random = new Random(5);
+        for (int i = 0; i <= 10_000; i++) {
+            double day = startDay + (i == 10_000 ? days : random.nextDouble() * days);
+            ephemeris.calculatePosition(day, raDegreeValues, decDegreeValues, 0);
+            referenceSeries.calculatePosition(day, raDegreeValues, decDegreeValues, 1);
+            double raDifference = Math.abs(raDegreeValues[0] - raDegreeValues[1]);
+            raDifference = Math.min(raDifference, 360 - raDifference);
+            assertEquals(decDegreeValues[1], decDegreeValues[0], tolerance, "day " + day);
+            assertEquals(0, raDifference * Math.cos(Math.toRadians(decDegreeValues[1])), tolerance, "day " + day);
+        }
+    }
+}
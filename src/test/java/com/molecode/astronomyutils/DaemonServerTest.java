@@ -0,0 +1,169 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.StarCatalogConverter;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DaemonServerTest {
+
+    private static final StarLocator TOKYO_STAR_LOCATOR = new StarLocator(ZoneOffset.UTC, new GeographicCoordinate(35.7025, 139.745));
+
+    private static final Instant INSTANT = Instant.parse("2021-01-15T13:30:10Z");
+
+    @TempDir
+    Path tempDir;
+
+    private Path socketPath;
+    private DaemonServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        socketPath = tempDir.resolve("astronomy-utils.sock");
+        server = new DaemonServer(socketPath, 2);
+        serverThread = new Thread(() -> {
+            try {
+                server.serve();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        serverThread.start();
+    }
+
+    @AfterEach
+    void stopServer() throws IOException, InterruptedException {
+        server.close();
+        serverThread.join();
+        assertFalse(Files.exists(socketPath));
+    }
+
+    @Test
+    void testForwardInputAndOutput() throws IOException {
+        String input = "id,ra,dec\nbetelgeuse,89.07916666666667,7.409166666666667\nantares,247.66666666666666,-26.476944444444445\n";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = DaemonClient.forward(socketPath, List.of("-L", "35.7025", "139.745", "locate", "-t", INSTANT.toString()),
+                new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        assertEquals(0, exitCode);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("id,ra,dec,altitude,azimuth", lines[0]);
+        verifyCsvRow(lines[1], "betelgeuse", 89.07916666666667, 7.409166666666667);
+        verifyCsvRow(lines[2], "antares", 247.66666666666666, -26.476944444444445);
+    }
+
+    @Test
+    void testLocateLoadedCatalog() throws IOException {
+        Path csvPath = Files.writeString(tempDir.resolve("stars.csv"),
+                "id,ra,dec\n27989,89.07916666666667,7.409166666666667\n80763,247.66666666666666,-26.476944444444445\n");
+        Path catalogPath = tempDir.resolve("stars.cat");
+        StarCatalogConverter.convertCsv(csvPath, catalogPath);
+        server.loadCatalog(catalogPath);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = DaemonClient.forward(socketPath,
+                List.of("-L", "35.7025", "139.745", "locate", "-t", INSTANT.toString(), "--catalog", catalogPath.toString()),
+                new ByteArrayInputStream(new byte[0]), output);
+
+        assertEquals(0, exitCode);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        verifyCsvRow(lines[1], "27989", 89.07916666666667, 7.409166666666667);
+        verifyCsvRow(lines[2], "80763", 247.66666666666666, -26.476944444444445);
+    }
+
+    @Test
+    void testRejectCatalogNotLoaded() throws IOException {
+        Path csvPath = Files.writeString(tempDir.resolve("stars.csv"), "id,ra,dec\n27989,89.07916666666667,7.409166666666667\n");
+        Path catalogPath = tempDir.resolve("stars.cat");
+        StarCatalogConverter.convertCsv(csvPath, catalogPath);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = DaemonClient.forward(socketPath,
+                List.of("-L", "35.7025", "139.745", "locate", "-t", INSTANT.toString(), "--catalog", catalogPath.toString()),
+                new ByteArrayInputStream(new byte[0]), output);
+
+        // Clients only get the catalogs loaded by the server, rather than having files mapped on their behalf.
+        assertEquals(2, exitCode, output.toString(StandardCharsets.UTF_8));
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Catalog not loaded by the server"), output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testForwardExitCodeOfFailedCommand() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        int exitCode = DaemonClient.forward(socketPath, List.of("locate", "-t", INSTANT.toString()),
+                new ByteArrayInputStream("ra,dec\n1,2\n".getBytes(StandardCharsets.UTF_8)), output);
+
+        assertNotEquals(0, exitCode);
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("--observing-location"));
+    }
+
+    @Test
+    void testRejectInvalidOptions() throws IOException {
+        for (List<String> options : List.of(List.of("-t", "2021-01-15"), List.of("-t", INSTANT.toString(), "--chunk-size", "0"))) {
+            List<String> arguments = new ArrayList<>(List.of("-L", "35.7025", "139.745", "locate"));
+            arguments.addAll(options);
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int exitCode = DaemonClient.forward(socketPath, arguments, new ByteArrayInputStream("ra,dec\n1,2\n".getBytes(StandardCharsets.UTF_8)), output);
+
+            // Usage errors rather than exceptions escaping the command.
+            assertEquals(2, exitCode, output.toString(StandardCharsets.UTF_8));
+            assertTrue(output.toString(StandardCharsets.UTF_8).contains(options.get(options.size() - 2)), output.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testRejectUnservedCommands() throws IOException {
+        for (String command : List.of("serve", "client")) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            int exitCode = DaemonClient.forward(socketPath, List.of(command, "--socket", tempDir.resolve("other.sock").toString()),
+                    new ByteArrayInputStream(new byte[0]), output);
+
+            assertNotEquals(0, exitCode);
+            assertTrue(output.toString(StandardCharsets.UTF_8).contains(command), output.toString(StandardCharsets.UTF_8));
+        }
+        assertFalse(Files.exists(tempDir.resolve("other.sock")));
+    }
+
+    @Test
+    void testKeepLiveSocketAndOtherFiles() throws IOException {
+        assertThrows(IOException.class, () -> new DaemonServer(socketPath, 1));
+        assertTrue(Files.exists(socketPath));
+
+        Path regularFilePath = Files.writeString(tempDir.resolve("regular.sock"), "data");
+        assertThrows(IOException.class, () -> new DaemonServer(regularFilePath, 1));
+        assertEquals("data", Files.readString(regularFilePath));
+    }
+
+    private void verifyCsvRow(String line, String id, double raDegreeValue, double decDegreeValue) {
+        String[] values = line.split(",");
+        assertEquals(id, values[0]);
+        HorizontalCoordinate expectedLocation = TOKYO_STAR_LOCATOR.locateStar(INSTANT, new EquatorialCoordinate(raDegreeValue / 15, decDegreeValue));
+        assertEquals(expectedLocation.getAltDegreeValue(), Double.parseDouble(values[3]), 1e-9);
+        assertEquals(expectedLocation.getAzDegreeValue(), Double.parseDouble(values[4]), 1e-9);
+    }
+}
@@ -0,0 +1,117 @@
+package com.molecode.astronomyutils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HorizonMaskTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testInterpolatedProfile() {
+        // Unsorted, with a vertical edge at 180 and the profile wrapping around north between 270 and 90.
+        HorizonMask horizonMask = new HorizonMask(
+                new double[]{180, 90, 270, 180},
+                new double[]{30, 10, 10, 0});
+
+        // Bins hold the highest altitude over their range, the lowest one starts a bin past the edge.
+        assertEquals(0.2 * 10 / 90, horizonMask.getMinAltitude(), 1e-9);
+        assertEquals(10, horizonMask.getAltitude(0), 1e-12);
+        assertEquals(10, horizonMask.getAltitude(359.95), 1e-12);
+        assertEquals(10, horizonMask.getAltitude(-0.05), 1e-12);
+        assertEquals(10, horizonMask.getAltitude(720.05), 1e-12);
+        // Rising from 0 at 180 to 10 at 270 on this side of the edge, the bin keeps its highest value.
+        assertEquals(45.1 * 10 / 90, horizonMask.getAltitude(225.05), 1e-9);
+        assertEquals(30, horizonMask.getAltitude(180.05), 1e-12);
+        // Rising from 10 at 90 to 30 at 180.
+        assertEquals(20.0 + 0.1 * 20 / 90, horizonMask.getAltitude(135.05), 1e-9);
+    }
+
+    @Test
+    void testMaskIsConservative() {
+        double[] azimuthValues = {10, 35.37, 35.38, 120, 200, 305.5};
+        double[] altitudeValues = {2, 25, 4, 12, -1, 8};
+        HorizonMask horizonMask = new HorizonMask(azimuthValues, altitudeValues, 4);
+        HorizonMask fineMask = new HorizonMask(azimuthValues, altitudeValues, 100);
+
+        for (double azimuth = 0; azimuth < 360; azimuth += 0.01) {
+            assertTrue(horizonMask.getAltitude(azimuth) >= fineMask.getAltitude(azimuth) - 1e-9, "azimuth " + azimuth);
+        }
+        assertEquals(25, horizonMask.getAltitude(35.3), 1e-12);
+    }
+
+    @Test
+    void testFilterVisible() {
+        HorizonMask horizonMask = new HorizonMask(new double[]{0, 90, 180, 270}, new double[]{5, 40, 5, -2});
+        Random random = new Random(3);
+        double[] altitudeValues = new double[10_000];
+        double[] azimuthValues = new double[altitudeValues.length];
+        for (int i = 0; i < altitudeValues.length; i++) {
+            altitudeValues[i] = random.nextDouble() * 100 - 10;
+            azimuthValues[i] = random.nextDouble() * 360;
+        }
+        azimuthValues[100] = 360;
+
+        int[] visibleIndices = new int[altitudeValues.length];
+        int visibleCount = horizonMask.filterVisible(altitudeValues, azimuthValues, 100, altitudeValues.length, visibleIndices);
+
+        int expectedCount = 0;
+        for (int i = 100; i < altitudeValues.length; i++) {
+            if (horizonMask.isVisible(altitudeValues[i], azimuthValues[i])) {
+                assertEquals(i, visibleIndices[expectedCount++]);
+            }
+        }
+        assertEquals(expectedCount, visibleCount);
+        assertTrue(visibleCount > 0 && visibleCount < altitudeValues.length - 100);
+    }
+
+    @Test
+    void testFlat() {
+        HorizonMask horizonMask = HorizonMask.flat(-0.5);
+
+        assertEquals(-0.5, horizonMask.getMinAltitude(), 1e-12);
+        assertTrue(horizonMask.isVisible(-0.4, 123));
+        assertFalse(horizonMask.isVisible(-0.5, 321));
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        Path profilePath = tempDir.resolve("horizon.txt");
+        Files.writeString(profilePath, "# az alt\n0 5\n\n90,15\n180; 5\n  270\t-1  \n");
+
+        HorizonMask horizonMask = HorizonMask.load(profilePath);
+
+        assertEquals(15, horizonMask.getAltitude(89.95), 1e-9);
+        assertEquals(10, horizonMask.getAltitude(44.95), 1e-9);
+        assertEquals(-1, horizonMask.getMinAltitude(), 0.01);
+    }
+
+    @Test
+    void testLoadMalformedProfile() throws IOException {
+        Path profilePath = tempDir.resolve("horizon.txt");
+        Files.writeString(profilePath, "0 5\n90 x\n");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> HorizonMask.load(profilePath));
+        assertTrue(exception.getMessage().contains("line 2"));
+    }
+
+    @Test
+    void testInvalidProfile() {
+        assertThrows(IllegalArgumentException.class, () -> new HorizonMask(new double[0], new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new HorizonMask(new double[]{0, 90}, new double[]{5}));
+        assertThrows(IllegalArgumentException.class, () -> new HorizonMask(new double[]{0}, new double[]{95}));
+        assertThrows(IllegalArgumentException.class, () -> new HorizonMask(new double[]{Double.NaN}, new double[]{5}));
+        assertThrows(IllegalArgumentException.class, () -> new HorizonMask(new double[]{0}, new double[]{5}, 0));
+    }
+}
@@ -0,0 +1,90 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.WEST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MultiObserverLocatorTest {
+
+    private static final List<GeographicCoordinate> OBSERVING_LOCATIONS = List.of(
+            new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42),
+            new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 8, 10),
+            new GeographicCoordinate(NORTH, 40, 42, 41, WEST, 74, 0, 29),
+            new GeographicCoordinate(SOUTH, 23, 33, 36, WEST, 46, 39, 15),
+            new GeographicCoordinate(NORTH, 90, 0, 0, WEST, 74, 0, 24),
+            new GeographicCoordinate(NORTH, 0, 0, 0, EAST, 0, 0, 0),
+            new GeographicCoordinate(NORTH, 19, 49, 32, WEST, 155, 28, 24),
+            new GeographicCoordinate(SOUTH, 24, 37, 38, WEST, 70, 24, 15),
+            new GeographicCoordinate(NORTH, 28, 45, 25, WEST, 17, 52, 45)
+    );
+
+    private static final Instant[] INSTANTS = {
+            Instant.parse("2021-01-15T13:30:10Z"),
+            Instant.parse("2021-07-15T13:30:15.250Z")
+    };
+
+    @Test
+    void testLocateStarsForAllObservers() {
+        ArrayStarCatalog starCatalog = createStarCatalog(5000);
+        int resultSize = INSTANTS.length * OBSERVING_LOCATIONS.size() * starCatalog.size();
+        double[] altitudeValues = new double[resultSize];
+        double[] azimuthValues = new double[resultSize];
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        try {
+            new MultiObserverLocator(OBSERVING_LOCATIONS, forkJoinPool).locateStars(INSTANTS, starCatalog, altitudeValues, azimuthValues);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        double[] expectedAltitudeValues = new double[starCatalog.size()];
+        double[] expectedAzimuthValues = new double[starCatalog.size()];
+        for (int t = 0; t < INSTANTS.length; t++) {
+            for (int o = 0; o < OBSERVING_LOCATIONS.size(); o++) {
+                new StarLocator(ZoneOffset.UTC, OBSERVING_LOCATIONS.get(o)).createObservingContext(INSTANTS[t])
+                        .locateStars(starCatalog, expectedAltitudeValues, expectedAzimuthValues);
+                int offset = (t * OBSERVING_LOCATIONS.size() + o) * starCatalog.size();
+                for (int s = 0; s < starCatalog.size(); s++) {
+                    assertEquals(expectedAltitudeValues[s], altitudeValues[offset + s], 1e-12);
+                    assertEquals(expectedAzimuthValues[s], azimuthValues[offset + s], 1e-12);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testLocateStarsWithEmptyCatalog() {
+        new MultiObserverLocator(OBSERVING_LOCATIONS).locateStars(INSTANTS[0], createStarCatalog(0), new double[0], new double[0]);
+    }
+
+    @Test
+    void testLocateStarsWithInsufficientMatrices() {
+        MultiObserverLocator multiObserverLocator = new MultiObserverLocator(OBSERVING_LOCATIONS);
+        ArrayStarCatalog starCatalog = createStarCatalog(10);
+        assertThrows(IllegalArgumentException.class, () -> multiObserverLocator.locateStars(INSTANTS[0], starCatalog, new double[89], new double[90]));
+    }
+
+    private static ArrayStarCatalog createStarCatalog(int size) {
+        Random random = new Random(11);
+        double[] raDegreeValues = new double[size];
+        double[] decDegreeValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            raDegreeValues[i] = random.nextDouble() * 360;
+            decDegreeValues[i] = random.nextDouble() * 180 - 90;
+        }
+        return new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+    }
+}
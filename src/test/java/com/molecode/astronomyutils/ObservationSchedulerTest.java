@@ -0,0 +1,177 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObservationSchedulerTest {
+
+    private static final GeographicCoordinate TOKYO_COORDINATE = new GeographicCoordinate(35.7025, 139.745);
+
+    private static final Instant START = Instant.parse("2021-01-15T09:00:00Z");
+
+    @Test
+    void testAltitudeTableMatchesLocateStar() {
+        StarLocator starLocator = new StarLocator(ZoneOffset.UTC, TOKYO_COORDINATE);
+        ArrayStarCatalog targets = createRandomCatalog(300, 1);
+        Duration slotDuration = Duration.ofMinutes(10);
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        AltitudeTable altitudeTable;
+        try {
+            altitudeTable = new ObservationScheduler(starLocator, forkJoinPool).calculateAltitudeTable(START, slotDuration, 72, targets, 20);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        assertEquals(300, altitudeTable.getTargetCount());
+        assertEquals(72, altitudeTable.getSlotCount());
+        for (int t = 0; t < targets.size(); t++) {
+            EquatorialCoordinate target = new EquatorialCoordinate(targets.getRaDegreeValue(t) / 15, targets.getDecDegreeValue(t));
+            for (int s = 0; s < 72; s++) {
+                Instant slotMiddle = START.plus(slotDuration.multipliedBy(s)).plus(slotDuration.dividedBy(2));
+                double altitude = starLocator.locateStar(slotMiddle, target).getAltDegreeValue();
+                assertEquals(altitude, altitudeTable.getAltitude(t, s), 1e-7);
+                assertEquals(altitude >= 20, altitudeTable.isObservable(t, s));
+            }
+        }
+    }
+
+    @Test
+    void testAltitudeTableWithHorizonMask() {
+        // Hides the southern sky below 60 degrees.
+        HorizonMask horizonMask = new HorizonMask(new double[]{90, 90.1, 269.9, 270}, new double[]{0, 60, 60, 0});
+        StarLocator starLocator = new StarLocator(ZoneOffset.UTC, TOKYO_COORDINATE, false, Precision.EXACT, null, null, horizonMask);
+        ArrayStarCatalog targets = createRandomCatalog(100, 2);
+
+        AltitudeTable altitudeTable = new ObservationScheduler(starLocator).calculateAltitudeTable(START, Duration.ofMinutes(30), 24, targets, 0);
+
+        int hiddenCount = 0;
+        for (int t = 0; t < targets.size(); t++) {
+            EquatorialCoordinate target = new EquatorialCoordinate(targets.getRaDegreeValue(t) / 15, targets.getDecDegreeValue(t));
+            for (int s = 0; s < 24; s++) {
+                Instant slotMiddle = START.plus(Duration.ofMinutes(30L * s + 15));
+                double azimuth = starLocator.locateStar(slotMiddle, target).getAzDegreeValue();
+                boolean visible = horizonMask.isVisible(altitudeTable.getAltitude(t, s), azimuth);
+                assertEquals(visible, altitudeTable.isObservable(t, s));
+                if (!visible && altitudeTable.getAltitude(t, s) > 0) {
+                    hiddenCount++;
+                }
+            }
+        }
+        assertTrue(hiddenCount > 0);
+    }
+
+    @Test
+    void testScheduleIsConsistent() {
+        ArrayStarCatalog targets = createRandomCatalog(500, 3);
+        ObservationScheduler observationScheduler = new ObservationScheduler(new StarLocator(ZoneOffset.UTC, TOKYO_COORDINATE));
+        AltitudeTable altitudeTable = observationScheduler.calculateAltitudeTable(START, Duration.ofMinutes(10), 72, targets, 30);
+        Random random = new Random(4);
+        int[] targetSlotCounts = new int[targets.size()];
+        for (int t = 0; t < targetSlotCounts.length; t++) {
+            targetSlotCounts[t] = 1 + random.nextInt(4);
+        }
+
+        for (int beamWidth : new int[]{1, 8}) {
+            ObservationSchedule observationSchedule = observationScheduler.schedule(altitudeTable, targetSlotCounts, beamWidth);
+
+            boolean[] observed = new boolean[targets.size()];
+            double score = 0;
+            int nextSlot = 0;
+            for (int i = 0; i < observationSchedule.size(); i++) {
+                int target = observationSchedule.getTargetIndex(i);
+                int startSlot = observationSchedule.getStartSlot(i);
+                assertFalse(observed[target]);
+                observed[target] = true;
+                assertTrue(startSlot >= nextSlot);
+                assertEquals(targetSlotCounts[target], observationSchedule.getSlotCount(i));
+                nextSlot = startSlot + targetSlotCounts[target];
+                assertTrue(nextSlot <= 72);
+                double altitudeSum = 0;
+                for (int s = startSlot; s < nextSlot; s++) {
+                    assertTrue(altitudeTable.isObservable(target, s));
+                    altitudeSum += altitudeTable.getAltitude(target, s);
+                }
+                assertEquals(altitudeSum / targetSlotCounts[target], observationSchedule.getMeanAltitude(i), 1e-9);
+                assertEquals(START.plus(Duration.ofMinutes(10L * startSlot)), observationSchedule.getStartTime(i));
+                score += altitudeSum;
+            }
+            // With hundreds of targets above 30 degrees, the night is fully booked.
+            assertEquals(72, nextSlot);
+            assertEquals(score, observationSchedule.getScore(), 1e-6);
+        }
+    }
+
+    @Test
+    void testWideBeamFindsOptimalSchedule() {
+        ArrayStarCatalog targets = createRandomCatalog(5, 5);
+        ObservationScheduler observationScheduler = new ObservationScheduler(new StarLocator(ZoneOffset.UTC, TOKYO_COORDINATE));
+        AltitudeTable altitudeTable = observationScheduler.calculateAltitudeTable(START, Duration.ofHours(1), 10, targets, 10);
+        int[] targetSlotCounts = {3, 2, 2, 4, 1};
+
+        ObservationSchedule observationSchedule = observationScheduler.schedule(altitudeTable, targetSlotCounts, 10_000);
+
+        assertEquals(calculateBestScore(altitudeTable, targetSlotCounts, 0, 0), observationSchedule.getScore(), 1e-9);
+        assertTrue(observationSchedule.getScore() >= observationScheduler.schedule(altitudeTable, targetSlotCounts, 1).getScore());
+    }
+
+    @Test
+    void testInvalidArguments() {
+        ArrayStarCatalog targets = createRandomCatalog(3, 6);
+        ObservationScheduler observationScheduler = new ObservationScheduler(new StarLocator(ZoneOffset.UTC, TOKYO_COORDINATE));
+
+        assertThrows(IllegalArgumentException.class, () -> observationScheduler.calculateAltitudeTable(START, Duration.ZERO, 10, targets, 0));
+        assertThrows(IllegalArgumentException.class, () -> observationScheduler.calculateAltitudeTable(START, Duration.ofMinutes(10), 0, targets, 0));
+        AltitudeTable altitudeTable = observationScheduler.calculateAltitudeTable(START, Duration.ofMinutes(10), 10, targets, 0);
+        assertThrows(IllegalArgumentException.class, () -> observationScheduler.schedule(altitudeTable, new int[]{1, 1}));
+        assertThrows(IllegalArgumentException.class, () -> observationScheduler.schedule(altitudeTable, new int[]{1, 0, 1}));
+        assertThrows(IllegalArgumentException.class, () -> observationScheduler.schedule(altitudeTable, new int[]{1, 1, 1}, 0));
+    }
+
+    private static double calculateBestScore(AltitudeTable altitudeTable, int[] targetSlotCounts, int slot, int observedTargets) {
+        if (slot >= altitudeTable.getSlotCount()) {
+            return 0;
+        }
+        double bestScore = calculateBestScore(altitudeTable, targetSlotCounts, slot + 1, observedTargets);
+        for (int t = 0; t < targetSlotCounts.length; t++) {
+            int endSlot = slot + targetSlotCounts[t];
+            if ((observedTargets & 1 << t) != 0 || endSlot > altitudeTable.getSlotCount()) {
+                continue;
+            }
+            double score = 0;
+            boolean observable = true;
+            for (int s = slot; s < endSlot; s++) {
+                observable &= altitudeTable.isObservable(t, s);
+                score += altitudeTable.getAltitude(t, s);
+            }
+            if (observable) {
+                bestScore = Math.max(bestScore, score + calculateBestScore(altitudeTable, targetSlotCounts, endSlot, observedTargets | 1 << t));
+            }
+        }
+        return bestScore;
+    }
+
+    private static ArrayStarCatalog createRandomCatalog(int size, long seed) {
+        Random random = new Random(seed);
+        double[] raDegreeValues = new double[size];
+        double[] decDegreeValues = new double[size];
+        for (int i = 0; i < size; i++) {
+            raDegreeValues[i] = random.nextDouble() * 360;
+            decDegreeValues[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+        }
+        return new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+    }
+}
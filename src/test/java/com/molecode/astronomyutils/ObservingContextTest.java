@@ -0,0 +1,232 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.catalog.SkyIndex;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.WEST;
+import static java.lang.Math.acos;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ObservingContextTest {
+
+    private static final LocalDateTime LOCAL_DATE_TIME_JAN_15 = LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10);
+
+    private ObservingContext tokyoObservingContext;
+    private ObservingContext saoPauloObservingContext;
+    private ArrayStarCatalog starCatalog;
+    private SkyIndex skyIndex;
+
+    @BeforeEach
+    void setUp() {
+        tokyoObservingContext = new StarLocator(
+                ZoneId.of("Asia/Tokyo"),
+                new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42)
+        ).createObservingContext(LOCAL_DATE_TIME_JAN_15);
+        saoPauloObservingContext = new StarLocator(
+                ZoneId.of("America/Sao_Paulo"),
+                new GeographicCoordinate(SOUTH, 23, 33, 36, WEST, 46, 39, 15)
+        ).createObservingContext(LOCAL_DATE_TIME_JAN_15);
+
+        Random random = new Random(7);
+        double[] raDegreeValues = new double[10_000];
+        double[] decDegreeValues = new double[raDegreeValues.length];
+        for (int i = 0; i < raDegreeValues.length; i++) {
+            raDegreeValues[i] = random.nextDouble() * 360;
+            decDegreeValues[i] = toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+        }
+        starCatalog = new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+        skyIndex = new SkyIndex(starCatalog);
+    }
+
+    @Test
+    void testFindStarsAbove() {
+        verifyFindStarsAbove(tokyoObservingContext, 0);
+        verifyFindStarsAbove(tokyoObservingContext, 30);
+        verifyFindStarsAbove(saoPauloObservingContext, 60);
+        verifyFindStarsAbove(saoPauloObservingContext, -10);
+    }
+
+    @Test
+    void testFindStarsNear() {
+        verifyFindStarsNear(tokyoObservingContext, 45, 180, 10);
+        verifyFindStarsNear(tokyoObservingContext, 5, 0, 8);
+        verifyFindStarsNear(saoPauloObservingContext, 80, 270, 15);
+        verifyFindStarsNear(saoPauloObservingContext, -20, 95, 20);
+    }
+
+    @Test
+    void testToEquatorialRoundTrip() {
+        for (ObservingContext observingContext : new ObservingContext[]{tokyoObservingContext, saoPauloObservingContext}) {
+            double[] altitudeValues = new double[starCatalog.size()];
+            double[] azimuthValues = new double[starCatalog.size()];
+            observingContext.locateStars(starCatalog, altitudeValues, azimuthValues);
+
+            double[] raDegreeValues = new double[starCatalog.size()];
+            double[] decDegreeValues = new double[starCatalog.size()];
+            observingContext.toEquatorial(altitudeValues, azimuthValues, raDegreeValues, decDegreeValues);
+            for (int i = 0; i < starCatalog.size(); i++) {
+                assertEquals(starCatalog.getDecDegreeValue(i), decDegreeValues[i], 1e-9);
+                if (Math.abs(starCatalog.getDecDegreeValue(i)) < 89.9) {
+                    assertEquals(0, angularDifference(starCatalog.getRaDegreeValue(i), raDegreeValues[i]), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testToEquatorialSingle() {
+        EquatorialCoordinate betelgeuse = new EquatorialCoordinate(5, 56, 19, 7, 24, 33);
+        EquatorialCoordinate eqCoordinate = tokyoObservingContext.toEquatorial(tokyoObservingContext.locateStar(betelgeuse));
+        assertEquals(betelgeuse.getRaHourValue(), eqCoordinate.getRaHourValue(), 1e-10);
+        assertEquals(betelgeuse.getDecDegreeValue(), eqCoordinate.getDecDegreeValue(), 1e-10);
+
+        EquatorialCoordinate zenith = tokyoObservingContext.toEquatorial(new HorizontalCoordinate(90, 0));
+        assertEquals(tokyoObservingContext.getLocalSiderealTime(), zenith.getRaDegreeValue(), 1e-9);
+        assertEquals(35.7025, zenith.getDecDegreeValue(), 1e-9);
+    }
+
+    @Test
+    void testLocateStarsVectorized() {
+        assertTrue(ObservingContext.isVectorKernelAvailable());
+        // An odd length exercises the masked tail, the poles and the meridian exercise the quadrant boundaries.
+        int length = starCatalog.size() + 5;
+        double[] raDegreeValues = Arrays.copyOf(starCatalog.getRaDegreeValues(), length);
+        double[] decDegreeValues = Arrays.copyOf(starCatalog.getDecDegreeValues(), length);
+        decDegreeValues[length - 5] = 90;
+        decDegreeValues[length - 4] = -90;
+        raDegreeValues[length - 3] = tokyoObservingContext.getLocalSiderealTime();
+        raDegreeValues[length - 2] = 359.99999999;
+        raDegreeValues[length - 1] = tokyoObservingContext.getLocalSiderealTime() + 180;
+        decDegreeValues[length - 1] = -45;
+
+        for (ObservingContext observingContext : new ObservingContext[]{tokyoObservingContext, saoPauloObservingContext}) {
+            double[] altitudeValues = new double[length];
+            double[] azimuthValues = new double[length];
+            observingContext.locateStars(raDegreeValues, decDegreeValues, altitudeValues, azimuthValues);
+            double[] vectorAltitudeValues = new double[length];
+            double[] vectorAzimuthValues = new double[length];
+            observingContext.locateStarsVectorized(raDegreeValues, decDegreeValues, vectorAltitudeValues, vectorAzimuthValues);
+
+            for (int i = 0; i < length; i++) {
+                assertEquals(altitudeValues[i], vectorAltitudeValues[i], 1e-9);
+                if (Math.abs(Math.abs(altitudeValues[i]) - 90) > 1e-6) {
+                    double azimuthDifference = Math.abs(azimuthValues[i] - vectorAzimuthValues[i]);
+                    assertEquals(0, Math.min(azimuthDifference, 360 - azimuthDifference), 1e-9, "azimuth of star " + i);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testFindVisibleStars() {
+        HorizonMask horizonMask = new HorizonMask(new double[]{0, 60, 61, 150, 240, 300}, new double[]{8, 8, 45, 20, -3, 12});
+        ObservingContext observingContext = new StarLocator(
+                ZoneId.of("Asia/Tokyo"),
+                new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42),
+                false, Precision.EXACT, null, null, horizonMask
+        ).createObservingContext(LOCAL_DATE_TIME_JAN_15);
+
+        double[] altitudeValues = new double[starCatalog.size()];
+        double[] azimuthValues = new double[starCatalog.size()];
+        int[] visibleIndices = new int[starCatalog.size()];
+        int visibleCount = observingContext.locateVisibleStars(starCatalog, altitudeValues, azimuthValues, visibleIndices);
+
+        Set<Integer> expectedIndices = new HashSet<>();
+        for (int i = 0; i < starCatalog.size(); i++) {
+            if (altitudeValues[i] > horizonMask.getAltitude(azimuthValues[i])) {
+                expectedIndices.add(i);
+            }
+        }
+        assertTrue(expectedIndices.size() > 0);
+        assertEquals(expectedIndices, Arrays.stream(visibleIndices, 0, visibleCount).boxed().collect(Collectors.toSet()));
+
+        Set<Integer> foundIndices = new HashSet<>();
+        observingContext.findVisibleStars(skyIndex, starCatalog, foundIndices::add);
+        assertEquals(expectedIndices, foundIndices);
+    }
+
+    @Test
+    void testFindVisibleStarsAboveFlatHorizon() {
+        double[] altitudeValues = new double[starCatalog.size()];
+        double[] azimuthValues = new double[starCatalog.size()];
+        int[] visibleIndices = new int[starCatalog.size()];
+        int visibleCount = saoPauloObservingContext.locateVisibleStars(starCatalog, altitudeValues, azimuthValues, visibleIndices);
+
+        for (int i = 0; i < visibleCount; i++) {
+            assertTrue(altitudeValues[visibleIndices[i]] > 0);
+        }
+        assertEquals(Arrays.stream(altitudeValues).filter(altitude -> altitude > 0).count(), visibleCount);
+        assertThrows(IllegalArgumentException.class,
+                () -> saoPauloObservingContext.locateVisibleStars(starCatalog, altitudeValues, azimuthValues, new int[10]));
+    }
+
+    @Test
+    void testToEquatorialWithInconsistentLength() {
+        assertThrows(IllegalArgumentException.class, () -> tokyoObservingContext.toEquatorial(new double[2], new double[2], new double[1], new double[2]));
+    }
+
+    private static double angularDifference(double firstDegreeValue, double secondDegreeValue) {
+        double difference = Math.abs(firstDegreeValue - secondDegreeValue) % 360;
+        return Math.min(difference, 360 - difference);
+    }
+
+    private void verifyFindStarsAbove(ObservingContext observingContext, double minAltitude) {
+        double[] altitudeValues = new double[starCatalog.size()];
+        double[] azimuthValues = new double[starCatalog.size()];
+        observingContext.locateStars(starCatalog, altitudeValues, azimuthValues);
+
+        Set<Integer> foundIndices = new HashSet<>();
+        observingContext.findStarsAbove(skyIndex, minAltitude, foundIndices::add);
+        assertTrue(foundIndices.size() > 0);
+        for (int i = 0; i < starCatalog.size(); i++) {
+            if (Math.abs(altitudeValues[i] - minAltitude) > 1e-9) {
+                assertEquals(altitudeValues[i] >= minAltitude, foundIndices.contains(i), "altitude " + altitudeValues[i]);
+            }
+        }
+    }
+
+    private void verifyFindStarsNear(ObservingContext observingContext, double altitudeValue, double azimuthValue, double radius) {
+        double[] altitudeValues = new double[starCatalog.size()];
+        double[] azimuthValues = new double[starCatalog.size()];
+        observingContext.locateStars(starCatalog, altitudeValues, azimuthValues);
+
+        Set<Integer> foundIndices = new HashSet<>();
+        observingContext.findStarsNear(skyIndex, altitudeValue, azimuthValue, radius, foundIndices::add);
+        assertTrue(foundIndices.size() > 0);
+        for (int i = 0; i < starCatalog.size(); i++) {
+            double distance = angularDistance(altitudeValue, azimuthValue, altitudeValues[i], azimuthValues[i]);
+            if (Math.abs(distance - radius) > 1e-9) {
+                assertEquals(distance <= radius, foundIndices.contains(i), "distance " + distance);
+            }
+        }
+    }
+
+    private static double angularDistance(double firstAltitude, double firstAzimuth, double secondAltitude, double secondAzimuth) {
+        double cosDistance = sin(toRadians(firstAltitude)) * sin(toRadians(secondAltitude))
+                + cos(toRadians(firstAltitude)) * cos(toRadians(secondAltitude)) * cos(toRadians(firstAzimuth - secondAzimuth));
+        return toDegrees(acos(Math.max(-1, Math.min(1, cosDistance))));
+    }
+}
@@ -0,0 +1,104 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrecessionNutationTest {
+
+    // Meeus, Astronomical Algorithms, examples 21.b and 23.a: theta Persei at 2028-11-13.19 TD, J2000 position with
+    // its proper motion applied.
+    private static final double THETA_PERSEI_JULIAN_CENTURIES = (2462088.69 - 2451545.0) / 36525;
+    private static final EquatorialCoordinate THETA_PERSEI_J2000 = new EquatorialCoordinate(41.054063 / 15, 49.227750);
+
+    private static final double ARCSECOND = 1.0 / 3600;
+
+    @Test
+    void testPrecession() {
+        double[] raDegreeValue = new double[1];
+        double[] decDegreeValue = new double[1];
+        PrecessionNutation.rotate(PrecessionNutation.calculatePrecessionMatrix(THETA_PERSEI_JULIAN_CENTURIES), false,
+                THETA_PERSEI_J2000.getRaDegreeValue(), THETA_PERSEI_J2000.getDecDegreeValue(), raDegreeValue, decDegreeValue, 0);
+
+        assertEquals(41.547214, raDegreeValue[0], 0.01 * ARCSECOND);
+        assertEquals(49.348483, decDegreeValue[0], 0.01 * ARCSECOND);
+    }
+
+    @Test
+    void testPrecessionAndNutation() {
+        double[] raDegreeValue = new double[1];
+        double[] decDegreeValue = new double[1];
+        PrecessionNutation.rotate(PrecessionNutation.calculateMatrix(THETA_PERSEI_JULIAN_CENTURIES), false,
+                THETA_PERSEI_J2000.getRaDegreeValue(), THETA_PERSEI_J2000.getDecDegreeValue(), raDegreeValue, decDegreeValue, 0);
+
+        // Nutation adds 15.843" in right ascension and 6.217" in declination with the complete series.
+        assertEquals(41.547214 + 15.843 * ARCSECOND, raDegreeValue[0], 0.5 * ARCSECOND);
+        assertEquals(49.348483 + 6.217 * ARCSECOND, decDegreeValue[0], 0.5 * ARCSECOND);
+    }
+
+    @Test
+    void testEquationOfEquinoxes() {
+        // Meeus, Astronomical Algorithms, example 12.a: at 1987-04-10 0h UT, apparent sidereal time 13h10m46.1351s
+        // is 0.2317 s behind mean sidereal time 13h10m46.3668s.
+        double julianCenturies = (2446895.5 + 56.0 / 86_400 - 2451545.0) / 36525;
+        assertEquals(-0.2317 * 15 * ARCSECOND, PrecessionNutation.calculateEquationOfEquinoxes(julianCenturies), 0.5 * ARCSECOND);
+
+        PrecessionNutation precessionNutation = new PrecessionNutation(Duration.ofMinutes(1));
+        long epochSecond = Instant.parse("1987-04-10T00:00:00Z").getEpochSecond();
+        assertEquals(PrecessionNutation.calculateEquationOfEquinoxes(julianCenturies), precessionNutation.getEquationOfEquinoxes(epochSecond), 1e-3 * ARCSECOND);
+    }
+
+    @Test
+    void testTimeScales() {
+        // TT - UTC of exactly 56 s, as in Meeus example 12.a.
+        TimeScales timeScales = new TimeScales(new long[]{0}, new double[]{56 - 32.184}, new long[]{0}, new double[]{56});
+        PrecessionNutation precessionNutation = new PrecessionNutation(Duration.ofSeconds(1), timeScales);
+        long epochSecond = Instant.parse("1987-04-10T00:00:00Z").getEpochSecond();
+        double julianCenturies = (epochSecond + 56 - StarLocator.J2000_EPOCH_SECOND) / (36525.0 * 86_400);
+
+        assertEquals(PrecessionNutation.calculateEquationOfEquinoxes(julianCenturies), precessionNutation.getEquationOfEquinoxes(epochSecond), 1e-9 * ARCSECOND);
+        double[] expectedMatrix = PrecessionNutation.calculateMatrix(julianCenturies);
+        double[] matrix = precessionNutation.getMatrix(epochSecond);
+        for (int i = 0; i < matrix.length; i++) {
+            assertEquals(expectedMatrix[i], matrix[i], 1e-15);
+        }
+    }
+
+    @Test
+    void testRotateBack() {
+        double[] matrix = PrecessionNutation.calculateMatrix(THETA_PERSEI_JULIAN_CENTURIES);
+        double[] raDegreeValues = new double[2];
+        double[] decDegreeValues = new double[2];
+        PrecessionNutation.rotate(matrix, false, 300.5, -62.25, raDegreeValues, decDegreeValues, 0);
+        PrecessionNutation.rotate(matrix, true, raDegreeValues[0], decDegreeValues[0], raDegreeValues, decDegreeValues, 1);
+
+        assertEquals(300.5, raDegreeValues[1], 1e-9);
+        assertEquals(-62.25, decDegreeValues[1], 1e-9);
+    }
+
+    @Test
+    void testMatrixCachedPerBucket() {
+        PrecessionNutation precessionNutation = new PrecessionNutation(Duration.ofMinutes(1));
+        long epochSecond = Instant.parse("2021-01-15T13:30:10Z").getEpochSecond();
+        double[] matrix = precessionNutation.getMatrix(epochSecond);
+
+        assertSame(matrix, precessionNutation.getMatrix(epochSecond + 49));
+        double[] nextMatrix = precessionNutation.getMatrix(epochSecond + 50);
+        assertNotSame(matrix, nextMatrix);
+        for (int i = 0; i < matrix.length; i++) {
+            assertEquals(matrix[i], nextMatrix[i], 1e-9);
+        }
+    }
+
+    @Test
+    void testInvalidBucketDuration() {
+        assertThrows(IllegalArgumentException.class, () -> new PrecessionNutation(Duration.ofMillis(500)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RiseTransitSetPlannerTest {
+
+    private static final ZoneId SYDNEY_ZONE_ID = ZoneId.of("Australia/Sydney");
+
+    private static final GeographicCoordinate SYDNEY_COORDINATE = new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 8, 10);
+
+    private static final List<EquatorialCoordinate> STAR_EQ_COORDINATES = List.of(
+            new EquatorialCoordinate(5, 56, 19, 7, 24, 33),
+            new EquatorialCoordinate(5, 18, 16, 46, 1, 23),
+            new EquatorialCoordinate(16, 30, 40, -26, -28, -37),
+            new EquatorialCoordinate(19, 51, 45, 8, 55, 17),
+            new EquatorialCoordinate(12, 26, 35, -63, -5, -57),
+            new EquatorialCoordinate(2, 31, 49, 89, 15, 51)
+    );
+
+    @Test
+    void testPlanMatchesSingleCalls() {
+        LocalDate firstNightDate = LocalDate.of(2021, Month.MARCH, 20);
+        int nightCount = 30;
+        double horizonAltitude = -0.5667;
+        ArrayStarCatalog starCatalog = ArrayStarCatalog.of(STAR_EQ_COORDINATES);
+        int resultSize = nightCount * starCatalog.size();
+        double[] riseEpochSeconds = new double[resultSize];
+        double[] transitEpochSeconds = new double[resultSize];
+        double[] setEpochSeconds = new double[resultSize];
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(3);
+        try {
+            new RiseTransitSetPlanner(SYDNEY_ZONE_ID, SYDNEY_COORDINATE, horizonAltitude, forkJoinPool)
+                    .plan(firstNightDate, nightCount, starCatalog, riseEpochSeconds, transitEpochSeconds, setEpochSeconds);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        StarLocator starLocator = new StarLocator(SYDNEY_ZONE_ID, SYDNEY_COORDINATE);
+        for (int n = 0; n < nightCount; n++) {
+            for (int s = 0; s < starCatalog.size(); s++) {
+                int index = n * starCatalog.size() + s;
+                RiseTransitSet riseTransitSet = starLocator.calculateRiseTransitSet(firstNightDate.plusDays(n), STAR_EQ_COORDINATES.get(s), horizonAltitude);
+                assertEquals(toEpochSecond(riseTransitSet.getTransitTime()), transitEpochSeconds[index], 0.001);
+                if (riseTransitSet.getVisibility() == RiseTransitSet.Visibility.RISES_AND_SETS) {
+                    assertEquals(toEpochSecond(riseTransitSet.getRiseTime().orElseThrow()), riseEpochSeconds[index], 0.001);
+                    assertEquals(toEpochSecond(riseTransitSet.getSetTime().orElseThrow()), setEpochSeconds[index], 0.001);
+                } else if (riseTransitSet.getVisibility() == RiseTransitSet.Visibility.CIRCUMPOLAR) {
+                    assertEquals(Double.NEGATIVE_INFINITY, riseEpochSeconds[index]);
+                    assertEquals(Double.POSITIVE_INFINITY, setEpochSeconds[index]);
+                } else {
+                    assertEquals(Double.POSITIVE_INFINITY, riseEpochSeconds[index]);
+                    assertEquals(Double.NEGATIVE_INFINITY, setEpochSeconds[index]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testPlanCircumpolarAndNeverRisingStars() {
+        // From Sydney, the Southern Cross star is always above the horizon and Polaris never rises.
+        ArrayStarCatalog starCatalog = ArrayStarCatalog.of(List.of(STAR_EQ_COORDINATES.get(4), STAR_EQ_COORDINATES.get(5)));
+        double[] riseEpochSeconds = new double[2];
+        double[] transitEpochSeconds = new double[2];
+        double[] setEpochSeconds = new double[2];
+
+        new RiseTransitSetPlanner(SYDNEY_ZONE_ID, SYDNEY_COORDINATE, 0)
+                .plan(LocalDate.of(2021, Month.MARCH, 20), 1, starCatalog, riseEpochSeconds, transitEpochSeconds, setEpochSeconds);
+
+        for (int s = 0; s < 2; s++) {
+            assertTrue(Double.isFinite(transitEpochSeconds[s]));
+            // The transit is within the visibility interval only for the circumpolar star.
+            assertEquals(s == 0, riseEpochSeconds[s] <= transitEpochSeconds[s] && transitEpochSeconds[s] <= setEpochSeconds[s]);
+        }
+        assertEquals(Double.NEGATIVE_INFINITY, riseEpochSeconds[0]);
+        assertEquals(Double.POSITIVE_INFINITY, setEpochSeconds[0]);
+        assertEquals(Double.POSITIVE_INFINITY, riseEpochSeconds[1]);
+        assertEquals(Double.NEGATIVE_INFINITY, setEpochSeconds[1]);
+    }
+
+    @Test
+    void testPlanWithInsufficientMatrices() {
+        RiseTransitSetPlanner planner = new RiseTransitSetPlanner(SYDNEY_ZONE_ID, SYDNEY_COORDINATE, 0);
+        ArrayStarCatalog starCatalog = ArrayStarCatalog.of(STAR_EQ_COORDINATES);
+        assertThrows(IllegalArgumentException.class,
+                () -> planner.plan(LocalDate.of(2021, Month.MARCH, 20), 2, starCatalog, new double[12], new double[11], new double[12]));
+    }
+
+    private static double toEpochSecond(LocalDateTime localDateTime) {
+        return localDateTime.atZone(SYDNEY_ZONE_ID).toInstant().toEpochMilli() / 1000.0;
+    }
+}
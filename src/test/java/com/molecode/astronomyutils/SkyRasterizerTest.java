@@ -0,0 +1,147 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SkyRasterizerTest {
+
+    private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of(2021, Month.JANUARY, 15, 22, 30, 10);
+    private static final ZoneId SYDNEY_ZONE = ZoneId.of("Australia/Sydney");
+    private static final GeographicCoordinate SYDNEY = new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 12, 36);
+
+    @Test
+    void testHorizontalGeometry() {
+        SkyRasterizer rasterizer = new SkyRasterizer(101, 101, SkyRasterizer.Projection.ZENITHAL_EQUIDISTANT, 180);
+        double[] altitudeValues = new double[101 * 101];
+        double[] azimuthValues = new double[101 * 101];
+        rasterizer.rasterizeHorizontal(altitudeValues, azimuthValues);
+
+        double halfPixel = 90.0 / 101;
+        assertEquals(90, altitudeValues[50 * 101 + 50], 1e-12);
+        // North at the top, east on the left, south at the bottom and west on the right, half a pixel above the horizon.
+        assertEquals(halfPixel, altitudeValues[50], 1e-9);
+        assertEquals(0, azimuthValues[50], 1e-9);
+        assertEquals(halfPixel, altitudeValues[50 * 101], 1e-9);
+        assertEquals(90, azimuthValues[50 * 101], 1e-9);
+        assertEquals(180, azimuthValues[100 * 101 + 50], 1e-9);
+        assertEquals(270, azimuthValues[50 * 101 + 100], 1e-9);
+        // Corners are outside the field of view.
+        assertTrue(Double.isNaN(altitudeValues[0]));
+        assertTrue(Double.isNaN(azimuthValues[101 * 101 - 1]));
+    }
+
+    @Test
+    void testStereographicGeometry() {
+        SkyRasterizer rasterizer = new SkyRasterizer(200, 100, SkyRasterizer.Projection.STEREOGRAPHIC, 180);
+        double[] altitudeValues = new double[200 * 100];
+        double[] azimuthValues = new double[200 * 100];
+        rasterizer.rasterizeHorizontal(altitudeValues, azimuthValues);
+
+        // Pixel centres on the horizontal axis, 49.5 and 24.5 pixels west of the centre for a 50 pixel radius.
+        assertEquals(90 - 2 * Math.toDegrees(Math.atan(Math.hypot(24.5, 0.5) / 50)), altitudeValues[49 * 200 + 124], 1e-9);
+        assertEquals(90 - 2 * Math.toDegrees(Math.atan(Math.hypot(49.5, 0.5) / 50)), altitudeValues[49 * 200 + 149], 1e-9);
+        assertTrue(Double.isNaN(altitudeValues[49 * 200 + 150]));
+        assertFalse(Double.isNaN(altitudeValues[0 * 200 + 100]));
+    }
+
+    @Test
+    void testEquatorialMatchesToEquatorial() {
+        StarLocator[] starLocators = {
+                new StarLocator(SYDNEY_ZONE, SYDNEY),
+                new StarLocator(SYDNEY_ZONE, SYDNEY, false, Precision.EXACT, new PrecessionNutation(Duration.ofMinutes(1)),
+                        new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE))
+        };
+        for (StarLocator starLocator : starLocators) {
+            ObservingContext observingContext = starLocator.createObservingContext(LOCAL_DATE_TIME);
+            for (SkyRasterizer.Projection projection : SkyRasterizer.Projection.values()) {
+                verifyEquatorialRaster(new SkyRasterizer(64, 48, projection, 190), observingContext, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testApproximatePrecision() {
+        ObservingContext observingContext = new StarLocator(SYDNEY_ZONE, SYDNEY).createObservingContext(LOCAL_DATE_TIME);
+        for (SkyRasterizer.Projection projection : SkyRasterizer.Projection.values()) {
+            SkyRasterizer rasterizer = new SkyRasterizer(64, 64, projection, 180, Precision.ARCSECOND, ForkJoinPool.commonPool());
+            verifyEquatorialRaster(rasterizer, observingContext, 2 * Precision.ARCSECOND.getMaxError());
+        }
+    }
+
+    @Test
+    void testFloatRasters() {
+        ObservingContext observingContext = new StarLocator(SYDNEY_ZONE, SYDNEY).createObservingContext(LOCAL_DATE_TIME);
+        SkyRasterizer rasterizer = new SkyRasterizer(300, 200, SkyRasterizer.Projection.STEREOGRAPHIC, 180);
+        double[] raDegreeValues = new double[300 * 200];
+        double[] decDegreeValues = new double[300 * 200];
+        float[] raFloatValues = new float[300 * 200];
+        float[] decFloatValues = new float[300 * 200];
+        rasterizer.rasterizeEquatorial(observingContext, raDegreeValues, decDegreeValues);
+        rasterizer.rasterizeEquatorial(observingContext, raFloatValues, decFloatValues);
+
+        for (int i = 0; i < raDegreeValues.length; i++) {
+            assertEquals((float) raDegreeValues[i], raFloatValues[i]);
+            assertEquals((float) decDegreeValues[i], decFloatValues[i]);
+        }
+
+        double[] altitudeValues = new double[300 * 200];
+        double[] azimuthValues = new double[300 * 200];
+        rasterizer.rasterizeHorizontal(altitudeValues, azimuthValues);
+        rasterizer.rasterizeHorizontal(raFloatValues, decFloatValues);
+        for (int i = 0; i < altitudeValues.length; i++) {
+            assertEquals((float) altitudeValues[i], raFloatValues[i]);
+            assertEquals((float) azimuthValues[i], decFloatValues[i]);
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SkyRasterizer(0, 10, SkyRasterizer.Projection.STEREOGRAPHIC, 180));
+        assertThrows(IllegalArgumentException.class, () -> new SkyRasterizer(10, 10, SkyRasterizer.Projection.STEREOGRAPHIC, 360));
+        assertThrows(IllegalArgumentException.class, () -> new SkyRasterizer(10, 10, SkyRasterizer.Projection.ZENITHAL_EQUIDISTANT, 0));
+        SkyRasterizer rasterizer = new SkyRasterizer(10, 10, SkyRasterizer.Projection.STEREOGRAPHIC, 180);
+        assertThrows(IllegalArgumentException.class, () -> rasterizer.rasterizeHorizontal(new double[100], new double[99]));
+    }
+
+    private static void verifyEquatorialRaster(SkyRasterizer rasterizer, ObservingContext observingContext, double tolerance) {
+        int size = rasterizer.getWidth() * rasterizer.getHeight();
+        double[] altitudeValues = new double[size];
+        double[] azimuthValues = new double[size];
+        double[] raDegreeValues = new double[size];
+        double[] decDegreeValues = new double[size];
+        rasterizer.rasterizeHorizontal(altitudeValues, azimuthValues);
+        rasterizer.rasterizeEquatorial(observingContext, raDegreeValues, decDegreeValues);
+
+        int insideCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (Double.isNaN(altitudeValues[i])) {
+                assertTrue(Double.isNaN(raDegreeValues[i]) && Double.isNaN(decDegreeValues[i]));
+                continue;
+            }
+            insideCount++;
+            EquatorialCoordinate expected = observingContext.toEquatorial(new HorizontalCoordinate(altitudeValues[i], azimuthValues[i]));
+            double raDifference = Math.abs(expected.getRaDegreeValue() - raDegreeValues[i]) % 360;
+            raDifference = Math.min(raDifference, 360 - raDifference);
+            assertEquals(expected.getDecDegreeValue(), decDegreeValues[i], tolerance, "pixel " + i);
+            assertTrue(raDifference * Math.cos(Math.toRadians(expected.getDecDegreeValue())) <= tolerance,
+                    "pixel " + i + ": " + raDifference);
+            assertTrue(raDegreeValues[i] >= 0 && raDegreeValues[i] < 360);
+        }
+        assertTrue(insideCount > size / 2);
+    }
+}
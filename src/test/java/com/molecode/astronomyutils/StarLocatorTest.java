@@ -1,22 +1,30 @@
 package com.molecode.astronomyutils;
 
+import com.molecode.astronomyutils.catalog.ArrayStarCatalog;
 import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
 import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
 import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Month;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Random;
 
 import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
 import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
 import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
 import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.WEST;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StarLocatorTest {
@@ -103,31 +111,34 @@ class StarLocatorTest {
 //    North pole: alt: 8º55'27", az: 154º47'55", peaks: 00:11(9º)
 //    Null Island: alt: 62º14'15", az: 70º33'3", peaks: 00:15(81º)
 
+    // UT1 taken as UTC, in which the reference positions were computed.
+    private static final TimeScales UTC_TIME_SCALES = new TimeScales(new long[]{0}, new double[]{-32.184}, new long[]{0}, new double[]{0});
+
     @BeforeEach
     void setUp() {
 //      Tokyo, Japan
-        tokyoStarLocator = new StarLocator(
+        tokyoStarLocator = createReferenceStarLocator(
                 ZoneId.of("Asia/Tokyo"),
                 new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42));
 //      Sydney, Australia
-        sydneyStarLocator = new StarLocator(
+        sydneyStarLocator = createReferenceStarLocator(
                 ZoneId.of("Australia/Sydney"),
                 new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 8, 10));
 //      New York City, US
-        nycStarLocator = new StarLocator(
+        nycStarLocator = createReferenceStarLocator(
                 ZoneId.of("America/New_York"),
                 new GeographicCoordinate(NORTH, 40, 42, 41, WEST, 74, 0, 29));
 //      São Paulo, Brazil
-        saoPauloStarLocator = new StarLocator(
+        saoPauloStarLocator = createReferenceStarLocator(
                 ZoneId.of("America/Sao_Paulo"),
                 new GeographicCoordinate(SOUTH, 23, 33, 36, WEST, 46, 39, 15));
 //      North Pole
-        northPoleStarLocator = new StarLocator(
+        northPoleStarLocator = createReferenceStarLocator(
                 ZoneId.ofOffset("", ZoneOffset.ofHours(-5)),
                 new GeographicCoordinate(NORTH, 90, 0, 0, WEST, 74, 0, 24)
         );
 //      Null Island
-        nullIslandStarLocator = new StarLocator(
+        nullIslandStarLocator = createReferenceStarLocator(
                 ZoneId.ofOffset("", ZoneOffset.UTC),
                 new GeographicCoordinate(NORTH, 0, 0, 0, EAST, 0, 0, 0)
         );
@@ -247,6 +258,170 @@ class StarLocatorTest {
         testCalculateMeridianTime(nullIslandStarLocator, LOCAL_DATE_TIME_JUL_15.toLocalDate(), ALTAIR_EQ_COORDINATE_JUL_15);
     }
 
+    @Test
+    void testLocatingStarsInBatch() {
+        EquatorialCoordinate[] starEqCoordinates = {
+                BETELGEUSE_EQ_COORDINATE_JAN_15, CAPELLA_EQ_COORDINATE_JAN_15, ANTARES_EQ_COORDINATE_JAN_15, ALTAIR_EQ_COORDINATE_JAN_15
+        };
+        ArrayStarCatalog starCatalog = ArrayStarCatalog.of(Arrays.asList(starEqCoordinates));
+        double[] altitudeValues = new double[starEqCoordinates.length];
+        double[] azimuthValues = new double[starEqCoordinates.length];
+
+        for (StarLocator starLocator : new StarLocator[]{tokyoStarLocator, sydneyStarLocator, nycStarLocator, saoPauloStarLocator, northPoleStarLocator, nullIslandStarLocator}) {
+            starLocator.locateStars(LOCAL_DATE_TIME_JAN_15, starCatalog.getRaDegreeValues(), starCatalog.getDecDegreeValues(), altitudeValues, azimuthValues);
+            verifyBatchLocations(starLocator, starEqCoordinates, altitudeValues, azimuthValues);
+
+            Arrays.fill(altitudeValues, Double.NaN);
+            Arrays.fill(azimuthValues, Double.NaN);
+            starLocator.locateStars(LOCAL_DATE_TIME_JAN_15, starCatalog, altitudeValues, azimuthValues);
+            verifyBatchLocations(starLocator, starEqCoordinates, altitudeValues, azimuthValues);
+        }
+    }
+
+    @Test
+    void testLocatingStarsInBatchWithInconsistentLength() {
+        assertThrows(IllegalArgumentException.class, () -> tokyoStarLocator.locateStars(LOCAL_DATE_TIME_JAN_15, new double[2], new double[2], new double[1], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> tokyoStarLocator.locateStars(LOCAL_DATE_TIME_JAN_15, new double[2], new double[1], new double[2], new double[2]));
+    }
+
+    @Test
+    void testLocatingStarOverTime() {
+        int count = 1500;
+        Duration step = Duration.ofMinutes(1);
+        double[] altitudeValues = new double[count];
+        double[] azimuthValues = new double[count];
+
+        for (StarLocator starLocator : new StarLocator[]{tokyoStarLocator, sydneyStarLocator, nycStarLocator, saoPauloStarLocator, nullIslandStarLocator}) {
+            starLocator.locateStarOverTime(LOCAL_DATE_TIME_JAN_15, step, count, CAPELLA_EQ_COORDINATE_JAN_15, altitudeValues, azimuthValues);
+            for (int i = 0; i < count; i++) {
+                HorizontalCoordinate expectedLocation = starLocator.locateStar(LOCAL_DATE_TIME_JAN_15.plus(step.multipliedBy(i)), CAPELLA_EQ_COORDINATE_JAN_15);
+                assertEquals(expectedLocation.getAltDegreeValue(), altitudeValues[i], 1e-6);
+                assertEquals(0, angularDifference(expectedLocation.getAzDegreeValue(), azimuthValues[i]), 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void testLocatingStarOverTimeWithInsufficientArrays() {
+        assertThrows(IllegalArgumentException.class, () -> tokyoStarLocator.locateStarOverTime(LOCAL_DATE_TIME_JAN_15, Duration.ofMinutes(1), 3, CAPELLA_EQ_COORDINATE_JAN_15, new double[2], new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> tokyoStarLocator.locateStarOverTime(LOCAL_DATE_TIME_JAN_15, Duration.ofMinutes(1), -1, CAPELLA_EQ_COORDINATE_JAN_15, new double[2], new double[3]));
+    }
+
+    @Test
+    void testLocatingStarAtInstant() {
+        Instant instant = LOCAL_DATE_TIME_JAN_15.atZone(ZoneId.of("Asia/Tokyo")).toInstant();
+        HorizontalCoordinate expectedLocation = tokyoStarLocator.locateStar(LOCAL_DATE_TIME_JAN_15, BETELGEUSE_EQ_COORDINATE_JAN_15);
+
+        HorizontalCoordinate locationAtInstant = tokyoStarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        assertEquals(expectedLocation.getAltDegreeValue(), locationAtInstant.getAltDegreeValue(), 1e-12);
+        assertEquals(expectedLocation.getAzDegreeValue(), locationAtInstant.getAzDegreeValue(), 1e-12);
+
+        HorizontalCoordinate locationAtEpochNanos = tokyoStarLocator.locateStar(instant.getEpochSecond() * 1_000_000_000L, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        assertEquals(expectedLocation.getAltDegreeValue(), locationAtEpochNanos.getAltDegreeValue(), 1e-12);
+        assertEquals(expectedLocation.getAzDegreeValue(), locationAtEpochNanos.getAzDegreeValue(), 1e-12);
+    }
+
+    @Test
+    void testLocatingStarKeepsSubSecondPrecision() {
+        Instant instant = LOCAL_DATE_TIME_JAN_15.atZone(ZoneId.of("Asia/Tokyo")).toInstant();
+        double siderealTime = tokyoStarLocator.createObservingContext(instant).getLocalSiderealTime();
+        double siderealTimeAfterHalfSecond = tokyoStarLocator.createObservingContext(instant.plusMillis(500)).getLocalSiderealTime();
+        double siderealTimeAfterHalfSecondByNanos = tokyoStarLocator.createObservingContext(instant.getEpochSecond() * 1_000_000_000L + 500_000_000L).getLocalSiderealTime();
+        double siderealTimeAfterHalfSecondByDateTime = tokyoStarLocator.createObservingContext(LOCAL_DATE_TIME_JAN_15.plusNanos(500_000_000L)).getLocalSiderealTime();
+
+        double expectedDifference = 360.98564736629 * 0.5 / 86400;
+        assertEquals(expectedDifference, siderealTimeAfterHalfSecond - siderealTime, 1e-10);
+        assertEquals(expectedDifference, siderealTimeAfterHalfSecondByNanos - siderealTime, 1e-10);
+        assertEquals(expectedDifference, siderealTimeAfterHalfSecondByDateTime - siderealTime, 1e-10);
+    }
+
+    @Test
+    void testCachingObservingContext() {
+        StarLocator cachingStarLocator = new StarLocator(
+                ZoneId.of("Asia/Tokyo"),
+                new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42),
+                true, Precision.EXACT, null, null, null, UTC_TIME_SCALES);
+        Instant instant = LOCAL_DATE_TIME_JAN_15.atZone(ZoneId.of("Asia/Tokyo")).toInstant();
+
+        ObservingContext observingContext = cachingStarLocator.createObservingContext(instant);
+        assertSame(observingContext, cachingStarLocator.createObservingContext(instant));
+        assertSame(observingContext, cachingStarLocator.createObservingContext(LOCAL_DATE_TIME_JAN_15));
+        assertNotSame(observingContext, cachingStarLocator.createObservingContext(instant.plusNanos(1)));
+        assertNotSame(tokyoStarLocator.createObservingContext(instant), tokyoStarLocator.createObservingContext(instant));
+
+        assertEquals(tokyoStarLocator.createObservingContext(instant).getLocalSiderealTime(), observingContext.getLocalSiderealTime());
+    }
+
+    @Test
+    void testCalculateMeridianTimeClosestToReference() {
+        for (LocalDateTime referenceDateTime : new LocalDateTime[]{LOCAL_DATE_TIME_JAN_15, LOCAL_DATE_TIME_JUL_15, LOCAL_DATE_TIME_JAN_15.plusHours(11)}) {
+            LocalDateTime meridianTime = tokyoStarLocator.calculateMeridianTime(referenceDateTime, ANTARES_EQ_COORDINATE_JAN_15);
+            assertTrue(Duration.between(referenceDateTime, meridianTime).abs().compareTo(Duration.ofHours(12)) <= 0);
+            verifyMeridianTime(tokyoStarLocator, meridianTime, ANTARES_EQ_COORDINATE_JAN_15);
+        }
+        assertEquals(0, Duration.between(
+                nycStarLocator.calculateMeridianTime(LOCAL_DATE_TIME_JAN_15.toLocalDate(), BETELGEUSE_EQ_COORDINATE_JAN_15),
+                nycStarLocator.calculateMeridianTime(LOCAL_DATE_TIME_JAN_15, BETELGEUSE_EQ_COORDINATE_JAN_15)
+        ).toMillis(), 1000);
+    }
+
+    @Test
+    void testCalculateRiseTransitSet() {
+        for (StarLocator starLocator : new StarLocator[]{tokyoStarLocator, sydneyStarLocator, nycStarLocator, saoPauloStarLocator, nullIslandStarLocator}) {
+            for (double horizonAltitude : new double[]{0, -0.5667, 20}) {
+                RiseTransitSet riseTransitSet = starLocator.calculateRiseTransitSet(LOCAL_DATE_TIME_JAN_15.toLocalDate(), BETELGEUSE_EQ_COORDINATE_JAN_15, horizonAltitude);
+                assertEquals(RiseTransitSet.Visibility.RISES_AND_SETS, riseTransitSet.getVisibility());
+
+                LocalDateTime riseTime = riseTransitSet.getRiseTime().orElseThrow();
+                LocalDateTime transitTime = riseTransitSet.getTransitTime();
+                LocalDateTime setTime = riseTransitSet.getSetTime().orElseThrow();
+                assertTrue(riseTime.isBefore(transitTime) && transitTime.isBefore(setTime));
+                assertTrue(Duration.between(LOCAL_DATE_TIME_JAN_15.toLocalDate().plusDays(1).atStartOfDay(), transitTime).abs().compareTo(Duration.ofHours(12)) <= 0);
+                verifyMeridianTime(starLocator, transitTime, BETELGEUSE_EQ_COORDINATE_JAN_15);
+                assertEquals(horizonAltitude, starLocator.locateStar(riseTime, BETELGEUSE_EQ_COORDINATE_JAN_15).getAltDegreeValue(), 0.001);
+                assertEquals(horizonAltitude, starLocator.locateStar(setTime, BETELGEUSE_EQ_COORDINATE_JAN_15).getAltDegreeValue(), 0.001);
+                assertTrue(starLocator.locateStar(riseTime, BETELGEUSE_EQ_COORDINATE_JAN_15).getAzDegreeValue() < 180);
+                assertTrue(starLocator.locateStar(setTime, BETELGEUSE_EQ_COORDINATE_JAN_15).getAzDegreeValue() > 180);
+            }
+        }
+    }
+
+    @Test
+    void testCalculateRiseTransitSetForCircumpolarAndNeverRisingStars() {
+        RiseTransitSet capellaInNorthPole = northPoleStarLocator.calculateRiseTransitSet(LOCAL_DATE_TIME_JAN_15.toLocalDate(), CAPELLA_EQ_COORDINATE_JAN_15, 0);
+        assertEquals(RiseTransitSet.Visibility.CIRCUMPOLAR, capellaInNorthPole.getVisibility());
+        assertTrue(capellaInNorthPole.getRiseTime().isEmpty());
+        assertTrue(capellaInNorthPole.getSetTime().isEmpty());
+
+        RiseTransitSet antaresInNorthPole = northPoleStarLocator.calculateRiseTransitSet(LOCAL_DATE_TIME_JAN_15.toLocalDate(), ANTARES_EQ_COORDINATE_JAN_15, 0);
+        assertEquals(RiseTransitSet.Visibility.NEVER_RISES, antaresInNorthPole.getVisibility());
+        assertTrue(antaresInNorthPole.getRiseTime().isEmpty());
+
+        assertEquals(RiseTransitSet.Visibility.NEVER_RISES,
+                sydneyStarLocator.calculateRiseTransitSet(LOCAL_DATE_TIME_JAN_15.toLocalDate(), CAPELLA_EQ_COORDINATE_JAN_15, 15).getVisibility());
+        assertEquals(RiseTransitSet.Visibility.CIRCUMPOLAR,
+                tokyoStarLocator.calculateRiseTransitSet(LOCAL_DATE_TIME_JAN_15.toLocalDate(), CAPELLA_EQ_COORDINATE_JAN_15, -20).getVisibility());
+    }
+
+    private void verifyMeridianTime(StarLocator starLocator, LocalDateTime meridianTime, EquatorialCoordinate starEqCoordinate) {
+        double altitudeAtMeridian = starLocator.locateStar(meridianTime, starEqCoordinate).getAltDegreeValue();
+        assertTrue(altitudeAtMeridian > starLocator.locateStar(meridianTime.minusSeconds(2), starEqCoordinate).getAltDegreeValue());
+        assertTrue(altitudeAtMeridian > starLocator.locateStar(meridianTime.plusSeconds(2), starEqCoordinate).getAltDegreeValue());
+    }
+
+    private static double angularDifference(double firstDegreeValue, double secondDegreeValue) {
+        double difference = Math.abs(firstDegreeValue - secondDegreeValue) % 360;
+        return Math.min(difference, 360 - difference);
+    }
+
+    private void verifyBatchLocations(StarLocator starLocator, EquatorialCoordinate[] starEqCoordinates, double[] altitudeValues, double[] azimuthValues) {
+        for (int i = 0; i < starEqCoordinates.length; i++) {
+            HorizontalCoordinate expectedLocation = starLocator.locateStar(LOCAL_DATE_TIME_JAN_15, starEqCoordinates[i]);
+            assertEquals(expectedLocation.getAltDegreeValue(), altitudeValues[i], 1e-9);
+            assertEquals(expectedLocation.getAzDegreeValue(), azimuthValues[i], 1e-9);
+        }
+    }
+
     private void testCalculateMeridianTime(StarLocator starLocator, LocalDate localDate, EquatorialCoordinate starEqCoordinate) {
         LocalDateTime meridianTime = starLocator.calculateMeridianTime(localDate, starEqCoordinate);
 
@@ -261,6 +436,225 @@ class StarLocatorTest {
         assertTrue(locationAtMeridian.getAltDegreeValue() > locationAfterMeridian.getAltDegreeValue());
     }
 
+    @Test
+    void testApproximatePrecisionErrorBounds() {
+        Random random = new Random(11);
+        double[] raDegreeValues = new double[50_000];
+        double[] decDegreeValues = new double[raDegreeValues.length];
+        for (int i = 0; i < raDegreeValues.length; i++) {
+            raDegreeValues[i] = random.nextDouble() * 360;
+            decDegreeValues[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+        }
+        decDegreeValues[0] = 90;
+        decDegreeValues[1] = -90;
+
+        for (double latitude : new double[]{-89.5, -33.87, 0, 35.7, 64.1}) {
+            GeographicCoordinate observingLocation = new GeographicCoordinate(latitude, 139.74);
+            double[] altitudeValues = new double[raDegreeValues.length];
+            double[] azimuthValues = new double[raDegreeValues.length];
+            new StarLocator(ZoneOffset.UTC, observingLocation)
+                    .locateStars(LOCAL_DATE_TIME_JAN_15, raDegreeValues, decDegreeValues, altitudeValues, azimuthValues);
+
+            for (Precision precision : new Precision[]{Precision.ARCSECOND, Precision.ARCMINUTE}) {
+                StarLocator starLocator = new StarLocator(ZoneOffset.UTC, observingLocation, false, precision);
+                double[] approximateAltitudeValues = new double[raDegreeValues.length];
+                double[] approximateAzimuthValues = new double[raDegreeValues.length];
+                starLocator.locateStars(LOCAL_DATE_TIME_JAN_15, raDegreeValues, decDegreeValues, approximateAltitudeValues, approximateAzimuthValues);
+
+                for (int i = 0; i < raDegreeValues.length; i++) {
+                    String message = precision + " at latitude " + latitude + ", star " + i;
+                    assertEquals(altitudeValues[i], approximateAltitudeValues[i], precision.getMaxError(), message);
+                    double azimuthDifference = Math.abs(azimuthValues[i] - approximateAzimuthValues[i]);
+                    azimuthDifference = Math.min(azimuthDifference, 360 - azimuthDifference);
+                    assertEquals(0, azimuthDifference * Math.cos(Math.toRadians(altitudeValues[i])), precision.getMaxError(), message);
+                }
+
+                HorizontalCoordinate approximateLocation = starLocator.locateStar(LOCAL_DATE_TIME_JAN_15, BETELGEUSE_EQ_COORDINATE_JAN_15);
+                HorizontalCoordinate exactLocation = new StarLocator(ZoneOffset.UTC, observingLocation).locateStar(LOCAL_DATE_TIME_JAN_15, BETELGEUSE_EQ_COORDINATE_JAN_15);
+                assertEquals(exactLocation.getAltDegreeValue(), approximateLocation.getAltDegreeValue(), precision.getMaxError());
+            }
+        }
+    }
+
+    @Test
+    void testLocateJ2000Stars() {
+        PrecessionNutation precessionNutation = new PrecessionNutation(Duration.ofMinutes(1));
+        GeographicCoordinate observingLocation = new GeographicCoordinate(35.7025, 139.745);
+        StarLocator j2000StarLocator = new StarLocator(ZoneOffset.UTC, observingLocation, false, Precision.EXACT, precessionNutation);
+        StarLocator ofDateStarLocator = new StarLocator(ZoneOffset.UTC, observingLocation);
+        Instant instant = LOCAL_DATE_TIME_JAN_15.toInstant(ZoneOffset.UTC);
+        EquatorialCoordinate betelgeuseOfDate = toMeanSiderealTimeFrame(precessionNutation, instant,
+                precessionNutation.toCoordinateOfDate(instant, BETELGEUSE_EQ_COORDINATE_JAN_15));
+
+        HorizontalCoordinate expectedLocation = ofDateStarLocator.locateStar(instant, betelgeuseOfDate);
+        HorizontalCoordinate j2000Location = j2000StarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        assertEquals(expectedLocation.getAltDegreeValue(), j2000Location.getAltDegreeValue(), 1e-9);
+        assertEquals(expectedLocation.getAzDegreeValue(), j2000Location.getAzDegreeValue(), 1e-9);
+        // Two decades of precession move the star by several arcminutes.
+        HorizontalCoordinate uncorrectedLocation = ofDateStarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        assertTrue(Math.abs(uncorrectedLocation.getAzDegreeValue() - j2000Location.getAzDegreeValue()) > 0.05);
+
+        double[] altitudeValues = new double[2];
+        double[] azimuthValues = new double[2];
+        j2000StarLocator.locateStars(LOCAL_DATE_TIME_JAN_15,
+                new double[]{BETELGEUSE_EQ_COORDINATE_JAN_15.getRaDegreeValue(), 0},
+                new double[]{BETELGEUSE_EQ_COORDINATE_JAN_15.getDecDegreeValue(), 0},
+                altitudeValues, azimuthValues);
+        assertEquals(j2000Location.getAltDegreeValue(), altitudeValues[0], 1e-12);
+        assertEquals(j2000Location.getAzDegreeValue(), azimuthValues[0], 1e-12);
+
+        j2000StarLocator.locateStarOverTime(LOCAL_DATE_TIME_JAN_15, Duration.ofMinutes(1), 2, BETELGEUSE_EQ_COORDINATE_JAN_15, altitudeValues, azimuthValues);
+        assertEquals(j2000Location.getAltDegreeValue(), altitudeValues[0], 1e-9);
+        assertEquals(j2000Location.getAzDegreeValue(), azimuthValues[0], 1e-9);
+
+        EquatorialCoordinate roundTrip = j2000StarLocator.createObservingContext(instant).toEquatorial(j2000Location);
+        assertEquals(BETELGEUSE_EQ_COORDINATE_JAN_15.getRaDegreeValue(), roundTrip.getRaDegreeValue(), 1e-9);
+        assertEquals(BETELGEUSE_EQ_COORDINATE_JAN_15.getDecDegreeValue(), roundTrip.getDecDegreeValue(), 1e-9);
+
+        LocalDateTime meridianTime = j2000StarLocator.calculateMeridianTime(LOCAL_DATE_TIME_JAN_15, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        LocalDateTime expectedMeridianTime = ofDateStarLocator.calculateMeridianTime(LOCAL_DATE_TIME_JAN_15, betelgeuseOfDate);
+        assertTrue(Duration.between(expectedMeridianTime, meridianTime).abs().toMillis() < 1, meridianTime.toString());
+    }
+
+    @Test
+    void testUniversalTimeShift() {
+        GeographicCoordinate nullIsland = new GeographicCoordinate(0, 0);
+        StarLocator ut1StarLocator = new StarLocator(ZoneOffset.UTC, nullIsland);
+        StarLocator utcStarLocator = createReferenceStarLocator(ZoneOffset.UTC, nullIsland);
+        Instant instant = LOCAL_DATE_TIME_JAN_15.toInstant(ZoneOffset.UTC);
+
+        // UT1 - UTC was -0.18 s, turning the Earth back by 0.00071º.
+        double ut1MinusUtc = TimeScales.getDefault().getOffset(TimeScales.Scale.UT1, instant);
+        double siderealShift = ut1MinusUtc * StarLocator.SIDEREAL_DEGREES_PER_DAY / 86_400;
+        assertEquals(-0.18, ut1MinusUtc, 0.01);
+        assertEquals(siderealShift, ut1StarLocator.createObservingContext(instant).getLocalSiderealTime()
+                - utcStarLocator.createObservingContext(instant).getLocalSiderealTime(), 1e-9);
+
+        // The shift is that of the star moving by as much the other way, which near the zenith turns the azimuth more.
+        HorizontalCoordinate ut1Location = ut1StarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        HorizontalCoordinate shiftedLocation = utcStarLocator.locateStar(instant, new EquatorialCoordinate(
+                (BETELGEUSE_EQ_COORDINATE_JAN_15.getRaDegreeValue() - siderealShift) / 15, BETELGEUSE_EQ_COORDINATE_JAN_15.getDecDegreeValue()));
+        assertEquals(shiftedLocation.getAltDegreeValue(), ut1Location.getAltDegreeValue(), 1e-9);
+        assertEquals(shiftedLocation.getAzDegreeValue(), ut1Location.getAzDegreeValue(), 1e-9);
+        HorizontalCoordinate utcLocation = utcStarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        double azimuthShift = ut1Location.getAzDegreeValue() - utcLocation.getAzDegreeValue();
+        assertTrue(Math.abs(azimuthShift) > 3 * Math.abs(siderealShift), String.valueOf(azimuthShift));
+    }
+
+    @Test
+    void testLocateJ2000StarOverYears() {
+        GeographicCoordinate observingLocation = new GeographicCoordinate(35.7025, 139.745);
+        StarLocator j2000StarLocator = new StarLocator(ZoneOffset.UTC, observingLocation, false, Precision.EXACT, new PrecessionNutation(Duration.ofMinutes(1)));
+        EquatorialCoordinate vega = new EquatorialCoordinate(18, 36, 56, 38, 47, 1);
+
+        // Daily steps over a decade, and steps of ten minutes whose runs of an hour share one rotation.
+        for (Duration step : new Duration[]{Duration.ofDays(1), Duration.ofMinutes(10)}) {
+            int count = (int) (Duration.ofDays(3653).toSeconds() / step.toSeconds());
+            double[] altitudeValues = new double[count];
+            double[] azimuthValues = new double[count];
+            j2000StarLocator.locateStarOverTime(LOCAL_DATE_TIME_JAN_15, step, count, vega, altitudeValues, azimuthValues);
+
+            for (int i = 0; i < count; i += 7) {
+                HorizontalCoordinate expectedLocation = j2000StarLocator.locateStar(LOCAL_DATE_TIME_JAN_15.plus(step.multipliedBy(i)), vega);
+                assertEquals(expectedLocation.getAltDegreeValue(), altitudeValues[i], 1e-5, step + " " + i);
+                // Azimuth differences are scaled down to arcs of the sky, as they grow without bound at the zenith.
+                double cosAltitude = Math.cos(Math.toRadians(expectedLocation.getAltDegreeValue()));
+                assertEquals(0, (expectedLocation.getAzDegreeValue() - azimuthValues[i]) * cosAltitude, 1e-5, step + " " + i);
+            }
+        }
+    }
+
+    @Test
+    void testLocateJ2000StarsAgainstApparentSiderealTime() {
+        // In February 2011 the ascending node of the Moon is near 270º and the nutation in longitude near its maximum.
+        Instant instant = Instant.parse("2011-02-12T12:00:00Z");
+        double julianCenturies = (instant.getEpochSecond() - StarLocator.J2000_EPOCH_SECOND
+                + TimeScales.getDefault().getOffset(TimeScales.Scale.TT, instant)) / (36525.0 * 86_400);
+        double equationOfEquinoxes = PrecessionNutation.calculateEquationOfEquinoxes(julianCenturies);
+        assertTrue(Math.abs(equationOfEquinoxes) > 15.0 / 3600, Double.toString(equationOfEquinoxes));
+
+        PrecessionNutation precessionNutation = new PrecessionNutation(Duration.ofMinutes(1));
+        GeographicCoordinate observingLocation = new GeographicCoordinate(35.7025, 139.745);
+        StarLocator j2000StarLocator = new StarLocator(ZoneOffset.UTC, observingLocation, false, Precision.EXACT, precessionNutation);
+        EquatorialCoordinate betelgeuseOfDate = precessionNutation.toCoordinateOfDate(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+
+        // The apparent hour angle is the mean sidereal time plus the equation of the equinoxes, less the true right
+        // ascension of date.
+        double meanSiderealTime = StarLocator.calculateLocalSiderealTime(instant.getEpochSecond(), instant.getNano(), observingLocation.getLongDegreeValue(), TimeScales.getDefault());
+        double expectedHourAngle = StarLocator.reduceAngle(meanSiderealTime + equationOfEquinoxes - betelgeuseOfDate.getRaDegreeValue());
+        ObservingContext observingContext = j2000StarLocator.createObservingContext(instant);
+        double hourAngle = StarLocator.reduceAngle(observingContext.getLocalSiderealTime() - betelgeuseOfDate.getRaDegreeValue());
+        assertEquals(expectedHourAngle, hourAngle, 1e-3 / 3600);
+
+        HorizontalCoordinate expectedLocation = new StarLocator(ZoneOffset.UTC, observingLocation).locateStar(instant,
+                new EquatorialCoordinate((betelgeuseOfDate.getRaDegreeValue() - equationOfEquinoxes) / 15, betelgeuseOfDate.getDecDegreeValue()));
+        HorizontalCoordinate location = j2000StarLocator.locateStar(instant, BETELGEUSE_EQ_COORDINATE_JAN_15);
+        assertEquals(expectedLocation.getAltDegreeValue(), location.getAltDegreeValue(), 1e-3 / 3600);
+        assertEquals(expectedLocation.getAzDegreeValue(), location.getAzDegreeValue(), 1e-3 / 3600);
+    }
+
+    private static EquatorialCoordinate toMeanSiderealTimeFrame(PrecessionNutation precessionNutation, Instant instant, EquatorialCoordinate eqCoordinateOfDate) {
+        // Shifts the right ascension so that a locator using mean sidereal time finds the apparent hour angle.
+        double raDegreeValue = eqCoordinateOfDate.getRaDegreeValue() - precessionNutation.getEquationOfEquinoxes(instant.getEpochSecond());
+        return new EquatorialCoordinate(StarLocator.reduceAngle(raDegreeValue) / 15, eqCoordinateOfDate.getDecDegreeValue());
+    }
+
+    @Test
+    void testLocateSun() {
+        GeographicCoordinate observingLocation = new GeographicCoordinate(35.7025, 139.745);
+        StarLocator ofDateStarLocator = new StarLocator(ZoneOffset.UTC, observingLocation);
+        StarLocator j2000StarLocator = new StarLocator(ZoneOffset.UTC, observingLocation, true, Precision.EXACT, new PrecessionNutation(Duration.ofMinutes(1)));
+        // Apparent noon in Tokyo, the Sun is due south at 90º - latitude + declination.
+        LocalDateTime localDateTime = LocalDateTime.of(2021, Month.JANUARY, 15, 2, 50);
+        EquatorialCoordinate sunEqCoordinate = SunEphemeris.calculatePosition(localDateTime.toInstant(ZoneOffset.UTC));
+
+        HorizontalCoordinate sunLocation = ofDateStarLocator.locateSun(localDateTime);
+        assertEquals(90 - 35.7025 + sunEqCoordinate.getDecDegreeValue(), sunLocation.getAltDegreeValue(), 0.01);
+        assertEquals(180, sunLocation.getAzDegreeValue(), 1);
+        assertEquals(ofDateStarLocator.locateStar(localDateTime, sunEqCoordinate).getAltDegreeValue(), sunLocation.getAltDegreeValue(), 1e-12);
+        // The ephemeris is of date, the J2000 locator does not rotate it.
+        HorizontalCoordinate j2000SunLocation = j2000StarLocator.locateSun(localDateTime);
+        assertEquals(sunLocation.getAltDegreeValue(), j2000SunLocation.getAltDegreeValue(), 1e-12);
+        assertEquals(sunLocation.getAzDegreeValue(), j2000SunLocation.getAzDegreeValue(), 1e-12);
+    }
+
+    @Test
+    void testLocateWithRefraction() {
+        AtmosphericRefraction atmosphericRefraction = new AtmosphericRefraction(AtmosphericRefraction.STANDARD_PRESSURE, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        ZoneId sydneyZoneId = ZoneId.of("Australia/Sydney");
+        StarLocator refractedStarLocator = new StarLocator(sydneyZoneId, new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 8, 10),
+                true, Precision.EXACT, null, atmosphericRefraction, null, UTC_TIME_SCALES);
+        // Capella is 10 degrees high, refracted by about 5 arcminutes.
+        Instant instant = LOCAL_DATE_TIME_JAN_15.atZone(sydneyZoneId).toInstant();
+
+        HorizontalCoordinate geometricLocation = sydneyStarLocator.locateStar(instant, CAPELLA_EQ_COORDINATE_JAN_15);
+        HorizontalCoordinate refractedLocation = refractedStarLocator.locateStar(instant, CAPELLA_EQ_COORDINATE_JAN_15);
+        assertEquals(geometricLocation.getAltDegreeValue() + atmosphericRefraction.calculateRefraction(geometricLocation.getAltDegreeValue()),
+                refractedLocation.getAltDegreeValue(), 1.0 / 3600);
+        assertEquals(geometricLocation.getAzDegreeValue(), refractedLocation.getAzDegreeValue(), 1e-12);
+
+        EquatorialCoordinate roundTrip = refractedStarLocator.createObservingContext(instant).toEquatorial(refractedLocation);
+        assertEquals(CAPELLA_EQ_COORDINATE_JAN_15.getRaDegreeValue(), roundTrip.getRaDegreeValue(), 1e-7);
+        assertEquals(CAPELLA_EQ_COORDINATE_JAN_15.getDecDegreeValue(), roundTrip.getDecDegreeValue(), 1e-7);
+
+        double[] altitudeValues = new double[1];
+        double[] azimuthValues = new double[1];
+        refractedStarLocator.createObservingContext(instant).locateStarsVectorized(
+                new double[]{CAPELLA_EQ_COORDINATE_JAN_15.getRaDegreeValue()}, new double[]{CAPELLA_EQ_COORDINATE_JAN_15.getDecDegreeValue()},
+                altitudeValues, azimuthValues);
+        assertEquals(refractedLocation.getAltDegreeValue(), altitudeValues[0], 1e-9);
+
+        // The cached observing context follows weather changes.
+        atmosphericRefraction.setConditions(AtmosphericRefraction.STANDARD_PRESSURE / 2, AtmosphericRefraction.STANDARD_TEMPERATURE);
+        HorizontalCoordinate thinAirLocation = refractedStarLocator.locateStar(instant, CAPELLA_EQ_COORDINATE_JAN_15);
+        assertEquals(geometricLocation.getAltDegreeValue() + atmosphericRefraction.calculateRefraction(geometricLocation.getAltDegreeValue()),
+                thinAirLocation.getAltDegreeValue(), 1.0 / 3600);
+    }
+
+    private static StarLocator createReferenceStarLocator(ZoneId zoneId, GeographicCoordinate observingLocation) {
+        return new StarLocator(zoneId, observingLocation, false, Precision.EXACT, null, null, null, UTC_TIME_SCALES);
+    }
+
     private void verifyStarLocation(
             HorizontalCoordinate expectedLocation,
             HorizontalCoordinate actualLocation,
@@ -0,0 +1,161 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import com.molecode.astronomyutils.coordinates.HorizontalCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Locale;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingLocatorTest {
+
+    private static final StarLocator TOKYO_STAR_LOCATOR = new StarLocator(ZoneOffset.UTC, new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42), true);
+
+    private static final Instant INSTANT = Instant.parse("2021-01-15T13:30:10Z");
+
+    @Test
+    void testLocateCsvRowsAtFixedInstant() throws IOException {
+        String input = "id,ra,dec,magnitude\n" +
+                "betelgeuse,89.07916666666667,7.409166666666667,0.42\n" +
+                "capella,79.56666666666666,46.02305555555556,0.08\n" +
+                "\n" +
+                "antares,247.66666666666666,-26.476944444444445,1.09\n";
+        StringWriter output = new StringWriter();
+        long rowCount = new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.CSV, INSTANT, 2)
+                .locate(new BufferedReader(new StringReader(input)), output);
+
+        assertEquals(3, rowCount);
+        String[] lines = output.toString().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("id,ra,dec,altitude,azimuth", lines[0]);
+        verifyCsvRow(lines[1], "betelgeuse", INSTANT, 89.07916666666667, 7.409166666666667);
+        verifyCsvRow(lines[2], "capella", INSTANT, 79.56666666666666, 46.02305555555556);
+        verifyCsvRow(lines[3], "antares", INSTANT, 247.66666666666666, -26.476944444444445);
+    }
+
+    @Test
+    void testLocateCsvRowsWithTimes() throws IOException {
+        String input = "time,ra,dec\n" +
+                "2021-01-15T13:30:10Z,89.07916666666667,7.409166666666667\n" +
+                "2021-01-15T13:30:10Z,79.56666666666666,46.02305555555556\n" +
+                "2021-01-15T13:30:10.500Z,79.56666666666666,46.02305555555556\n";
+        StringWriter output = new StringWriter();
+        new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.CSV, null, 16)
+                .locate(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals("time,ra,dec,altitude,azimuth", lines[0]);
+        String[] values = lines[3].split(",");
+        assertEquals("2021-01-15T13:30:10.500Z", values[0]);
+        HorizontalCoordinate expectedLocation = TOKYO_STAR_LOCATOR.locateStar(
+                Instant.parse("2021-01-15T13:30:10.500Z"), new EquatorialCoordinate(79.56666666666666 / 15, 46.02305555555556));
+        assertEquals(expectedLocation.getAltDegreeValue(), Double.parseDouble(values[3]), 1e-9);
+        assertEquals(expectedLocation.getAzDegreeValue(), Double.parseDouble(values[4]), 1e-9);
+    }
+
+    @Test
+    void testReadTimesLikeInstantParse() throws IOException {
+        String[] times = {"2021-01-15T13:30:10Z", "1969-12-31T23:59:59.5Z", "2000-02-29T12:00:00.123456789Z", "1900-03-01T00:00:00.01Z",
+                "2016-12-31T23:59:60Z", "2021-01-15T13:30:10.000Z"};
+        StringBuilder input = new StringBuilder("ra,time,dec\n");
+        for (String time : times) {
+            input.append("79.56666666666666, ").append(time).append(" ,46.02305555555556\n");
+        }
+        StringWriter output = new StringWriter();
+        new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.CSV, null, 4)
+                .locate(new BufferedReader(new StringReader(input.toString())), output);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(times.length + 1, lines.length);
+        for (int i = 0; i < times.length; i++) {
+            String[] values = lines[i + 1].split(",");
+            assertEquals(times[i], values[0]);
+            HorizontalCoordinate expectedLocation = TOKYO_STAR_LOCATOR.locateStar(
+                    Instant.parse(times[i]), new EquatorialCoordinate(79.56666666666666 / 15, 46.02305555555556));
+            assertEquals(expectedLocation.getAltDegreeValue(), Double.parseDouble(values[3]), 1e-12);
+            assertEquals(expectedLocation.getAzDegreeValue(), Double.parseDouble(values[4]), 1e-12);
+        }
+    }
+
+    @Test
+    void testLocateJsonRows() throws IOException {
+        String input = "{\"id\": \"betelgeuse\", \"ra\": 89.07916666666667, \"dec\": 7.409166666666667, \"time\": \"2021-01-15T13:30:10Z\"}\n" +
+                "{\"dec\":-26.476944444444445,\"ra\":247.66666666666666,\"time\":\"2021-01-15T13:30:10Z\"}\n";
+        StringWriter output = new StringWriter();
+        new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.NDJSON, null, 1)
+                .locate(new BufferedReader(new StringReader(input)), output);
+
+        String[] lines = output.toString().split("\n");
+        assertEquals(2, lines.length);
+        HorizontalCoordinate betelgeuse = TOKYO_STAR_LOCATOR.locateStar(INSTANT, new EquatorialCoordinate(89.07916666666667 / 15, 7.409166666666667));
+        assertEquals("{\"id\":\"betelgeuse\",\"time\":\"2021-01-15T13:30:10Z\",\"ra\":89.07916666666667,\"dec\":7.409166666666667,"
+                + "\"altitude\":" + betelgeuse.getAltDegreeValue() + ",\"azimuth\":" + betelgeuse.getAzDegreeValue() + "}", lines[0]);
+    }
+
+    @Test
+    void testWriteCsvHeaderWithoutRows() throws IOException {
+        StringWriter output = new StringWriter();
+        long rowCount = new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.CSV, null, 16)
+                .locate(new BufferedReader(new StringReader("id,time,ra,dec\n")), output);
+
+        assertEquals(0, rowCount);
+        assertEquals("id,time,ra,dec,altitude,azimuth\n", output.toString());
+    }
+
+    @Test
+    void testJsonStringsAreEscaped() throws IOException {
+        String input = "{\"name\": \"\\\"id\\\": x\", \"id\": \"a\\\"b\\\\c\\u00e9\", \"ra\": 89.07916666666667, \"dec\": 7.409166666666667}\n";
+        StringWriter output = new StringWriter();
+        new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.NDJSON, INSTANT, 16)
+                .locate(new BufferedReader(new StringReader(input)), output);
+
+        // The id is read from its own field, not from the name value quoting it, and written back escaped.
+        assertTrue(output.toString().startsWith("{\"id\":\"a\\\"b\\\\c\u00e9\",\"ra\":89.07916666666667,"), output.toString());
+    }
+
+    @Test
+    void testLocateWithFixedFractionDigits() throws IOException {
+        String input = "{\"ra\": \"05h56m19s\", \"dec\": \"+07°24'33\"}\n";
+        StringWriter output = new StringWriter();
+        new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.NDJSON, INSTANT, 16, 4)
+                .locate(new BufferedReader(new StringReader(input)), output);
+
+        EquatorialCoordinate betelgeuse = new EquatorialCoordinate(5, 56, 19, 7, 24, 33);
+        HorizontalCoordinate location = TOKYO_STAR_LOCATOR.locateStar(INSTANT, betelgeuse);
+        assertEquals(String.format(Locale.ROOT, "{\"ra\":%.4f,\"dec\":%.4f,\"altitude\":%.4f,\"azimuth\":%.4f}\n",
+                betelgeuse.getRaDegreeValue(), betelgeuse.getDecDegreeValue(), location.getAltDegreeValue(), location.getAzDegreeValue()), output.toString());
+    }
+
+    @Test
+    void testMalformedInput() {
+        StreamingLocator streamingLocator = new StreamingLocator(TOKYO_STAR_LOCATOR, StreamingLocator.Format.CSV, null, 16);
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingLocator.locate(new BufferedReader(new StringReader("ra,magnitude\n1,2\n")), new StringWriter()));
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingLocator.locate(new BufferedReader(new StringReader("ra,dec\n1,2\n")), new StringWriter()));
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingLocator.locate(new BufferedReader(new StringReader("ra,dec,time\n1,north,2021-01-15T13:30:10Z\n")), new StringWriter()));
+    }
+
+    private void verifyCsvRow(String line, String id, Instant instant, double raDegreeValue, double decDegreeValue) {
+        String[] values = line.split(",");
+        assertEquals(id, values[0]);
+        assertEquals(raDegreeValue, Double.parseDouble(values[1]));
+        assertEquals(decDegreeValue, Double.parseDouble(values[2]));
+        HorizontalCoordinate expectedLocation = TOKYO_STAR_LOCATOR.locateStar(instant, new EquatorialCoordinate(raDegreeValue / 15, decDegreeValue));
+        assertEquals(expectedLocation.getAltDegreeValue(), Double.parseDouble(values[3]), 1e-9);
+        assertEquals(expectedLocation.getAzDegreeValue(), Double.parseDouble(values[4]), 1e-9);
+    }
+}
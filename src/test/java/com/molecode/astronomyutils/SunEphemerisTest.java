@@ -0,0 +1,30 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SunEphemerisTest {
+
+    @Test
+    void testCalculatePosition() {
+        // Meeus, Astronomical Algorithms, example 25.a: 13h13m31.4s, -7º47'06".
+        EquatorialCoordinate sunEqCoordinate = SunEphemeris.calculatePosition(Instant.parse("1992-10-13T00:00:00Z"));
+
+        assertEquals(198.38083, sunEqCoordinate.getRaDegreeValue(), 0.01);
+        assertEquals(-7.78507, sunEqCoordinate.getDecDegreeValue(), 0.01);
+    }
+
+    @Test
+    void testSolsticesAndEquinox() {
+        EquatorialCoordinate juneSolstice = SunEphemeris.calculatePosition(Instant.parse("2021-06-21T03:32:00Z"));
+        EquatorialCoordinate marchEquinox = SunEphemeris.calculatePosition(Instant.parse("2021-03-20T09:37:00Z"));
+
+        assertEquals(23.44, juneSolstice.getDecDegreeValue(), 0.01);
+        assertEquals(90, juneSolstice.getRaDegreeValue(), 0.02);
+        assertEquals(0, marchEquinox.getDecDegreeValue(), 0.01);
+    }
+}
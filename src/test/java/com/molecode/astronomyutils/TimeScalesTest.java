@@ -0,0 +1,100 @@
+package com.molecode.astronomyutils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeScalesTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testLeapSeconds() {
+        TimeScales timeScales = TimeScales.getDefault();
+        Instant beforeLeapSecond = Instant.parse("2016-12-31T23:59:59Z");
+        Instant afterLeapSecond = Instant.parse("2017-01-01T00:00:00Z");
+
+        assertEquals(36, timeScales.getOffset(TimeScales.Scale.TAI, beforeLeapSecond), 1e-12);
+        assertEquals(37, timeScales.getOffset(TimeScales.Scale.TAI, afterLeapSecond), 1e-12);
+        assertEquals(69.184, timeScales.getOffset(TimeScales.Scale.TT, afterLeapSecond), 1e-12);
+        assertEquals(0, timeScales.getOffset(TimeScales.Scale.UTC, afterLeapSecond));
+        // UT1 - UTC steps by the leap second, Delta T does not.
+        assertEquals(1, timeScales.getOffset(TimeScales.Scale.UT1, afterLeapSecond) - timeScales.getOffset(TimeScales.Scale.UT1, beforeLeapSecond), 1e-6);
+        assertEquals(timeScales.getDeltaT(beforeLeapSecond), timeScales.getDeltaT(afterLeapSecond), 1e-6);
+    }
+
+    @Test
+    void testUniversalTime() {
+        TimeScales timeScales = TimeScales.getDefault();
+
+        // IERS Bulletin A gives UT1 - UTC = -0.176 s at the start of 2021.
+        assertEquals(-0.176, timeScales.getOffset(TimeScales.Scale.UT1, Instant.parse("2021-01-01T00:00:00Z")), 0.01);
+        assertEquals(69.36, timeScales.getDeltaT(Instant.parse("2021-01-01T00:00:00Z")), 1e-9);
+        // Before leap seconds, UTC is taken as UT1.
+        assertEquals(0, timeScales.getOffset(TimeScales.Scale.UT1, Instant.parse("1950-01-01T00:00:00Z")));
+        assertEquals(29.15, timeScales.getOffset(TimeScales.Scale.TT, Instant.parse("1950-01-01T00:00:00Z")), 1e-9);
+
+        // Leap seconds keep UT1 within 0.9 s of UTC.
+        for (Instant instant = Instant.parse("1960-01-01T00:00:00Z"); instant.isBefore(Instant.parse("2040-01-01T00:00:00Z")); instant = instant.plusSeconds(86_400)) {
+            double ut1MinusUtc = timeScales.getOffset(TimeScales.Scale.UT1, instant);
+            assertTrue(Math.abs(ut1MinusUtc) < 0.9, instant + ": " + ut1MinusUtc);
+        }
+    }
+
+    @Test
+    void testJulianDate() {
+        TimeScales timeScales = TimeScales.getDefault();
+        Instant instant = Instant.parse("2000-01-01T12:00:00Z");
+
+        assertEquals(2451545.0, timeScales.toJulianDate(instant, TimeScales.Scale.UTC), 1e-9);
+        assertEquals(2451545.0 + 64.184 / 86_400, timeScales.toJulianDate(instant, TimeScales.Scale.TT), 1e-9);
+    }
+
+    @Test
+    void testLookupsInAnyOrder() {
+        TimeScales timeScales = TimeScales.getDefault();
+        long startEpochSecond = Instant.parse("1965-01-01T00:00:00Z").getEpochSecond();
+        long[] epochSeconds = new long[2000];
+        double[] ut1MinusUtcValues = new double[epochSeconds.length];
+        for (int i = 0; i < epochSeconds.length; i++) {
+            epochSeconds[i] = startEpochSecond + i * 1_000_000L;
+            ut1MinusUtcValues[i] = timeScales.getOffset(TimeScales.Scale.UT1, epochSeconds[i], 0);
+        }
+
+        Random random = new Random(7);
+        for (int n = 0; n < 10_000; n++) {
+            int i = random.nextInt(epochSeconds.length);
+            assertEquals(ut1MinusUtcValues[i], timeScales.getOffset(TimeScales.Scale.UT1, epochSeconds[i], 0));
+        }
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        Path leapSecondPath = tempDir.resolve("leap-seconds.txt");
+        Path deltaTPath = tempDir.resolve("delta-t.txt");
+        Files.writeString(leapSecondPath, "# TAI - UTC\n2000-01-01 30\n\n2010-01-01 31\n");
+        Files.writeString(deltaTPath, "1990-01-01 50\n2000-01-01 60\n2020-01-01 70\n");
+
+        TimeScales timeScales = TimeScales.load(leapSecondPath, deltaTPath);
+        assertEquals(55, timeScales.getOffset(TimeScales.Scale.TT, Instant.parse("1995-01-01T12:00:00Z")), 0.01);
+        assertEquals(62.184, timeScales.getOffset(TimeScales.Scale.TT, Instant.parse("2005-01-01T00:00:00Z")), 1e-12);
+        assertEquals(63.184 - 65, timeScales.getOffset(TimeScales.Scale.UT1, Instant.parse("2010-01-01T00:00:00Z")), 1e-3);
+        // UT1 - UTC is held after the last Delta T.
+        assertEquals(63.184 - 70, timeScales.getOffset(TimeScales.Scale.UT1, Instant.parse("2030-01-01T00:00:00Z")), 1e-9);
+
+        Files.writeString(deltaTPath, "1990-01-01 50\n2000-01-01\n");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> TimeScales.load(leapSecondPath, deltaTPath));
+        assertEquals("Malformed time scale line 2: 2000-01-01", exception.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> new TimeScales(new long[]{2, 1}, new double[]{1, 2}, new long[]{0}, new double[]{0}));
+    }
+}
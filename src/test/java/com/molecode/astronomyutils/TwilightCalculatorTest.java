@@ -0,0 +1,112 @@
+package com.molecode.astronomyutils;
+
+import com.molecode.astronomyutils.coordinates.GeographicCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.NORTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwilightCalculatorTest {
+
+    private static final ZoneId TOKYO_ZONE = ZoneId.of("Asia/Tokyo");
+    private static final GeographicCoordinate TOKYO = new GeographicCoordinate(NORTH, 35, 42, 9, EAST, 139, 44, 42);
+    private static final LocalDate NIGHT_DATE_JAN_15 = LocalDate.of(2021, Month.JANUARY, 15);
+
+    @Test
+    void testCalculateTwilight() {
+        Twilight twilight = new TwilightCalculator(TOKYO_ZONE, TOKYO).calculateTwilight(NIGHT_DATE_JAN_15);
+
+        // Published times for Tokyo: sunset 16:51, sunrise 06:50.
+        assertEquals(0, Duration.between(LocalDateTime.of(2021, 1, 15, 16, 51), twilight.getSunset().orElseThrow()).toMinutes(), 1);
+        assertEquals(0, Duration.between(LocalDateTime.of(2021, 1, 16, 6, 50), twilight.getSunrise().orElseThrow()).toMinutes(), 1);
+
+        LocalDateTime previous = twilight.getSunset().orElseThrow();
+        for (Twilight.Type type : new Twilight.Type[]{Twilight.Type.CIVIL, Twilight.Type.NAUTICAL, Twilight.Type.ASTRONOMICAL}) {
+            LocalDateTime dusk = twilight.getDusk(type).orElseThrow();
+            assertTrue(dusk.isAfter(previous));
+            previous = dusk;
+        }
+        for (Twilight.Type type : new Twilight.Type[]{Twilight.Type.ASTRONOMICAL, Twilight.Type.NAUTICAL, Twilight.Type.CIVIL, Twilight.Type.SUNRISE_SUNSET}) {
+            LocalDateTime dawn = twilight.getDawn(type).orElseThrow();
+            assertTrue(dawn.isAfter(previous));
+            previous = dawn;
+        }
+    }
+
+    @Test
+    void testSunAltitudeAtTwilight() {
+        StarLocator starLocator = new StarLocator(TOKYO_ZONE, TOKYO);
+        Twilight twilight = new TwilightCalculator(TOKYO_ZONE, TOKYO).calculateTwilight(NIGHT_DATE_JAN_15);
+
+        for (Twilight.Type type : Twilight.Type.values()) {
+            assertEquals(type.getSunAltitude(), starLocator.locateSun(twilight.getDusk(type).orElseThrow()).getAltDegreeValue(), 0.01, type.name());
+            assertEquals(type.getSunAltitude(), starLocator.locateSun(twilight.getDawn(type).orElseThrow()).getAltDegreeValue(), 0.01, type.name());
+        }
+    }
+
+    @Test
+    void testPolarDayAndNight() {
+        GeographicCoordinate svalbard = new GeographicCoordinate(NORTH, 78, 13, 0, EAST, 15, 38, 0);
+        ZoneId svalbardZone = ZoneId.of("Arctic/Longyearbyen");
+        TwilightCalculator twilightCalculator = new TwilightCalculator(svalbardZone, svalbard);
+
+        Twilight midsummer = twilightCalculator.calculateTwilight(LocalDate.of(2021, Month.JUNE, 21));
+        assertTrue(midsummer.getSunset().isEmpty());
+        assertTrue(midsummer.getDawn(Twilight.Type.CIVIL).isEmpty());
+        assertFalse(twilightCalculator.isDark(ZonedDateTime.of(2021, 6, 22, 0, 0, 0, 0, svalbardZone).toInstant(), Twilight.Type.CIVIL));
+
+        Twilight midwinter = twilightCalculator.calculateTwilight(LocalDate.of(2021, Month.DECEMBER, 21));
+        assertTrue(midwinter.getSunset().isEmpty());
+        assertTrue(midwinter.getSunrise().isEmpty());
+        assertTrue(twilightCalculator.isDark(ZonedDateTime.of(2021, 12, 21, 12, 0, 0, 0, svalbardZone).toInstant(), Twilight.Type.SUNRISE_SUNSET));
+        // The Sun reaches about -12º at noon, civil but not nautical twilight.
+        assertFalse(twilightCalculator.isDark(ZonedDateTime.of(2021, 12, 21, 12, 0, 0, 0, svalbardZone).toInstant(), Twilight.Type.NAUTICAL));
+        assertTrue(twilightCalculator.isDark(ZonedDateTime.of(2021, 12, 22, 0, 0, 0, 0, svalbardZone).toInstant(), Twilight.Type.ASTRONOMICAL));
+    }
+
+    @Test
+    void testIsDark() {
+        TwilightCalculator twilightCalculator = new TwilightCalculator(TOKYO_ZONE, TOKYO);
+        Twilight twilight = twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15);
+        StarLocator starLocator = new StarLocator(TOKYO_ZONE, TOKYO);
+
+        Instant instant = ZonedDateTime.of(2021, 1, 15, 6, 0, 0, 0, TOKYO_ZONE).toInstant();
+        for (int i = 0; i < 48 * 6; i++, instant = instant.plusSeconds(600)) {
+            double sunAltitude = starLocator.locateSun(instant).getAltDegreeValue();
+            for (Twilight.Type type : Twilight.Type.values()) {
+                if (Math.abs(sunAltitude - type.getSunAltitude()) > 0.05) {
+                    assertEquals(sunAltitude < type.getSunAltitude(), twilightCalculator.isDark(instant, type), instant + " " + type);
+                }
+            }
+        }
+        assertSame(twilight, twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15));
+    }
+
+    @Test
+    void testCacheEviction() {
+        TwilightCalculator twilightCalculator = new TwilightCalculator(TOKYO_ZONE, TOKYO, 2);
+        Twilight first = twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15);
+        Twilight second = twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15.plusDays(1));
+
+        assertSame(first, twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15));
+        twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15.plusDays(2));
+        // The second night is the least recently used one.
+        assertSame(first, twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15));
+        assertNotSame(second, twilightCalculator.calculateTwilight(NIGHT_DATE_JAN_15.plusDays(1)));
+        assertThrows(IllegalArgumentException.class, () -> new TwilightCalculator(TOKYO_ZONE, TOKYO, 0));
+    }
+}
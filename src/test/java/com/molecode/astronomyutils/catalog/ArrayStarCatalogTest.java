@@ -0,0 +1,32 @@
+package com.molecode.astronomyutils.catalog;
+
+import com.molecode.astronomyutils.coordinates.EquatorialCoordinate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArrayStarCatalogTest {
+
+	private static final double DELTA = 0.00000000001;
+
+	@Test
+	void testCreateFromEqCoordinates() {
+		ArrayStarCatalog starCatalog = ArrayStarCatalog.of(List.of(
+				new EquatorialCoordinate(5, 56, 19, 7, 24, 34),
+				new EquatorialCoordinate(16, 30, 40, -26, -28, -37)
+		));
+		assertEquals(2, starCatalog.size());
+		assertEquals(89.07916666666667, starCatalog.getRaDegreeValue(0), DELTA);
+		assertEquals(7.4094444444444445, starCatalog.getDecDegreeValue(0), DELTA);
+		assertEquals(247.66666666666666, starCatalog.getRaDegreeValue(1), DELTA);
+		assertEquals(-26.476944444444445, starCatalog.getDecDegreeValue(1), DELTA);
+	}
+
+	@Test
+	void testInconsistentColumnLength() {
+		assertThrows(IllegalArgumentException.class, () -> new ArrayStarCatalog(new double[2], new double[3]));
+	}
+}
@@ -0,0 +1,99 @@
+package com.molecode.astronomyutils.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedStarCatalogTest {
+
+	private static final double DELTA = 0.00000000001;
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void testReadConvertedCatalog() throws IOException {
+		Path csvPath = Files.writeString(tempDir.resolve("stars.csv"),
+				"id,name,ra,dec,magnitude\n" +
+				"27989,Betelgeuse,89.07916666666667,7.409444444444444,0.42\n" +
+				"\n" +
+				"80763,Antares,247.66666666666666,-26.476944444444445,1.09\n");
+		Path catalogPath = tempDir.resolve("stars.cat");
+		assertEquals(2, StarCatalogConverter.convertCsv(csvPath, catalogPath));
+
+		try (MappedStarCatalog starCatalog = MappedStarCatalog.open(catalogPath)) {
+			assertEquals(2, starCatalog.size());
+			assertEquals(89.07916666666667, starCatalog.getRaDegreeValue(0), DELTA);
+			assertEquals(7.409444444444444, starCatalog.getDecDegreeValue(0), DELTA);
+			assertEquals(247.66666666666666, starCatalog.getRaDegreeValue(1), DELTA);
+			assertEquals(-26.476944444444445, starCatalog.getDecDegreeValue(1), DELTA);
+			assertTrue(starCatalog.hasIds());
+			assertEquals(27989, starCatalog.getId(0));
+			assertEquals(80763, starCatalog.getId(1));
+			assertTrue(starCatalog.hasMagnitudes());
+			assertEquals(0.42f, starCatalog.getMagnitude(0));
+			assertEquals(1.09f, starCatalog.getMagnitude(1));
+		}
+	}
+
+	@Test
+	void testReadConvertedCatalogWithoutOptionalColumns() throws IOException {
+		Path csvPath = Files.writeString(tempDir.resolve("stars.csv"), "ra,dec\n79.17,45.99\n");
+		Path catalogPath = tempDir.resolve("stars.cat");
+		StarCatalogConverter.convertCsv(csvPath, catalogPath);
+
+		try (MappedStarCatalog starCatalog = MappedStarCatalog.open(catalogPath)) {
+			assertEquals(1, starCatalog.size());
+			assertEquals(79.17, starCatalog.getRaDegreeValue(0), DELTA);
+			assertEquals(45.99, starCatalog.getDecDegreeValue(0), DELTA);
+			assertFalse(starCatalog.hasIds());
+			assertFalse(starCatalog.hasMagnitudes());
+			assertThrows(IllegalStateException.class, () -> starCatalog.getId(0));
+		}
+	}
+
+	@Test
+	void testReadConvertedSexagesimalCatalog() throws IOException {
+		Path csvPath = Files.writeString(tempDir.resolve("stars.csv"),
+				"id,ra,dec\r\n" +
+				"27989,05h55m10.3s,+07°24'25\"\r\n" +
+				"80763,16 29 24.0,-26 25 55.2\r\n");
+		Path catalogPath = tempDir.resolve("stars.cat");
+		assertEquals(2, StarCatalogConverter.convertCsv(csvPath, catalogPath));
+
+		try (MappedStarCatalog starCatalog = MappedStarCatalog.open(catalogPath)) {
+			assertEquals(88.79291666666667, starCatalog.getRaDegreeValue(0), DELTA);
+			assertEquals(7.406944444444445, starCatalog.getDecDegreeValue(0), DELTA);
+			assertEquals(247.35, starCatalog.getRaDegreeValue(1), DELTA);
+			assertEquals(-26.432, starCatalog.getDecDegreeValue(1), DELTA);
+			assertEquals(80763, starCatalog.getId(1));
+		}
+	}
+
+	@Test
+	void testInvalidCatalogFile() throws IOException {
+		Path notACatalog = Files.writeString(tempDir.resolve("stars.cat"), "ra,dec\n79.17,45.99\n1,2\n3,4\n");
+		assertThrows(IOException.class, () -> MappedStarCatalog.open(notACatalog));
+	}
+
+	@Test
+	void testMalformedCsv() throws IOException {
+		Path catalogPath = tempDir.resolve("stars.cat");
+		Path noDecColumn = Files.writeString(tempDir.resolve("no-dec.csv"), "ra,magnitude\n79.17,0.1\n");
+		assertThrows(IllegalArgumentException.class, () -> StarCatalogConverter.convertCsv(noDecColumn, catalogPath));
+		Path malformedRow = Files.writeString(tempDir.resolve("malformed.csv"), "ra,dec\n79.17,north\n");
+		assertThrows(IllegalArgumentException.class, () -> StarCatalogConverter.convertCsv(malformedRow, catalogPath));
+		Path missingColumn = Files.writeString(tempDir.resolve("missing-column.csv"), "id,ra,dec\n1,79.17\n");
+		assertThrows(IllegalArgumentException.class, () -> StarCatalogConverter.convertCsv(missingColumn, catalogPath));
+		Path empty = Files.writeString(tempDir.resolve("empty.csv"), "");
+		assertThrows(IllegalArgumentException.class, () -> StarCatalogConverter.convertCsv(empty, catalogPath));
+	}
+}
@@ -0,0 +1,101 @@
+package com.molecode.astronomyutils.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProperMotionCatalogTest {
+
+	private static final double ARCSECOND = 1.0 / 3600;
+
+	// Barnard's star, Hipparcos J2000 astrometry with its radial velocity.
+	private static final double BARNARD_RA = 269.45207511;
+	private static final double BARNARD_DEC = 4.69339088;
+	private static final double BARNARD_PM_RA = -798.58;
+	private static final double BARNARD_PM_DEC = 10328.12;
+	private static final double BARNARD_PARALLAX = 548.31;
+	private static final double BARNARD_RADIAL_VELOCITY = -110.51;
+
+	@Test
+	void testLinearMotion() {
+		double[] raDegreeValue = new double[1];
+		double[] decDegreeValue = new double[1];
+		ProperMotionCatalog.propagate(10, new double[]{BARNARD_RA}, new double[]{BARNARD_DEC},
+				new double[]{BARNARD_PM_RA}, new double[]{BARNARD_PM_DEC}, null, null, 0, 1, raDegreeValue, decDegreeValue);
+
+		assertEquals(BARNARD_DEC + 10 * BARNARD_PM_DEC / 1000 * ARCSECOND, decDegreeValue[0], 0.01 * ARCSECOND);
+		assertEquals(BARNARD_RA + 10 * BARNARD_PM_RA / 1000 * ARCSECOND / Math.cos(Math.toRadians(BARNARD_DEC)), raDegreeValue[0], 0.01 * ARCSECOND);
+
+		ProperMotionCatalog.propagate(0, new double[]{BARNARD_RA}, new double[]{BARNARD_DEC},
+				new double[]{BARNARD_PM_RA}, new double[]{BARNARD_PM_DEC}, null, null, 0, 1, raDegreeValue, decDegreeValue);
+		assertEquals(BARNARD_RA, raDegreeValue[0], 1e-12);
+		assertEquals(BARNARD_DEC, decDegreeValue[0], 1e-12);
+	}
+
+	@Test
+	void testPerspectiveAcceleration() {
+		double[] linearRa = new double[1];
+		double[] linearDec = new double[1];
+		ProperMotionCatalog.propagate(100, new double[]{BARNARD_RA}, new double[]{BARNARD_DEC},
+				new double[]{BARNARD_PM_RA}, new double[]{BARNARD_PM_DEC}, null, null, 0, 1, linearRa, linearDec);
+		double[] rigorousRa = new double[1];
+		double[] rigorousDec = new double[1];
+		ProperMotionCatalog.propagate(100, new double[]{BARNARD_RA}, new double[]{BARNARD_DEC},
+				new double[]{BARNARD_PM_RA}, new double[]{BARNARD_PM_DEC}, new double[]{BARNARD_PARALLAX}, new double[]{BARNARD_RADIAL_VELOCITY},
+				0, 1, rigorousRa, rigorousDec);
+
+		// Barnard's star comes closer, its proper motion growing by about 1.3 mas/yr each year: 6.4" after a century.
+		assertEquals(6.4 * ARCSECOND, rigorousDec[0] - linearDec[0], 0.1 * ARCSECOND);
+	}
+
+	@Test
+	void testSetEpochInParallel() {
+		int size = 100_000;
+		Random random = new Random(42);
+		double[] raDegreeValues = new double[size];
+		double[] decDegreeValues = new double[size];
+		double[] raProperMotions = new double[size];
+		double[] decProperMotions = new double[size];
+		for (int i = 0; i < size; i++) {
+			raDegreeValues[i] = random.nextDouble() * 360;
+			decDegreeValues[i] = Math.toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+			raProperMotions[i] = random.nextGaussian() * 100;
+			decProperMotions[i] = random.nextGaussian() * 100;
+		}
+		ProperMotionCatalog starCatalog = new ProperMotionCatalog(2016, raDegreeValues, decDegreeValues, raProperMotions, decProperMotions,
+				null, null, new ForkJoinPool(4));
+		assertArrayEquals(raDegreeValues, starCatalog.getRaDegreeValues());
+
+		Instant instant = Instant.parse("2021-01-15T13:30:10Z");
+		starCatalog.setEpoch(instant);
+		assertEquals(2021.04055, starCatalog.getEpoch(), 1e-5);
+		double[] expectedRa = new double[size];
+		double[] expectedDec = new double[size];
+		ProperMotionCatalog.propagate(starCatalog.getEpoch() - 2016, raDegreeValues, decDegreeValues, raProperMotions, decProperMotions,
+				null, null, 0, size, expectedRa, expectedDec);
+		assertArrayEquals(expectedRa, starCatalog.getRaDegreeValues());
+		assertArrayEquals(expectedDec, starCatalog.getDecDegreeValues());
+		assertEquals(expectedRa[size - 1], starCatalog.getRaDegreeValue(size - 1));
+
+		// The catalog positions are kept, so going back to the catalog epoch restores them.
+		double[] propagatedRa = starCatalog.getRaDegreeValues();
+		starCatalog.setEpoch(2016);
+		assertSame(propagatedRa, starCatalog.getRaDegreeValues());
+		assertArrayEquals(decDegreeValues, starCatalog.getDecDegreeValues(), 1e-12);
+	}
+
+	@Test
+	void testInconsistentColumns() {
+		assertThrows(IllegalArgumentException.class,
+				() -> new ProperMotionCatalog(2000, new double[2], new double[2], new double[2], new double[1]));
+		assertThrows(IllegalArgumentException.class,
+				() -> new ProperMotionCatalog(2000, new double[2], new double[2], new double[2], new double[2], new double[3], null, ForkJoinPool.commonPool()));
+	}
+}
@@ -0,0 +1,82 @@
+package com.molecode.astronomyutils.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static java.lang.Math.acos;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SkyIndexTest {
+
+	private ArrayStarCatalog starCatalog;
+
+	@BeforeEach
+	void setUp() {
+		Random random = new Random(42);
+		double[] raDegreeValues = new double[20_000];
+		double[] decDegreeValues = new double[raDegreeValues.length];
+		for (int i = 0; i < raDegreeValues.length; i++) {
+			raDegreeValues[i] = random.nextDouble() * 360;
+			decDegreeValues[i] = toDegrees(Math.asin(random.nextDouble() * 2 - 1));
+		}
+		starCatalog = new ArrayStarCatalog(raDegreeValues, decDegreeValues);
+	}
+
+	@Test
+	void testQueryCone() {
+		SkyIndex skyIndex = new SkyIndex(starCatalog);
+		assertEquals(starCatalog.size(), skyIndex.size());
+
+		verifyQueryCone(skyIndex, 89.08, 7.41, 5);
+		verifyQueryCone(skyIndex, 247.67, -26.48, 30);
+		verifyQueryCone(skyIndex, 0.5, 20, 10);
+		verifyQueryCone(skyIndex, 359.5, -20, 10);
+		verifyQueryCone(skyIndex, 120, 85, 10);
+		verifyQueryCone(skyIndex, 300, -88, 3);
+		verifyQueryCone(skyIndex, 10, 60, 45);
+		verifyQueryCone(skyIndex, 10, 0, 120);
+		verifyQueryCone(skyIndex, 10, 0, 180);
+		verifyQueryCone(skyIndex, 10, 0, 0);
+	}
+
+	@Test
+	void testQueryConeWithCoarseBands() {
+		SkyIndex skyIndex = new SkyIndex(starCatalog, 7);
+		verifyQueryCone(skyIndex, 89.08, 7.41, 5);
+		verifyQueryCone(skyIndex, 359.5, -20, 10);
+		verifyQueryCone(skyIndex, 120, 85, 10);
+	}
+
+	@Test
+	void testInvalidBandHeight() {
+		assertThrows(IllegalArgumentException.class, () -> new SkyIndex(starCatalog, 0));
+		assertThrows(IllegalArgumentException.class, () -> new SkyIndex(starCatalog, 181));
+	}
+
+	private void verifyQueryCone(SkyIndex skyIndex, double raDegreeValue, double decDegreeValue, double radius) {
+		Set<Integer> expectedIndices = new HashSet<>();
+		for (int i = 0; i < starCatalog.size(); i++) {
+			if (angularDistance(raDegreeValue, decDegreeValue, starCatalog.getRaDegreeValue(i), starCatalog.getDecDegreeValue(i)) <= radius) {
+				expectedIndices.add(i);
+			}
+		}
+		Set<Integer> actualIndices = new HashSet<>();
+		skyIndex.queryCone(raDegreeValue, decDegreeValue, radius, actualIndices::add);
+		assertEquals(expectedIndices, actualIndices, String.format("cone at %f, %f with radius %f", raDegreeValue, decDegreeValue, radius));
+	}
+
+	private static double angularDistance(double firstRa, double firstDec, double secondRa, double secondDec) {
+		double cosDistance = sin(toRadians(firstDec)) * sin(toRadians(secondDec))
+				+ cos(toRadians(firstDec)) * cos(toRadians(secondDec)) * cos(toRadians(firstRa - secondRa));
+		return toDegrees(acos(Math.max(-1, Math.min(1, cosDistance))));
+	}
+}
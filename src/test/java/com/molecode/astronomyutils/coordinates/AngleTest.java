@@ -40,6 +40,19 @@ class AngleTest {
 		assertEquals(36, hourAngle.getArcSecond(), DELTA);
 	}
 
+	@Test
+	void testCreatedWithSubdivisionsKeepsGivenSubdivisions() {
+		Angle degreeAngle = new Angle(DEGREE_ANGLE, 10, 42, 0);
+		assertEquals(10, degreeAngle.getDegree());
+		assertEquals(42, degreeAngle.getArcMinute());
+		assertEquals(0, degreeAngle.getArcSecond());
+
+		Angle hourAngle = new Angle(HOUR_ANGLE, 1, 42, 0);
+		assertEquals(1, hourAngle.getHour());
+		assertEquals(42, hourAngle.getMinute());
+		assertEquals(0, hourAngle.getSecond());
+	}
+
 	@Test
 	void testCreatedWithNegativeValue() {
 		Angle hourAngle = new Angle(HOUR_ANGLE, -2.9584444444444444);
@@ -0,0 +1,105 @@
+package com.molecode.astronomyutils.coordinates;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Locale;
+import java.util.Random;
+
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LatitudeDirection.SOUTH;
+import static com.molecode.astronomyutils.coordinates.GeographicCoordinate.LongitudeDirection.EAST;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CoordinateFormatterTest {
+
+	@Test
+	void testAppendFixedMatchesFormat() {
+		Random random = new Random(42);
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < 200_000; i++) {
+			double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(14) - 6);
+			int fractionDigits = random.nextInt(CoordinateFormatter.MAX_FRACTION_DIGITS + 1);
+			builder.setLength(0);
+			assertEquals(format(value, fractionDigits), CoordinateFormatter.appendFixed(builder, value, fractionDigits).toString(), value + " " + fractionDigits);
+		}
+	}
+
+	@Test
+	void testAppendFixedEdgeCases() {
+		double[] values = {0, -0.0, -0.00001, 0.125, 1.0005, 2.5, 59.99995, 0.00005, 1e20, -1e300, Double.MIN_VALUE,
+				Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+		for (double value : values) {
+			for (int fractionDigits = 0; fractionDigits <= 6; fractionDigits++) {
+				assertEquals(format(value, fractionDigits), CoordinateFormatter.appendFixed(new StringBuilder(), value, fractionDigits).toString(),
+						value + " " + fractionDigits);
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendFixed(new StringBuilder(), 1, -1));
+		assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendFixed(new StringBuilder(), 1, 16));
+	}
+
+	@Test
+	void testAppendFixedToAppendable() throws IOException {
+		StringWriter writer = new StringWriter();
+		CoordinateFormatter.appendFixed(writer, -26.476944444444445, 4);
+		assertEquals("-26.4769", writer.toString());
+	}
+
+	@Test
+	void testCoordinateToStringMatchesFormat() {
+		Angle angle = new Angle(Angle.Descriptor.HOUR_ANGLE, 5, 56, 19.3);
+		assertEquals(String.format(Locale.ROOT, "Angle{degree: %dº%d'%.4f\"(%.4f), hour: %dh%dm%.4f(%.4f)}",
+				angle.getDegree(), angle.getArcMinute(), angle.getArcSecond(), angle.getDegreeValue(),
+				angle.getHour(), angle.getMinute(), angle.getSecond(), angle.getHourValue()), angle.toString());
+
+		EquatorialCoordinate eqCoordinate = new EquatorialCoordinate(16, 29, 24.0, -26, -25, -55.2);
+		assertEquals(String.format(Locale.ROOT, "EquatorialCoordinate{ra: %dh%dm%.4f(%.4f), dec: %dº%d'%.4f\"(%.4f)}",
+				eqCoordinate.getRaHour(), eqCoordinate.getRaMinute(), eqCoordinate.getRaSecond(), eqCoordinate.getRaHourValue(),
+				eqCoordinate.getDecDegree(), eqCoordinate.getDecMinute(), eqCoordinate.getDecSecond(), eqCoordinate.getDecDegreeValue()),
+				eqCoordinate.toString());
+
+		HorizontalCoordinate horizontalCoordinate = new HorizontalCoordinate(-12.345678, 301.2804);
+		assertEquals(String.format(Locale.ROOT, "HorizontalCoordinate{altitude: %dº%d'%.4f\"(%.4f), azimuth: %dº%d'%.4f\"(%.4f)}",
+				horizontalCoordinate.getAltDegree(), horizontalCoordinate.getAltMinute(), horizontalCoordinate.getAltSecond(), horizontalCoordinate.getAltDegreeValue(),
+				horizontalCoordinate.getAzDegree(), horizontalCoordinate.getAzMinute(), horizontalCoordinate.getAzSecond(), horizontalCoordinate.getAzDegreeValue()),
+				horizontalCoordinate.toString());
+
+		assertEquals("GeographicCoordinate{lat: 33º51'42.0000\"(-33.8617) S, long: 151º8'10.0000\"(151.1361) E}",
+				new GeographicCoordinate(SOUTH, 33, 51, 42, EAST, 151, 8, 10).toString());
+		assertEquals("GeographicCoordinate{lat: 0º0'0.0000\"(0.0000) -, long: 0º0'0.0000\"(0.0000) -}",
+				new GeographicCoordinate(0, 0).toString());
+	}
+
+	@Test
+	void testCoordinateToStringFollowsDefaultLocale() {
+		Locale defaultLocale = Locale.getDefault(Locale.Category.FORMAT);
+		try {
+			for (Locale locale : new Locale[]{Locale.GERMANY, Locale.forLanguageTag("ar-EG"), Locale.US}) {
+				Locale.setDefault(Locale.Category.FORMAT, locale);
+				Angle angle = new Angle(Angle.Descriptor.HOUR_ANGLE, 5, 56, 19.3);
+				assertEquals(String.format("Angle{degree: %dº%d'%.4f\"(%.4f), hour: %dh%dm%.4f(%.4f)}",
+						angle.getDegree(), angle.getArcMinute(), angle.getArcSecond(), angle.getDegreeValue(),
+						angle.getHour(), angle.getMinute(), angle.getSecond(), angle.getHourValue()), angle.toString(), locale.toString());
+
+				HorizontalCoordinate horizontalCoordinate = new HorizontalCoordinate(-12.345678, 301.2804);
+				assertEquals(String.format("HorizontalCoordinate{altitude: %dº%d'%.4f\"(%.4f), azimuth: %dº%d'%.4f\"(%.4f)}",
+						horizontalCoordinate.getAltDegree(), horizontalCoordinate.getAltMinute(), horizontalCoordinate.getAltSecond(), horizontalCoordinate.getAltDegreeValue(),
+						horizontalCoordinate.getAzDegree(), horizontalCoordinate.getAzMinute(), horizontalCoordinate.getAzSecond(), horizontalCoordinate.getAzDegreeValue()),
+						horizontalCoordinate.toString(), locale.toString());
+			}
+			Locale.setDefault(Locale.Category.FORMAT, Locale.GERMANY);
+			assertEquals("HorizontalCoordinate{altitude: -12º-20'-44,4408\"(-12,3457), azimuth: 301º16'49,4400\"(301,2804)}",
+					new HorizontalCoordinate(-12.345678, 301.2804).toString());
+			// Decimal values stay machine readable.
+			assertEquals("-26.4769", CoordinateFormatter.appendFixed(new StringBuilder(), -26.476944444444445, 4).toString());
+		} finally {
+			Locale.setDefault(Locale.Category.FORMAT, defaultLocale);
+		}
+	}
+
+	private static String format(double value, int fractionDigits) {
+		return String.format(Locale.ROOT, "%." + fractionDigits + "f", value);
+	}
+}
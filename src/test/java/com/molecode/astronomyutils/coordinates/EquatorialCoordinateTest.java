@@ -23,15 +23,33 @@ class EquatorialCoordinateTest {
 		assertEquals(7.4094444444444445, eqCoordinate.getDecDegreeValue());
 	}
 
+	@Test
+	void testConstructEqCoordinateWithValues() {
+		EquatorialCoordinate eqCoordinate = new EquatorialCoordinate(5.938611111111111, 7.4094444444444445);
+		assertEquals(5, eqCoordinate.getRaHour());
+		assertEquals(56, eqCoordinate.getRaMinute());
+		assertEquals(19, eqCoordinate.getRaSecond(), 0.0000001);
+		assertEquals(89.07916666666667, eqCoordinate.getRaDegreeValue(), DELTA);
+
+		assertEquals(7, eqCoordinate.getDecDegree());
+		assertEquals(24, eqCoordinate.getDecMinute());
+		assertEquals(34, eqCoordinate.getDecSecond(), 0.0000001);
+		assertEquals(7.4094444444444445, eqCoordinate.getDecDegreeValue());
+	}
+
 	@Test
 	void testInvalidRightAscension() {
 		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(24, 0, 0.001, 10, 10, 10.001));
 		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(0, 0, -0.001, 10, 10, 10.001));
+		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(24.001, 10.0));
+		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(-0.001, 10.0));
 	}
 
 	@Test
 	void testInvalidDeclination() {
 		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(1, 1, 1, 90, 0, 0.001));
 		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(1, 1, 1, -90, 0, -0.001));
+		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(1.0, 90.001));
+		assertThrows(IllegalArgumentException.class, () -> new EquatorialCoordinate(1.0, -90.001));
 	}
 }
\ No newline at end of file
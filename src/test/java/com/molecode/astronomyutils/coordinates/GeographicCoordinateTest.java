@@ -39,6 +39,22 @@ class GeographicCoordinateTest {
 		assertEquals(-46.65416666666667, saoPauloCoordinate.getLongDegreeValue(), DELTA);
 	}
 
+	@Test
+	void testConstructGeoCoordinateWithValues() {
+		GeographicCoordinate saoPauloCoordinate = new GeographicCoordinate(-23.56, -46.65416666666667);
+		assertEquals(SOUTH, saoPauloCoordinate.getLatDirection().orElseThrow());
+		assertEquals(23, saoPauloCoordinate.getLatDegree());
+		assertEquals(33, saoPauloCoordinate.getLatMinute());
+		assertEquals(36, saoPauloCoordinate.getLatSecond(), 0.0000001);
+		assertEquals(WEST, saoPauloCoordinate.getLongDirection().orElseThrow());
+		assertEquals(46, saoPauloCoordinate.getLongDegree());
+		assertEquals(39, saoPauloCoordinate.getLongMinute());
+		assertEquals(15, saoPauloCoordinate.getLongSecond(), 0.0000001);
+
+		assertThrows(IllegalArgumentException.class, () -> new GeographicCoordinate(90.0001, 0.0));
+		assertThrows(IllegalArgumentException.class, () -> new GeographicCoordinate(0.0, -180.0001));
+	}
+
 	@Test
 	void testInvalidLatitude() {
 		assertThrows(IllegalArgumentException.class, () -> new GeographicCoordinate(NORTH, -1, 0, -1, WEST, 1, 1, 1));
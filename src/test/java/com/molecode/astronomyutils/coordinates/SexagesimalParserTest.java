@@ -0,0 +1,101 @@
+package com.molecode.astronomyutils.coordinates;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SexagesimalParserTest {
+
+	private static final double DELTA = 0.00000000001;
+
+	@Test
+	void testParseSexagesimalDegrees() {
+		double expected = new Angle(Angle.Descriptor.DEGREE_ANGLE, 7, 24, 33.5).getDegreeValue();
+		assertEquals(expected, SexagesimalParser.parseDegrees("+07°24'33.5\""));
+		assertEquals(expected, SexagesimalParser.parseDegrees("7º24′33.5″"));
+		assertEquals(expected, SexagesimalParser.parseDegrees("7d24m33.5s"));
+		assertEquals(expected, SexagesimalParser.parseDegrees("07:24:33.5"));
+		assertEquals(expected, SexagesimalParser.parseDegrees(" 7 24 33.5 "));
+		assertEquals(-33.86166666666667, SexagesimalParser.parseDegrees("-33:51:42"), DELTA);
+		assertEquals(-0.5, SexagesimalParser.parseDegrees("-00 30"));
+		assertEquals(-0.5, SexagesimalParser.parseDegrees("−0°30'"));
+	}
+
+	@Test
+	void testParseHemisphere() {
+		assertEquals(35.7025, SexagesimalParser.parseDegrees("35°42'9\"N"), DELTA);
+		assertEquals(-33.86166666666667, SexagesimalParser.parseDegrees("S 33 51 42"), DELTA);
+		assertEquals(139.745, SexagesimalParser.parseDegrees("139°44'42\" E"), DELTA);
+		assertEquals(-73.9857, SexagesimalParser.parseDegrees("73.9857W"), DELTA);
+		assertThrows(IllegalArgumentException.class, () -> SexagesimalParser.parseDegrees("-33 51 42 S"));
+		assertThrows(IllegalArgumentException.class, () -> SexagesimalParser.parseHours("5 56 19 N"));
+	}
+
+	@Test
+	void testParseDecimal() {
+		for (String value : new String[]{"89.07916666666667", "7.409444444444444", "-26.476944444444445", "0.1", "123", ".5", "5."}) {
+			assertEquals(Double.parseDouble(value), SexagesimalParser.parseDegrees(value), value);
+			assertEquals(Double.parseDouble(value), SexagesimalParser.parseDecimal(value, 0, value.length()), value);
+		}
+		assertEquals(0.1, SexagesimalParser.parseDegrees("0.1000000000000000000000001"));
+		assertEquals(1.0E-4, SexagesimalParser.parseDegrees("1.0E-4"));
+		assertEquals(-2.5e30, SexagesimalParser.parseDecimal("-2.5e30", 0, 7));
+		assertEquals(139, SexagesimalParser.parseDegrees("139E"));
+		assertThrows(IllegalArgumentException.class, () -> SexagesimalParser.parseDecimal("1 30", 0, 4));
+	}
+
+	@Test
+	void testParseShortestRepresentations() {
+		Random random = new Random(42);
+		for (int i = 0; i < 100_000; i++) {
+			double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(12) - 6);
+			assertEquals(value, SexagesimalParser.parseDegrees(Double.toString(value)), Double.toString(value));
+		}
+	}
+
+	@Test
+	void testParseRightAscension() {
+		double expected = new Angle(Angle.Descriptor.HOUR_ANGLE, 5, 56, 19.3).getDegreeValue();
+		assertEquals(expected, SexagesimalParser.parseRightAscension("05h56m19.3s"), DELTA);
+		assertEquals(expected, SexagesimalParser.parseRightAscension("5 56 19.3"), DELTA);
+		assertEquals(89.0791, SexagesimalParser.parseRightAscension("89.0791"));
+		assertEquals(89.0791, SexagesimalParser.parseRightAscension("5.938606666666667h"), DELTA);
+		assertEquals(expected / 15, SexagesimalParser.parseHours("05h56m19.3s"), DELTA);
+		assertEquals(5.5, SexagesimalParser.parseHours("5.5"));
+	}
+
+	@Test
+	void testParseRange() {
+		String row = "27989,05h56m19.3s,+07°24'33\",0.42";
+		assertEquals(new Angle(Angle.Descriptor.DEGREE_ANGLE, 7, 24, 33).getDegreeValue(), SexagesimalParser.parseDegrees(row, 18, 28), DELTA);
+
+		ByteBuffer bytes = ByteBuffer.wrap(row.getBytes(StandardCharsets.UTF_8));
+		assertEquals(SexagesimalParser.parseRightAscension(row, 6, 17), SexagesimalParser.parseRightAscension(bytes, 6, 17));
+		// The degree sign takes two bytes in UTF-8.
+		assertEquals(SexagesimalParser.parseDegrees(row, 18, 28), SexagesimalParser.parseDegrees(bytes, 18, 29));
+		assertEquals(0.42, SexagesimalParser.parseDecimal(bytes, 30, 34));
+		assertEquals(0.42, SexagesimalParser.parseDecimal(ByteBuffer.wrap("7′0.42″".getBytes(StandardCharsets.UTF_8)).slice(4, 4), 0, 4));
+	}
+
+	@Test
+	void testInvalidAngles() {
+		for (String value : new String[]{"", " ", "+", ".", "north", "7 60", "7.5 30", "1 2 3 4", "7 24 33 S N", "--7", "7 - 3"}) {
+			assertThrows(IllegalArgumentException.class, () -> SexagesimalParser.parseDegrees(value), value);
+		}
+	}
+
+	@Test
+	void testUtf8BytesAreNotCharacterSeparators() {
+		// The bytes of the UTF-8 encoded marks are separators in byte ranges only.
+		for (String value : new String[]{"12\u00B2 30", "12\u00B3 30", "12\u00C230", "12\u00E2\u0080\u00B230"}) {
+			assertThrows(IllegalArgumentException.class, () -> SexagesimalParser.parseDegrees(value), value);
+		}
+		byte[] bytes = "12\u00B030\u203215\u2033".getBytes(StandardCharsets.UTF_8);
+		assertEquals(12 + 30 / 60.0 + 15 / 3600.0, SexagesimalParser.parseDegrees(ByteBuffer.wrap(bytes), 0, bytes.length), 1e-12);
+	}
+}